@@ -51,6 +51,8 @@ public interface Arbitrary<T> {
 
 		public abstract <T> Arbitrary<T> dontShrink(Arbitrary<T> self);
 
+		public abstract <T> Arbitrary<T> dontMemoizeValues(Arbitrary<T> self);
+
 		public abstract <T> Arbitrary<T> configureEdgeCases(Arbitrary<T> self, Consumer<EdgeCases.Config<T>> configurator);
 
 		public abstract <T> Arbitrary<T> withoutEdgeCases(Arbitrary<T> self);
@@ -535,6 +537,19 @@ public interface Arbitrary<T> {
 		return ArbitraryFacade.implementation.dontShrink(Arbitrary.this);
 	}
 
+	/**
+	 * Create a new arbitrary of type {@code T} whose values are created anew
+	 * whenever they are needed, even if configuration parameter {@code jqwik.values.memoize}
+	 * is set to {@code true}.
+	 * Use this for values that are mutated during a property run, e.g. lists that the property adds to.
+	 *
+	 * @return a new arbitrary instance
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.1")
+	default Arbitrary<T> dontMemoizeValues() {
+		return ArbitraryFacade.implementation.dontMemoizeValues(Arbitrary.this);
+	}
+
 	/**
 	 * Experimental interface to change generated edge cases of a specific arbitrary.
 	 *
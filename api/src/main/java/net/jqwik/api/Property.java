@@ -38,6 +38,7 @@ public @interface Property {
 	int MAX_DISCARD_RATIO_NOT_SET = 0;
 	String SEED_NOT_SET = "";
 	String STEREOTYPE_NOT_SET = "";
+	int PARALLELISM_NOT_SET = 0;
 
 	/**
 	 * Tries are the test runs with different parameters. By default it is 1000. You can override globally in the property file
@@ -92,4 +93,24 @@ public @interface Property {
 	 */
 	@API(status = EXPERIMENTAL, since = "1.4.0")
 	FixedSeedMode whenFixedSeed() default FixedSeedMode.NOT_SET;
+
+	/**
+	 * The number of threads on which tries are executed concurrently.
+	 * Parameters are still generated one try after the other so that a given seed
+	 * will always lead to the same samples and the same falsified sample.
+	 * During shrinking the same number of shrinking candidates is evaluated concurrently
+	 * and the smallest falsifying candidate of each batch is chosen.
+	 * <p>
+	 * Only use a value greater than 1 if the property method and all its lifecycle hooks
+	 * can be safely executed concurrently. Each try has its own values of stores
+	 * with {@linkplain net.jqwik.api.lifecycle.Lifespan#TRY}; stores with other lifespans
+	 * are shared by all tries that are running at the same time.
+	 * <p>
+	 * Default value is the value from the global {@code jqwik.tries.parallelism}
+	 * configuration property, which itself defaults to 1.
+	 *
+	 * @return the number of threads to execute tries on
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.1")
+	int parallelism() default PARALLELISM_NOT_SET;
 }
@@ -29,4 +29,22 @@ public interface FunctionArbitrary<F, R> extends Arbitrary<F> {
 	 */
 	<F_ extends F> FunctionArbitrary<F_, R> when(Predicate<List<Object>> parameterCondition, Function<List<Object>, R> answer);
 
+	/**
+	 * Let generated functions remember their result for each list of parameters.
+	 * Calling a function again with equal parameters then returns the same result instance
+	 * instead of generating an equal result again, which is much faster for expensive results
+	 * or for functions called many times in a single try.
+	 *
+	 * <p>
+	 * Parameters are remembered as given to the function and must therefore not be changed afterwards.
+	 * Results defined through {@linkplain #when(Predicate, Function)} are not remembered.
+	 * </p>
+	 *
+	 * @param <F_> The exact functional type to generate. Must be same as {@code F}
+	 *
+	 * @return A new instance of function arbitrary
+	 */
+	@API(status = EXPERIMENTAL, since = "1.5.1")
+	<F_ extends F> FunctionArbitrary<F_, R> memoize();
+
 }
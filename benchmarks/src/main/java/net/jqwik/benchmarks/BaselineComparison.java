@@ -0,0 +1,140 @@
+package net.jqwik.benchmarks;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Compares two JMH result files in CSV format and reports benchmarks
+ * whose score got worse by more than a given percentage.
+ *
+ * <p>
+ * Usage: {@code BaselineComparison <baseline.csv> <results.csv> <report.txt> <threshold-percent> <fail-on-regression>}
+ * </p>
+ */
+public class BaselineComparison {
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 5) {
+			throw new IllegalArgumentException("Usage: BaselineComparison <baseline.csv> <results.csv> <report.txt> <threshold-percent> <fail-on-regression>");
+		}
+		Path baselinePath = Paths.get(args[0]);
+		Path resultsPath = Paths.get(args[1]);
+		Path reportPath = Paths.get(args[2]);
+		double thresholdPercent = Double.parseDouble(args[3]);
+		boolean failOnRegression = Boolean.parseBoolean(args[4]);
+
+		if (!Files.exists(baselinePath)) {
+			System.out.printf("No baseline found at [%s]. Run jmhSaveBaseline first.%n", baselinePath);
+			return;
+		}
+
+		Map<String, Result> baseline = readResults(baselinePath);
+		Map<String, Result> results = readResults(resultsPath);
+		List<String> report = new ArrayList<>();
+		int regressions = compare(baseline, results, thresholdPercent, report);
+
+		Files.createDirectories(reportPath.toAbsolutePath().getParent());
+		Files.write(reportPath, report, StandardCharsets.UTF_8);
+		report.forEach(System.out::println);
+
+		if (failOnRegression && regressions > 0) {
+			throw new AssertionError(String.format("%s benchmark(s) regressed by more than %s%%", regressions, thresholdPercent));
+		}
+	}
+
+	static int compare(Map<String, Result> baseline, Map<String, Result> results, double thresholdPercent, List<String> report) {
+		int regressions = 0;
+		report.add(String.format("%-100s %15s %15s %10s %s", "Benchmark", "Baseline", "Current", "Change", ""));
+		for (Map.Entry<String, Result> entry : results.entrySet()) {
+			String benchmark = entry.getKey();
+			Result current = entry.getValue();
+			Result base = baseline.get(benchmark);
+			if (base == null) {
+				report.add(String.format("%-100s %15s %15.3f %10s %s", benchmark, "-", current.score, "-", "NEW"));
+				continue;
+			}
+			double improvementPercent = current.improvementOver(base);
+			String verdict = "";
+			if (improvementPercent < -thresholdPercent) {
+				verdict = "REGRESSION";
+				regressions++;
+			} else if (improvementPercent > thresholdPercent) {
+				verdict = "IMPROVEMENT";
+			}
+			report.add(String.format(
+				"%-100s %15.3f %15.3f %+9.1f%% %s",
+				benchmark, base.score, current.score, improvementPercent, verdict
+			));
+		}
+		for (String benchmark : baseline.keySet()) {
+			if (!results.containsKey(benchmark)) {
+				report.add(String.format("%-100s %15.3f %15s %10s %s", benchmark, baseline.get(benchmark).score, "-", "-", "MISSING"));
+			}
+		}
+		report.add(String.format("%s regression(s) beyond %s%%", regressions, thresholdPercent));
+		return regressions;
+	}
+
+	static Map<String, Result> readResults(Path csvPath) throws IOException {
+		List<String> lines = Files.readAllLines(csvPath, StandardCharsets.UTF_8);
+		if (lines.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		List<String> header = parseCsvLine(lines.get(0));
+		int benchmarkColumn = header.indexOf("Benchmark");
+		int modeColumn = header.indexOf("Mode");
+		int scoreColumn = header.indexOf("Score");
+		Map<String, Result> results = new LinkedHashMap<>();
+		for (String line : lines.subList(1, lines.size())) {
+			if (line.trim().isEmpty()) {
+				continue;
+			}
+			List<String> values = parseCsvLine(line);
+			StringBuilder name = new StringBuilder(values.get(benchmarkColumn));
+			for (int i = 0; i < header.size(); i++) {
+				if (header.get(i).startsWith("Param: ") && !values.get(i).isEmpty()) {
+					name.append(String.format(" %s=%s", header.get(i).substring("Param: ".length()), values.get(i)));
+				}
+			}
+			double score = Double.parseDouble(values.get(scoreColumn));
+			results.put(name.toString(), new Result(values.get(modeColumn), score));
+		}
+		return results;
+	}
+
+	private static List<String> parseCsvLine(String line) {
+		List<String> values = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		boolean quoted = false;
+		for (char c : line.toCharArray()) {
+			if (c == '"') {
+				quoted = !quoted;
+			} else if (c == ',' && !quoted) {
+				values.add(current.toString());
+				current.setLength(0);
+			} else {
+				current.append(c);
+			}
+		}
+		values.add(current.toString());
+		return values;
+	}
+
+	static class Result {
+		final String mode;
+		final double score;
+
+		Result(String mode, double score) {
+			this.mode = mode;
+			this.score = score;
+		}
+
+		// Throughput is better when higher, all other modes measure time
+		double improvementOver(Result base) {
+			double change = (score - base.score) / base.score * 100;
+			return mode.equals("thrpt") ? change : -change;
+		}
+	}
+}
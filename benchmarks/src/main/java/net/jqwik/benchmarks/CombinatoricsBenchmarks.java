@@ -0,0 +1,56 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Time to iterate through all combinations as used by exhaustive generation and edge cases
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombinatoricsBenchmarks {
+
+	@Param({"2", "3", "4"})
+	public int numberOfIterables;
+
+	@Param({"20"})
+	public int valuesPerIterable;
+
+	private List<Iterable<Integer>> iterables;
+	private List<Integer> elements;
+
+	@Setup
+	public void createIterables() {
+		elements = IntStream.range(0, valuesPerIterable).boxed().collect(Collectors.toList());
+		iterables = new ArrayList<>();
+		for (int i = 0; i < numberOfIterables; i++) {
+			iterables.add(elements);
+		}
+	}
+
+	@Benchmark
+	public void combine(Blackhole blackhole) {
+		Iterator<List<Integer>> combinations = Combinatorics.combine(iterables);
+		while (combinations.hasNext()) {
+			blackhole.consume(combinations.next());
+		}
+	}
+
+	@Benchmark
+	public void listCombinations(Blackhole blackhole) {
+		Iterator<List<Integer>> combinations = Combinatorics.listCombinations(elements, 0, numberOfIterables);
+		while (combinations.hasNext()) {
+			blackhole.consume(combinations.next());
+		}
+	}
+}
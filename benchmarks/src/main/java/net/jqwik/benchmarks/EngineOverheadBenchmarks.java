@@ -0,0 +1,61 @@
+package net.jqwik.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.junit.platform.engine.discovery.*;
+import org.junit.platform.launcher.*;
+import org.junit.platform.launcher.core.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Time of a whole property execution through the JUnit platform.
+ * Scores of properties with 1000 tries are reported per try
+ * and thereby show the overhead the engine adds to each try.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineOverheadBenchmarks {
+
+	private Launcher launcher;
+	private LauncherDiscoveryRequest singleTry;
+	private LauncherDiscoveryRequest thousandTries;
+	private LauncherDiscoveryRequest thousandTriesWithHook;
+
+	@Setup
+	public void createLauncher() {
+		launcher = LauncherFactory.create();
+		singleTry = request("singleTry");
+		thousandTries = request("thousandTries");
+		thousandTriesWithHook = request("thousandTriesWithHook");
+	}
+
+	@Benchmark
+	public void propertyWithSingleTry() {
+		launcher.execute(singleTry);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(1000)
+	public void propertyWithThousandTries() {
+		launcher.execute(thousandTries);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(1000)
+	public void propertyWithThousandTriesAndAroundTryHook() {
+		launcher.execute(thousandTriesWithHook);
+	}
+
+	private static LauncherDiscoveryRequest request(String methodName) {
+		return LauncherDiscoveryRequestBuilder
+				   .request()
+				   .selectors(DiscoverySelectors.selectMethod(TrivialProperties.class, methodName, "int"))
+				   .configurationParameter("jqwik.database", "")
+				   .configurationParameter("jqwik.reporting.onlyfailures", "true")
+				   .build();
+	}
+}
@@ -0,0 +1,67 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Throughput of generating single values for common arbitraries
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GenerationBenchmarks {
+
+	private static final int GEN_SIZE = 1000;
+
+	@Param({"integers", "longs", "doubles", "bigIntegers", "chars", "strings", "lists", "sets", "uniqueLists", "tuples"})
+	public String arbitrary;
+
+	private RandomGenerator<?> generator;
+	private Random random;
+
+	@Setup
+	public void createGenerator() {
+		Arbitrary<?> arbitrary = arbitrary(this.arbitrary);
+		generator = JqwikContext.runInContext(() -> arbitrary.generator(GEN_SIZE, true));
+		random = new Random(42L);
+	}
+
+	@Benchmark
+	public Object generate() {
+		return generator.next(random).value();
+	}
+
+	private static Arbitrary<?> arbitrary(String name) {
+		switch (name) {
+			case "integers":
+				return Arbitraries.integers();
+			case "longs":
+				return Arbitraries.longs();
+			case "doubles":
+				return Arbitraries.doubles();
+			case "bigIntegers":
+				return Arbitraries.bigIntegers();
+			case "chars":
+				return Arbitraries.chars();
+			case "strings":
+				return Arbitraries.strings().ofMaxLength(100);
+			case "lists":
+				return Arbitraries.integers().list().ofMaxSize(100);
+			case "sets":
+				return Arbitraries.integers().set().ofMaxSize(100);
+			case "uniqueLists":
+				return Arbitraries.integers().between(0, 1000).list().uniqueElements().ofMaxSize(100);
+			case "tuples":
+				return Combinators.combine(Arbitraries.integers(), Arbitraries.strings()).as(Tuple::of);
+			default:
+				throw new IllegalArgumentException("Unknown arbitrary: " + name);
+		}
+	}
+}
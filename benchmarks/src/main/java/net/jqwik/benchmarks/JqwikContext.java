@@ -0,0 +1,25 @@
+package net.jqwik.benchmarks;
+
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.engine.descriptor.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * Creating generators may require a jqwik store, which is only available
+ * if there is a current test descriptor.
+ */
+class JqwikContext {
+
+	private static final TestDescriptor BENCHMARK_DESCRIPTOR =
+		new JqwikEngineDescriptor(UniqueId.forEngine("jqwik-benchmarks"), null);
+
+	private JqwikContext() {
+	}
+
+	static <T> T runInContext(Supplier<T> code) {
+		return CurrentTestDescriptor.runWithDescriptor(BENCHMARK_DESCRIPTOR, code);
+	}
+}
@@ -0,0 +1,13 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+
+import net.jqwik.api.lifecycle.*;
+
+public class NoopAroundTryHook implements AroundTryHook {
+
+	@Override
+	public TryExecutionResult aroundTry(TryLifecycleContext context, TryExecutor aTry, List<Object> parameters) {
+		return aTry.execute(parameters);
+	}
+}
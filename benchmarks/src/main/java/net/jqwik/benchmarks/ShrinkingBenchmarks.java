@@ -0,0 +1,78 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.testing.*;
+
+/**
+ * Time to fully shrink a falsified sample of a few canonical failing properties
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ShrinkingBenchmarks {
+
+	@Param({"integerAboveLimit", "stringContainingChar", "listWithLargeSum", "listOfStringsWithDuplicate"})
+	public String property;
+
+	private Shrinkable<Object> falsifiedShrinkable;
+	private TestingFalsifier<Object> falsifier;
+
+	@Setup
+	public void createFalsifiedSample() {
+		Arbitrary<Object> arbitrary = arbitrary(property).asGeneric();
+		falsifier = falsifier(property);
+		RandomGenerator<Object> generator = JqwikContext.runInContext(() -> arbitrary.generator(1000));
+		Random random = new Random(42L);
+		while (true) {
+			Shrinkable<Object> candidate = generator.next(random);
+			if (!falsifier.test(candidate.value())) {
+				falsifiedShrinkable = candidate;
+				return;
+			}
+		}
+	}
+
+	@Benchmark
+	public Object shrink() {
+		return ShrinkingSupport.shrink(falsifiedShrinkable, falsifier, null);
+	}
+
+	private static Arbitrary<?> arbitrary(String property) {
+		switch (property) {
+			case "integerAboveLimit":
+				return Arbitraries.integers().between(0, 1_000_000);
+			case "stringContainingChar":
+				return Arbitraries.strings().withCharRange('a', 'z').ofMinLength(50).ofMaxLength(200);
+			case "listWithLargeSum":
+				return Arbitraries.integers().between(0, 100).list().ofMinSize(50).ofMaxSize(200);
+			case "listOfStringsWithDuplicate":
+				return Arbitraries.strings().withCharRange('a', 'c').ofMaxLength(3).list().ofMinSize(20).ofMaxSize(50);
+			default:
+				throw new IllegalArgumentException("Unknown property: " + property);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static TestingFalsifier<Object> falsifier(String property) {
+		switch (property) {
+			case "integerAboveLimit":
+				return i -> (int) i < 10_000;
+			case "stringContainingChar":
+				return s -> !((String) s).contains("x");
+			case "listWithLargeSum":
+				return l -> ((List<Integer>) l).stream().mapToInt(i -> i).sum() < 1000;
+			case "listOfStringsWithDuplicate":
+				return l -> new HashSet<>((List<String>) l).size() == ((List<String>) l).size();
+			default:
+				throw new IllegalArgumentException("Unknown property: " + property);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package net.jqwik.benchmarks;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Properties whose tries do almost nothing so that engine overhead dominates
+ */
+public class TrivialProperties {
+
+	@Property(tries = 1, seed = "42")
+	boolean singleTry(@ForAll int anInt) {
+		return true;
+	}
+
+	@Property(tries = 1000, seed = "42")
+	boolean thousandTries(@ForAll int anInt) {
+		return true;
+	}
+
+	@Property(tries = 1000, seed = "42")
+	@AddLifecycleHook(NoopAroundTryHook.class)
+	boolean thousandTriesWithHook(@ForAll int anInt) {
+		return true;
+	}
+}
@@ -0,0 +1,60 @@
+package net.jqwik.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+/**
+ * Time to request the value of a generated composite shrinkable repeatedly,
+ * as it happens during a try, reporting and when shrinking candidates are compared,
+ * with value memoization switched on or off
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ValueMemoizationBenchmarks {
+
+	@Param({"false", "true"})
+	public boolean memoize;
+
+	@Param({"listOfIntegers", "nestedLists", "combinedValues"})
+	public String arbitrary;
+
+	private Shrinkable<Object> shrinkable;
+
+	@Setup
+	public void generateShrinkable() {
+		Arbitrary<Object> arbitrary = arbitrary(this.arbitrary).asGeneric();
+		RandomGenerator<Object> generator = JqwikContext.runInContext(() -> arbitrary.generator(1000));
+		shrinkable = ValueMemoization.runWith(memoize, () -> generator.next(new Random(42L)));
+	}
+
+	@Benchmark
+	public Object value() {
+		return shrinkable.value();
+	}
+
+	private static Arbitrary<?> arbitrary(String arbitrary) {
+		switch (arbitrary) {
+			case "listOfIntegers":
+				return Arbitraries.integers().list().ofSize(100);
+			case "nestedLists":
+				return Arbitraries.integers().list().ofSize(10).list().ofSize(10);
+			case "combinedValues":
+				Arbitrary<String> strings = Arbitraries.strings().alpha().ofLength(10);
+				Arbitrary<Integer> integers = Arbitraries.integers();
+				return Combinators.combine(strings, integers, strings.list().ofSize(10))
+								  .as((s, i, l) -> s + i + l.size())
+								  .list().ofSize(10);
+			default:
+				throw new IllegalArgumentException("Unknown arbitrary: " + arbitrary);
+		}
+	}
+}
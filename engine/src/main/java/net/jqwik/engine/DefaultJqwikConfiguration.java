@@ -7,7 +7,9 @@ import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.recording.*;
+import net.jqwik.engine.telemetry.*;
 
 public class DefaultJqwikConfiguration implements JqwikConfiguration {
 
@@ -34,7 +36,12 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 			properties.defaultEdgeCases(),
 			properties.defaultShrinking(),
 			properties.boundedShrinkingSeconds(),
-			properties.fixedSeedMode()
+			properties.fixedSeedMode(),
+			properties.defaultParallelism(),
+			properties.shrinkingCacheSize(),
+			properties.shrinkingCacheFingerprints(),
+			properties.shrinkingParallel(),
+			properties.telemetryEnabled()
 		);
 	}
 
@@ -56,6 +63,30 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 		return properties.reportOnlyFailures();
 	}
 
+	@Override
+	public int executionParallelism() {
+		return properties.executionParallelism();
+	}
+
+	@Override
+	public int resolutionCacheSize() {
+		return properties.resolutionCacheSize();
+	}
+
+	@Override
+	public boolean memoizeValues() {
+		return properties.memoizeValues();
+	}
+
+	@Override
+	public TelemetryRecorder telemetryRecorder() {
+		String telemetryPath = properties.telemetryPath();
+		if (!properties.telemetryEnabled() || telemetryPath == null || telemetryPath.trim().isEmpty()) {
+			return TelemetryRecorder.NULL;
+		}
+		return new TelemetryFile(Paths.get(telemetryPath));
+	}
+
 	private TestEngineConfiguration createTestEngineConfiguration() {
 		String databasePath = properties.databasePath();
 		if (databasePath == null || databasePath.trim().isEmpty()) {
@@ -85,7 +116,11 @@ public class DefaultJqwikConfiguration implements JqwikConfiguration {
 	}
 
 	private TestEngineConfiguration testEngineConfigurationFromDatabase(String databasePath) {
-		TestRunDatabase database = new TestRunDatabase(Paths.get(databasePath));
+		TestRunDatabase database = new TestRunDatabase(
+			Paths.get(databasePath),
+			properties.maxRegressionSamples(),
+			JqwikUniqueIDs::propertyExists
+		);
 		TestRunData previousRun = database.previousRun();
 		return new TestEngineConfiguration() {
 			@Override
@@ -1,5 +1,7 @@
 package net.jqwik.engine;
 
+import net.jqwik.engine.telemetry.*;
+
 public interface JqwikConfiguration {
 	PropertyAttributesDefaults propertyDefaultValues();
 
@@ -8,4 +10,12 @@ public interface JqwikConfiguration {
 	boolean useJunitPlatformReporter();
 
 	boolean reportOnlyFailures();
+
+	int executionParallelism();
+
+	int resolutionCacheSize();
+
+	boolean memoizeValues();
+
+	TelemetryRecorder telemetryRecorder();
 }
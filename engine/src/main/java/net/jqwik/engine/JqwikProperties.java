@@ -45,6 +45,16 @@ public class JqwikProperties {
 	private static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	private static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	private static final int DEFAULT_BOUNDED_SHRINKING_SECONDS = 10;
+	private static final int DEFAULT_TRIES_PARALLELISM = 1;
+	private static final int DEFAULT_EXECUTION_PARALLELISM = 1;
+	private static final int DEFAULT_MAX_REGRESSION_SAMPLES = 0;
+	private static final int DEFAULT_SHRINKING_CACHE_SIZE = 1000;
+	private static final boolean DEFAULT_SHRINKING_CACHE_FINGERPRINTS = false;
+	private static final boolean DEFAULT_SHRINKING_PARALLEL = false;
+	private static final int DEFAULT_RESOLUTION_CACHE_SIZE = 1000;
+	private static final boolean DEFAULT_MEMOIZE_VALUES = false;
+	private static final boolean DEFAULT_TELEMETRY_ENABLED = false;
+	private static final String DEFAULT_TELEMETRY_PATH = ".jqwik-telemetry.json";
 
 	// TODO: Change default to true as soon as Gradle has support for platform reporter
 	// see https://github.com/gradle/gradle/issues/4605
@@ -52,6 +62,7 @@ public class JqwikProperties {
 
 	private final String databasePath;
 	private final boolean runFailuresFirst;
+	private final int maxRegressionSamples;
 	private final int defaultTries;
 	private final int defaultMaxDiscardRatio;
 	private final boolean useJunitPlatformReporter;
@@ -62,6 +73,15 @@ public class JqwikProperties {
 	private final ShrinkingMode defaultShrinking;
 	private final int boundedShrinkingSeconds;
 	private final FixedSeedMode fixedSeedMode;
+	private final int defaultParallelism;
+	private final int executionParallelism;
+	private final int shrinkingCacheSize;
+	private final boolean shrinkingCacheFingerprints;
+	private final boolean shrinkingParallel;
+	private final int resolutionCacheSize;
+	private final boolean memoizeValues;
+	private final boolean telemetryEnabled;
+	private final String telemetryPath;
 
 	public String databasePath() {
 		return databasePath;
@@ -71,6 +91,10 @@ public class JqwikProperties {
 		return runFailuresFirst;
 	}
 
+	public int maxRegressionSamples() {
+		return maxRegressionSamples;
+	}
+
 	public int defaultTries() {
 		return defaultTries;
 	}
@@ -111,9 +135,46 @@ public class JqwikProperties {
 		return fixedSeedMode;
 	}
 
+	public int defaultParallelism() {
+		return defaultParallelism;
+	}
+
+	public int executionParallelism() {
+		return executionParallelism;
+	}
+
+	public int shrinkingCacheSize() {
+		return shrinkingCacheSize;
+	}
+
+	public boolean shrinkingCacheFingerprints() {
+		return shrinkingCacheFingerprints;
+	}
+
+	public boolean shrinkingParallel() {
+		return shrinkingParallel;
+	}
+
+	public int resolutionCacheSize() {
+		return resolutionCacheSize;
+	}
+
+	public boolean memoizeValues() {
+		return memoizeValues;
+	}
+
+	public boolean telemetryEnabled() {
+		return telemetryEnabled;
+	}
+
+	public String telemetryPath() {
+		return telemetryPath;
+	}
+
 	JqwikProperties(ConfigurationParameters parameters) {
 		databasePath = parameters.get("database").orElse(DEFAULT_DATABASE_PATH);
 		runFailuresFirst = parameters.getBoolean("failures.runfirst").orElse(DEFAULT_RERUN_FAILURES_FIRST);
+		maxRegressionSamples = parameters.get("failures.regressions.max", Integer::parseInt).orElse(DEFAULT_MAX_REGRESSION_SAMPLES);
 		defaultTries = parameters.get("tries.default", Integer::parseInt).orElse(DEFAULT_TRIES);
 		defaultMaxDiscardRatio = parameters.get("maxdiscardratio.default", Integer::parseInt).orElse(DEFAULT_MAX_DISCARD_RATIO);
 		useJunitPlatformReporter = parameters.getBoolean("reporting.usejunitplatform").orElse(DEFAULT_USE_JUNIT_PLATFORM_REPORTER);
@@ -124,6 +185,15 @@ public class JqwikProperties {
 		defaultShrinking = parameters.get("shrinking.default", ShrinkingMode::valueOf).orElse(DEFAULT_SHRINKING);
 		boundedShrinkingSeconds = parameters.get("shrinking.bounded.seconds", Integer::parseInt).orElse(DEFAULT_BOUNDED_SHRINKING_SECONDS);
 		fixedSeedMode = parameters.get("seeds.whenfixed", FixedSeedMode::valueOf).orElse(FixedSeedMode.ALLOW);
+		defaultParallelism = parameters.get("tries.parallelism", Integer::parseInt).orElse(DEFAULT_TRIES_PARALLELISM);
+		executionParallelism = parameters.get("execution.parallelism", Integer::parseInt).orElse(DEFAULT_EXECUTION_PARALLELISM);
+		shrinkingCacheSize = parameters.get("shrinking.cache.size", Integer::parseInt).orElse(DEFAULT_SHRINKING_CACHE_SIZE);
+		shrinkingCacheFingerprints = parameters.getBoolean("shrinking.cache.fingerprints").orElse(DEFAULT_SHRINKING_CACHE_FINGERPRINTS);
+		shrinkingParallel = parameters.getBoolean("shrinking.parallel").orElse(DEFAULT_SHRINKING_PARALLEL);
+		resolutionCacheSize = parameters.get("resolution.cache.size", Integer::parseInt).orElse(DEFAULT_RESOLUTION_CACHE_SIZE);
+		memoizeValues = parameters.getBoolean("values.memoize").orElse(DEFAULT_MEMOIZE_VALUES);
+		telemetryEnabled = parameters.getBoolean("telemetry.enabled").orElse(DEFAULT_TELEMETRY_ENABLED);
+		telemetryPath = parameters.get("telemetry.path").orElse(DEFAULT_TELEMETRY_PATH);
 	}
 
 	static JqwikProperties loadWithBackwardsCompatibility(ConfigurationParameters fromJunit) {
@@ -9,8 +9,11 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.discovery.*;
 import net.jqwik.engine.execution.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.telemetry.*;
 
 public class JqwikTestEngine implements TestEngine {
 	public static final String ENGINE_ID = "jqwik";
@@ -60,14 +63,24 @@ public class JqwikTestEngine implements TestEngine {
 
 	private void executeTests(JqwikEngineDescriptor root, EngineExecutionListener listener) {
 		JqwikConfiguration configuration = root.getConfiguration();
-		try (TestRunRecorder recorder = configuration.testEngineConfiguration().recorder()) {
+		ResolutionCache.reset(configuration.resolutionCacheSize());
+		ValueMemoization.reset(configuration.memoizeValues());
+		try (
+			TestRunRecorder recorder = configuration.testEngineConfiguration().recorder();
+			TelemetryRecorder telemetryRecorder = configuration.telemetryRecorder()
+		) {
 			new JqwikExecutor(
 				lifecycleRegistry,
 				recorder,
+				telemetryRecorder,
 				configuration.testEngineConfiguration().previousFailures(),
 				configuration.useJunitPlatformReporter(),
-				configuration.reportOnlyFailures()
+				configuration.reportOnlyFailures(),
+				configuration.executionParallelism()
 			).execute(root, listener);
+		} finally {
+			// Resolved arbitraries may refer to provider and test instances that are no longer needed
+			ResolutionCache.clear();
 		}
 	}
 
@@ -15,10 +15,17 @@ public interface PropertyAttributesDefaults {
 	EdgeCasesMode edgeCases();
 	String stereotype();
 	FixedSeedMode whenFixedSeed();
+	int parallelism();
 
 	// This is currently a global parameter
 	int boundedShrinkingSeconds();
 
+	// These are currently global parameters
+	int shrinkingCacheSize();
+	boolean shrinkingCacheFingerprints();
+	boolean parallelShrinking();
+	boolean telemetry();
+
 	static PropertyAttributesDefaults with(
 		int tries,
 		int maxDiscardRatio,
@@ -27,7 +34,12 @@ public interface PropertyAttributesDefaults {
 		EdgeCasesMode edgeCasesMode,
 		ShrinkingMode shrinkingMode,
 		int boundedShrinkingSeconds,
-		FixedSeedMode fixedSeedMode
+		FixedSeedMode fixedSeedMode,
+		int parallelism,
+		int shrinkingCacheSize,
+		boolean shrinkingCacheFingerprints,
+		boolean parallelShrinking,
+		boolean telemetry
 	) {
 		return new PropertyAttributesDefaults() {
 			@Override
@@ -74,6 +86,31 @@ public interface PropertyAttributesDefaults {
 			public FixedSeedMode whenFixedSeed() {
 				return fixedSeedMode;
 			}
+
+			@Override
+			public int parallelism() {
+				return parallelism;
+			}
+
+			@Override
+			public int shrinkingCacheSize() {
+				return shrinkingCacheSize;
+			}
+
+			@Override
+			public boolean shrinkingCacheFingerprints() {
+				return shrinkingCacheFingerprints;
+			}
+
+			@Override
+			public boolean parallelShrinking() {
+				return parallelShrinking;
+			}
+
+			@Override
+			public boolean telemetry() {
+				return telemetry;
+			}
 		};
 	}
 }
@@ -30,11 +30,11 @@ public class SourceOfRandomness {
 	}
 
 	public static Random newRandom() {
-		return new XORShiftRandom();
+		return new SplitMixRandom(RNG.get().nextLong());
 	}
 
 	public static Random newRandom(final long seed) {
-		return new XORShiftRandom(seed);
+		return new SplitMixRandom(seed);
 	}
 
 	public static Random current() {
@@ -42,50 +42,153 @@ public class SourceOfRandomness {
 	}
 
 	/**
-	 * A faster but not thread safe implementation of {@linkplain java.util.Random}.
-	 * It also has a period of 2^n - 1 and better statistical randomness.
+	 * Run code with {@code random} as current source of randomness of the calling thread,
+	 * e.g. in a worker thread that executes tries on behalf of a property.
+	 */
+	public static <T> T runWith(Random random, Supplier<T> code) {
+		Random previous = current.get();
+		current.set(random);
+		try {
+			return code.get();
+		} finally {
+			current.set(previous);
+		}
+	}
+
+	/**
+	 * Derive an independent source of randomness for an index, e.g. the number of a try.
+	 * The derived random depends only on the seed of {@code random} and on {@code index}
+	 * but not on how many values have already been drawn from {@code random}.
 	 *
-	 * See for details: https://www.javamex.com/tutorials/random_numbers/xorshift.shtml
+	 * <p>
+	 * Instances of {@linkplain Random} not created by this class cannot be derived from.
+	 * In that case {@code random} itself is returned.
+	 * </p>
+	 */
+	public static Random derive(Random random, long index) {
+		if (random instanceof SplitMixRandom) {
+			return ((SplitMixRandom) random).derive(index);
+		}
+		return random;
+	}
+
+	/**
+	 * The seed of the random that {@linkplain #derive(Random, long)} returns
+	 * for a random created from {@code seed}. It identifies e.g. a try independently of the run.
+	 */
+	public static long derivedSeed(String seed, long index) {
+		try {
+			return SplitMixRandom.derivedSeed(Long.parseLong(seed), index);
+		} catch (NumberFormatException nfe) {
+			throw new JqwikException(String.format("[%s] is not a valid random seed.", seed));
+		}
+	}
+
+	/**
+	 * The seed that {@code random} was created or derived from.
+	 * A random created with {@linkplain #newRandom(long)} from this seed starts with the same values.
+	 *
+	 * @return empty if {@code random} has not been created by this class
+	 */
+	public static OptionalLong seedOf(Random random) {
+		if (random instanceof SplitMixRandom) {
+			return OptionalLong.of(((SplitMixRandom) random).initialSeed);
+		}
+		return OptionalLong.empty();
+	}
+
+	/**
+	 * A faster but not thread safe implementation of {@linkplain java.util.Random}
+	 * based on the SplitMix64 algorithm, which also backs {@linkplain java.util.SplittableRandom}.
+	 * Bounded ints and doubles are computed directly from a 64 bit value instead of going through {@code next(bits)}.
 	 *
 	 * <p>
-	 * For further performance improvements within jqwik, consider to override:
-	 * <ul>
-	 *     <li>nextDouble()</li>
-	 *     <li>nextBytes(int)</li>
-	 * </ul>
+	 * Since the internal state advances by a constant with each value
+	 * the generator can jump to any position of its stream in constant time.
+	 * This is used to derive independent streams from the original seed.
+	 * </p>
+	 *
+	 * See for details: https://prng.di.unimi.it/splitmix64.c
 	 */
-	private static class XORShiftRandom extends Random {
-		private long seed;
+	private static class SplitMixRandom extends Random {
+		private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
 
-		private XORShiftRandom() {
-			this(System.nanoTime());
+		private long initialSeed;
+		private long state;
+
+		private SplitMixRandom(long seed) {
+			super(seed);
 		}
 
-		private XORShiftRandom(long seed) {
-			if (seed == 0l) {
-				throw new IllegalArgumentException("0L is not an allowed seed value");
-			}
-			this.seed = seed;
+		@Override
+		public synchronized void setSeed(long seed) {
+			super.setSeed(seed);
+			this.initialSeed = seed;
+			this.state = seed;
+		}
+
+		// The seed of the derived random is the value at position index + 1 of this random's stream
+		private SplitMixRandom derive(long index) {
+			return new SplitMixRandom(derivedSeed(initialSeed, index));
+		}
+
+		private static long derivedSeed(long seed, long index) {
+			return mix64(seed + (index + 1) * GOLDEN_GAMMA);
 		}
 
 		@Override
 		protected int next(int nbits) {
-			long x = nextLong();
-			x &= ((1L << nbits) - 1);
-			return (int) x;
+			return (int) (nextLong() >>> (64 - nbits));
 		}
 
-		/**
-		 * Will never generate 0L
-		 */
 		@Override
 		public long nextLong() {
-			long x = this.seed;
-			x ^= (x << 21);
-			x ^= (x >>> 35);
-			x ^= (x << 4);
-			this.seed = x;
-			return x;
+			state += GOLDEN_GAMMA;
+			return mix64(state);
+		}
+
+		@Override
+		public int nextInt() {
+			return (int) (nextLong() >>> 32);
+		}
+
+		// Lemire's nearly divisionless method for unbiased bounded integers
+		@Override
+		public int nextInt(int bound) {
+			if (bound <= 0) {
+				throw new IllegalArgumentException("bound must be positive");
+			}
+			long product = (nextLong() >>> 32) * bound;
+			long low = product & 0xffffffffL;
+			if (low < bound) {
+				long threshold = (0x100000000L - bound) % bound;
+				while (low < threshold) {
+					product = (nextLong() >>> 32) * bound;
+					low = product & 0xffffffffL;
+				}
+			}
+			return (int) (product >>> 32);
+		}
+
+		@Override
+		public double nextDouble() {
+			return (nextLong() >>> 11) * 0x1.0p-53;
+		}
+
+		@Override
+		public float nextFloat() {
+			return (nextLong() >>> 40) * 0x1.0p-24f;
+		}
+
+		@Override
+		public boolean nextBoolean() {
+			return nextLong() < 0;
+		}
+
+		private static long mix64(long z) {
+			z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+			z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+			return z ^ (z >>> 31);
 		}
 	}
 }
@@ -13,12 +13,23 @@ public class PropertyConfiguration {
 		PropertyAttributesDefaults propertyAttributesDefaults,
 		String previousSeed,
 		List<Object> falsifiedSample
+	) {
+		return from(propertyAttributes, propertyAttributesDefaults, previousSeed, falsifiedSample, Collections.emptyList());
+	}
+
+	public static PropertyConfiguration from(
+		PropertyAttributes propertyAttributes,
+		PropertyAttributesDefaults propertyAttributesDefaults,
+		String previousSeed,
+		List<Object> falsifiedSample,
+		List<Long> regressionSeeds
 	) {
 		return new PropertyConfiguration(
 			propertyAttributes,
 			propertyAttributesDefaults,
 			previousSeed,
 			falsifiedSample,
+			regressionSeeds,
 			null,
 			null,
 			null
@@ -29,6 +40,7 @@ public class PropertyConfiguration {
 	private final PropertyAttributesDefaults propertyAttributesDefaults;
 	private final String previousSeed;
 	private final List<Object> falsifiedSample;
+	private final List<Long> regressionSeeds;
 	private final String overriddenSeed;
 	private final Integer overriddenTries;
 	private final GenerationMode overriddenGenerationMode;
@@ -41,12 +53,35 @@ public class PropertyConfiguration {
 		String overriddenSeed,
 		Integer overriddenTries,
 		GenerationMode overriddenGenerationMode
+	) {
+		this(
+			propertyAttributes,
+			propertyAttributesDefaults,
+			previousSeed,
+			falsifiedSample,
+			Collections.emptyList(),
+			overriddenSeed,
+			overriddenTries,
+			overriddenGenerationMode
+		);
+	}
+
+	public PropertyConfiguration(
+		PropertyAttributes propertyAttributes,
+		PropertyAttributesDefaults propertyAttributesDefaults,
+		String previousSeed,
+		List<Object> falsifiedSample,
+		List<Long> regressionSeeds,
+		String overriddenSeed,
+		Integer overriddenTries,
+		GenerationMode overriddenGenerationMode
 	) {
 		this.propertyAttributes = propertyAttributes;
 		this.propertyAttributesDefaults = propertyAttributesDefaults;
 		this.overriddenSeed = overriddenSeed;
 		this.previousSeed = previousSeed;
 		this.falsifiedSample = falsifiedSample;
+		this.regressionSeeds = regressionSeeds;
 		this.overriddenTries = overriddenTries;
 		this.overriddenGenerationMode = overriddenGenerationMode;
 	}
@@ -57,6 +92,7 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.regressionSeeds,
 			changedSeed,
 			this.overriddenTries,
 			this.overriddenGenerationMode
@@ -69,6 +105,7 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.regressionSeeds,
 			this.overriddenSeed,
 			this.overriddenTries,
 			changedGenerationMode
@@ -81,6 +118,7 @@ public class PropertyConfiguration {
 			this.propertyAttributesDefaults,
 			this.previousSeed,
 			this.falsifiedSample,
+			this.regressionSeeds,
 			this.overriddenSeed,
 			changedTries,
 			this.overriddenGenerationMode
@@ -120,6 +158,10 @@ public class PropertyConfiguration {
 		return falsifiedSample;
 	}
 
+	public List<Long> getRegressionSeeds() {
+		return regressionSeeds;
+	}
+
 	public String getStereotype() {
 		return propertyAttributes.stereotype().orElse(propertyAttributesDefaults.stereotype());
 	}
@@ -145,7 +187,39 @@ public class PropertyConfiguration {
 		return propertyAttributesDefaults.boundedShrinkingSeconds();
 	}
 
+	public int shrinkingCacheSize() {
+		return propertyAttributesDefaults.shrinkingCacheSize();
+	}
+
+	public boolean shrinkingCacheFingerprints() {
+		return propertyAttributesDefaults.shrinkingCacheFingerprints();
+	}
+
+	/**
+	 * The number of shrinking candidates to falsify concurrently.
+	 * Without parallel shrinking switched on this is always 1.
+	 * Otherwise it is the property's parallelism or, if that is 1, the number of available processors.
+	 */
+	public int shrinkingParallelism() {
+		if (!propertyAttributesDefaults.parallelShrinking()) {
+			return 1;
+		}
+		int parallelism = getParallelism();
+		if (parallelism > 1) {
+			return parallelism;
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+	public boolean isTelemetryEnabled() {
+		return propertyAttributesDefaults.telemetry();
+	}
+
 	public FixedSeedMode getFixedSeedMode() {
 		return propertyAttributes.whenFixedSeed().orElse(propertyAttributesDefaults.whenFixedSeed());
 	}
+
+	public int getParallelism() {
+		return propertyAttributes.parallelism().orElse(propertyAttributesDefaults.parallelism());
+	}
 }
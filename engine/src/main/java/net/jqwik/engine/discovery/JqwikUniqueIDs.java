@@ -41,6 +41,26 @@ public class JqwikUniqueIDs {
 		return ReflectionSupport.findMethod(clazz, methodName, parameterTypeNames);
 	}
 
+	/**
+	 * Whether the property that {@code uniqueId} refers to can still be found.
+	 * Unique ids of anything else than properties of containers are assumed to exist.
+	 */
+	public static boolean propertyExists(UniqueId uniqueId) {
+		List<Segment> segments = uniqueId.getSegments();
+		Segment lastSegment = segments.get(segments.size() - 1);
+		if (!lastSegment.getType().equals(PROPERTY_SEGMENT_TYPE) || segments.size() < 2) {
+			return true;
+		}
+		Segment containerSegment = segments.get(segments.size() - 2);
+		if (!containerSegment.getType().equals(CONTAINER_SEGMENT_TYPE)) {
+			return true;
+		}
+		return ReflectionSupport.tryToLoadClass(containerSegment.getValue())
+								.toOptional()
+								.flatMap(containerClass -> findMethodBySegment(lastSegment, containerClass))
+								.isPresent();
+	}
+
 	private static UniqueId appendMethodSegment(UniqueId uniqueId, Method method, String segmentType) {
 		String methodId = String.format("%s(%s)", method.getName(), JqwikStringSupport.parameterTypesToString(method.getParameterTypes()));
 		return uniqueId.append(segmentType, methodId);
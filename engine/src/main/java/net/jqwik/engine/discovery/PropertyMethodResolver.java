@@ -86,12 +86,14 @@ class PropertyMethodResolver implements ElementResolver {
 		});
 		String previousSeed = previousSeed(uniqueId);
 		List<Object> falsifiedSample = falsifiedSample(uniqueId);
+		List<Long> regressionSeeds = regressionSeeds(uniqueId);
 		PropertyAttributes attributes = DefaultPropertyAttributes.from(property);
 		PropertyConfiguration propertyConfig = PropertyConfiguration.from(
 			attributes,
 			propertyDefaultValues,
 			previousSeed,
-			falsifiedSample
+			falsifiedSample,
+			regressionSeeds
 		);
 		return new PropertyMethodDescriptor(uniqueId, method, testClass, propertyConfig);
 	}
@@ -110,6 +112,12 @@ class PropertyMethodResolver implements ElementResolver {
 						  .orElse(null);
 	}
 
+	private List<Long> regressionSeeds(UniqueId uniqueId) {
+		return testRunData.byUniqueId(uniqueId)
+						  .map(TestRun::regressionSeeds)
+						  .orElse(Collections.emptyList());
+	}
+
 	private String getSegmentType() {
 		return JqwikUniqueIDs.PROPERTY_SEGMENT_TYPE;
 	}
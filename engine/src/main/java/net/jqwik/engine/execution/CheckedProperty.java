@@ -12,6 +12,7 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.telemetry.*;
 
 public class CheckedProperty {
 
@@ -27,6 +28,7 @@ public class CheckedProperty {
 	private final ResolveParameterHook resolveParameterHook;
 	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final Optional<Iterable<? extends Tuple>> optionalData;
+	private final PropertyTelemetry telemetry;
 	private Optional<ExhaustiveShrinkablesGenerator> optionalExhaustive;
 
 	public CheckedProperty(
@@ -38,6 +40,23 @@ public class CheckedProperty {
 			PropertyLifecycleContext propertyLifecycleContext,
 			Optional<Iterable<? extends Tuple>> optionalData,
 			PropertyConfiguration configuration
+	) {
+		this(
+				propertyName, tryLifecycleExecutor, propertyParameters, arbitraryResolver, resolveParameterHook,
+				propertyLifecycleContext, optionalData, configuration, PropertyTelemetry.DISABLED
+		);
+	}
+
+	public CheckedProperty(
+			String propertyName,
+			TryLifecycleExecutor tryLifecycleExecutor,
+			List<MethodParameter> propertyParameters,
+			ArbitraryResolver arbitraryResolver,
+			ResolveParameterHook resolveParameterHook,
+			PropertyLifecycleContext propertyLifecycleContext,
+			Optional<Iterable<? extends Tuple>> optionalData,
+			PropertyConfiguration configuration,
+			PropertyTelemetry telemetry
 	) {
 		this.propertyName = propertyName;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
@@ -48,6 +67,7 @@ public class CheckedProperty {
 		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.optionalData = optionalData;
 		this.configuration = configuration;
+		this.telemetry = telemetry;
 	}
 
 	private List<MethodParameter> selectForAllParameters(List<MethodParameter> propertyParameters) {
@@ -149,7 +169,14 @@ public class CheckedProperty {
 				propertyLifecycleContext
 		);
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier = () -> new DefaultTryLifecycleContext(propertyLifecycleContext);
-		return new GenericProperty(propertyName, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier);
+		return new GenericProperty(
+				propertyName,
+				configuration,
+				parametersGenerator,
+				tryLifecycleExecutor,
+				tryLifecycleContextSupplier,
+				telemetry
+		);
 	}
 
 	private ForAllParametersGenerator createShrinkablesGenerator(PropertyConfiguration configuration) {
@@ -158,21 +185,22 @@ public class CheckedProperty {
 			if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_ONLY) {
 				return createSampleOnlyShrinkableGenerator(configuration);
 			} else if (configuration.getAfterFailureMode() == AfterFailureMode.SAMPLE_FIRST) {
+				// The previous sample is tried first, so generation starts with the second try
 				return createSampleOnlyShrinkableGenerator(configuration)
-							   .andThen(() -> createDefaultShrinkablesGenerator(configuration));
+							   .andThen(() -> createDefaultShrinkablesGenerator(configuration, 1));
 			}
 		}
-		return createDefaultShrinkablesGenerator(configuration);
+		return createDefaultShrinkablesGenerator(configuration, 0);
 	}
 
-	private ForAllParametersGenerator createDefaultShrinkablesGenerator(PropertyConfiguration configuration) {
+	private ForAllParametersGenerator createDefaultShrinkablesGenerator(PropertyConfiguration configuration, long firstTryIndex) {
 		switch (configuration.getGenerationMode()) {
 			case EXHAUSTIVE:
 				return getOptionalExhaustive().get();
 			case DATA_DRIVEN:
 				return createDataBasedShrinkablesGenerator(configuration);
 			default:
-				return createRandomizedShrinkablesGenerator(configuration);
+				return createRandomizedShrinkablesGenerator(configuration, firstTryIndex);
 		}
 	}
 
@@ -230,14 +258,16 @@ public class CheckedProperty {
 		return new DataBasedShrinkablesGenerator(forAllParameters, optionalData.get());
 	}
 
-	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration) {
+	private ForAllParametersGenerator createRandomizedShrinkablesGenerator(PropertyConfiguration configuration, long firstTryIndex) {
 		Random random = SourceOfRandomness.create(configuration.getSeed());
 		return RandomizedShrinkablesGenerator.forParameters(
 				forAllParameters,
 				arbitraryResolver,
 				random,
 				configuration.getTries(),
-				configuration.getEdgeCasesMode()
+				configuration.getEdgeCasesMode(),
+				configuration.getRegressionSeeds(),
+				firstTryIndex
 		);
 	}
 
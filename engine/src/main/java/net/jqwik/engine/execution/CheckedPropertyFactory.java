@@ -2,9 +2,6 @@ package net.jqwik.engine.execution;
 
 import java.lang.reflect.*;
 import java.util.*;
-import java.util.function.*;
-
-import org.junit.platform.commons.support.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
@@ -13,11 +10,10 @@ import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.telemetry.*;
 
 public class CheckedPropertyFactory {
 
-	private static List<Class<?>> BOOLEAN_RETURN_TYPES = Arrays.asList(boolean.class, Boolean.class);
-
 	public CheckedProperty fromDescriptor(
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
@@ -29,7 +25,8 @@ public class CheckedPropertyFactory {
 		Method propertyMethod = propertyMethodDescriptor.getTargetMethod();
 		PropertyConfiguration configuration = propertyMethodDescriptor.getConfiguration();
 
-		TryLifecycleExecutor tryLifecycleExecutor = createTryExecutor(propertyMethodDescriptor, propertyLifecycleContext, aroundTry);
+		PropertyTelemetry telemetry = configuration.isTelemetryEnabled() ? new PropertyTelemetry() : PropertyTelemetry.DISABLED;
+		TryLifecycleExecutor tryLifecycleExecutor = createTryExecutor(propertyMethodDescriptor, propertyLifecycleContext, aroundTry, telemetry);
 		List<MethodParameter> propertyParameters = extractParameters(propertyMethod, propertyMethodDescriptor.getContainerClass());
 
 		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
@@ -50,14 +47,16 @@ public class CheckedPropertyFactory {
 			parameterResolver,
 			propertyLifecycleContext,
 			optionalData,
-			configuration
+			configuration,
+			telemetry
 		);
 	}
 
 	private TryLifecycleExecutor createTryExecutor(
 		PropertyMethodDescriptor propertyMethodDescriptor,
 		PropertyLifecycleContext propertyLifecycleContext,
-		AroundTryHook aroundTry
+		AroundTryHook aroundTry,
+		PropertyTelemetry telemetry
 	) {
 		AroundTryHook aroundTryWithFinishing = (context, aTry, parameters) -> {
 			try {
@@ -67,26 +66,20 @@ public class CheckedPropertyFactory {
 			}
 		};
 
-		TryExecutor rawExecutor = createRawExecutor(propertyMethodDescriptor, propertyLifecycleContext.testInstance());
+		TryExecutor rawExecutor = createRawExecutor(propertyMethodDescriptor, propertyLifecycleContext.testInstance(), telemetry);
 		return new AroundTryLifecycle(rawExecutor, aroundTryWithFinishing);
 	}
 
-	private TryExecutor createRawExecutor(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance) {
-		return createRawFunction(propertyMethodDescriptor, testInstance);
+	private TryExecutor createRawExecutor(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance, PropertyTelemetry telemetry) {
+		return createRawFunction(propertyMethodDescriptor, testInstance, telemetry);
 	}
 
-	private CheckedFunction createRawFunction(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance) {
-		Method targetMethod = propertyMethodDescriptor.getTargetMethod();
-		Class<?> returnType = targetMethod.getReturnType();
-		Function<List<Object>, Object> function = params -> ReflectionSupport.invokeMethod(targetMethod, testInstance, params.toArray());
-
-		if (BOOLEAN_RETURN_TYPES.contains(returnType))
-			return params -> (boolean) function.apply(params);
-		else
-			return params -> {
-				function.apply(params);
-				return true;
-			};
+	private CheckedFunction createRawFunction(PropertyMethodDescriptor propertyMethodDescriptor, Object testInstance, PropertyTelemetry telemetry) {
+		PropertyMethodInvoker invoker = new PropertyMethodInvoker(propertyMethodDescriptor.getTargetMethod(), testInstance);
+		if (!telemetry.isEnabled()) {
+			return invoker::invoke;
+		}
+		return params -> telemetry.measureBody(() -> invoker.invoke(params));
 	}
 
 	private List<MethodParameter> extractParameters(Method targetMethod, Class<?> containerClass) {
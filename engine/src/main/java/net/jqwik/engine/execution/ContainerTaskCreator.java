@@ -61,11 +61,13 @@ class ContainerTaskCreator {
 			"prepare " + containerDescriptor.getDisplayName()
 		);
 
+		List<ExecutionTask> nestedFinishingTasks = new ArrayList<>();
 		ExecutionTask[] childrenTasks = createChildren(
 			containerDescriptor.getChildren(),
 			childTaskCreator,
 			pipeline,
-			propertyExecutionListener
+			propertyExecutionListener,
+			nestedFinishingTasks
 		);
 		for (ExecutionTask childTask : childrenTasks) {
 			pipeline.submit(childTask, prepareContainerTask);
@@ -99,7 +101,7 @@ class ContainerTaskCreator {
 		if (childrenTasks.length == 0)
 			pipeline.submit(finishContainerTask, prepareContainerTask);
 		else
-			pipeline.submit(finishContainerTask, childrenTasks);
+			pipeline.submit(finishContainerTask, finishPredecessors(childrenTasks, nestedFinishingTasks));
 
 		return prepareContainerTask;
 	}
@@ -125,11 +127,39 @@ class ContainerTaskCreator {
 		Set<? extends TestDescriptor> children,
 		ExecutionTaskCreator childTaskCreator,
 		Pipeline pipeline,
-		PropertyExecutionListener propertyExecutionListener
+		PropertyExecutionListener propertyExecutionListener,
+		List<ExecutionTask> nestedFinishingTasks
 	) {
 		ExecutionTask[] childrenTasks = new ExecutionTask[0];
 		return children.stream()
-					   .map(child -> childTaskCreator.createTask(child, pipeline, propertyExecutionListener))
+					   .map(child -> createChild(child, childTaskCreator, pipeline, propertyExecutionListener, nestedFinishingTasks))
 					   .collect(Collectors.toList()).toArray(childrenTasks);
 	}
+
+	private ExecutionTask createChild(
+		TestDescriptor child,
+		ExecutionTaskCreator childTaskCreator,
+		Pipeline pipeline,
+		PropertyExecutionListener propertyExecutionListener,
+		List<ExecutionTask> nestedFinishingTasks
+	) {
+		// The last task submitted by a nested container is the one that finishes it
+		ExecutionTask[] lastSubmitted = new ExecutionTask[1];
+		Pipeline recordingPipeline = (task, predecessors) -> {
+			lastSubmitted[0] = task;
+			pipeline.submit(task, predecessors);
+		};
+		ExecutionTask childTask = childTaskCreator.createTask(child, recordingPipeline, propertyExecutionListener);
+		if (lastSubmitted[0] != null) {
+			nestedFinishingTasks.add(lastSubmitted[0]);
+		}
+		return childTask;
+	}
+
+	// With concurrent execution a container must not be finished before its nested containers
+	private ExecutionTask[] finishPredecessors(ExecutionTask[] childrenTasks, List<ExecutionTask> nestedFinishingTasks) {
+		List<ExecutionTask> predecessors = new ArrayList<>(Arrays.asList(childrenTasks));
+		predecessors.addAll(nestedFinishingTasks);
+		return predecessors.toArray(new ExecutionTask[0]);
+	}
 }
@@ -9,14 +9,17 @@ import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.pipeline.*;
 import net.jqwik.engine.recording.*;
+import net.jqwik.engine.telemetry.*;
 
 public class JqwikExecutor {
 
 	private final LifecycleHooksRegistry registry;
 	private final TestRunRecorder recorder;
+	private final TelemetryRecorder telemetryRecorder;
 	private final Set<UniqueId> previousFailedTests;
 	private final boolean useJunitPlatformReporter;
 	private final boolean reportOnlyFailures;
+	private final int parallelism;
 	private final PropertyTaskCreator propertyTaskCreator = new PropertyTaskCreator();
 	private final ContainerTaskCreator containerTaskCreator = new ContainerTaskCreator();
 	private final ExecutionTaskCreator childTaskCreator = this::createTask;
@@ -29,23 +32,56 @@ public class JqwikExecutor {
 		Set<UniqueId> previousFailedTests,
 		boolean useJunitPlatformReporter,
 		boolean reportOnlyFailures
+	) {
+		this(registry, recorder, previousFailedTests, useJunitPlatformReporter, reportOnlyFailures, 1);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		Set<UniqueId> previousFailedTests,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		int parallelism
+	) {
+		this(registry, recorder, TelemetryRecorder.NULL, previousFailedTests, useJunitPlatformReporter, reportOnlyFailures, parallelism);
+	}
+
+	public JqwikExecutor(
+		LifecycleHooksRegistry registry,
+		TestRunRecorder recorder,
+		TelemetryRecorder telemetryRecorder,
+		Set<UniqueId> previousFailedTests,
+		boolean useJunitPlatformReporter,
+		boolean reportOnlyFailures,
+		int parallelism
 	) {
 		this.registry = registry;
 		this.recorder = recorder;
+		this.telemetryRecorder = telemetryRecorder;
 		this.previousFailedTests = previousFailedTests;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 		this.reportOnlyFailures = reportOnlyFailures;
+		this.parallelism = parallelism;
 	}
 
 	public void execute(TestDescriptor descriptor, EngineExecutionListener engineExecutionListener) {
-		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, engineExecutionListener, useJunitPlatformReporter);
-		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener);
+		PropertyExecutionListener recordingListener = createListener(engineExecutionListener);
+		ExecutionPipeline pipeline = new ExecutionPipeline(recordingListener, parallelism);
 		ExecutionTask mainTask = createTask(descriptor, pipeline, recordingListener);
 		pipeline.submit(mainTask);
 		letNonSuccessfulTestsExecuteFirst(pipeline);
 		pipeline.runToTermination();
 	}
 
+	private PropertyExecutionListener createListener(EngineExecutionListener engineExecutionListener) {
+		PropertyExecutionListener recordingListener = new RecordingExecutionListener(recorder, telemetryRecorder, engineExecutionListener, useJunitPlatformReporter);
+		if (parallelism > 1) {
+			return new SynchronizedExecutionListener(recordingListener);
+		}
+		return recordingListener;
+	}
+
 	private void letNonSuccessfulTestsExecuteFirst(ExecutionPipeline pipeline) {
 		previousFailedTests.forEach(pipeline::executeFirst);
 	}
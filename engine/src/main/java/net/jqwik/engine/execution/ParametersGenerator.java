@@ -14,4 +14,28 @@ public interface ParametersGenerator {
 	int edgeCasesTotal();
 
 	int edgeCasesTried();
+
+	/**
+	 * @see net.jqwik.engine.properties.ForAllParametersGenerator#trySeedOfLastSample()
+	 */
+	default OptionalLong trySeedOfLastSample() {
+		return OptionalLong.empty();
+	}
+
+	/**
+	 * @see net.jqwik.engine.properties.ForAllParametersGenerator#indexOfLastSample()
+	 */
+	default OptionalLong indexOfLastSample() {
+		return OptionalLong.empty();
+	}
+
+	/**
+	 * Split this generator into generators for adjacent ranges of its parameters
+	 * that can be used from different threads but only one at a time.
+	 *
+	 * @return empty if this generator cannot be split
+	 */
+	default Optional<List<ParametersGenerator>> split(int count) {
+		return Optional.empty();
+	}
 }
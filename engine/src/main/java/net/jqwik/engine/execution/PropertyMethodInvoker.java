@@ -0,0 +1,91 @@
+package net.jqwik.engine.execution;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+import org.junit.platform.commons.support.*;
+
+import net.jqwik.engine.support.*;
+
+/**
+ * Invokes a property method with the parameters of a single try.
+ *
+ * <p>
+ * The method is bound to its test instance once per property as a {@linkplain MethodHandle}
+ * that takes all parameters as one array and whose result is already adapted to {@code boolean}.
+ * Methods that do not return a boolean are satisfied unless they throw.
+ * Each thread reuses its own argument array since tries can be executed concurrently.
+ * If no method handle can be created the method is invoked reflectively.
+ * </p>
+ */
+class PropertyMethodInvoker {
+
+	private static final List<Class<?>> BOOLEAN_RETURN_TYPES = Arrays.asList(boolean.class, Boolean.class);
+
+	private final Method targetMethod;
+	private final Object testInstance;
+	private final MethodHandle boundMethod;
+	private final ThreadLocal<Object[]> arguments;
+
+	PropertyMethodInvoker(Method targetMethod, Object testInstance) {
+		this.targetMethod = targetMethod;
+		this.testInstance = testInstance;
+		this.boundMethod = bind(targetMethod, testInstance);
+		int parameterCount = targetMethod.getParameterCount();
+		this.arguments = ThreadLocal.withInitial(() -> new Object[parameterCount]);
+	}
+
+	private static MethodHandle bind(Method targetMethod, Object testInstance) {
+		try {
+			targetMethod.setAccessible(true);
+			MethodHandle handle = MethodHandles.lookup().unreflect(targetMethod).asFixedArity();
+			if (JqwikReflectionSupport.isNotStatic(targetMethod)) {
+				handle = handle.bindTo(testInstance);
+			}
+			handle = adaptResult(handle, targetMethod.getReturnType());
+			return handle.asType(handle.type().generic().changeReturnType(boolean.class))
+						 .asSpreader(Object[].class, targetMethod.getParameterCount());
+		} catch (Throwable cannotBind) {
+			JqwikExceptionSupport.rethrowIfBlacklisted(cannotBind);
+			return null;
+		}
+	}
+
+	private static MethodHandle adaptResult(MethodHandle handle, Class<?> returnType) {
+		if (BOOLEAN_RETURN_TYPES.contains(returnType)) {
+			return handle.asType(handle.type().changeReturnType(boolean.class));
+		}
+		MethodHandle satisfied = MethodHandles.constant(boolean.class, true);
+		if (returnType == void.class) {
+			return MethodHandles.filterReturnValue(handle, satisfied);
+		}
+		return MethodHandles.filterReturnValue(handle, MethodHandles.dropArguments(satisfied, 0, returnType));
+	}
+
+	boolean invoke(List<Object> parameters) {
+		Object[] args = arguments.get();
+		if (boundMethod == null || parameters.size() != args.length) {
+			return invokeReflectively(parameters);
+		}
+		for (int i = 0; i < args.length; i++) {
+			args[i] = parameters.get(i);
+		}
+		try {
+			return (boolean) boundMethod.invokeExact(args);
+		} catch (Throwable throwable) {
+			return JqwikExceptionSupport.throwAsUncheckedException(throwable);
+		} finally {
+			// Do not keep parameters of the last try alive
+			Arrays.fill(args, null);
+		}
+	}
+
+	private boolean invokeReflectively(List<Object> parameters) {
+		Object result = ReflectionSupport.invokeMethod(targetMethod, testInstance, parameters.toArray());
+		if (BOOLEAN_RETURN_TYPES.contains(targetMethod.getReturnType())) {
+			return (boolean) result;
+		}
+		return true;
+	}
+}
@@ -7,16 +7,25 @@ import org.junit.platform.engine.*;
 import org.junit.platform.engine.reporting.*;
 
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.recording.*;
+import net.jqwik.engine.telemetry.*;
 
 public class RecordingExecutionListener implements PropertyExecutionListener {
 
 	private final TestRunRecorder recorder;
+	private final TelemetryRecorder telemetryRecorder;
 	private final EngineExecutionListener listener;
 	private final boolean useJunitPlatformReporter;
 
-	RecordingExecutionListener(TestRunRecorder recorder, EngineExecutionListener listener, boolean useJunitPlatformReporter) {
+	RecordingExecutionListener(
+		TestRunRecorder recorder,
+		TelemetryRecorder telemetryRecorder,
+		EngineExecutionListener listener,
+		boolean useJunitPlatformReporter
+	) {
 		this.recorder = recorder;
+		this.telemetryRecorder = telemetryRecorder;
 		this.listener = listener;
 		this.useJunitPlatformReporter = useJunitPlatformReporter;
 	}
@@ -34,6 +43,7 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 	@Override
 	public void executionFinished(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
 		recordTestRun(testDescriptor, executionResult);
+		recordTelemetry(testDescriptor, executionResult);
 		listener.executionFinished(testDescriptor, toTestExecutionResult(executionResult));
 	}
 
@@ -55,10 +65,31 @@ public class RecordingExecutionListener implements PropertyExecutionListener {
 		List<Object> sample = executionResult.falsifiedParameters()
 											 .filter(this::isSerializable)
 											 .orElse(null);
-		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), seed, sample);
+		TestRun run = new TestRun(testDescriptor.getUniqueId(), executionResult.status(), seed, sample, regressionSeeds(executionResult));
 		recorder.record(run);
 	}
 
+	private List<Long> regressionSeeds(PropertyExecutionResult executionResult) {
+		if (!(executionResult instanceof PropertyCheckResult)) {
+			return Collections.emptyList();
+		}
+		OptionalLong falsifiedTrySeed = ((PropertyCheckResult) executionResult).falsifiedTrySeed();
+		if (!falsifiedTrySeed.isPresent()) {
+			return Collections.emptyList();
+		}
+		return Collections.singletonList(falsifiedTrySeed.getAsLong());
+	}
+
+	private void recordTelemetry(TestDescriptor testDescriptor, PropertyExecutionResult executionResult) {
+		if (!(executionResult instanceof PropertyCheckResult)) {
+			return;
+		}
+		PropertyTelemetry telemetry = ((PropertyCheckResult) executionResult).telemetry();
+		if (telemetry.isEnabled()) {
+			telemetryRecorder.record(testDescriptor.getUniqueId(), telemetry);
+		}
+	}
+
 	private boolean isSerializable(List<Object> sample) {
 		if (!(sample instanceof Serializable)) {
 			return false;
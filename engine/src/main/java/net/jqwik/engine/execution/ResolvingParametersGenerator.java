@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution;
 
 import java.util.*;
+import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
@@ -11,6 +12,8 @@ import net.jqwik.engine.support.*;
 public class ResolvingParametersGenerator implements ParametersGenerator {
 	private final List<MethodParameter> propertyParameters;
 	private final ForAllParametersGenerator forAllParametersGenerator;
+	private final ResolveParameterHook resolveParameterHook;
+	private final PropertyLifecycleContext propertyLifecycleContext;
 	private final ParameterSupplierResolver parameterSupplierResolver;
 
 	public ResolvingParametersGenerator(
@@ -21,6 +24,8 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 	) {
 		this.propertyParameters = propertyParameters;
 		this.forAllParametersGenerator = forAllParametersGenerator;
+		this.resolveParameterHook = resolveParameterHook;
+		this.propertyLifecycleContext = propertyLifecycleContext;
 		this.parameterSupplierResolver = new ParameterSupplierResolver(resolveParameterHook, propertyLifecycleContext);
 	}
 
@@ -56,6 +61,29 @@ public class ResolvingParametersGenerator implements ParametersGenerator {
 		return forAllParametersGenerator.edgeCasesTried();
 	}
 
+	@Override
+	public OptionalLong trySeedOfLastSample() {
+		return forAllParametersGenerator.trySeedOfLastSample();
+	}
+
+	@Override
+	public OptionalLong indexOfLastSample() {
+		return forAllParametersGenerator.indexOfLastSample();
+	}
+
+	// Each range gets its own resolver since resolvers are not thread safe
+	@Override
+	public Optional<List<ParametersGenerator>> split(int count) {
+		return forAllParametersGenerator.split(count).map(ranges -> ranges.stream().map(
+			range -> (ParametersGenerator) new ResolvingParametersGenerator(
+				propertyParameters,
+				range,
+				resolveParameterHook,
+				propertyLifecycleContext
+			)
+		).collect(Collectors.toList()));
+	}
+
 	private Shrinkable<Object> findResolvableParameter(MethodParameter parameter, TryLifecycleContext tryLifecycleContext) {
 		ParameterSupplier parameterSupplier =
 			parameterSupplierResolver.resolveParameter(parameter).orElseThrow(() -> {
@@ -0,0 +1,47 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.facades.*;
+
+/**
+ * The thread bound state of a running property, i.e. current test descriptor, domain context
+ * and source of randomness. It is captured in the thread that checks the property
+ * and installed in worker threads that execute tries or shrinking candidates on the property's behalf.
+ */
+public class PropertyThreadContext {
+
+	private final TestDescriptor descriptor;
+	private final DomainContext domainContext;
+	private final Random random;
+
+	private PropertyThreadContext(TestDescriptor descriptor, DomainContext domainContext, Random random) {
+		this.descriptor = descriptor;
+		this.domainContext = domainContext;
+		this.random = random;
+	}
+
+	public static PropertyThreadContext capture() {
+		TestDescriptor descriptor = CurrentTestDescriptor.isEmpty() ? null : CurrentTestDescriptor.get();
+		return new PropertyThreadContext(descriptor, DomainContextFacadeImpl.getCurrentContext(), SourceOfRandomness.current());
+	}
+
+	/**
+	 * Run code with the captured context.
+	 *
+	 * @param index Used to derive a source of randomness of its own since instances of Random must not be shared between threads
+	 */
+	public <T> T runWith(long index, Supplier<T> code) {
+		Supplier<T> withRandom = () -> SourceOfRandomness.runWith(SourceOfRandomness.derive(random, index), code);
+		Supplier<T> withDomainContext = () -> DomainContextFacadeImpl.runWithContext(domainContext, withRandom);
+		if (descriptor == null) {
+			return withDomainContext.get();
+		}
+		return CurrentTestDescriptor.runWithDescriptor(descriptor, withDomainContext);
+	}
+}
@@ -7,6 +7,7 @@ import java.util.logging.*;
 import org.junit.platform.engine.*;
 
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.support.*;
 
 import static net.jqwik.engine.support.JqwikStringSupport.*;
@@ -21,8 +22,11 @@ public class ScopedStore<T> implements Store<T> {
 	private final Supplier<T> initializer;
 
 	private final Set<Consumer<T>> onCloseCallbacks = new HashSet<>();
-	private T value;
-	private boolean initialized = false;
+
+	// Values of stores with lifespan PROPERTY or TRY are kept separately for each property
+	// so that concurrently running properties neither see nor reset each other's values.
+	// Values of stores with lifespan TRY are further separated by TryScope.
+	private final Map<Object, T> values = new HashMap<>();
 
 	public ScopedStore(Object identifier, Lifespan lifespan, TestDescriptor scope, Supplier<T> initializer) {
 		this.identifier = identifier;
@@ -33,11 +37,17 @@ public class ScopedStore<T> implements Store<T> {
 
 	@Override
 	public synchronized T get() {
-		if (!initialized) {
-			value = initializer.get();
-			initialized = true;
+		return valueOf(currentOwner());
+	}
+
+	private T valueOf(Object owner) {
+		if (!values.containsKey(owner)) {
+			values.put(owner, initializer.get());
+			if (owner instanceof TryScope) {
+				((TryScope) owner).register(this);
+			}
 		}
-		return value;
+		return values.get(owner);
 	}
 
 	@Override
@@ -47,13 +57,56 @@ public class ScopedStore<T> implements Store<T> {
 
 	@Override
 	public synchronized void update(Function<T, T> updater) {
-		value = updater.apply(get());
+		Object owner = currentOwner();
+		values.put(owner, updater.apply(valueOf(owner)));
 	}
 
 	@Override
 	public synchronized void reset() {
-		close();
-		initialized = false;
+		resetValueOf(currentOwner());
+	}
+
+	/**
+	 * Reset the value seen by {@code retriever} - or by the current {@linkplain TryScope} - together with the value
+	 * that is shared outside of property execution.
+	 */
+	public synchronized void reset(TestDescriptor retriever) {
+		resetValueOf(ownerFor(retriever));
+		resetValueOf(scope);
+	}
+
+	synchronized void resetValueOf(Object owner) {
+		if (values.containsKey(owner)) {
+			closeValue(values.remove(owner));
+		}
+	}
+
+	private Object currentOwner() {
+		if (CurrentTestDescriptor.isEmpty()) {
+			return scope;
+		}
+		return ownerFor(CurrentTestDescriptor.get());
+	}
+
+	private Object ownerFor(TestDescriptor retriever) {
+		if (lifespan == Lifespan.RUN) {
+			return scope;
+		}
+		Optional<TestDescriptor> property = propertyOf(retriever).filter(this::isVisibleFor);
+		if (!property.isPresent()) {
+			return scope;
+		}
+		if (lifespan == Lifespan.TRY) {
+			return TryScope.current().<Object>map(tryScope -> tryScope).orElse(property.get());
+		}
+		return property.get();
+	}
+
+	private Optional<TestDescriptor> propertyOf(TestDescriptor descriptor) {
+		if (descriptor instanceof PropertyMethodDescriptor) {
+			return Optional.of(descriptor);
+		}
+		return descriptor.getParent().flatMap(this::propertyOf);
 	}
 
 	@Override
@@ -82,20 +135,21 @@ public class ScopedStore<T> implements Store<T> {
 	}
 
 	@Override
-	public String toString() {
+	public synchronized String toString() {
 		return String.format(
 			"Store(%s, %s, %s): [%s]",
 			displayString(identifier),
 			lifespan.name(),
 			scope.getUniqueId(),
-			displayString(value)
+			displayString(values.get(currentOwner()))
 		);
 	}
 
-	public void close() {
-		if (!initialized) {
-			return;
-		}
+	public synchronized void close() {
+		values.values().forEach(this::closeValue);
+	}
+
+	private void closeValue(T value) {
 		for (Consumer<T> onCloseCallback : onCloseCallbacks) {
 			try {
 				onCloseCallback.accept(value);
@@ -10,7 +10,8 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 
 /**
- * StoreRepository and ScopedStore CANNOT handle concurrent execution of properties!
+ * Access is synchronized so that properties - and tries of a single property - may run concurrently.
+ * Values of stores with lifespan PROPERTY or TRY are kept per property within {@linkplain ScopedStore}.
  */
 public class StoreRepository {
 
@@ -25,7 +26,10 @@ public class StoreRepository {
 		return current;
 	}
 
-	private final Set<ScopedStore<?>> stores = new HashSet<>();
+	// Stores are indexed by identifier for lookup and by scope for resetting all stores visible for a descriptor.
+	// Scopes are compared by identity just like in ScopedStore.isVisibleFor().
+	private final Map<Object, List<ScopedStore<?>>> storesByIdentifier = new HashMap<>();
+	private final Map<TestDescriptor, List<ScopedStore<?>>> storesByScope = new IdentityHashMap<>();
 
 	public <T> ScopedStore<T> create(
 		TestDescriptor scope,
@@ -50,12 +54,12 @@ public class StoreRepository {
 		return store;
 	}
 
-	private <T> void addStore(Object identifier, ScopedStore<T> newStore) {
+	private synchronized <T> void addStore(Object identifier, ScopedStore<T> newStore) {
 		Optional<ScopedStore<?>> conflictingStore =
-			stores.stream()
-				  .filter(store -> store.getIdentifier().equals(newStore.getIdentifier()))
-				  .filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
-				  .findFirst();
+			storesWith(newStore.getIdentifier())
+				.stream()
+				.filter(store -> isVisibleInAncestorOrDescendant(newStore, store))
+				.findFirst();
 
 		conflictingStore.ifPresent(existingStore -> {
 			String message = String.format(
@@ -67,56 +71,81 @@ public class StoreRepository {
 			throw new JqwikException(message);
 		});
 
-		stores.add(newStore);
+		storesByIdentifier.computeIfAbsent(newStore.getIdentifier(), ignore -> new ArrayList<>()).add(newStore);
+		storesByScope.computeIfAbsent(newStore.getScope(), ignore -> new ArrayList<>()).add(newStore);
+	}
+
+	private List<ScopedStore<?>> storesWith(Object identifier) {
+		return storesByIdentifier.getOrDefault(identifier, Collections.emptyList());
 	}
 
 	private <T> boolean isVisibleInAncestorOrDescendant(ScopedStore<T> newStore, ScopedStore<?> store) {
 		return store.isVisibleFor(newStore.getScope()) || newStore.isVisibleFor(store.getScope());
 	}
 
-	public <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
+	public synchronized <T> Optional<ScopedStore<T>> get(TestDescriptor retriever, Object identifier) {
 		if (identifier == null) {
 			throw new IllegalArgumentException("identifier must not be null");
 		}
 
-		//noinspection unchecked
-		return stores.stream()
-					 .filter(store -> store.getIdentifier().equals(identifier))
-					 .filter(store -> store.isVisibleFor(retriever))
-					 .map(store -> (ScopedStore<T>) store)
-					 .findFirst();
+		for (ScopedStore<?> store : storesWith(identifier)) {
+			if (store.isVisibleFor(retriever)) {
+				//noinspection unchecked
+				return Optional.of((ScopedStore<T>) store);
+			}
+		}
+		return Optional.empty();
 	}
 
-	public void finishScope(TestDescriptor scope) {
-		List<ScopedStore<?>> storesToRemove =
-			stores
+	public synchronized void finishScope(TestDescriptor scope) {
+		List<TestDescriptor> scopesToRemove =
+			storesByScope
+				.keySet()
 				.stream()
-				.filter(store -> isStoreIn(store, scope))
+				.filter(storeScope -> isSameOrDescendant(storeScope, scope))
 				.collect(Collectors.toList());
 
-		for (ScopedStore<?> store : storesToRemove) {
-			store.close();
-			stores.remove(store);
+		for (TestDescriptor scopeToRemove : scopesToRemove) {
+			for (ScopedStore<?> store : storesByScope.remove(scopeToRemove)) {
+				store.close();
+				removeFromIdentifierIndex(store);
+			}
 		}
 	}
 
-	private boolean isStoreIn(ScopedStore<?> store, TestDescriptor scope) {
-		return store.getScope().equals(scope) || scope.getDescendants().contains(store.getScope());
+	private boolean isSameOrDescendant(TestDescriptor descriptor, TestDescriptor scope) {
+		if (descriptor.equals(scope)) {
+			return true;
+		}
+		return descriptor.getParent().map(parent -> isSameOrDescendant(parent, scope)).orElse(false);
 	}
 
-	public void finishProperty(TestDescriptor scope) {
-		stores
-			.stream()
-			.filter(store -> store.lifespan() == Lifespan.PROPERTY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+	private void removeFromIdentifierIndex(ScopedStore<?> store) {
+		List<ScopedStore<?>> storesWithIdentifier = storesByIdentifier.get(store.getIdentifier());
+		storesWithIdentifier.remove(store);
+		if (storesWithIdentifier.isEmpty()) {
+			storesByIdentifier.remove(store.getIdentifier());
+		}
 	}
 
-	public void finishTry(TestDescriptor scope) {
-		stores
-			.stream()
-			.filter(store -> store.lifespan() == Lifespan.TRY)
-			.filter(store -> store.isVisibleFor(scope))
-			.forEach(Store::reset);
+	public synchronized void finishProperty(TestDescriptor scope) {
+		resetVisibleStores(scope, Lifespan.PROPERTY);
+	}
+
+	public synchronized void finishTry(TestDescriptor scope) {
+		resetVisibleStores(scope, Lifespan.TRY);
+	}
+
+	// Only stores of the retriever and of its ancestors are visible for it
+	private void resetVisibleStores(TestDescriptor retriever, Lifespan lifespan) {
+		Optional<TestDescriptor> visibleScope = Optional.of(retriever);
+		while (visibleScope.isPresent()) {
+			for (ScopedStore<?> store : storesByScope.getOrDefault(visibleScope.get(), Collections.emptyList())) {
+				if (store.lifespan() == lifespan) {
+					store.reset(retriever);
+				}
+			}
+			visibleScope = visibleScope.get().getParent();
+		}
 	}
 }
@@ -0,0 +1,60 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Identifies a single try - or a single shrinking candidate - of a property
+ * from generation of its parameters until its execution has finished.
+ *
+ * <p>
+ * Stores with lifespan {@linkplain net.jqwik.api.lifecycle.Lifespan#TRY} keep a separate value for each try scope.
+ * That way tries that run concurrently neither see nor reset each other's values.
+ * A try scope may be entered in several threads, e.g. generation in one and execution in another.
+ * </p>
+ */
+public class TryScope {
+
+	private static final ThreadLocal<TryScope> current = new ThreadLocal<>();
+
+	private final Set<ScopedStore<?>> storesWithValues = ConcurrentHashMap.newKeySet();
+
+	public static Optional<TryScope> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	public <T> T run(Supplier<T> code) {
+		TryScope previous = current.get();
+		current.set(this);
+		try {
+			return code.get();
+		} finally {
+			if (previous == null) {
+				current.remove();
+			} else {
+				current.set(previous);
+			}
+		}
+	}
+
+	void register(ScopedStore<?> store) {
+		storesWithValues.add(store);
+	}
+
+	/**
+	 * Reset all values that stores keep for this try scope,
+	 * e.g. because the try has been generated but will never be executed.
+	 */
+	public void close() {
+		for (ScopedStore<?> store : storesWithValues) {
+			store.resetValueOf(this);
+		}
+		storesWithValues.clear();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("TryScope@%s", Integer.toHexString(System.identityHashCode(this)));
+	}
+}
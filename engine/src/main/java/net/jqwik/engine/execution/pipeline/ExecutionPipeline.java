@@ -1,25 +1,43 @@
 package net.jqwik.engine.execution.pipeline;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
+import net.jqwik.api.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.support.*;
 
 public class ExecutionPipeline implements Pipeline {
 
 	private final List<ExecutionTask> tasks = new ArrayList<>();
 	private final Map<ExecutionTask, Boolean> taskFinished = new IdentityHashMap<>();
 	private final Map<ExecutionTask, ExecutionTask[]> taskPredecessors = new IdentityHashMap<>();
+	private final Map<ExecutionTask, TaskExecutionResult> taskResults = new IdentityHashMap<>();
 	private final PropertyExecutionListener executionListener;
+	private final int parallelism;
+
+	private int countRunningTasks = 0;
+	private Throwable workerFailure = null;
 
 	public ExecutionPipeline(PropertyExecutionListener executionListener) {
+		this(executionListener, 1);
+	}
+
+	/**
+	 * With a {@code parallelism} greater than 1 independent tasks are run concurrently
+	 * on that many worker threads. A task will still only be started after all
+	 * its predecessors have finished.
+	 */
+	public ExecutionPipeline(PropertyExecutionListener executionListener, int parallelism) {
 		this.executionListener = executionListener;
+		this.parallelism = parallelism;
 	}
 
 	@Override
-	public void submit(ExecutionTask task, ExecutionTask... predecessors) {
+	public synchronized void submit(ExecutionTask task, ExecutionTask... predecessors) {
 		if (taskFinished.containsKey(task))
 			throw new DuplicateExecutionTaskException(task);
 		taskFinished.putIfAbsent(task, false);
@@ -35,11 +53,11 @@ public class ExecutionPipeline implements Pipeline {
 		}
 	}
 
-	public void executeFirst(ExecutionTask... executionTasks) {
+	public synchronized void executeFirst(ExecutionTask... executionTasks) {
 		executeFirst(Arrays.asList(executionTasks));
 	}
 
-	public void executeFirst(UniqueId ownerId) {
+	public synchronized void executeFirst(UniqueId ownerId) {
 		List<ExecutionTask> tasks = activeTasksOwnedBy(ownerId);
 		executeFirst(tasks);
 	}
@@ -60,7 +78,7 @@ public class ExecutionPipeline implements Pipeline {
 		return true;
 	}
 
-	public void executeFirst(List<ExecutionTask> executionTaskList) {
+	public synchronized void executeFirst(List<ExecutionTask> executionTaskList) {
 		for (int i = executionTaskList.size() - 1; i >= 0; i--) {
 			moveToTopOfQueue(executionTaskList.get(i));
 		}
@@ -74,6 +92,14 @@ public class ExecutionPipeline implements Pipeline {
 	}
 
 	public void runToTermination() {
+		if (parallelism > 1) {
+			runConcurrentlyToTermination();
+		} else {
+			runSequentiallyToTermination();
+		}
+	}
+
+	private synchronized void runSequentiallyToTermination() {
 		TaskExecutionResult predecessorResult = TaskExecutionResult.success();
 		while (!tasks.isEmpty()) {
 			ExecutionTask head = tasks.get(0);
@@ -95,4 +121,84 @@ public class ExecutionPipeline implements Pipeline {
 		return !unfinishedPredecessors.isEmpty();
 	}
 
+	private synchronized void runConcurrentlyToTermination() {
+		ExecutorService workers = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("jqwik-pipeline"));
+		try {
+			while (!tasks.isEmpty() || countRunningTasks > 0) {
+				startExecutableTasks(workers);
+				if (countRunningTasks == 0 && !tasks.isEmpty()) {
+					String message = String.format("Tasks %s cannot be run because of cyclic predecessors", tasks);
+					throw new JqwikException(message);
+				}
+				waitForFinishedTask();
+			}
+			if (workerFailure != null) {
+				JqwikExceptionSupport.throwAsUncheckedException(workerFailure);
+			}
+		} finally {
+			workers.shutdownNow();
+		}
+	}
+
+	private void startExecutableTasks(ExecutorService workers) {
+		Iterator<ExecutionTask> iterator = tasks.iterator();
+		while (iterator.hasNext() && workerFailure == null) {
+			ExecutionTask task = iterator.next();
+			ExecutionTask[] predecessors = taskPredecessors.get(task);
+			ensurePredecessorsSubmitted(task, predecessors);
+			if (Arrays.stream(predecessors).allMatch(taskFinished::get)) {
+				iterator.remove();
+				countRunningTasks++;
+				TaskExecutionResult predecessorResult = combinedResult(predecessors);
+				workers.execute(() -> executeConcurrently(task, predecessorResult));
+			}
+		}
+	}
+
+	private TaskExecutionResult combinedResult(ExecutionTask[] predecessors) {
+		for (ExecutionTask predecessor : predecessors) {
+			TaskExecutionResult result = taskResults.get(predecessor);
+			if (!result.successful()) {
+				return result;
+			}
+		}
+		return TaskExecutionResult.success();
+	}
+
+	private void executeConcurrently(ExecutionTask task, TaskExecutionResult predecessorResult) {
+		TaskExecutionResult result = null;
+		Throwable failure = null;
+		try {
+			result = task.execute(executionListener, predecessorResult);
+		} catch (Throwable throwable) {
+			failure = throwable;
+			result = TaskExecutionResult.failure(throwable);
+		} finally {
+			taskHasFinished(task, result, failure);
+		}
+	}
+
+	private synchronized void taskHasFinished(ExecutionTask task, TaskExecutionResult result, Throwable failure) {
+		taskFinished.put(task, true);
+		taskResults.put(task, result);
+		if (failure != null && workerFailure == null) {
+			workerFailure = failure;
+			tasks.clear();
+		}
+		countRunningTasks--;
+		notifyAll();
+	}
+
+	private void waitForFinishedTask() {
+		if (countRunningTasks == 0) {
+			return;
+		}
+		try {
+			wait();
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
 }
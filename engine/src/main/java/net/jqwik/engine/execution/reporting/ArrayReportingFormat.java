@@ -1,6 +1,7 @@
 package net.jqwik.engine.execution.reporting;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 
@@ -14,57 +15,51 @@ public class ArrayReportingFormat implements SampleReportingFormat {
 	public Object report(Object value) {
 		Class<?> arrayClass = value.getClass();
 		if (arrayClass.equals(byte[].class)) {
-			List<Byte> list = new ArrayList<>();
-			for (byte v : ((byte[]) value)) {
-				list.add(v);
-			}
-			return list;
+			byte[] array = (byte[]) value;
+			return listView(array.length, i -> array[i]);
 		}
 		if (arrayClass.equals(short[].class)) {
-			List<Short> list = new ArrayList<>();
-			for (short v : ((short[]) value)) {
-				list.add(v);
-			}
-			return list;
+			short[] array = (short[]) value;
+			return listView(array.length, i -> array[i]);
 		}
 		if (arrayClass.equals(int[].class)) {
-			List<Integer> list = new ArrayList<>();
-			for (int v : ((int[]) value)) {
-				list.add(v);
-			}
-			return list;
+			int[] array = (int[]) value;
+			return listView(array.length, i -> array[i]);
 		}
 		if (arrayClass.equals(long[].class)) {
-			List<Long> list = new ArrayList<>();
-			for (long v : ((long[]) value)) {
-				list.add(v);
-			}
-			return list;
+			long[] array = (long[]) value;
+			return listView(array.length, i -> array[i]);
 		}
 		if (arrayClass.equals(float[].class)) {
-			List<Float> list = new ArrayList<>();
-			for (float v : ((float[]) value)) {
-				list.add(v);
-			}
-			return list;
+			float[] array = (float[]) value;
+			return listView(array.length, i -> array[i]);
 		}
 		if (arrayClass.equals(double[].class)) {
-			List<Double> list = new ArrayList<>();
-			for (double v : ((double[]) value)) {
-				list.add(v);
-			}
-			return list;
+			double[] array = (double[]) value;
+			return listView(array.length, i -> array[i]);
 		}
 		if (arrayClass.equals(boolean[].class)) {
-			List<Boolean> list = new ArrayList<>();
-			for (boolean v : ((boolean[]) value)) {
-				list.add(v);
-			}
-			return list;
+			boolean[] array = (boolean[]) value;
+			return listView(array.length, i -> array[i]);
 		}
 		return Arrays.asList((Object[]) value);
 	}
 
+	// Elements are only boxed when they are actually reported
+	private static List<Object> listView(int size, IntFunction<Object> element) {
+		return new AbstractList<Object>() {
+			@Override
+			public Object get(int index) {
+				return element.apply(index);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
 	@Override
 	public Optional<String> label(Object value) {
 		Class<?> arrayClass = value.getClass();
@@ -10,7 +10,9 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.telemetry.*;
 
 public class ExecutionResultReport {
 
@@ -23,6 +25,12 @@ public class ExecutionResultReport {
 	private static final String AFTER_FAILURE_KEY = "after-failure";
 	private static final String FIXED_SEED_KEY = "when-fixed-seed";
 	private static final String SEED_KEY = "seed";
+	private static final String TELEMETRY_KEY_PREFIX = "telemetry#";
+	private static final String FILTER_MISSES_KEY = "telemetry#filter-misses";
+	private static final String SHRINKING_STEPS_KEY = "telemetry#shrinking-steps";
+	private static final String SHRINKING_CACHE_HITS_KEY = "telemetry#shrinking-cache-hits";
+	private static final String SHRINKING_CACHE_MISSES_KEY = "telemetry#shrinking-cache-misses";
+	private static final String ALLOCATED_KEY = "telemetry#allocated";
 	private static final String SAMPLE_HEADLINE = "Sample";
 	private static final String SHRUNK_SAMPLE_HEADLINE = "Shrunk Sample";
 	private static final String ORIGINAL_SAMPLE_HEADLINE = "Original Sample";
@@ -143,12 +151,46 @@ public class ExecutionResultReport {
 																				 .tried(), "# of edge cases tried in current run");
 		}
 		appendProperty(propertiesLines, SEED_KEY, randomSeed, "random seed to reproduce generated values");
+		if (executionResult instanceof PropertyCheckResult) {
+			appendTelemetry(propertiesLines, ((PropertyCheckResult) executionResult).telemetry());
+		}
 
 		prependFixedSizedPropertiesHeader(reportLines, propertiesLines);
 		propertiesLines.forEach(reportLines::append);
 
 	}
 
+	private static void appendTelemetry(List<String> propertiesLines, PropertyTelemetry telemetry) {
+		if (!telemetry.isEnabled()) {
+			return;
+		}
+		for (TelemetryPhase phase : TelemetryPhase.values()) {
+			NanoHistogram histogram = telemetry.histogram(phase);
+			if (histogram.count() > 0) {
+				appendProperty(propertiesLines, TELEMETRY_KEY_PREFIX + phase.key(), histogram, helpTelemetryPhase(phase));
+			}
+		}
+		appendProperty(propertiesLines, FILTER_MISSES_KEY, telemetry.filterMisses(), "# of generated values rejected by filters");
+		if (telemetry.histogram(TelemetryPhase.SHRINKING).count() > 0) {
+			appendProperty(propertiesLines, SHRINKING_STEPS_KEY, telemetry.shrinkingSteps(), "# of successful shrinking steps");
+			appendProperty(propertiesLines, SHRINKING_CACHE_HITS_KEY, telemetry.shrinkingCacheHits(), "# of shrinking candidates not executed again");
+			appendProperty(propertiesLines, SHRINKING_CACHE_MISSES_KEY, telemetry.shrinkingCacheMisses(), "# of shrinking candidates executed");
+		}
+		telemetry.allocatedBytes().ifPresent(
+			bytes -> appendProperty(propertiesLines, ALLOCATED_KEY, formatBytes(bytes), "estimated memory allocated while checking")
+		);
+	}
+
+	private static String formatBytes(long bytes) {
+		if (bytes < 1024) {
+			return bytes + " B";
+		}
+		if (bytes < 1024 * 1024) {
+			return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+		}
+		return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+	}
+
 	private static void prependFixedSizedPropertiesHeader(StringBuilder reportLines, List<String> propertiesLines) {
 		int halfBorderLength =
 			(propertiesLines.stream().mapToInt(String::length).max().orElse(50) - 37) / 2 + 1;
@@ -219,6 +261,21 @@ public class ExecutionResultReport {
 		}
 	}
 
+	private static String helpTelemetryPhase(TelemetryPhase phase) {
+		switch (phase) {
+			case GENERATION:
+				return "time to generate parameters of a try";
+			case LIFECYCLE_HOOKS:
+				return "time spent around property method in a try";
+			case PROPERTY_BODY:
+				return "time spent in property method in a try";
+			case SHRINKING:
+				return "time to check a shrinking candidate";
+			default:
+				return "";
+		}
+	}
+
 	private static String helpEdgeCasesMode(EdgeCasesMode edgeCases) {
 		switch (edgeCases) {
 			case FIRST:
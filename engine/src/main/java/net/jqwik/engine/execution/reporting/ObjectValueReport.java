@@ -19,7 +19,7 @@ class ObjectValueReport extends ValueReport {
 	}
 
 	@Override
-	public String singleLineReport() {
+	protected String renderSingleLine() {
 		return label.orElse("") + String.join(" ", lines);
 	}
 
@@ -0,0 +1,27 @@
+package net.jqwik.engine.execution.reporting;
+
+import java.util.*;
+
+class OmittedValuesReport extends ValueReport {
+
+	private final int countOmitted;
+
+	OmittedValuesReport(int countOmitted) {
+		super(Optional.empty());
+		this.countOmitted = countOmitted;
+	}
+
+	static String describe(int countOmitted) {
+		return String.format("...<%s more>", countOmitted);
+	}
+
+	@Override
+	protected String renderSingleLine() {
+		return describe(countOmitted);
+	}
+
+	@Override
+	public void report(LineReporter lineReporter, int indentLevel, String appendix) {
+		lineReporter.addLine(indentLevel, singleLineReport() + appendix);
+	}
+}
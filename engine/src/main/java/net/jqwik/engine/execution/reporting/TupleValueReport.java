@@ -15,7 +15,7 @@ class TupleValueReport extends ValueReport {
 	}
 
 	@Override
-	public String singleLineReport() {
+	protected String renderSingleLine() {
 		return label.orElse("") + "(" + singleLineReports() + ")";
 	}
 
@@ -1,12 +1,15 @@
 package net.jqwik.engine.execution.reporting;
 
 import java.util.*;
-import java.util.stream.*;
 
 import net.jqwik.api.*;
 
 public abstract class ValueReport {
 
+	// Larger or deeper samples are reported partially so that reporting time and size stay bounded
+	static final int MAX_REPORTED_VALUES = 1000;
+	static final int MAX_DEPTH = 50;
+
 	interface ReportingFormatFinder {
 		SampleReportingFormat find(Object value);
 	}
@@ -17,100 +20,94 @@ public abstract class ValueReport {
 	}
 
 	static ValueReport of(Object value, ReportingFormatFinder formatFinder) {
-		final Set<Object> visited = visitedSet(Collections.emptySet());
-		return of(value, formatFinder, visited);
+		return of(value, formatFinder, MAX_REPORTED_VALUES, MAX_DEPTH);
 	}
 
-	private static Set<Object> visitedSet(Set<Object> from) {
-		Set<Object> objects = Collections.newSetFromMap(new IdentityHashMap<>());
-		objects.addAll(from);
-		return objects;
+	static ValueReport of(Object value, ReportingFormatFinder formatFinder, int maxValues, int maxDepth) {
+		return new ReportBuilder(formatFinder, maxValues, maxDepth).report(value, 0);
 	}
 
-	private static ValueReport of(Object value, ReportingFormatFinder formatFinder, Set<Object> visited) {
-		SampleReportingFormat format = formatFinder.find(value);
-		if (visited.contains(value)) {
-			return new CircularDependencyReport(format.label(value), value);
-		} else {
-			visited.add(value);
-		}
-		Object reportedValue = format.report(value);
-		if (reportedValue instanceof Collection) {
-			//noinspection unchecked
-			return createCollectionReport(format.label(value), (Collection<Object>) reportedValue, formatFinder, visited);
+	/**
+	 * Creates reports for at most {@code maxValues} values. Elements and entries of collections and maps
+	 * that exceed this budget or lie deeper than {@code maxDepth} are not visited
+	 * but reported as omitted.
+	 */
+	private static class ReportBuilder {
+
+		private final ReportingFormatFinder formatFinder;
+		private final int maxDepth;
+		private final Set<Object> ancestors = Collections.newSetFromMap(new IdentityHashMap<>());
+		private int remainingValues;
+
+		private ReportBuilder(ReportingFormatFinder formatFinder, int maxValues, int maxDepth) {
+			this.formatFinder = formatFinder;
+			this.maxDepth = maxDepth;
+			this.remainingValues = maxValues;
 		}
-		if (reportedValue instanceof Map) {
-			//noinspection unchecked
-			return createMapReport(format.label(value), (Map<Object, Object>) reportedValue, formatFinder, visited);
+
+		private ValueReport report(Object value, int depth) {
+			SampleReportingFormat format = formatFinder.find(value);
+			Optional<String> label = format.label(value);
+			if (ancestors.contains(value)) {
+				return new CircularDependencyReport(label, value);
+			}
+			remainingValues--;
+			Object reportedValue = format.report(value);
+			if (!(reportedValue instanceof Collection || reportedValue instanceof Map || reportedValue instanceof Tuple)) {
+				return new ObjectValueReport(label, reportedValue);
+			}
+			ancestors.add(value);
+			try {
+				if (reportedValue instanceof Collection) {
+					//noinspection unchecked
+					return createCollectionReport(label, (Collection<Object>) reportedValue, depth + 1);
+				}
+				if (reportedValue instanceof Map) {
+					//noinspection unchecked
+					return createMapReport(label, (Map<Object, Object>) reportedValue, depth + 1);
+				}
+				return createTupleReport(label, (Tuple) reportedValue, depth + 1);
+			} finally {
+				ancestors.remove(value);
+			}
 		}
-		if (reportedValue instanceof Tuple) {
-			//noinspection unchecked
-			return createTupleReport(format.label(value), (Tuple) reportedValue, formatFinder, visited);
+
+		private boolean budgetExceeded(int depth) {
+			return remainingValues <= 0 || depth > maxDepth;
 		}
-		visited.remove(value);
-		return new ObjectValueReport(format.label(value), reportedValue);
-	}
 
-	private static ValueReport createTupleReport(
-		Optional<String> label,
-		Tuple tuple,
-		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
-	) {
-		List<ValueReport> tupleReports =
-			tuple.items()
-				 .stream()
-				 .map(value -> of(value, formatFinder, visitedSet(visited)))
-				 .collect(Collectors.toList());
-
-		return new TupleValueReport(label, tupleReports);
-	}
+		private ValueReport createTupleReport(Optional<String> label, Tuple tuple, int depth) {
+			List<ValueReport> tupleReports = new ArrayList<>();
+			for (Object item : tuple.items()) {
+				tupleReports.add(report(item, depth));
+			}
+			return new TupleValueReport(label, tupleReports);
+		}
 
-	private static ValueReport createMapReport(
-		final Optional<String> label,
-		final Map<Object, Object> map,
-		final ReportingFormatFinder formatFinder,
-		final Set<Object> visited
-	) {
-		List<Map.Entry<ValueReport, ValueReport>> reportEntries =
-			map.entrySet()
-			   .stream()
-			   .map(entry -> {
-				   ValueReport keyReport = of(entry.getKey(), formatFinder, visitedSet(visited));
-				   ValueReport valueReport = of(entry.getValue(), formatFinder, visitedSet(visited));
-				   return new Map.Entry<ValueReport, ValueReport>() {
-					   @Override
-					   public ValueReport getKey() {
-						   return keyReport;
-					   }
-
-					   @Override
-					   public ValueReport getValue() {
-						   return valueReport;
-					   }
-
-					   @Override
-					   public ValueReport setValue(ValueReport value) {
-						   throw new UnsupportedOperationException();
-					   }
-				   };
-			   })
-			   .collect(Collectors.toList());
-		return new MapValueReport(label, reportEntries);
-	}
+		private ValueReport createMapReport(Optional<String> label, Map<Object, Object> map, int depth) {
+			List<Map.Entry<ValueReport, ValueReport>> reportEntries = new ArrayList<>();
+			for (Map.Entry<Object, Object> entry : map.entrySet()) {
+				if (budgetExceeded(depth)) {
+					break;
+				}
+				ValueReport keyReport = report(entry.getKey(), depth);
+				ValueReport valueReport = report(entry.getValue(), depth);
+				reportEntries.add(new AbstractMap.SimpleImmutableEntry<>(keyReport, valueReport));
+			}
+			return new MapValueReport(label, reportEntries, map.size() - reportEntries.size());
+		}
 
-	private static ValueReport createCollectionReport(
-		Optional<String> label,
-		Collection<Object> collection,
-		ReportingFormatFinder formatFinder,
-		final Set<Object> visited
-	) {
-		List<ValueReport> reportCollection =
-			collection
-				.stream()
-				.map(element -> of(element, formatFinder, visitedSet(visited)))
-				.collect(Collectors.toList());
-		return new CollectionValueReport(label, reportCollection);
+		private ValueReport createCollectionReport(Optional<String> label, Collection<Object> collection, int depth) {
+			List<ValueReport> reportCollection = new ArrayList<>();
+			for (Object element : collection) {
+				if (budgetExceeded(depth)) {
+					reportCollection.add(new OmittedValuesReport(collection.size() - reportCollection.size()));
+					break;
+				}
+				reportCollection.add(report(element, depth));
+			}
+			return new CollectionValueReport(label, reportCollection);
+		}
 	}
 
 	private static ReportingFormatFinder reportingFormatFinder() {
@@ -130,6 +127,8 @@ public abstract class ValueReport {
 
 	final Optional<String> label;
 
+	private String singleLineReport;
+
 	protected ValueReport(Optional<String> label) {
 		this.label = label;
 	}
@@ -138,7 +137,17 @@ public abstract class ValueReport {
 		return singleLineReport().length();
 	}
 
-	public abstract String singleLineReport();
+	/**
+	 * Is rendered on first request only since enclosing reports and reporters ask for it repeatedly.
+	 */
+	public String singleLineReport() {
+		if (singleLineReport == null) {
+			singleLineReport = renderSingleLine();
+		}
+		return singleLineReport;
+	}
+
+	protected abstract String renderSingleLine();
 
 	public abstract void report(LineReporter lineReporter, int indentLevel, String appendix);
 }
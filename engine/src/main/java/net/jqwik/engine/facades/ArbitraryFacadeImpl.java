@@ -10,6 +10,7 @@ import net.jqwik.engine.*;
 import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
 import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.engine.properties.shrinking.*;
 
 import static net.jqwik.engine.properties.arbitraries.ArbitrariesSupport.*;
 
@@ -190,6 +191,38 @@ public class ArbitraryFacadeImpl extends Arbitrary.ArbitraryFacade {
 		};
 	}
 
+	@Override
+	public <T> Arbitrary<T> dontMemoizeValues(Arbitrary<T> self) {
+		return new ArbitraryDelegator<T>(self) {
+			@Override
+			public RandomGenerator<T> generator(int genSize) {
+				return withoutValueMemoization(super.generator(genSize));
+			}
+
+			@Override
+			public RandomGenerator<T> generatorWithEmbeddedEdgeCases(int genSize) {
+				return withoutValueMemoization(super.generatorWithEmbeddedEdgeCases(genSize));
+			}
+
+			@Override
+			public EdgeCases<T> edgeCases(int maxEdgeCases) {
+				// Some edge cases are already created when they are collected, others only when requested
+				List<Supplier<Shrinkable<T>>> suppliers =
+					ValueMemoization.runWith(false, () -> super.edgeCases(maxEdgeCases))
+						 .suppliers()
+						 .stream()
+						 .map(supplier -> (Supplier<Shrinkable<T>>) () -> ValueMemoization.runWith(false, supplier))
+						 .collect(Collectors.toList());
+				return EdgeCases.fromSuppliers(suppliers);
+			}
+		};
+	}
+
+	// Shrinkables decide on memoization when they are created, their shrinking candidates inherit the decision
+	private static <T> RandomGenerator<T> withoutValueMemoization(RandomGenerator<T> generator) {
+		return random -> ValueMemoization.runWith(false, () -> generator.next(random));
+	}
+
 	@Override
 	public <T> Arbitrary<T> configureEdgeCases(Arbitrary<T> self, Consumer<EdgeCases.Config<T>> configurator) {
 		return new ArbitraryDelegator<T>(self) {
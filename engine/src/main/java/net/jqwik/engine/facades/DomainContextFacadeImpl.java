@@ -1,6 +1,7 @@
 package net.jqwik.engine.facades;
 
 import java.util.*;
+import java.util.function.*;
 
 import net.jqwik.api.configurators.*;
 import net.jqwik.api.domains.*;
@@ -29,6 +30,20 @@ public class DomainContextFacadeImpl extends DomainContext.DomainContextFacade {
 		currentContext.remove();
 	}
 
+	public static <T> T runWithContext(DomainContext context, Supplier<T> code) {
+		DomainContext previous = currentContext.get();
+		currentContext.set(context);
+		try {
+			return code.get();
+		} finally {
+			if (previous == null) {
+				currentContext.remove();
+			} else {
+				currentContext.set(previous);
+			}
+		}
+	}
+
 	@Override
 	public DomainContext global() {
 		return global;
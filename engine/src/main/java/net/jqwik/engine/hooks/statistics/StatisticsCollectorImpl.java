@@ -11,6 +11,10 @@ import net.jqwik.api.statistics.*;
 import net.jqwik.api.statistics.StatisticsCoverage.*;
 import net.jqwik.engine.facades.*;
 
+/**
+ * Collecting values and registering coverage checkers is thread safe
+ * since tries of a property may be executed concurrently.
+ */
 public class StatisticsCollectorImpl implements StatisticsCollector {
 	public static final Object COLLECTORS_ID = Tuple.of(StatisticsCollectorImpl.class, "collectors");
 
@@ -25,7 +29,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public StatisticsCollector collect(Object... values) {
+	public synchronized StatisticsCollector collect(Object... values) {
 		ensureAtLeastOneParameter(values);
 		List<Object> key = keyFrom(values);
 		ensureSameNumberOfValues(key);
@@ -89,7 +93,7 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 				   .reduce(StatisticsEntryImpl.NULL, StatisticsEntryImpl::plus);
 	}
 
-	public int countAllCollects() {
+	public synchronized int countAllCollects() {
 		return counts.values().stream().mapToInt(aCount -> aCount).sum();
 	}
 
@@ -99,25 +103,25 @@ public class StatisticsCollectorImpl implements StatisticsCollector {
 	}
 
 	@Override
-	public void coverage(Consumer<StatisticsCoverage> checker) {
+	public synchronized void coverage(Consumer<StatisticsCoverage> checker) {
 		// The same checker shall only be used once
 		if (!coverageCheckers.contains(checker)) {
 			coverageCheckers.add(checker);
 		}
 	}
 
-	public void checkCoverage() {
+	public synchronized void checkCoverage() {
 		for (Consumer<StatisticsCoverage> checker : coverageCheckers) {
 			StatisticsCoverage coverage = new StatisticsCoverageImpl();
 			checker.accept(coverage);
 		}
 	}
 
-	public Map<List<Object>, Integer> getCounts() {
+	public synchronized Map<List<Object>, Integer> getCounts() {
 		return counts;
 	}
 
-	public List<StatisticsEntryImpl> statisticsEntries() {
+	public synchronized List<StatisticsEntryImpl> statisticsEntries() {
 		if (statisticsEntries != null) {
 			return statisticsEntries;
 		}
@@ -12,10 +12,11 @@ import net.jqwik.engine.support.*;
 
 public class StatisticsHook implements AroundPropertyHook {
 
+	// Collectors are looked up concurrently when tries are executed in parallel
 	private static final Supplier<Map<String, StatisticsCollectorImpl>> STATISTICS_MAP_SUPPLIER =
 		() -> new LinkedHashMap<String, StatisticsCollectorImpl>() {
 			@Override
-			public StatisticsCollectorImpl get(Object key) {
+			public synchronized StatisticsCollectorImpl get(Object key) {
 				return this.computeIfAbsent((String) key, StatisticsCollectorImpl::new);
 			}
 		};
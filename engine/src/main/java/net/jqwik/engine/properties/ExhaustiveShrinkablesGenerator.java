@@ -6,6 +6,7 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.support.combinatorics.*;
 
 public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator {
 
@@ -46,8 +47,9 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 
 	}
 
-	private final Iterator<List<Shrinkable<Object>>> combinatorialIterator;
+	private final MixedRadixCombinations<Object> combinations;
 	private final long maxCount;
+	private Iterator<List<Object>> combinatorialIterator;
 
 	private ExhaustiveShrinkablesGenerator(List<List<ExhaustiveGenerator<Object>>> generators) {
 		this.maxCount = generators
@@ -56,32 +58,15 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 							.reduce((product, count) -> product * count)
 							.orElse(1L);
 
-		this.combinatorialIterator = combine(generators);
+		this.combinations = combine(generators);
 	}
 
-	private Iterator<List<Shrinkable<Object>>> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
+	private MixedRadixCombinations<Object> combine(List<List<ExhaustiveGenerator<Object>>> generators) {
 		List<Iterable<Object>> iterables = generators
 											   .stream()
 											   .map(this::concat)
 											   .collect(Collectors.toList());
-
-		return new Iterator<List<Shrinkable<Object>>>() {
-			final Iterator<List<Object>> iterator = Combinatorics.combine(iterables);
-
-			@Override
-			public boolean hasNext() {
-				return iterator.hasNext();
-			}
-
-			@Override
-			public List<Shrinkable<Object>> next() {
-				List<Shrinkable<Object>> values = new ArrayList<>();
-				for (Object o : iterator.next()) {
-					values.add(Shrinkable.unshrinkable(o));
-				}
-				return values;
-			}
-		};
+		return Combinatorics.combinations(iterables);
 	}
 
 	private Iterable<Object> concat(List<ExhaustiveGenerator<Object>> generatorList) {
@@ -92,14 +77,68 @@ public class ExhaustiveShrinkablesGenerator implements ForAllParametersGenerator
 		return () -> Combinatorics.concat(iterables);
 	}
 
+	private Iterator<List<Object>> combinatorialIterator() {
+		if (combinatorialIterator == null) {
+			combinatorialIterator = combinations.iterator();
+		}
+		return combinatorialIterator;
+	}
+
 	@Override
 	public boolean hasNext() {
-		return combinatorialIterator.hasNext();
+		return combinatorialIterator().hasNext();
 	}
 
 	@Override
 	public List<Shrinkable<Object>> next() {
-		return combinatorialIterator.next();
+		return toShrinkables(combinatorialIterator().next());
+	}
+
+	/**
+	 * Splitting is only possible before the first combination has been generated.
+	 * Each range generates the values of its parameters on its own, so ranges must not generate at the same time.
+	 */
+	@Override
+	public Optional<List<ForAllParametersGenerator>> split(int count) {
+		if (combinatorialIterator != null) {
+			return Optional.empty();
+		}
+		List<ForAllParametersGenerator> ranges =
+			combinations.split(count)
+						.stream()
+						.map(this::rangeGenerator)
+						.collect(Collectors.toList());
+		return Optional.of(ranges);
+	}
+
+	private ForAllParametersGenerator rangeGenerator(MixedRadixCombinations<Object>.CombinationsIterator range) {
+		return new ForAllParametersGenerator() {
+			private OptionalLong indexOfLastSample = OptionalLong.empty();
+
+			@Override
+			public boolean hasNext() {
+				return range.hasNext();
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next() {
+				indexOfLastSample = OptionalLong.of(range.nextIndex());
+				return toShrinkables(range.next());
+			}
+
+			@Override
+			public OptionalLong indexOfLastSample() {
+				return indexOfLastSample;
+			}
+		};
+	}
+
+	private List<Shrinkable<Object>> toShrinkables(List<Object> combination) {
+		List<Shrinkable<Object>> shrinkables = new ArrayList<>(combination.size());
+		for (Object value : combination) {
+			shrinkables.add(Shrinkable.unshrinkable(value));
+		}
+		return shrinkables;
 	}
 
 	public long maxCount() {
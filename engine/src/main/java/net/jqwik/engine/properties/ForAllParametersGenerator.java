@@ -11,6 +11,8 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 		ForAllParametersGenerator first = this;
 		ForAllParametersGenerator afterSuccessGenerator = generatorCreator.get();
 		return new ForAllParametersGenerator() {
+			private ForAllParametersGenerator lastUsed = first;
+
 			@Override
 			public boolean hasNext() {
 				if (first.hasNext()) {
@@ -21,10 +23,18 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 
 			@Override
 			public List<Shrinkable<Object>> next() {
-				if (first.hasNext()) {
-					return first.next();
-				}
-				return afterSuccessGenerator.next();
+				lastUsed = first.hasNext() ? first : afterSuccessGenerator;
+				return lastUsed.next();
+			}
+
+			@Override
+			public OptionalLong trySeedOfLastSample() {
+				return lastUsed.trySeedOfLastSample();
+			}
+
+			@Override
+			public OptionalLong indexOfLastSample() {
+				return lastUsed.indexOfLastSample();
 			}
 
 			@Override
@@ -49,8 +59,38 @@ public interface ForAllParametersGenerator extends Iterator<List<Shrinkable<Obje
 		return 0;
 	}
 
+	/**
+	 * Split this generator into generators for adjacent ranges of its parameters
+	 * that can be used from different threads but only one at a time.
+	 *
+	 * @return empty if this generator cannot be split
+	 */
+	default Optional<List<ForAllParametersGenerator>> split(int count) {
+		return Optional.empty();
+	}
+
 	default int edgeCasesTried() {
 		return 0;
 	}
 
+	/**
+	 * The seed of the random that the sample last returned by {@linkplain #next()} has been generated from.
+	 * Generating with a random of the same seed yields the same sample, e.g. in a later run.
+	 *
+	 * @return empty if the sample has not been generated from a random of its own, e.g. an edge case
+	 */
+	default OptionalLong trySeedOfLastSample() {
+		return OptionalLong.empty();
+	}
+
+	/**
+	 * The index of the sample last returned by {@linkplain #next()} among all samples
+	 * of the generator that this generator has been split from.
+	 *
+	 * @return empty if this generator is not a range of a split generator
+	 */
+	default OptionalLong indexOfLastSample() {
+		return OptionalLong.empty();
+	}
+
 }
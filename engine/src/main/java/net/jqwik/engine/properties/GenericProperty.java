@@ -2,6 +2,7 @@ package net.jqwik.engine.properties;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -13,14 +14,21 @@ import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.telemetry.*;
 
 public class GenericProperty {
 
+	// More partitions than threads so that threads don't idle when partitions take different time
+	private static final int PARTITIONS_PER_THREAD = 4;
+
 	private final String name;
 	private final PropertyConfiguration configuration;
 	private final ParametersGenerator parametersGenerator;
 	private final TryLifecycleExecutor tryLifecycleExecutor;
 	private final Supplier<TryLifecycleContext> tryLifecycleContextSupplier;
+	private final PropertyTelemetry telemetry;
+	private final AtomicInteger countGeneratedTries = new AtomicInteger(0);
+	private final Object tryLifecycleContextLock = new Object();
 
 	public GenericProperty(
 		String name,
@@ -28,15 +36,122 @@ public class GenericProperty {
 		ParametersGenerator parametersGenerator,
 		TryLifecycleExecutor tryLifecycleExecutor,
 		Supplier<TryLifecycleContext> tryLifecycleContextSupplier
+	) {
+		this(name, configuration, parametersGenerator, tryLifecycleExecutor, tryLifecycleContextSupplier, PropertyTelemetry.DISABLED);
+	}
+
+	/**
+	 * @param telemetry Collects timings of generation, tries and shrinking
+	 */
+	public GenericProperty(
+		String name,
+		PropertyConfiguration configuration,
+		ParametersGenerator parametersGenerator,
+		TryLifecycleExecutor tryLifecycleExecutor,
+		Supplier<TryLifecycleContext> tryLifecycleContextSupplier,
+		PropertyTelemetry telemetry
 	) {
 		this.name = name;
 		this.configuration = configuration;
 		this.parametersGenerator = parametersGenerator;
 		this.tryLifecycleExecutor = tryLifecycleExecutor;
 		this.tryLifecycleContextSupplier = tryLifecycleContextSupplier;
+		this.telemetry = telemetry;
 	}
 
 	public PropertyCheckResult check(Reporter reporter, Reporting[] reporting) {
+		Object propertyEvent = FlightRecorderEvents.propertyStarted();
+		PropertyCheckResult checkResult;
+		try (PendingTries pendingTries = createPendingTries(reporting)) {
+			checkResult = check(reporter, reporting, pendingTries);
+		}
+		FlightRecorderEvents.propertyFinished(
+			propertyEvent,
+			name,
+			configuration.getSeed(),
+			checkResult.checkStatus().name(),
+			checkResult.countTries(),
+			checkResult.countChecks()
+		);
+		if (telemetry.isEnabled()) {
+			return checkResult.withTelemetry(telemetry);
+		}
+		return checkResult;
+	}
+
+	private PendingTries createPendingTries(Reporting[] reporting) {
+		int parallelism = configuration.getParallelism();
+		// Examples have exactly one try
+		if (parallelism > 1 && configuration.getTries() > 1) {
+			// Generated samples can only be reported if tries keep their parameters
+			Optional<List<ParametersGenerator>> partitions =
+				Reporting.GENERATED.containedIn(reporting)
+					? Optional.empty()
+					: parametersGenerator.split(parallelism * PARTITIONS_PER_THREAD);
+			if (partitions.isPresent()) {
+				return new PartitionedTries(
+					parallelism,
+					partitions.get(),
+					this::generateNextTry
+				);
+			}
+			return new ParallelTries(
+				parallelism,
+				configuration.getTries(),
+				this::generateNextTry
+			);
+		}
+		return new PendingTries() {
+			@Override
+			public boolean hasNext() {
+				return parametersGenerator.hasNext();
+			}
+
+			@Override
+			public PendingTry next() {
+				return generateNextTry().orElseThrow(NoSuchElementException::new);
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+
+	private Optional<PendingTry> generateNextTry() {
+		return generateNextTry(parametersGenerator);
+	}
+
+	private Optional<PendingTry> generateNextTry(ParametersGenerator generator) {
+		if (!generator.hasNext()) {
+			return Optional.empty();
+		}
+		TryLifecycleContext tryLifecycleContext = nextTryLifecycleContext();
+		// Generation and execution share a try scope so that stores with lifespan TRY are not mixed up between concurrent tries
+		TryScope tryScope = new TryScope();
+		List<Shrinkable<Object>> shrinkableParams = tryScope.run(() -> telemetry.measureGeneration(() -> generator.next(tryLifecycleContext)));
+		List<Object> sample = extractParams(shrinkableParams);
+		// Tries of partitions are generated in no particular order but their samples know their index
+		int tryIndex = (int) generator.indexOfLastSample().orElseGet(countGeneratedTries::getAndIncrement);
+		PendingTry pendingTry = new PendingTry(
+			tryLifecycleContext,
+			tryScope,
+			shrinkableParams,
+			sample,
+			generator.trySeedOfLastSample(),
+			() -> tryScope.run(() -> telemetry.measureTry(() -> executeTry(tryLifecycleContext, sample, tryIndex)))
+		);
+		return Optional.of(pendingTry);
+	}
+
+	private TryExecutionResult executeTry(TryLifecycleContext tryLifecycleContext, List<Object> sample, int tryIndex) {
+		Object tryEvent = FlightRecorderEvents.tryStarted();
+		TryExecutionResult result = tryLifecycleExecutor.execute(tryLifecycleContext, sample);
+		FlightRecorderEvents.tryFinished(tryEvent, name, configuration.getSeed(), tryIndex, result.status());
+		return result;
+	}
+
+	private PropertyCheckResult check(Reporter reporter, Reporting[] reporting, PendingTries pendingTries) {
 		int maxTries = configuration.getTries();
 		int countChecks = 0;
 		int countTries = 0;
@@ -45,18 +160,19 @@ public class GenericProperty {
 			if (finishEarly) {
 				break;
 			}
-			if (!parametersGenerator.hasNext()) {
+			if (!pendingTries.hasNext()) {
 				break;
 			}
 			countTries++;
 
-			TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
-			List<Shrinkable<Object>> shrinkableParams = parametersGenerator.next(tryLifecycleContext);
-			List<Object> sample = extractParams(shrinkableParams);
+			PendingTry pendingTry = pendingTries.next();
+			TryLifecycleContext tryLifecycleContext = pendingTry.tryLifecycleContext();
+			List<Shrinkable<Object>> shrinkableParams = pendingTry.shrinkableParams();
+			List<Object> sample = pendingTry.sample();
 
 			try {
 				countChecks++;
-				TryExecutionResult tryExecutionResult = testPredicate(tryLifecycleContext, sample, reporter, reporting);
+				TryExecutionResult tryExecutionResult = testPredicate(pendingTry, reporter, reporting);
 				switch (tryExecutionResult.status()) {
 					case SATISFIED:
 						finishEarly = tryExecutionResult.shouldPropertyFinishEarly();
@@ -67,6 +183,7 @@ public class GenericProperty {
 							shrinkableParams,
 							tryExecutionResult.throwable()
 						);
+						pendingTries.close();
 						return shrinkAndCreateCheckResult(
 							reporter,
 							reporting,
@@ -74,7 +191,7 @@ public class GenericProperty {
 							countTries,
 							falsifiedSample,
 							tryLifecycleContext.targetMethod()
-						);
+						).withFalsifiedTrySeed(pendingTry.trySeed());
 					case INVALID:
 						countChecks--;
 						if (maxTries == 1) { // Examples have exactly one try
@@ -97,6 +214,7 @@ public class GenericProperty {
 			} catch (Throwable throwable) {
 				// Only not AssertionErrors and non Exceptions get here
 				JqwikExceptionSupport.rethrowIfBlacklisted(throwable);
+				pendingTries.close();
 				FalsifiedSample falsifiedSample = new FalsifiedSampleImpl(
 					sample,
 					shrinkableParams,
@@ -107,7 +225,7 @@ public class GenericProperty {
 					configuration.getGenerationMode(),
 					configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
 					falsifiedSample, null, throwable
-				);
+				).withFalsifiedTrySeed(pendingTry.trySeed());
 			}
 		}
 		if (countChecks == 0 || maxDiscardRatioExceeded(countChecks, countTries, configuration.getMaxDiscardRatio())) {
@@ -137,16 +255,15 @@ public class GenericProperty {
 	}
 
 	private TryExecutionResult testPredicate(
-		TryLifecycleContext tryLifecycleContext,
-		List<Object> sample,
+		PendingTry pendingTry,
 		Reporter reporter,
 		Reporting[] reporting
 	) {
 		if (Reporting.GENERATED.containedIn(reporting)) {
-			Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample);
+			Map<String, Object> reports = SampleReporter.createSampleReports(pendingTry.tryLifecycleContext().targetMethod(), pendingTry.sample());
 			reporter.publishReports("generated", reports);
 		}
-		return tryLifecycleExecutor.execute(tryLifecycleContext, sample);
+		return pendingTry.result();
 	}
 
 	private boolean maxDiscardRatioExceeded(int countChecks, int countTries, int maxDiscardRatio) {
@@ -163,7 +280,11 @@ public class GenericProperty {
 		int countTries, FalsifiedSample originalSample,
 		Method targetMethod
 	) {
-		ShrunkFalsifiedSample shrunkSample = shrink(reporter, reporting, originalSample, targetMethod);
+		FalsificationCache falsificationCache =
+			new FalsificationCache(configuration.shrinkingCacheSize(), configuration.shrinkingCacheFingerprints());
+		ShrunkFalsifiedSample shrunkSample = shrink(reporter, reporting, originalSample, targetMethod, falsificationCache);
+		telemetry.recordShrinkingSteps(shrunkSample.countShrinkingSteps());
+		telemetry.recordShrinkingCache(falsificationCache.hits(), falsificationCache.misses());
 		return PropertyCheckResult.failed(
 			configuration.getStereotype(), name, countTries, countChecks, configuration.getSeed(), configuration.getGenerationMode(),
 			configuration.getEdgeCasesMode(), parametersGenerator.edgeCasesTotal(), parametersGenerator.edgeCasesTried(),
@@ -175,7 +296,8 @@ public class GenericProperty {
 		Reporter reporter,
 		Reporting[] reporting,
 		FalsifiedSample originalSample,
-		Method targetMethod
+		Method targetMethod,
+		FalsificationCache falsificationCache
 	) {
 		// TODO: Find a way that falsifier and resolved ParameterSupplier get the same instance of tryLifecycleContext during shrinking.
 		//       This will probably require some major modification to shrinking / shrinking API.
@@ -187,17 +309,22 @@ public class GenericProperty {
 			configuration.getShrinkingMode(),
 			configuration.boundedShrinkingSeconds(),
 			falsifiedSampleReporter,
-			targetMethod
+			targetMethod,
+			configuration.shrinkingParallelism(),
+			falsificationCache
 		);
 
-		Falsifier<List<Object>> forAllFalsifier = createFalsifier(tryLifecycleContextSupplier, tryLifecycleExecutor);
+		Falsifier<List<Object>> forAllFalsifier =
+			configuration.shrinkingParallelism() > 1
+				? createConcurrentFalsifier(tryLifecycleExecutor)
+				: createFalsifier(tryLifecycleContextSupplier, tryLifecycleExecutor);
 		return shrinker.shrink(forAllFalsifier);
 	}
 
 	private Consumer<FalsifiedSample> createFalsifiedSampleReporter(Reporter reporter, Reporting[] reporting) {
 		return sample -> {
 			if (Reporting.FALSIFIED.containedIn(reporting)) {
-				TryLifecycleContext tryLifecycleContext = tryLifecycleContextSupplier.get();
+				TryLifecycleContext tryLifecycleContext = nextTryLifecycleContext();
 				Map<String, Object> reports = SampleReporter.createSampleReports(tryLifecycleContext.targetMethod(), sample.parameters());
 				reporter.publishReports("falsified", reports);
 			}
@@ -205,7 +332,28 @@ public class GenericProperty {
 	}
 
 	private Falsifier<List<Object>> createFalsifier(Supplier<TryLifecycleContext> tryLifecycleContext, TryLifecycleExecutor tryExecutor) {
-		return params -> tryExecutor.execute(tryLifecycleContext.get(), params);
+		return params -> telemetry.measureShrinkingCandidate(() -> tryExecutor.execute(tryLifecycleContext.get(), params));
+	}
+
+	// Each candidate gets a try lifecycle context and try scope of its own so that
+	// candidates falsified at the same time neither share nor reset each other's values
+	private Falsifier<List<Object>> createConcurrentFalsifier(TryLifecycleExecutor tryExecutor) {
+		return params -> {
+			TryLifecycleContext tryLifecycleContext = nextTryLifecycleContext();
+			TryScope tryScope = new TryScope();
+			try {
+				return tryScope.run(() -> telemetry.measureShrinkingCandidate(() -> tryExecutor.execute(tryLifecycleContext, params)));
+			} finally {
+				tryScope.close();
+			}
+		};
+	}
+
+	// Try lifecycle context suppliers are not thread safe
+	private TryLifecycleContext nextTryLifecycleContext() {
+		synchronized (tryLifecycleContextLock) {
+			return tryLifecycleContextSupplier.get();
+		}
 	}
 
 }
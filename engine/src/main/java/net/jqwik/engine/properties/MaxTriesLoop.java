@@ -4,6 +4,7 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.telemetry.*;
 
 public class MaxTriesLoop {
 	private static final long MAX_MISSES = 10000;
@@ -15,16 +16,25 @@ public class MaxTriesLoop {
 	) {
 		long count = 0;
 		T value = null;
+		Object missesEvent = null;
 		while (loopCondition.getAsBoolean()) {
 			Tuple2<Boolean, T> result = loopAndReturn.apply(value);
 			value = result.get2();
 			if (result.get1()) {
 				break;
 			}
-			if (++count > MAX_MISSES) {
+			// The event is only started with the first miss so that hits do not pay for it
+			if (++count == 1) {
+				missesEvent = FlightRecorderEvents.filterMissesStarted();
+			}
+			if (count > MAX_MISSES) {
+				PropertyTelemetry.recordFilterMisses(count);
+				FlightRecorderEvents.filterMissesFinished(missesEvent, count, true);
 				throw tooManyMissesExceptionSupplier.apply(MAX_MISSES);
 			}
 		}
+		PropertyTelemetry.recordFilterMisses(count);
+		FlightRecorderEvents.filterMissesFinished(missesEvent, count, false);
 		return value;
 	}
 
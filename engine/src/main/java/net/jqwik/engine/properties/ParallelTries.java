@@ -0,0 +1,134 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Executes tries concurrently on a fixed number of worker threads.
+ *
+ * <p>
+ * Generation of parameters happens in the calling thread one try after the other
+ * so that the same seed produces the same samples regardless of parallelism.
+ * Results are delivered in generation order, which makes the first falsified try
+ * the same one as in sequential execution.
+ * </p>
+ *
+ * <p>
+ * Workers run tries with the calling thread's test descriptor and domain context
+ * and with a source of randomness derived from the try's index.
+ * Each try has its own {@linkplain TryScope}.
+ * </p>
+ */
+class ParallelTries implements PendingTries {
+
+	private final int maxTries;
+	private final int windowSize;
+	private final PropertyThreadContext threadContext;
+	private final Supplier<Optional<PendingTry>> tryGenerator;
+	private final ExecutorService workers;
+
+	private final Deque<PendingTry> window = new ArrayDeque<>();
+	private final AtomicInteger lowestFalsifiedIndex = new AtomicInteger(Integer.MAX_VALUE);
+	private volatile boolean closed = false;
+
+	private int countGenerated = 0;
+	private boolean generatorExhausted = false;
+
+	ParallelTries(
+		int parallelism,
+		int maxTries,
+		Supplier<Optional<PendingTry>> tryGenerator
+	) {
+		this.maxTries = maxTries;
+		this.windowSize = parallelism * 2;
+		this.threadContext = PropertyThreadContext.capture();
+		this.tryGenerator = tryGenerator;
+		this.workers = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("jqwik-tries"));
+	}
+
+	@Override
+	public boolean hasNext() {
+		fillWindow();
+		return !window.isEmpty();
+	}
+
+	@Override
+	public PendingTry next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return window.poll();
+	}
+
+	private void fillWindow() {
+		while (!closed && !generatorExhausted && window.size() < windowSize && countGenerated < maxTries) {
+			Optional<PendingTry> optionalTry = tryGenerator.get();
+			if (!optionalTry.isPresent()) {
+				generatorExhausted = true;
+				break;
+			}
+			window.add(submit(countGenerated++, optionalTry.get()));
+		}
+	}
+
+	private PendingTry submit(int tryIndex, PendingTry pendingTry) {
+		Future<TryExecutionResult> future = workers.submit(() -> execute(tryIndex, pendingTry));
+		return pendingTry.withExecution(() -> await(future));
+	}
+
+	private TryExecutionResult execute(int tryIndex, PendingTry pendingTry) {
+		// No need to run tries after an already falsified one since their results will never be used
+		if (closed || tryIndex > lowestFalsifiedIndex.get()) {
+			pendingTry.discard();
+			return null;
+		}
+		TryExecutionResult result = threadContext.runWith(tryIndex, pendingTry::result);
+		if (result.status() == TryExecutionResult.Status.FALSIFIED) {
+			lowestFalsifiedIndex.accumulateAndGet(tryIndex, Math::min);
+		}
+		return result;
+	}
+
+	private TryExecutionResult await(Future<TryExecutionResult> future) {
+		try {
+			TryExecutionResult result = future.get();
+			if (result == null) {
+				throw new IllegalStateException("Result of a skipped try must never be requested");
+			}
+			return result;
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Waits for all running tries to finish so that subsequent shrinking
+	 * will not interfere with them.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		window.clear();
+		workers.shutdown();
+		try {
+			while (!workers.awaitTermination(1, TimeUnit.SECONDS)) {
+				// Keep waiting for running tries
+			}
+		} catch (InterruptedException interruptedException) {
+			workers.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
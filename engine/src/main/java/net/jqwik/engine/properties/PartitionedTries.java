@@ -0,0 +1,168 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.TryExecutionResult.*;
+import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Executes the tries of adjacent partitions, e.g. ranges of exhaustive combinations,
+ * concurrently on a fixed number of worker threads.
+ *
+ * <p>
+ * Parameters are generated by one worker at a time since neither try lifecycle contexts,
+ * parameter resolution nor the generators of partitions are thread safe.
+ * Each partition generates its own values so that concurrent tries do not share mutable parameters.
+ * </p>
+ *
+ * <p>
+ * Tries are delivered partition after partition in generation order. That way the first falsified try
+ * is the same as in sequential execution even though tries of later partitions may already have been executed.
+ * A partition only keeps the try that stopped it, all other tries are just counted.
+ * </p>
+ */
+class PartitionedTries implements PendingTries {
+
+	private static final PendingTry SATISFIED_TRY = PendingTry.executed(TryExecutionResult.satisfied());
+	private static final PendingTry INVALID_TRY = PendingTry.executed(TryExecutionResult.invalid());
+
+	private final PropertyThreadContext threadContext;
+	private final Function<ParametersGenerator, Optional<PendingTry>> tryGenerator;
+	private final ExecutorService workers;
+	private final Object generationLock = new Object();
+
+	private final List<Future<PartitionResult>> partitionResults = new ArrayList<>();
+	private final AtomicInteger lowestStoppedPartition = new AtomicInteger(Integer.MAX_VALUE);
+	private volatile boolean closed = false;
+
+	private int nextPartition = 0;
+	private Iterator<PendingTry> deliveredTries = Collections.emptyIterator();
+
+	PartitionedTries(
+		int parallelism,
+		List<ParametersGenerator> partitions,
+		Function<ParametersGenerator, Optional<PendingTry>> tryGenerator
+	) {
+		this.threadContext = PropertyThreadContext.capture();
+		this.tryGenerator = tryGenerator;
+		this.workers = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("jqwik-tries"));
+		for (int i = 0; i < partitions.size(); i++) {
+			int partitionIndex = i;
+			ParametersGenerator partition = partitions.get(i);
+			partitionResults.add(workers.submit(
+				() -> threadContext.runWith(partitionIndex, () -> executePartition(partitionIndex, partition))
+			));
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!deliveredTries.hasNext()) {
+			if (closed || nextPartition >= partitionResults.size()) {
+				return false;
+			}
+			deliveredTries = await(partitionResults.get(nextPartition++)).tries();
+		}
+		return true;
+	}
+
+	@Override
+	public PendingTry next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return deliveredTries.next();
+	}
+
+	// Tries after a try that stops the property will never be delivered
+	private PartitionResult executePartition(int partitionIndex, ParametersGenerator partition) {
+		PartitionResult partitionResult = new PartitionResult();
+		while (!closed && partitionIndex <= lowestStoppedPartition.get()) {
+			Optional<PendingTry> optionalTry = generateNextTry(partition);
+			if (!optionalTry.isPresent()) {
+				break;
+			}
+			PendingTry pendingTry = optionalTry.get();
+			try {
+				TryExecutionResult result = pendingTry.result();
+				if (result.isFalsified() || result.shouldPropertyFinishEarly()) {
+					partitionResult.stoppingTry = pendingTry.withExecution(() -> result);
+				} else if (result.status() == Status.INVALID) {
+					partitionResult.countInvalid++;
+				} else {
+					partitionResult.countSatisfied++;
+				}
+			} catch (Throwable throwable) {
+				partitionResult.stoppingTry = pendingTry.withExecution(() -> JqwikExceptionSupport.throwAsUncheckedException(throwable));
+			}
+			if (partitionResult.stoppingTry != null) {
+				lowestStoppedPartition.accumulateAndGet(partitionIndex, Math::min);
+				break;
+			}
+		}
+		return partitionResult;
+	}
+
+	private Optional<PendingTry> generateNextTry(ParametersGenerator partition) {
+		synchronized (generationLock) {
+			return tryGenerator.apply(partition);
+		}
+	}
+
+	private PartitionResult await(Future<PartitionResult> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	/**
+	 * Waits for all running tries to finish so that subsequent shrinking
+	 * will not interfere with them.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		workers.shutdown();
+		try {
+			while (!workers.awaitTermination(1, TimeUnit.SECONDS)) {
+				// Keep waiting for running tries
+			}
+		} catch (InterruptedException interruptedException) {
+			workers.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class PartitionResult {
+		private int countSatisfied = 0;
+		private int countInvalid = 0;
+		private PendingTry stoppingTry = null;
+
+		// The order of satisfied and invalid tries does not matter since they are only counted
+		private Iterator<PendingTry> tries() {
+			Stream<PendingTry> executedTries = Stream.concat(
+				Collections.nCopies(countSatisfied, SATISFIED_TRY).stream(),
+				Collections.nCopies(countInvalid, INVALID_TRY).stream()
+			);
+			if (stoppingTry == null) {
+				return executedTries.iterator();
+			}
+			return Stream.concat(executedTries, Stream.of(stoppingTry)).iterator();
+		}
+	}
+}
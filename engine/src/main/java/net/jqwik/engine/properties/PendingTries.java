@@ -0,0 +1,17 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Delivers pending tries in the order in which their parameters have been generated.
+ */
+interface PendingTries extends Iterator<PendingTry>, AutoCloseable {
+
+	/**
+	 * Stop all tries that have not been delivered yet.
+	 * Must be idempotent.
+	 */
+	@Override
+	void close();
+
+}
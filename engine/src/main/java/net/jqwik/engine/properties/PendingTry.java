@@ -0,0 +1,80 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+
+/**
+ * A try whose parameters have already been generated
+ * but whose execution result might not yet be available.
+ */
+class PendingTry {
+
+	private final TryLifecycleContext tryLifecycleContext;
+	private final TryScope tryScope;
+	private final List<Shrinkable<Object>> shrinkableParams;
+	private final List<Object> sample;
+	private final OptionalLong trySeed;
+	private final Supplier<TryExecutionResult> execution;
+
+	/**
+	 * @param trySeed The seed that the try's parameters can be generated again from, if any
+	 */
+	PendingTry(
+		TryLifecycleContext tryLifecycleContext,
+		TryScope tryScope,
+		List<Shrinkable<Object>> shrinkableParams,
+		List<Object> sample,
+		OptionalLong trySeed,
+		Supplier<TryExecutionResult> execution
+	) {
+		this.tryLifecycleContext = tryLifecycleContext;
+		this.tryScope = tryScope;
+		this.shrinkableParams = shrinkableParams;
+		this.sample = sample;
+		this.trySeed = trySeed;
+		this.execution = execution;
+	}
+
+	TryLifecycleContext tryLifecycleContext() {
+		return tryLifecycleContext;
+	}
+
+	List<Shrinkable<Object>> shrinkableParams() {
+		return shrinkableParams;
+	}
+
+	List<Object> sample() {
+		return sample;
+	}
+
+	OptionalLong trySeed() {
+		return trySeed;
+	}
+
+	TryExecutionResult result() {
+		return execution.get();
+	}
+
+	/**
+	 * Release what has been stored for this try during generation if it will never be executed.
+	 */
+	void discard() {
+		tryScope.close();
+	}
+
+	PendingTry withExecution(Supplier<TryExecutionResult> otherExecution) {
+		return new PendingTry(tryLifecycleContext, tryScope, shrinkableParams, sample, trySeed, otherExecution);
+	}
+
+	/**
+	 * A try that has already been executed and neither falsified nor stopped the property.
+	 * It keeps neither context nor parameters so that it can stand in for any number of such tries.
+	 */
+	static PendingTry executed(TryExecutionResult result) {
+		return new PendingTry(null, new TryScope(), Collections.emptyList(), Collections.emptyList(), OptionalLong.empty(), () -> result);
+	}
+}
@@ -8,6 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.lifecycle.*;
 import net.jqwik.engine.execution.reporting.*;
+import net.jqwik.engine.telemetry.*;
 
 public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 
@@ -41,7 +42,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			null
+			null,
+			PropertyTelemetry.DISABLED,
+			OptionalLong.empty()
 		);
 	}
 
@@ -76,7 +79,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			originalSample,
 			shrunkSample,
-			throwable
+			throwable,
+			PropertyTelemetry.DISABLED,
+			OptionalLong.empty()
 		);
 	}
 
@@ -107,7 +112,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			throwable
+			throwable,
+			PropertyTelemetry.DISABLED,
+			OptionalLong.empty()
 		);
 	}
 
@@ -135,7 +142,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 			edgeCasesTried,
 			null,
 			null,
-			null
+			null,
+			PropertyTelemetry.DISABLED,
+			OptionalLong.empty()
 		);
 	}
 
@@ -152,6 +161,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 	private final FalsifiedSample originalSample;
 	private final ShrunkFalsifiedSample shrunkSample;
 	private final Throwable throwable;
+	private final PropertyTelemetry telemetry;
+	private final OptionalLong falsifiedTrySeed;
 
 	private PropertyCheckResult(
 		CheckStatus status, String stereotype,
@@ -165,7 +176,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		int edgeCasesTried,
 		FalsifiedSample originalSample,
 		ShrunkFalsifiedSample shrunkSample,
-		Throwable throwable
+		Throwable throwable,
+		PropertyTelemetry telemetry,
+		OptionalLong falsifiedTrySeed
 	) {
 		this.stereotype = stereotype;
 		this.status = status;
@@ -180,6 +193,8 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		this.shrunkSample = shrunkSample;
 		this.originalSample = originalSample;
 		this.throwable = determineThrowable(status, throwable);
+		this.telemetry = telemetry;
+		this.falsifiedTrySeed = falsifiedTrySeed;
 	}
 
 	private Throwable determineThrowable(CheckStatus status, Throwable throwable) {
@@ -239,7 +254,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					originalSample,
 					shrunkSample,
-					throwable
+					throwable,
+					telemetry,
+					falsifiedTrySeed
 				);
 			case SUCCESSFUL:
 				return new PropertyCheckResult(
@@ -255,7 +272,9 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 					edgeCasesTried,
 					null,
 					null,
-					throwable
+					throwable,
+					telemetry,
+					OptionalLong.empty()
 				);
 			default:
 				throw new IllegalStateException(String.format("Unknown state: %s", newStatus.name()));
@@ -295,6 +314,59 @@ public class PropertyCheckResult implements ExtendedPropertyExecutionResult {
 		return Optional.ofNullable(shrunkSample);
 	}
 
+	public PropertyTelemetry telemetry() {
+		return telemetry;
+	}
+
+	PropertyCheckResult withTelemetry(PropertyTelemetry telemetry) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			randomSeed,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			telemetry,
+			falsifiedTrySeed
+		);
+	}
+
+	/**
+	 * The seed that the parameters of the first falsified try can be generated again from.
+	 *
+	 * @return empty if the property has not been falsified by a randomly generated try
+	 */
+	public OptionalLong falsifiedTrySeed() {
+		return falsifiedTrySeed;
+	}
+
+	PropertyCheckResult withFalsifiedTrySeed(OptionalLong falsifiedTrySeed) {
+		return new PropertyCheckResult(
+			status,
+			stereotype,
+			propertyName,
+			tries,
+			checks,
+			randomSeed,
+			generation,
+			edgeCasesMode,
+			edgeCasesTotal,
+			edgeCasesTried,
+			originalSample,
+			shrunkSample,
+			throwable,
+			telemetry,
+			falsifiedTrySeed
+		);
+	}
+
 	public GenerationMode generation() {
 		return generation;
 	}
@@ -22,12 +22,16 @@ public class PropertyMethodArbitraryResolver implements ArbitraryResolver {
 	private final RegisteredArbitraryResolver registeredArbitraryResolver;
 	private final RegisteredArbitraryConfigurer registeredArbitraryConfigurer;
 
+	// Domain contexts other than the global one are created for each property and may depend on the test instance
+	private final boolean shareResolvedArbitraries;
+
 	public PropertyMethodArbitraryResolver(Class<?> containerClass, Object testInstance, DomainContext domainContext) {
 		this(
 			containerClass,
 			testInstance,
 			new RegisteredArbitraryResolver(domainContext.getArbitraryProviders()),
-			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators())
+			new RegisteredArbitraryConfigurer(domainContext.getArbitraryConfigurators()),
+			domainContext == DomainContext.global()
 		);
 	}
 
@@ -35,11 +39,21 @@ public class PropertyMethodArbitraryResolver implements ArbitraryResolver {
 		Class<?> containerClass, Object testInstance,
 		RegisteredArbitraryResolver registeredArbitraryResolver,
 		RegisteredArbitraryConfigurer registeredArbitraryConfigurer
+	) {
+		this(containerClass, testInstance, registeredArbitraryResolver, registeredArbitraryConfigurer, false);
+	}
+
+	private PropertyMethodArbitraryResolver(
+		Class<?> containerClass, Object testInstance,
+		RegisteredArbitraryResolver registeredArbitraryResolver,
+		RegisteredArbitraryConfigurer registeredArbitraryConfigurer,
+		boolean shareResolvedArbitraries
 	) {
 		this.containerClass = containerClass;
 		this.testInstance = testInstance;
 		this.registeredArbitraryResolver = registeredArbitraryResolver;
 		this.registeredArbitraryConfigurer = registeredArbitraryConfigurer;
+		this.shareResolvedArbitraries = shareResolvedArbitraries;
 	}
 
 	@Override
@@ -49,6 +63,33 @@ public class PropertyMethodArbitraryResolver implements ArbitraryResolver {
 	}
 
 	private Set<Arbitrary<?>> createForType(TypeUsage targetType) {
+		if (shareResolvedArbitraries && ResolutionCache.isEnabled() && !refersToNamedGenerator(targetType)) {
+			return ResolutionCache.arbitrariesFor(targetType, this::resolveForType);
+		}
+		return resolveForType(targetType);
+	}
+
+	// Named generators are looked up in the container class. Type variables and wildcards are not followed.
+	private static boolean refersToNamedGenerator(TypeUsage typeUsage) {
+		if (typeUsage.isTypeVariableOrWildcard()) {
+			return true;
+		}
+		if (typeUsage.findAnnotation(From.class).isPresent()) {
+			return true;
+		}
+		boolean hasForAllValue = typeUsage.findAnnotation(ForAll.class)
+										  .map(forAll -> !forAll.value().equals(ForAll.NO_VALUE))
+										  .orElse(false);
+		if (hasForAllValue) {
+			return true;
+		}
+		if (typeUsage.getComponentType().map(PropertyMethodArbitraryResolver::refersToNamedGenerator).orElse(false)) {
+			return true;
+		}
+		return typeUsage.getTypeArguments().stream().anyMatch(PropertyMethodArbitraryResolver::refersToNamedGenerator);
+	}
+
+	private Set<Arbitrary<?>> resolveForType(TypeUsage targetType) {
 		Optional<String> optionalForAllValue =
 			targetType
 				.findAnnotation(ForAll.class)
@@ -5,6 +5,7 @@ import java.util.logging.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.*;
 import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.arbitraries.*;
 import net.jqwik.engine.support.*;
@@ -15,6 +16,9 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	private static final Logger LOG = Logger.getLogger(RandomizedShrinkablesGenerator.class.getName());
 
+	// Index of the stream derived from a try's random that decides whether the try generates an edge case
+	private static final long EDGE_CASE_DECISION_STREAM = 0;
+
 	public static RandomizedShrinkablesGenerator forParameters(
 		List<MethodParameter> parameters,
 		ArbitraryResolver arbitraryResolver,
@@ -22,6 +26,34 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		int genSize,
 		EdgeCasesMode edgeCasesMode
 	) {
+		return forParameters(parameters, arbitraryResolver, random, genSize, edgeCasesMode, Collections.emptyList());
+	}
+
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		EdgeCasesMode edgeCasesMode,
+		List<Long> regressionSeeds
+	) {
+		return forParameters(parameters, arbitraryResolver, random, genSize, edgeCasesMode, regressionSeeds, 0);
+	}
+
+	/**
+	 * @param regressionSeeds Seeds of previously falsified tries. Their samples are generated again
+	 *                        with the current arbitraries before any other sample.
+	 * @param firstTryIndex   The index of the property's try that the first sample of this generator is used for
+	 */
+	public static RandomizedShrinkablesGenerator forParameters(
+		List<MethodParameter> parameters,
+		ArbitraryResolver arbitraryResolver,
+		Random random,
+		int genSize,
+		EdgeCasesMode edgeCasesMode,
+		List<Long> regressionSeeds,
+		long firstTryIndex
+	) {
 
 		List<EdgeCases<Object>> listOfEdgeCases = listOfEdgeCases(parameters, arbitraryResolver, edgeCasesMode, genSize);
 		int edgeCasesTotal = calculateEdgeCasesTotal(listOfEdgeCases);
@@ -34,7 +66,9 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 			edgeCasesMode,
 			edgeCasesTotal,
 			calculateBaseToEdgeCaseRatio(listOfEdgeCases, genSize),
-			random
+			random,
+			regressionSeeds,
+			firstTryIndex
 		);
 	}
 
@@ -153,9 +187,12 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 	private final int edgeCasesTotal;
 	private final int baseToEdgeCaseRatio;
 	private final Random random;
+	private final Iterator<Long> regressionSeeds;
 
 	private boolean allEdgeCasesGenerated = false;
 	private int edgeCasesTried = 0;
+	private long nextTryIndex;
+	private OptionalLong trySeedOfLastSample = OptionalLong.empty();
 
 	private RandomizedShrinkablesGenerator(
 		PurelyRandomShrinkablesGenerator randomGenerator,
@@ -163,7 +200,9 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		EdgeCasesMode edgeCasesMode,
 		int edgeCasesTotal,
 		int baseToEdgeCaseRatio,
-		Random random
+		Random random,
+		List<Long> regressionSeeds,
+		long firstTryIndex
 	) {
 		this.randomGenerator = randomGenerator;
 		this.edgeCasesGenerator = edgeCasesGenerator;
@@ -171,6 +210,8 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 		this.edgeCasesTotal = edgeCasesTotal;
 		this.baseToEdgeCaseRatio = baseToEdgeCaseRatio;
 		this.random = random;
+		this.regressionSeeds = regressionSeeds.iterator();
+		this.nextTryIndex = firstTryIndex;
 	}
 
 	@Override
@@ -181,6 +222,17 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 
 	@Override
 	public List<Shrinkable<Object>> next() {
+		// Each try gets its own derived random so that it can be reproduced from seed and try index
+		Random tryRandom = SourceOfRandomness.derive(random, nextTryIndex++);
+		// Deciding on edge cases must not draw from tryRandom. Otherwise the values would not be generated again from its seed.
+		Random edgeCaseDecisionRandom = SourceOfRandomness.derive(tryRandom, EDGE_CASE_DECISION_STREAM);
+		trySeedOfLastSample = OptionalLong.empty();
+		if (regressionSeeds.hasNext()) {
+			// Generating again from a falsified try's seed yields only values the current arbitraries can generate
+			long regressionSeed = regressionSeeds.next();
+			trySeedOfLastSample = OptionalLong.of(regressionSeed);
+			return randomGenerator.generateNext(SourceOfRandomness.newRandom(regressionSeed));
+		}
 		if (!allEdgeCasesGenerated) {
 			if (edgeCasesMode.generateFirst()) {
 				if (edgeCasesGenerator.hasNext()) {
@@ -191,7 +243,7 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 				}
 			}
 			if (edgeCasesMode.mixIn()) {
-				if (shouldGenerateEdgeCase(random)) {
+				if (shouldGenerateEdgeCase(edgeCaseDecisionRandom)) {
 					if (edgeCasesGenerator.hasNext()) {
 						edgeCasesTried++;
 						return edgeCasesGenerator.next();
@@ -201,7 +253,13 @@ public class RandomizedShrinkablesGenerator implements ForAllParametersGenerator
 				}
 			}
 		}
-		return randomGenerator.generateNext(random);
+		trySeedOfLastSample = SourceOfRandomness.seedOf(tryRandom);
+		return randomGenerator.generateNext(tryRandom);
+	}
+
+	@Override
+	public OptionalLong trySeedOfLastSample() {
+		return trySeedOfLastSample;
 	}
 
 	@Override
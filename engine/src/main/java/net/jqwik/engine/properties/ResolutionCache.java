@@ -0,0 +1,79 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Resolved arbitraries shared by all properties of a test run.
+ * Many properties use the same parameter types; they need not walk through all
+ * arbitrary providers again and again.
+ *
+ * <p>
+ * Only arbitraries resolved in the global domain context without named generators are shared.
+ * Generators are never shared since they may keep state, e.g. the last result of a generated function.
+ * </p>
+ *
+ * <p>
+ * All caches created through {@linkplain #newCache()} are bounded by the configured maximum size
+ * and are cleared after each test run so that arbitraries and provider instances are not retained.
+ * Setting the maximum size to {@code 0} switches off sharing between properties,
+ * e.g. if registered providers return arbitraries that keep state.
+ * </p>
+ */
+public class ResolutionCache {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private static final List<BoundedCache<?, ?>> caches = new CopyOnWriteArrayList<>();
+
+	private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+	private static final BoundedCache<TypeUsage, Set<Arbitrary<?>>> arbitraries = newCache();
+
+	private ResolutionCache() {
+	}
+
+	/**
+	 * Create a cache that is sized and cleared together with the shared resolution caches.
+	 */
+	public static <K, V> BoundedCache<K, V> newCache() {
+		BoundedCache<K, V> cache = new BoundedCache<>(maxSize);
+		caches.add(cache);
+		return cache;
+	}
+
+	/**
+	 * Start a new test run with empty caches.
+	 *
+	 * @param maxSize The maximum number of entries of each cache. {@code 0} switches sharing off.
+	 */
+	public static void reset(int maxSize) {
+		ResolutionCache.maxSize = maxSize;
+		for (BoundedCache<?, ?> cache : caches) {
+			cache.setMaxSize(maxSize);
+		}
+		clear();
+	}
+
+	/**
+	 * Must be called whenever registered providers change and after a test run.
+	 */
+	public static void clear() {
+		for (BoundedCache<?, ?> cache : caches) {
+			cache.clear();
+		}
+	}
+
+	public static boolean isEnabled() {
+		return arbitraries.maxSize() > 0;
+	}
+
+	static Set<Arbitrary<?>> arbitrariesFor(TypeUsage targetType, Function<TypeUsage, Set<Arbitrary<?>>> resolver) {
+		return arbitraries.computeIfAbsent(targetType, type -> Collections.unmodifiableSet(resolver.apply(type)));
+	}
+}
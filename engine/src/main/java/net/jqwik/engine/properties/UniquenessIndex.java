@@ -0,0 +1,134 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+/**
+ * Counts the extracted features of all values in a container, separately for each uniqueness extractor.
+ * Checking if a value can be added or replace another value then takes constant time
+ * instead of extracting the features of all values again.
+ */
+public class UniquenessIndex<T> {
+
+	public static <T> UniquenessIndex<T> of(Collection<FeatureExtractor<T>> extractors, Collection<T> values) {
+		UniquenessIndex<T> index = new UniquenessIndex<>(extractors);
+		for (T value : values) {
+			index.add(value);
+		}
+		return index;
+	}
+
+	private final List<FeatureExtractor<T>> extractors;
+	private final List<Map<Object, Integer>> featureCounts;
+
+	// Number of values per extractor whose feature is already used by another value
+	private final int[] duplicates;
+
+	public UniquenessIndex(Collection<FeatureExtractor<T>> extractors) {
+		this.extractors = new ArrayList<>(extractors);
+		this.featureCounts = new ArrayList<>(extractors.size());
+		for (int i = 0; i < extractors.size(); i++) {
+			featureCounts.add(new HashMap<>());
+		}
+		this.duplicates = new int[extractors.size()];
+	}
+
+	public boolean isEmpty() {
+		return extractors.isEmpty();
+	}
+
+	/**
+	 * @return true if no value in index has the same feature as {@code value} for any extractor
+	 */
+	public boolean canAdd(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			if (count(i, extractors.get(i).applySafe(value)) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void add(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			int count = count(i, feature);
+			if (count > 0) {
+				duplicates[i]++;
+			}
+			featureCounts.get(i).put(feature, count + 1);
+		}
+	}
+
+	public void remove(T value) {
+		for (int i = 0; i < extractors.size(); i++) {
+			Object feature = extractors.get(i).applySafe(value);
+			int count = count(i, feature);
+			if (count == 0) {
+				continue;
+			}
+			if (count > 1) {
+				duplicates[i]--;
+				featureCounts.get(i).put(feature, count - 1);
+			} else {
+				featureCounts.get(i).remove(feature);
+			}
+		}
+	}
+
+	/**
+	 * @return true if no value in index other than {@code oldValue} has the same feature as {@code newValue} for any extractor
+	 */
+	public boolean canReplace(T oldValue, T newValue) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Object newFeature = extractor.applySafe(newValue);
+			int count = count(i, newFeature);
+			if (Objects.equals(newFeature, extractor.applySafe(oldValue))) {
+				count--;
+			}
+			if (count > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * @return true if all values are unique after replacing each of {@code oldValues} with its counterpart in {@code newValues}
+	 */
+	public boolean areUniqueAfterReplacing(List<T> oldValues, List<T> newValues) {
+		for (int i = 0; i < extractors.size(); i++) {
+			FeatureExtractor<T> extractor = extractors.get(i);
+			Map<Object, Integer> countChanges = new HashMap<>();
+			for (T oldValue : oldValues) {
+				countChanges.merge(extractor.applySafe(oldValue), -1, Integer::sum);
+			}
+			for (T newValue : newValues) {
+				countChanges.merge(extractor.applySafe(newValue), 1, Integer::sum);
+			}
+			int duplicatesAfter = duplicates[i];
+			for (Map.Entry<Object, Integer> change : countChanges.entrySet()) {
+				int countBefore = count(i, change.getKey());
+				int countAfter = countBefore + change.getValue();
+				duplicatesAfter += Math.max(countAfter - 1, 0) - Math.max(countBefore - 1, 0);
+			}
+			if (duplicatesAfter > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean areUnique() {
+		for (int duplicatesOfExtractor : duplicates) {
+			if (duplicatesOfExtractor > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int count(int extractorIndex, Object feature) {
+		return featureCounts.get(extractorIndex).getOrDefault(feature, 0);
+	}
+}
@@ -1,6 +1,5 @@
 package net.jqwik.engine.properties.arbitraries;
 
-import java.math.*;
 import java.util.*;
 import java.util.stream.*;
 
@@ -27,14 +26,13 @@ public class CharacterRangeArbitrary implements Arbitrary<Character> {
 	private List<Shrinkable<Character>> listOfEdgeCases(int maxEdgeCases) {
 		Stream<Character> edgeCases = Stream.of(min, max, ' ').filter(c -> c >= min && c <= max);
 		return edgeCases
-					   .map(aCharacter -> new ShrinkableBigInteger(
-									BigInteger.valueOf((int) aCharacter),
-									Range.of(BigInteger.valueOf(this.min), BigInteger.valueOf(max)),
-									BigInteger.valueOf(min)
+					   .map(aCharacter -> new ShrinkableLong(
+									aCharacter,
+									Range.of((long) this.min, (long) max),
+									min
 							)
 					   )
-					   .map(shrinkableBigInteger -> shrinkableBigInteger.map(BigInteger::intValueExact))
-					   .map(shrinkableInteger -> shrinkableInteger.map(anInt -> ((char) (int) anInt)))
+					   .map(shrinkableLong -> shrinkableLong.map(aLong -> ((char) (long) aLong)))
 					   .limit(maxEdgeCases)
 					   .collect(Collectors.toList());
 	}
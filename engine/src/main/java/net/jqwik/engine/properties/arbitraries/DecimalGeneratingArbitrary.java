@@ -35,6 +35,34 @@ class DecimalGeneratingArbitrary extends TypedCloneable implements Arbitrary<Big
 		return RandomDecimalGenerators.bigDecimals(genSize, range, scale, distribution, shrinkingTarget());
 	}
 
+	/**
+	 * Only available if all unscaled values in range fit into a long
+	 */
+	Optional<LongArrayElements> longArrayElements() {
+		checkRange();
+		if (scale < 0 || scale > LongArrayElements.MAX_SCALE) {
+			return Optional.empty();
+		}
+		BigInteger unscaledMin = unscaledBigInteger(range.min, scale);
+		BigInteger unscaledMax = unscaledBigInteger(range.max, scale);
+		if (!range.minIncluded) {
+			unscaledMin = unscaledMin.add(BigInteger.ONE);
+		}
+		if (!range.maxIncluded) {
+			unscaledMax = unscaledMax.subtract(BigInteger.ONE);
+		}
+		if (unscaledMin.bitLength() >= Long.SIZE || unscaledMax.bitLength() >= Long.SIZE || unscaledMin.compareTo(unscaledMax) > 0) {
+			return Optional.empty();
+		}
+		return Optional.of(LongArrayElements.decimal(
+			unscaledMin.longValueExact(),
+			unscaledMax.longValueExact(),
+			unscaledBigInteger(shrinkingTarget(), scale).longValueExact(),
+			scale,
+			distribution
+		));
+	}
+
 	private void checkRange() {
 		checkScale(range.min);
 		checkScale(range.max);
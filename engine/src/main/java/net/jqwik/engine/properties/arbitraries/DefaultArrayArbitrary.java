@@ -10,6 +10,7 @@ import net.jqwik.api.configurators.*;
 import net.jqwik.api.providers.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.arbitraries.exhaustive.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
 import net.jqwik.engine.properties.shrinking.*;
 
 public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> implements ArrayArbitrary<T, A>, SelfConfiguringArbitrary<A> {
@@ -33,12 +34,51 @@ public class DefaultArrayArbitrary<T, A> extends MultivalueArbitraryBase<T, A> i
 
 	@Override
 	public RandomGenerator<A> generator(int genSize) {
-		return createListGenerator(genSize, false).map(this::toArray);
+		return primitiveArrayGenerator(genSize, false)
+				   .orElseGet(() -> createListGenerator(genSize, false).map(this::toArray));
 	}
 
 	@Override
 	public RandomGenerator<A> generatorWithEmbeddedEdgeCases(int genSize) {
-		return createListGenerator(genSize, true).map(this::toArray);
+		return primitiveArrayGenerator(genSize, true)
+				   .orElseGet(() -> createListGenerator(genSize, true).map(this::toArray));
+	}
+
+	// Arrays of primitive numbers are filled directly without a shrinkable or a boxed value per element
+	private Optional<RandomGenerator<A>> primitiveArrayGenerator(int genSize, boolean withEmbeddedEdgeCases) {
+		if (!uniquenessExtractors.isEmpty() || !(elementArbitrary instanceof LongArrayElements.Source)) {
+			return Optional.empty();
+		}
+		return ((LongArrayElements.Source) elementArbitrary)
+				   .longArrayElements()
+				   .filter(elements -> elements.canFill(arrayClass.getComponentType()))
+				   .map(elements -> {
+					   @SuppressWarnings("unchecked")
+					   Function<long[], A> toArray = values -> (A) elements.toArray(values);
+					   return RandomIntegralGenerators.longArrays(
+						   genSize,
+						   elements.min,
+						   elements.max,
+						   elements.shrinkingTarget,
+						   elements.distribution,
+						   withEmbeddedEdgeCases ? elementEdgeCases(elements, genSize) : new long[0],
+						   minSize,
+						   maxSize,
+						   cutoffSize(genSize),
+						   toArray
+					   );
+				   });
+	}
+
+	// The same edge cases that an element generator with embedded edge cases would use
+	private long[] elementEdgeCases(LongArrayElements elements, int genSize) {
+		int maxEdgeCases = Math.max(genSize, 10);
+		return elementArbitrary.edgeCases(maxEdgeCases)
+							   .suppliers()
+							   .stream()
+							   .mapToLong(supplier -> elements.toLong(supplier.get().value()))
+							   .filter(value -> value >= elements.min && value <= elements.max)
+							   .toArray();
 	}
 
 	@Override
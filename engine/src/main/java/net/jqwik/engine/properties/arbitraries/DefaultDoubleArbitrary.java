@@ -8,7 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.engine.properties.*;
 
-public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbitrary {
+public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbitrary, LongArrayElements.Source {
 
 	private static final double DEFAULT_MIN = -Double.MAX_VALUE;
 	private static final double DEFAULT_MAX = Double.MAX_VALUE;
@@ -29,6 +29,11 @@ public class DefaultDoubleArbitrary extends TypedCloneable implements DoubleArbi
 		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigDecimal::doubleValue));
 	}
 
+	@Override
+	public Optional<LongArrayElements> longArrayElements() {
+		return generatingArbitrary.longArrayElements();
+	}
+
 	@Override
 	public EdgeCases<Double> edgeCases(int maxEdgeCases) {
 		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigDecimal::doubleValue);
@@ -13,6 +13,7 @@ public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements Fu
 	private final Class<F> functionalType;
 	private final Arbitrary<R> resultArbitrary;
 	private final List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions = new ArrayList<>();
+	private boolean memoizeResults = false;
 
 	public DefaultFunctionArbitrary(Class<F> functionalType, Arbitrary<R> resultArbitrary) {
 		this.functionalType = functionalType;
@@ -41,7 +42,7 @@ public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements Fu
 	private List<RandomGenerator<F>> createGenerators(int genSize, boolean withEmbeddedEdgeCases) {
 		ConstantFunctionGenerator<F, R> constantFunctionGenerator = createConstantFunctionGenerator(genSize, withEmbeddedEdgeCases);
 		FunctionGenerator<F, R> functionGenerator =
-				new FunctionGenerator<>(functionalType, resultArbitrary.generator(genSize, withEmbeddedEdgeCases), conditions);
+				new FunctionGenerator<>(functionalType, resultArbitrary.generator(genSize, withEmbeddedEdgeCases), conditions, memoizeResults);
 		return Arrays.asList(
 				constantFunctionGenerator,
 				functionGenerator,
@@ -63,6 +64,13 @@ public class DefaultFunctionArbitrary<F, R> extends TypedCloneable implements Fu
 		return clone;
 	}
 
+	@Override
+	public <F_ extends F> FunctionArbitrary<F_, R> memoize() {
+		DefaultFunctionArbitrary<F_, R> clone = typedClone();
+		clone.memoizeResults = true;
+		return clone;
+	}
+
 	private void addCondition(Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition) {
 		conditions.add(condition);
 	}
@@ -7,7 +7,7 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.api.arbitraries.*;
 
-public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary {
+public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerArbitrary, LongArrayElements.Source {
 
 	private static final int DEFAULT_MIN = Integer.MIN_VALUE;
 	private static final int DEFAULT_MAX = Integer.MAX_VALUE;
@@ -20,17 +20,22 @@ public class DefaultIntegerArbitrary extends TypedCloneable implements IntegerAr
 
 	@Override
 	public RandomGenerator<Integer> generator(int genSize) {
-		return generatingArbitrary.generator(genSize).map(BigInteger::intValueExact);
+		return generatingArbitrary.longGenerator(genSize).map(Math::toIntExact);
 	}
 
 	@Override
 	public Optional<ExhaustiveGenerator<Integer>> exhaustive(long maxNumberOfSamples) {
-		return generatingArbitrary.exhaustive(maxNumberOfSamples).map(generator -> generator.map(BigInteger::intValueExact));
+		return generatingArbitrary.longExhaustive(maxNumberOfSamples).map(generator -> generator.map(Math::toIntExact));
+	}
+
+	@Override
+	public Optional<LongArrayElements> longArrayElements() {
+		return Optional.of(generatingArbitrary.longArrayElements(int.class));
 	}
 
 	@Override
 	public EdgeCases<Integer> edgeCases(int maxEdgeCases) {
-		return EdgeCasesSupport.map(generatingArbitrary.edgeCases(maxEdgeCases), BigInteger::intValueExact);
+		return EdgeCasesSupport.map(generatingArbitrary.longEdgeCases(maxEdgeCases), Math::toIntExact);
 	}
 
 	@Override
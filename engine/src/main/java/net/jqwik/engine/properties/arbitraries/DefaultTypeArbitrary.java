@@ -33,6 +33,10 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 
 	@Override
 	public TypeArbitrary<T> use(Executable creator) {
+		return use(creator, true);
+	}
+
+	private TypeArbitrary<T> use(Executable creator, boolean check) {
 		if (defaultsSet) {
 			creators.clear();
 			arbitraries().clear();
@@ -41,7 +45,9 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 		if (creators.contains(creator)) {
 			return this;
 		}
-		checkCreator(creator);
+		if (check) {
+			checkCreator(creator);
+		}
 		addArbitrary(createArbitrary(creator));
 		creators.add(creator);
 		return this;
@@ -49,13 +55,10 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 
 	@Override
 	public TypeArbitrary<T> useConstructors(Predicate<? super Constructor<?>> filter) {
-		if (isAbstract(targetType)) {
-			return this;
-		}
-		Arrays.stream(targetType.getDeclaredConstructors())
-			  .filter(this::isNotRecursive)
-			  .filter(filter)
-			  .forEach(this::use);
+		// Cached constructors have already been checked
+		TypeCreators.of(targetType).constructors().stream()
+					.filter(filter)
+					.forEach(constructor -> use(constructor, false));
 		return this;
 	}
 
@@ -71,12 +74,10 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 
 	@Override
 	public TypeArbitrary<T> useFactoryMethods(Predicate<Method> filter) {
-		Arrays.stream(targetType.getDeclaredMethods())
-			  .filter(ModifierSupport::isStatic)
-			  .filter(this::hasFittingReturnType)
-			  .filter(this::isNotRecursive)
-			  .filter(filter)
-			  .forEach(this::use);
+		// Cached factory methods have already been checked
+		TypeCreators.of(targetType).factoryMethods().stream()
+					.filter(filter)
+					.forEach(method -> use(method, false));
 		return this;
 	}
 
@@ -104,20 +105,11 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 	}
 
 	private void checkReturnType(Executable creator) {
-		if (!hasFittingReturnType(creator)) {
+		if (!TypeCreators.hasFittingReturnType(creator, targetType)) {
 			throw new JqwikException(String.format("Creator %s should return type %s", creator, targetType.getName()));
 		}
 	}
 
-	private boolean hasFittingReturnType(Executable creator) {
-		TypeUsage returnType = TypeUsage.forType(creator.getAnnotatedReturnType().getType());
-		return returnType.canBeAssignedTo(TypeUsage.of(targetType));
-	}
-
-	private boolean isNotRecursive(Executable creator) {
-		return Arrays.stream(creator.getParameterTypes()).noneMatch(parameterType -> parameterType.equals(targetType));
-	}
-
 	private void checkMethod(Method method) {
 		if (!isStatic(method)) {
 			throw new JqwikException(String.format("Method %s should be static", method));
@@ -155,36 +147,16 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 				  .map(annotatedType -> Arbitraries.defaultFor(TypeUsage.forType(annotatedType.getType())))
 				  .collect(Collectors.toList());
 
-		Function<List<Object>, T> combinator = paramList -> combinator(creator).apply(paramList.toArray());
+		TypeCreators.PreparedCreator preparedCreator = TypeCreators.prepare(creator);
+		Function<List<Object>, T> combinator = paramList -> generateNext(paramList.toArray(), preparedCreator);
 		Arbitrary<T> arbitrary = Combinators.combine(parameterArbitraries).as(combinator);
 		return arbitrary.ignoreException(GenerationError.class);
 	}
 
-	private Function<Object[], T> combinator(Executable creator) {
-		if (creator instanceof Method) {
-			return combinatorForMethod((Method) creator);
-		}
-		if (creator instanceof Constructor) {
-			//noinspection unchecked
-			return combinatorForConstructor((Constructor<T>) creator);
-		}
-		throw new JqwikException(String.format("Creator %s is not supported", creator));
-	}
-
-	private Function<Object[], T> combinatorForMethod(Method method) {
-		method.setAccessible(true);
-		return params -> generateNext(params, p -> method.invoke(null, p));
-	}
-
-	private Function<Object[], T> combinatorForConstructor(Constructor<T> constructor) {
-		constructor.setAccessible(true);
-		return params -> generateNext(params, constructor::newInstance);
-	}
-
-	private T generateNext(Object[] params, Combinator combinator) {
+	private T generateNext(Object[] params, TypeCreators.PreparedCreator creator) {
 		try {
 			//noinspection unchecked
-			return (T) combinator.combine(params);
+			return (T) creator.create(params);
 		} catch (Throwable throwable) {
 			throw new GenerationError(throwable);
 		}
@@ -194,11 +166,6 @@ public class DefaultTypeArbitrary<T> extends OneOfArbitrary<T> implements TypeAr
 		return creators.size();
 	}
 
-	@FunctionalInterface
-	private interface Combinator {
-		Object combine(Object[] params) throws Throwable;
-	}
-
 	private static class GenerationError extends RuntimeException {
 		GenerationError(Throwable throwable) {
 			super(throwable);
@@ -33,6 +33,26 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return RandomGenerators.bigIntegers(min, max, shrinkingTarget(), distribution);
 	}
 
+	/**
+	 * Primitive fast path used by all integral arbitraries whose range fits into a long
+	 */
+	RandomGenerator<Long> longGenerator(int genSize) {
+		return RandomGenerators.longs(min.longValueExact(), max.longValueExact(), shrinkingTarget().longValueExact(), distribution);
+	}
+
+	/**
+	 * Only available to integral arbitraries whose range fits into a long
+	 */
+	LongArrayElements longArrayElements(Class<?> componentType) {
+		return LongArrayElements.integral(
+			componentType,
+			min.longValueExact(),
+			max.longValueExact(),
+			shrinkingTarget().longValueExact(),
+			distribution
+		);
+	}
+
 	@Override
 	public Optional<ExhaustiveGenerator<BigInteger>> exhaustive(long maxNumberOfSamples) {
 		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
@@ -45,6 +65,19 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		}
 	}
 
+	Optional<ExhaustiveGenerator<Long>> longExhaustive(long maxNumberOfSamples) {
+		BigInteger maxCount = max.subtract(min).add(BigInteger.ONE);
+
+		// Necessary because maxCount could be larger than Long.MAX_VALUE
+		if (maxCount.compareTo(valueOf(maxNumberOfSamples)) > 0) {
+			return Optional.empty();
+		} else {
+			long count = maxCount.longValueExact();
+			long first = min.longValueExact();
+			return ExhaustiveGenerators.fromIterable(() -> LongStream.range(0, count).map(i -> first + i).iterator(), count, maxNumberOfSamples);
+		}
+	}
+
 	@Override
 	public EdgeCases<BigInteger> edgeCases(int maxEdgeCases) {
 		Range<BigInteger> range = Range.of(min, max);
@@ -63,6 +96,30 @@ class IntegralGeneratingArbitrary extends TypedCloneable implements Arbitrary<Bi
 		return configuration.configure(edgeCasesConfigurator, defaultEdgeCases);
 	}
 
+	EdgeCases<Long> longEdgeCases(int maxEdgeCases) {
+		long minLong = min.longValueExact();
+		long maxLong = max.longValueExact();
+		Range<Long> range = Range.of(minLong, maxLong);
+		long shrinkingTarget = shrinkingTarget().longValueExact();
+		List<Shrinkable<Long>> shrinkables =
+			streamDefaultEdgeCases()
+				.map(value -> new ShrinkableLong(
+					value.longValueExact(),
+					range,
+					shrinkingTarget
+				))
+				.limit(maxEdgeCases)
+				.collect(Collectors.toList());
+		EdgeCases<Long> defaultEdgeCases = EdgeCasesSupport.fromShrinkables(shrinkables);
+		LongEdgeCasesConfiguration configuration = new LongEdgeCasesConfiguration(range, shrinkingTarget);
+		Consumer<EdgeCases.Config<Long>> longConfigurator = new MappedEdgeCasesConsumer<>(
+			edgeCasesConfigurator,
+			BigInteger::valueOf,
+			BigInteger::longValueExact
+		);
+		return configuration.configure(longConfigurator, defaultEdgeCases);
+	}
+
 	@Override
 	public Arbitrary<BigInteger> edgeCases(Consumer<EdgeCases.Config<BigInteger>> configurator) {
 		IntegralGeneratingArbitrary clone = typedClone();
@@ -14,12 +14,11 @@ import net.jqwik.engine.support.*;
 
 public class LazyOfArbitrary<T> implements Arbitrary<T> {
 
-	// Cached arbitraries only have to survive one property
-	private static final Store<Map<Integer, LazyOfArbitrary<?>>> cachedArbitraries = createArbitrariesStore();
-
-	private static Store<Map<Integer, LazyOfArbitrary<?>>> createArbitrariesStore() {
+	// Cached arbitraries only have to survive one property.
+	// The store is looked up for each usage so that concurrently running properties don't share arbitraries.
+	private static Store<Map<Integer, LazyOfArbitrary<?>>> cachedArbitraries() {
 		try {
-			return Store.create(Tuple.of(LazyOfShrinkable.class, "arbitraries"), Lifespan.PROPERTY, HashMap::new);
+			return Store.getOrCreate(Tuple.of(LazyOfShrinkable.class, "arbitraries"), Lifespan.PROPERTY, HashMap::new);
 		} catch (OutsideJqwikException outsideJqwikException) {
 			return Store.free(HashMap::new);
 		}
@@ -29,14 +28,20 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 		// It's important for good shrinking to work that the same arbitrary usage is handled by the same arbitrary instance
 		// TODO: Make this a generic mechanism for arbitraries that require to hold state, e.g. unique()
 		// TODO: This does not work when used outside a jqwik thread, e.g. with Arbitrary.sample()
-		LazyOfArbitrary<?> arbitrary = cachedArbitraries.get().computeIfAbsent(hashIdentifier, ignore -> new LazyOfArbitrary<>(suppliers));
+		LazyOfArbitrary<?> arbitrary = cachedArbitraries().get().computeIfAbsent(hashIdentifier, ignore -> new LazyOfArbitrary<>(suppliers));
 		//noinspection unchecked
 		return (Arbitrary<T>) arbitrary;
 	}
 
+	// Beyond this depth of nested generation only suppliers that have not yet been seen to recurse are chosen.
+	// Without a limit recursive suppliers lead to arbitrarily deep generation with a small but relevant probability.
+	private static final int MAX_GENERATION_DEPTH = 8;
+
 	private final List<Supplier<Arbitrary<T>>> suppliers;
 
 	private final Deque<Set<LazyOfShrinkable<T>>> generatedParts = new ArrayDeque<>();
+	private final Deque<Integer> indicesInGeneration = new ArrayDeque<>();
+	private final Set<Integer> recursiveIndices = new HashSet<>();
 
 	// Remember generators during the same try. That way generators with state (e.g. unique()) work as expected
 	private final Store<Map<Integer, RandomGenerator<T>>> generators = createGeneratorsStore();
@@ -56,7 +61,7 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 	@Override
 	public RandomGenerator<T> generator(int genSize) {
 		return random -> {
-			int index = random.nextInt(suppliers.size());
+			int index = chooseIndex(random);
 			long seed = random.nextLong();
 
 			Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> shrinkableAndParts = generateCurrent(genSize, index, seed);
@@ -64,6 +69,19 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 		};
 	}
 
+	private int chooseIndex(Random random) {
+		if (generatedParts.size() >= MAX_GENERATION_DEPTH) {
+			List<Integer> nonRecursiveIndices = IntStream.range(0, suppliers.size())
+														 .filter(index -> !recursiveIndices.contains(index))
+														 .boxed()
+														 .collect(Collectors.toList());
+			if (!nonRecursiveIndices.isEmpty()) {
+				return nonRecursiveIndices.get(random.nextInt(nonRecursiveIndices.size()));
+			}
+		}
+		return random.nextInt(suppliers.size());
+	}
+
 	private LazyOfShrinkable<T> createShrinkable(
 			Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> shrinkableAndParts,
 			int genSize,
@@ -92,12 +110,18 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 		return generatedParts.peekFirst();
 	}
 
-	private void pushGeneratedLevel() {
+	private void pushGeneratedLevel(int index) {
+		// Generation of the enclosing supplier has led back to this arbitrary
+		if (!indicesInGeneration.isEmpty()) {
+			recursiveIndices.add(indicesInGeneration.peekFirst());
+		}
 		generatedParts.addFirst(new HashSet<>());
+		indicesInGeneration.addFirst(index);
 	}
 
 	private void popGeneratedLevel() {
 		generatedParts.removeFirst();
+		indicesInGeneration.removeFirst();
 	}
 
 	private int depth(Set<LazyOfShrinkable<T>> parts) {
@@ -106,7 +130,7 @@ public class LazyOfArbitrary<T> implements Arbitrary<T> {
 
 	private Tuple2<Shrinkable<T>, Set<LazyOfShrinkable<T>>> generateCurrent(int genSize, int index, long seed) {
 		try {
-			pushGeneratedLevel();
+			pushGeneratedLevel(index);
 			return Tuple.of(
 					getGenerator(index, genSize).next(SourceOfRandomness.newRandom(seed)),
 					peekGenerated()
@@ -0,0 +1,122 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Elements of a primitive array that can be generated and shrunk as longs.
+ * Integral elements are their own long value, decimal elements are represented by their unscaled value.
+ *
+ * @see DefaultArrayArbitrary
+ */
+class LongArrayElements {
+
+	/**
+	 * Implemented by arbitraries whose values can fill a primitive array directly.
+	 */
+	interface Source {
+		Optional<LongArrayElements> longArrayElements();
+	}
+
+	// Powers of ten up to 10^22 are exact doubles
+	static final int MAX_SCALE = 22;
+
+	// Longs up to 2^53 are exact doubles
+	private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+	private static final double[] POWERS_OF_TEN = new double[MAX_SCALE + 1];
+
+	static {
+		POWERS_OF_TEN[0] = 1.0;
+		for (int i = 1; i <= MAX_SCALE; i++) {
+			POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+		}
+	}
+
+	private final Class<?> componentType;
+	final long min;
+	final long max;
+	final long shrinkingTarget;
+	final RandomDistribution distribution;
+	private final int scale;
+
+	static LongArrayElements integral(Class<?> componentType, long min, long max, long shrinkingTarget, RandomDistribution distribution) {
+		return new LongArrayElements(componentType, min, max, shrinkingTarget, distribution, 0);
+	}
+
+	static LongArrayElements decimal(long unscaledMin, long unscaledMax, long unscaledShrinkingTarget, int scale, RandomDistribution distribution) {
+		return new LongArrayElements(double.class, unscaledMin, unscaledMax, unscaledShrinkingTarget, distribution, scale);
+	}
+
+	private LongArrayElements(
+		Class<?> componentType,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution,
+		int scale
+	) {
+		this.componentType = componentType;
+		this.min = min;
+		this.max = max;
+		this.shrinkingTarget = shrinkingTarget;
+		this.distribution = distribution;
+		this.scale = scale;
+	}
+
+	boolean canFill(Class<?> arrayComponentType) {
+		return componentType == arrayComponentType;
+	}
+
+	long toLong(Object value) {
+		if (componentType == double.class) {
+			return BigDecimal.valueOf((Double) value).setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+		}
+		return ((Number) value).longValue();
+	}
+
+	Object toArray(long[] values) {
+		if (componentType == byte.class) {
+			byte[] array = new byte[values.length];
+			for (int i = 0; i < values.length; i++) {
+				array[i] = (byte) values[i];
+			}
+			return array;
+		}
+		if (componentType == short.class) {
+			short[] array = new short[values.length];
+			for (int i = 0; i < values.length; i++) {
+				array[i] = (short) values[i];
+			}
+			return array;
+		}
+		if (componentType == int.class) {
+			int[] array = new int[values.length];
+			for (int i = 0; i < values.length; i++) {
+				array[i] = (int) values[i];
+			}
+			return array;
+		}
+		if (componentType == long.class) {
+			return values.clone();
+		}
+		if (componentType == double.class) {
+			double[] array = new double[values.length];
+			for (int i = 0; i < values.length; i++) {
+				array[i] = toDouble(values[i]);
+			}
+			return array;
+		}
+		throw new JqwikException(String.format("Cannot fill array of type [%s[]]", componentType.getName()));
+	}
+
+	// Same result as BigDecimal.doubleValue() since both operands are exact and division is correctly rounded
+	private double toDouble(long unscaled) {
+		if (unscaled > -MAX_EXACT_DOUBLE && unscaled < MAX_EXACT_DOUBLE) {
+			return unscaled / POWERS_OF_TEN[scale];
+		}
+		return BigDecimal.valueOf(unscaled, scale).doubleValue();
+	}
+}
@@ -0,0 +1,22 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.shrinking.*;
+
+class LongEdgeCasesConfiguration extends GenericEdgeCasesConfiguration<Long> {
+
+	private final Range<Long> range;
+	private final long shrinkingTarget;
+
+	public LongEdgeCasesConfiguration(Range<Long> range, long shrinkingTarget) {
+		this.range = range;
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	@Override
+	protected Shrinkable<Long> createShrinkable(Long additionalEdgeCase) {
+		return new ShrinkableLong(additionalEdgeCase, range, shrinkingTarget);
+	}
+
+}
@@ -0,0 +1,99 @@
+package net.jqwik.engine.properties.arbitraries;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.stream.*;
+
+import org.junit.platform.commons.support.*;
+
+import net.jqwik.api.providers.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Constructors and factory methods that can create instances of a type.
+ * They are looked up once per type and shared by all type arbitraries of a test run.
+ *
+ * <p>
+ * A creator is made accessible once when it is first used and then shared as well.
+ * It is still invoked reflectively: Reflective invocation of a creator that is called over and over
+ * is compiled by the JVM and was faster than invoking a method handle that is not a constant.
+ * </p>
+ *
+ * @see DefaultTypeArbitrary
+ */
+class TypeCreators {
+
+	@FunctionalInterface
+	interface PreparedCreator {
+		Object create(Object[] params) throws Throwable;
+	}
+
+	private static final BoundedCache<Class<?>, TypeCreators> creatorsByType = ResolutionCache.newCache();
+	private static final BoundedCache<Executable, PreparedCreator> preparedCreators = ResolutionCache.newCache();
+
+	static TypeCreators of(Class<?> targetType) {
+		return creatorsByType.computeIfAbsent(targetType, TypeCreators::new);
+	}
+
+	static PreparedCreator prepare(Executable creator) {
+		return preparedCreators.computeIfAbsent(creator, TypeCreators::prepareCreator);
+	}
+
+	static boolean hasFittingReturnType(Executable creator, Class<?> targetType) {
+		TypeUsage returnType = TypeUsage.forType(creator.getAnnotatedReturnType().getType());
+		return returnType.canBeAssignedTo(TypeUsage.of(targetType));
+	}
+
+	private static boolean isNotRecursive(Executable creator, Class<?> targetType) {
+		return Arrays.stream(creator.getParameterTypes()).noneMatch(parameterType -> parameterType.equals(targetType));
+	}
+
+	private static PreparedCreator prepareCreator(Executable creator) {
+		creator.setAccessible(true);
+		if (creator instanceof Constructor) {
+			return ((Constructor<?>) creator)::newInstance;
+		}
+		Method method = (Method) creator;
+		return params -> method.invoke(null, params);
+	}
+
+	private final List<Constructor<?>> constructors;
+	private final List<Method> factoryMethods;
+
+	private TypeCreators(Class<?> targetType) {
+		this.constructors = findConstructors(targetType);
+		this.factoryMethods = findFactoryMethods(targetType);
+	}
+
+	private static List<Constructor<?>> findConstructors(Class<?> targetType) {
+		if (ModifierSupport.isAbstract(targetType)) {
+			return Collections.emptyList();
+		}
+		return Arrays.stream(targetType.getDeclaredConstructors())
+					 .filter(constructor -> isNotRecursive(constructor, targetType))
+					 .collect(Collectors.toList());
+	}
+
+	private static List<Method> findFactoryMethods(Class<?> targetType) {
+		return Arrays.stream(targetType.getDeclaredMethods())
+					 .filter(ModifierSupport::isStatic)
+					 .filter(method -> hasFittingReturnType(method, targetType))
+					 .filter(method -> isNotRecursive(method, targetType))
+					 .collect(Collectors.toList());
+	}
+
+	/**
+	 * All non recursive constructors. Empty for abstract types.
+	 */
+	List<Constructor<?>> constructors() {
+		return constructors;
+	}
+
+	/**
+	 * All non recursive static methods that return the type.
+	 */
+	List<Method> factoryMethods() {
+		return factoryMethods;
+	}
+}
@@ -7,9 +7,14 @@ import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
+
+	// Creating a handle for a default method takes much longer than invoking it
+	private static final BoundedCache<Method, MethodHandle> defaultMethodHandles = ResolutionCache.newCache();
+
 	final Class<F> functionalType;
 	final RandomGenerator<R> resultGenerator;
 	final List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions;
@@ -69,8 +74,11 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 	// Returns result wrapped in array to allow null as result
 	protected Optional<Object[]> conditionalResult(Object[] args) {
 		Optional<Object[]> conditionalResult = Optional.empty();
+		if (conditions.isEmpty()) {
+			return conditionalResult;
+		}
+		List<Object> params = Arrays.asList(args);
 		for (Tuple2<Predicate<List<Object>>, Function<List<Object>, R>> condition : conditions) {
-			List<Object> params = Arrays.asList(args);
 			if (condition.get1().test(params)) {
 				Object[] result = new Object[]{condition.get2().apply(params)};
 				conditionalResult = Optional.of(result);
@@ -86,7 +94,13 @@ abstract class AbstractFunctionGenerator<F, R> implements RandomGenerator<F> {
 	}
 
 	protected MethodHandle handleForDefaultMethod(Method method) throws Throwable {
-		return new DefaultMethodHandleFactory().create(method);
+		Optional<MethodHandle> cachedHandle = defaultMethodHandles.get(method);
+		if (cachedHandle.isPresent()) {
+			return cachedHandle.get();
+		}
+		MethodHandle handle = new DefaultMethodHandleFactory().create(method);
+		defaultMethodHandles.put(method, handle);
+		return handle;
 	}
 
 }
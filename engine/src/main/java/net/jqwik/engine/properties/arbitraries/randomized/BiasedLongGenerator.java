@@ -0,0 +1,56 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.math.*;
+import java.util.*;
+
+/**
+ * Primitive counterpart of {@linkplain BiasedNumericGenerator}.
+ * Partition points are calculated once on creation, generation itself is done on longs only.
+ */
+class BiasedLongGenerator implements LongNumericGenerator {
+
+	private final LongNumericGenerator[] partitions;
+	private final boolean partitioned;
+
+	BiasedLongGenerator(int genSize, long min, long max, long center) {
+		List<BigInteger> partitionPoints = BiasedPartitionPointsCalculator.calculatePartitionPoints(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(center)
+		);
+		partitioned = !partitionPoints.isEmpty();
+		partitions = createPartitions(min, max, partitionPoints);
+	}
+
+	@Override
+	public long next(Random random) {
+		if (!partitioned) {
+			return partitions[0].next(random);
+		}
+		return partitions[random.nextInt(partitions.length)].next(random);
+	}
+
+	private static LongNumericGenerator[] createPartitions(long min, long max, List<BigInteger> partitionPoints) {
+		if (partitionPoints.isEmpty()) {
+			return new LongNumericGenerator[]{new UniformLongGenerator(min, max)};
+		}
+		List<LongNumericGenerator> partitions = new ArrayList<>();
+		Collections.sort(partitionPoints);
+		long lower = min;
+		for (BigInteger partitionPoint : partitionPoints) {
+			long upper = partitionPoint.longValueExact();
+			if (upper <= lower) {
+				continue;
+			}
+			if (upper >= max) {
+				break;
+			}
+			partitions.add(new UniformLongGenerator(lower, upper - 1));
+			lower = upper;
+		}
+		partitions.add(new UniformLongGenerator(lower, max));
+		return partitions.toArray(new LongNumericGenerator[0]);
+	}
+
+}
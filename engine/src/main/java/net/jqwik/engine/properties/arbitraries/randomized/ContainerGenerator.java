@@ -6,8 +6,6 @@ import java.util.function.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	private final RandomGenerator<T> elementGenerator;
 	private final Function<List<Shrinkable<T>>, Shrinkable<C>> createShrinkable;
@@ -17,7 +15,7 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 
 	private Function<Random, Integer> sizeGenerator;
 
-	private static Function<Random, Integer> sizeGenerator(int minSize, int maxSize, int cutoffSize) {
+	static Function<Random, Integer> sizeGenerator(int minSize, int maxSize, int cutoffSize) {
 		if (cutoffSize >= maxSize)
 			return random -> randomSize(random, minSize, maxSize);
 		// Choose size below cutoffSize with probability of 0.9
@@ -54,10 +52,10 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 	public Shrinkable<C> next(Random random) {
 		int listSize = sizeGenerator.apply(random);
 		List<Shrinkable<T>> listOfShrinkables = new ArrayList<>();
-		List<T> existingValues = new ArrayList<>();
+		UniquenessIndex<T> uniquenessIndex = new UniquenessIndex<>(uniquenessExtractors);
 		while (listOfShrinkables.size() < listSize) {
 			try {
-				Shrinkable<T> next = nextUntilAccepted(random, existingValues, elementGenerator::next);
+				Shrinkable<T> next = nextUntilAccepted(random, uniquenessIndex, elementGenerator::next);
 				listOfShrinkables.add(next);
 			} catch (TooManyFilterMissesException tooManyFilterMissesException) {
 				// Ignore if list.size() >= minSize, because uniqueness constraints influence possible max size
@@ -73,14 +71,17 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 		return createShrinkable.apply(listOfShrinkables);
 	}
 
-	private Shrinkable<T> nextUntilAccepted(Random random, List<T> existingValues, Function<Random, Shrinkable<T>> fetchShrinkable) {
+	private Shrinkable<T> nextUntilAccepted(Random random, UniquenessIndex<T> uniquenessIndex, Function<Random, Shrinkable<T>> fetchShrinkable) {
+		if (uniquenessIndex.isEmpty()) {
+			return fetchShrinkable.apply(random);
+		}
 		Shrinkable<T> accepted = MaxTriesLoop.loop(
 				() -> true,
 				next -> {
 					next = fetchShrinkable.apply(random);
 					T value = next.value();
-					if (checkUniqueness(existingValues, value)) {
-						existingValues.add(value);
+					if (uniquenessIndex.canAdd(value)) {
+						uniquenessIndex.add(value);
 						return Tuple.of(true, next);
 					}
 					return Tuple.of(false, next);
@@ -93,8 +94,4 @@ class ContainerGenerator<T, C> implements RandomGenerator<C> {
 		return accepted;
 	}
 
-	private boolean checkUniqueness(List<T> elements, T value) {
-		return checkValueUniqueIn(uniquenessExtractors, value, elements);
-	}
-
 }
@@ -6,14 +6,18 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.shrinking.*;
 import net.jqwik.engine.support.*;
 
+/**
+ * Chooses values by binary search in the cumulated frequencies.
+ * A draw takes logarithmic time in the number of values.
+ */
 public class FrequencyGenerator<T> implements RandomGenerator<T> {
 
-	private final Map<T, Integer> upperBorders = new HashMap<>();
+	private final List<T> valuesToChooseFrom = new ArrayList<>();
+	private final int[] upperBorders;
 	private int size = 0;
-	private List<T> valuesToChooseFrom;
 
 	FrequencyGenerator(List<Tuple.Tuple2<Integer, T>> frequencies) {
-		calculateUpperBorders(frequencies);
+		this.upperBorders = calculateUpperBorders(frequencies);
 		if (size <= 0) {
 			throw new JqwikException(String.format(
 				"%s does not contain any positive frequencies.",
@@ -22,33 +26,27 @@ public class FrequencyGenerator<T> implements RandomGenerator<T> {
 		}
 	}
 
-	private void calculateUpperBorders(List<Tuple.Tuple2<Integer, T>> frequencies) {
-		List<T> values = new ArrayList<>();
+	private int[] calculateUpperBorders(List<Tuple.Tuple2<Integer, T>> frequencies) {
+		int[] borders = new int[frequencies.size()];
+		int count = 0;
 		for (Tuple.Tuple2<Integer, T> tuple : frequencies) {
 			int frequency = tuple.get1();
 			if (frequency <= 0)
 				continue;
 			size += frequency;
-			T value = tuple.get2();
-			values.add(value);
-			upperBorders.put(value, size);
+			valuesToChooseFrom.add(tuple.get2());
+			borders[count++] = size;
 		}
-		valuesToChooseFrom = values;
+		return Arrays.copyOf(borders, count);
 	}
 
+	// The chosen value is the first one whose upper border is above index
 	private T choose(int index) {
-		T currentChoice = null;
-		for (T key : upperBorders.keySet()) {
-			int upper = upperBorders.get(key);
-			if (upper > index) {
-				if (currentChoice == null) {
-					currentChoice = key;
-				} else if (upper < upperBorders.get(currentChoice)) {
-					currentChoice = key;
-				}
-			}
+		int position = Arrays.binarySearch(upperBorders, index + 1);
+		if (position < 0) {
+			position = -position - 1;
 		}
-		return currentChoice;
+		return valuesToChooseFrom.get(position);
 	}
 
 	@Override
@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
@@ -14,13 +15,24 @@ import net.jqwik.engine.support.*;
 public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	private final AtomicReference<Shrinkable<R>> lastResult = new AtomicReference<>();
+	private final boolean memoizeResults;
 
 	public FunctionGenerator(
 		Class<F> functionalType,
 		RandomGenerator<R> resultGenerator,
 		List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions
+	) {
+		this(functionalType, resultGenerator, conditions, false);
+	}
+
+	public FunctionGenerator(
+		Class<F> functionalType,
+		RandomGenerator<R> resultGenerator,
+		List<Tuple2<Predicate<List<Object>>, Function<List<Object>, R>>> conditions,
+		boolean memoizeResults
 	) {
 		super(functionalType, resultGenerator, conditions);
+		this.memoizeResults = memoizeResults;
 	}
 
 	@Override
@@ -30,6 +42,7 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 
 	private F createFunction(Random random) {
 		long baseSeed = random.nextLong();
+		Map<List<Object>, Tuple2<Shrinkable<R>, Object[]>> results = memoizeResults ? new ConcurrentHashMap<>() : null;
 		InvocationHandler handler = (proxy, method, args) -> {
 			if (JqwikReflectionSupport.isEqualsMethod(method)) {
 				return handleEqualsMethod(proxy, args);
@@ -44,8 +57,10 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 				return handleDefaultMethod(proxy, method, args);
 			}
 			return conditionalResult(args).orElseGet(() -> {
-				Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
-				Shrinkable<R> shrinkableResult = resultGenerator.next(randomForArgs);
+				if (results != null) {
+					return memoizedResult(results, baseSeed, args);
+				}
+				Shrinkable<R> shrinkableResult = generateResult(baseSeed, args);
 				storeLastResult(shrinkableResult);
 				return new Object[]{shrinkableResult.value()};
 			})[0];
@@ -53,6 +68,26 @@ public class FunctionGenerator<F, R> extends AbstractFunctionGenerator<F, R> {
 		return createFunctionProxy(handler);
 	}
 
+	private Shrinkable<R> generateResult(long baseSeed, Object[] args) {
+		Random randomForArgs = SourceOfRandomness.newRandom(seedForArgs(baseSeed, args));
+		return resultGenerator.next(randomForArgs);
+	}
+
+	// The proxy hands over a new array for each call, which can therefore be kept as key.
+	// The value is kept too since a shrinkable can create a new value each time.
+	private Object[] memoizedResult(Map<List<Object>, Tuple2<Shrinkable<R>, Object[]>> results, long baseSeed, Object[] args) {
+		List<Object> key = args == null ? Collections.emptyList() : Arrays.asList(args);
+		Tuple2<Shrinkable<R>, Object[]> result = results.get(key);
+		if (result == null) {
+			Shrinkable<R> shrinkableResult = generateResult(baseSeed, args);
+			Tuple2<Shrinkable<R>, Object[]> generatedResult = Tuple.of(shrinkableResult, new Object[]{shrinkableResult.value()});
+			Tuple2<Shrinkable<R>, Object[]> concurrentResult = results.putIfAbsent(key, generatedResult);
+			result = concurrentResult != null ? concurrentResult : generatedResult;
+		}
+		storeLastResult(result.get1());
+		return result.get2();
+	}
+
 	private int handleHashCode(final int baseSeed) {
 		return baseSeed;
 	}
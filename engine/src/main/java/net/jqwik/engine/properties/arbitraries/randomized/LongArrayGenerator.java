@@ -0,0 +1,51 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * Primitive counterpart of {@linkplain ContainerGenerator} that fills a {@code long[]} directly
+ * instead of creating a {@linkplain Shrinkable} for every element.
+ */
+class LongArrayGenerator<A> implements RandomGenerator<A> {
+	private final LongNumericGenerator elementGenerator;
+	private final long[] edgeCases;
+	private final int baseToEdgeCaseRatio;
+	private final Function<Random, Integer> sizeGenerator;
+	private final Function<long[], Shrinkable<A>> createShrinkable;
+
+	LongArrayGenerator(
+		LongNumericGenerator elementGenerator,
+		long[] edgeCases,
+		int baseToEdgeCaseRatio,
+		int minSize,
+		int maxSize,
+		int cutoffSize,
+		Function<long[], Shrinkable<A>> createShrinkable
+	) {
+		this.elementGenerator = elementGenerator;
+		this.edgeCases = edgeCases;
+		this.baseToEdgeCaseRatio = baseToEdgeCaseRatio;
+		this.sizeGenerator = ContainerGenerator.sizeGenerator(minSize, maxSize, cutoffSize);
+		this.createShrinkable = createShrinkable;
+	}
+
+	@Override
+	public Shrinkable<A> next(Random random) {
+		long[] values = new long[sizeGenerator.apply(random)];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = nextElement(random);
+		}
+		return createShrinkable.apply(values);
+	}
+
+	// Same mix of edge cases as an element generator with embedded edge cases
+	private long nextElement(Random random) {
+		if (edgeCases.length > 0 && random.nextInt(baseToEdgeCaseRatio) == 0) {
+			return edgeCases[random.nextInt(edgeCases.length)];
+		}
+		return elementGenerator.next(random);
+	}
+}
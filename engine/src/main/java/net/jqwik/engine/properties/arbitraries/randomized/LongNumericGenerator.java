@@ -0,0 +1,14 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Primitive counterpart of {@linkplain net.jqwik.api.RandomDistribution.RandomNumericGenerator}
+ * that avoids creating a {@linkplain java.math.BigInteger} for every generated value.
+ */
+@FunctionalInterface
+interface LongNumericGenerator {
+
+	long next(Random random);
+
+}
@@ -46,14 +46,21 @@ public class RandomGenerators {
 	}
 
 	public static RandomGenerator<Integer> integers(int min, int max) {
-		BigInteger minBig = BigInteger.valueOf(min);
-		BigInteger maxBig = BigInteger.valueOf(max);
-		return bigIntegers(
-				minBig,
-				maxBig,
-				RandomIntegralGenerators.defaultShrinkingTarget(Range.of(minBig, maxBig)),
+		return longs(
+				min,
+				max,
+				RandomIntegralGenerators.defaultShrinkingTarget(min, max),
 				RandomDistribution.uniform()
-		).map(BigInteger::intValueExact);
+		).map(Math::toIntExact);
+	}
+
+	public static RandomGenerator<Long> longs(
+			long min,
+			long max,
+			long shrinkingTarget,
+			RandomDistribution distribution
+	) {
+		return RandomIntegralGenerators.longs(1000, min, max, shrinkingTarget, distribution);
 	}
 
 	public static RandomGenerator<BigInteger> bigIntegers(
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.arbitraries.randomized;
 
 import java.math.*;
+import java.util.function.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.RandomDistribution.*;
@@ -37,7 +38,100 @@ public class RandomIntegralGenerators {
 		};
 	}
 
-	private static void checkTargetInRange(Range<BigInteger> range, BigInteger value) {
+	/**
+	 * Primitive fast path for all integral ranges that fit into a long.
+	 * Uses the same randomness as {@linkplain #bigIntegers(int, BigInteger, BigInteger, BigInteger, RandomDistribution)}
+	 * for the built-in distributions but neither creates nor shrinks through BigInteger instances.
+	 */
+	public static RandomGenerator<Long> longs(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		Range<Long> range = Range.of(min, max);
+
+		checkTargetInRange(range, shrinkingTarget);
+
+		if (range.isSingular()) {
+			return ignored -> Shrinkable.unshrinkable(min);
+		}
+
+		LongNumericGenerator numericGenerator = createLongGenerator(genSize, min, max, shrinkingTarget, distribution);
+
+		return random -> {
+			long value = numericGenerator.next(random);
+			return new ShrinkableLong(
+				value,
+				range,
+				shrinkingTarget
+			);
+		};
+	}
+
+	/**
+	 * Arrays of primitive numbers whose elements are generated and shrunk as longs.
+	 *
+	 * @param edgeCases Element values that are mixed in like embedded edge cases; empty for none
+	 * @param toArray   Creates the array from the generated values
+	 */
+	public static <A> RandomGenerator<A> longArrays(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution,
+		long[] edgeCases,
+		int minSize,
+		int maxSize,
+		int cutoffSize,
+		Function<long[], A> toArray
+	) {
+		Range<Long> range = Range.of(min, max);
+
+		checkTargetInRange(range, shrinkingTarget);
+
+		LongNumericGenerator numericGenerator =
+			range.isSingular()
+				? ignored -> min
+				: createLongGenerator(genSize, min, max, shrinkingTarget, distribution);
+
+		return new LongArrayGenerator<>(
+			numericGenerator,
+			edgeCases,
+			EdgeCasesGenerator.calculateBaseToEdgeCaseRatio(genSize, Math.max(edgeCases.length, 1)),
+			minSize,
+			maxSize,
+			cutoffSize,
+			values -> new ShrinkableLongArray<>(values, range, shrinkingTarget, minSize, toArray)
+		);
+	}
+
+	private static LongNumericGenerator createLongGenerator(
+		int genSize,
+		long min,
+		long max,
+		long shrinkingTarget,
+		RandomDistribution distribution
+	) {
+		if (distribution instanceof BiasedRandomDistribution) {
+			return new BiasedLongGenerator(genSize, min, max, shrinkingTarget);
+		}
+		if (distribution instanceof UniformRandomDistribution) {
+			return new UniformLongGenerator(min, max);
+		}
+		// Other distributions - e.g. gaussian or user defined ones - can only generate BigIntegers
+		RandomNumericGenerator bigIntegerGenerator = distribution.createGenerator(
+			genSize,
+			BigInteger.valueOf(min),
+			BigInteger.valueOf(max),
+			BigInteger.valueOf(shrinkingTarget)
+		);
+		return random -> bigIntegerGenerator.next(random).longValueExact();
+	}
+
+	private static <T extends Comparable<T>> void checkTargetInRange(Range<T> range, T value) {
 		if (!range.includes(value)) {
 			String message = String.format("Shrinking target <%s> is outside allowed range %s", value, range);
 			throw new JqwikException(message);
@@ -52,4 +146,12 @@ public class RandomIntegralGenerators {
 		if (range.min.compareTo(BigInteger.ZERO) > 0) return range.min;
 		throw new RuntimeException("This should not be possible");
 	}
+
+	public static long defaultShrinkingTarget(long min, long max) {
+		if (min <= 0 && max >= 0) {
+			return 0L;
+		}
+		if (max < 0) return max;
+		return min;
+	}
 }
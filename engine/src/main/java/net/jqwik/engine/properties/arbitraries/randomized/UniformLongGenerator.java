@@ -0,0 +1,66 @@
+package net.jqwik.engine.properties.arbitraries.randomized;
+
+import java.util.*;
+
+/**
+ * Consumes randomness in the same way as {@linkplain SmallUniformNumericGenerator}
+ * and {@linkplain BigUniformNumericGenerator} so that a given seed produces the same values.
+ */
+class UniformLongGenerator implements LongNumericGenerator {
+
+	private final long min;
+	private final long max;
+
+	// Both are interpreted as unsigned because max - min can exceed Long.MAX_VALUE
+	private final long range;
+	private final int bits;
+
+	private final boolean small;
+
+	UniformLongGenerator(long min, long max) {
+		this.min = min;
+		this.max = max;
+		this.range = max - min;
+		this.bits = Long.SIZE - Long.numberOfLeadingZeros(range);
+		this.small = isWithinIntegerRange(min, max) && range < Integer.MAX_VALUE;
+	}
+
+	private static boolean isWithinIntegerRange(long min, long max) {
+		return min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE;
+	}
+
+	@Override
+	public long next(Random random) {
+		if (small) {
+			return random.nextInt((int) range + 1) + min;
+		}
+		while (true) {
+			long rawValue = nextUnsignedBits(random);
+			if (Long.compareUnsigned(rawValue, range) <= 0) {
+				return min + rawValue;
+			}
+		}
+	}
+
+	// Same algorithm as BigInteger(int numBits, Random rnd)
+	private long nextUnsignedBits(Random random) {
+		int numBytes = (bits + 7) / 8;
+		if (numBytes == 0) {
+			return 0L;
+		}
+		byte[] randomBytes = new byte[numBytes];
+		random.nextBytes(randomBytes);
+		int excessBits = 8 * numBytes - bits;
+		randomBytes[0] &= (1 << (8 - excessBits)) - 1;
+		long value = 0L;
+		for (byte randomByte : randomBytes) {
+			value = (value << 8) | (randomByte & 0xFF);
+		}
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("UniformLongGenerator[%s..%s]", min, max);
+	}
+}
@@ -8,6 +8,7 @@ import net.jqwik.api.*;
 import net.jqwik.api.Tuple.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.*;
+import net.jqwik.engine.telemetry.*;
 
 abstract class AbstractSampleShrinker {
 
@@ -15,10 +16,15 @@ abstract class AbstractSampleShrinker {
 		return ShrinkingDistance.forCollection(shrinkables);
 	}
 
-	private final Map<List<Object>, TryExecutionResult> falsificationCache;
+	private final FalsificationCache falsificationCache;
+	private final ParallelFalsifier parallelFalsifier;
 
-	public AbstractSampleShrinker(Map<List<Object>, TryExecutionResult> falsificationCache) {
+	/**
+	 * @param parallelFalsifier Use {@code null} to evaluate shrinking candidates one after the other
+	 */
+	public AbstractSampleShrinker(FalsificationCache falsificationCache, ParallelFalsifier parallelFalsifier) {
 		this.falsificationCache = falsificationCache;
+		this.parallelFalsifier = parallelFalsifier;
 	}
 
 	public abstract FalsifiedSample shrink(
@@ -38,29 +44,27 @@ abstract class AbstractSampleShrinker {
 		List<Shrinkable<Object>> currentShrinkBase = sample.shrinkables();
 		Optional<FalsifiedSample> bestResult = Optional.empty();
 		FilteredResults filteredResults = new FilteredResults();
+		int countSteps = 0;
 
 		while (true) {
 			ShrinkingDistance currentDistance = calculateDistance(currentShrinkBase);
 
 			FalsifiedSample currentBest = bestResult.orElse(null);
 
-			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+			Object stepEvent = FlightRecorderEvents.shrinkingStepStarted();
+			int[] countCandidates = {0};
+			Stream<List<Shrinkable<Object>>> candidates =
 				supplyShrinkCandidates.apply(currentShrinkBase)
-								 .peek(ignore -> shrinkAttemptConsumer.accept(currentBest))
-								 .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0)
-								 .map(shrinkables -> {
-									 List<Object> params = createValues(shrinkables).collect(Collectors.toList());
-									 TryExecutionResult result = falsify(falsifier, params);
-									 return Tuple.of(params, shrinkables, result);
-								 })
-								 .peek(t -> {
-									 // Remember best 10 invalid results in case no  falsified shrink is found
-									 if (t.get3().isInvalid() && calculateDistance(t.get2()).compareTo(currentDistance) < 0) {
-										 filteredResults.push(t);
-									 }
-								 })
-								 .filter(t -> t.get3().isFalsified())
-								 .findAny();
+									  .peek(ignore -> {
+										  countCandidates[0]++;
+										  shrinkAttemptConsumer.accept(currentBest);
+									  })
+									  .filter(shrinkables -> calculateDistance(shrinkables).compareTo(currentDistance) <= 0);
+
+			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> newShrinkingResult =
+				parallelFalsifier == null
+					? findFirstFalsified(falsifier, candidates, currentDistance, filteredResults)
+					: findBestFalsifiedInBatches(falsifier, candidates, currentDistance, filteredResults);
 
 			if (newShrinkingResult.isPresent()) {
 				Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> falsifiedTry = newShrinkingResult.get();
@@ -69,6 +73,11 @@ abstract class AbstractSampleShrinker {
 					falsifiedTry.get2(),
 					falsifiedTry.get3().throwable()
 				);
+				countSteps++;
+				if (stepEvent != null) {
+					String distance = calculateDistance(falsifiedTry.get2()).toString();
+					FlightRecorderEvents.shrinkingStepFinished(stepEvent, countSteps, countCandidates[0], distance);
+				}
 				shrinkSampleConsumer.accept(falsifiedSample);
 				bestResult = Optional.of(falsifiedSample);
 				currentShrinkBase = falsifiedTry.get2();
@@ -84,9 +93,95 @@ abstract class AbstractSampleShrinker {
 		return bestResult.orElse(sample);
 	}
 
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> findFirstFalsified(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		return candidates
+				   .map(shrinkables -> {
+					   List<Object> params = createValues(shrinkables).collect(Collectors.toList());
+					   TryExecutionResult result = falsify(falsifier, params);
+					   return Tuple.of(params, shrinkables, result);
+				   })
+				   .peek(t -> rememberInvalidResult(t, currentDistance, filteredResults))
+				   .filter(t -> t.get3().isFalsified())
+				   .findAny();
+	}
+
+	// Candidates are evaluated in batches and the falsified candidate with the smallest distance wins.
+	// Ties are resolved by the order of candidates, which keeps shrinking deterministic.
+	private Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> findBestFalsifiedInBatches(
+		Falsifier<List<Object>> falsifier,
+		Stream<List<Shrinkable<Object>>> candidates,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		Iterator<List<Shrinkable<Object>>> iterator = candidates.iterator();
+		while (iterator.hasNext()) {
+			List<List<Shrinkable<Object>>> batch = new ArrayList<>();
+			while (iterator.hasNext() && batch.size() < parallelFalsifier.batchSize()) {
+				batch.add(iterator.next());
+			}
+			List<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> results = falsifyBatch(falsifier, batch);
+			results.forEach(t -> rememberInvalidResult(t, currentDistance, filteredResults));
+			Optional<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> best =
+				results.stream()
+					   .filter(t -> t.get3().isFalsified())
+					   .min(Comparator.comparing(t -> calculateDistance(t.get2())));
+			if (best.isPresent()) {
+				return best;
+			}
+		}
+		return Optional.empty();
+	}
+
+	private List<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> falsifyBatch(
+		Falsifier<List<Object>> falsifier,
+		List<List<Shrinkable<Object>>> batch
+	) {
+		List<List<Object>> paramsBatch = batch.stream()
+											  .map(shrinkables -> createValues(shrinkables).collect(Collectors.toList()))
+											  .collect(Collectors.toList());
+		Map<List<Object>, TryExecutionResult> batchResults = new HashMap<>();
+		List<List<Object>> uncachedParams = new ArrayList<>();
+		for (List<Object> params : new LinkedHashSet<>(paramsBatch)) {
+			Optional<TryExecutionResult> cachedResult = falsificationCache.get(params);
+			if (cachedResult.isPresent()) {
+				batchResults.put(params, cachedResult.get());
+			} else {
+				uncachedParams.add(params);
+			}
+		}
+		List<TryExecutionResult> uncachedResults = parallelFalsifier.falsifyAll(falsifier, uncachedParams);
+		for (int i = 0; i < uncachedParams.size(); i++) {
+			falsificationCache.put(uncachedParams.get(i), uncachedResults.get(i));
+			batchResults.put(uncachedParams.get(i), uncachedResults.get(i));
+		}
+
+		List<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> results = new ArrayList<>();
+		for (int i = 0; i < batch.size(); i++) {
+			List<Object> params = paramsBatch.get(i);
+			results.add(Tuple.of(params, batch.get(i), batchResults.get(params)));
+		}
+		return results;
+	}
+
+	private void rememberInvalidResult(
+		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result,
+		ShrinkingDistance currentDistance,
+		FilteredResults filteredResults
+	) {
+		// Remember best 10 invalid results in case no  falsified shrink is found
+		if (result.get3().isInvalid() && calculateDistance(result.get2()).compareTo(currentDistance) < 0) {
+			filteredResults.push(result);
+		}
+	}
+
 	private TryExecutionResult falsify(Falsifier<List<Object>> falsifier, List<Object> params) {
 		// I wonder in which cases this is really an optimization
-		return falsificationCache.computeIfAbsent(params, p -> falsifier.execute(params));
+		return falsificationCache.computeIfAbsent(params, falsifier::execute);
 	}
 
 	private Stream<Object> createValues(List<Shrinkable<Object>> shrinkables) {
@@ -102,10 +197,11 @@ abstract class AbstractSampleShrinker {
 
 		PriorityQueue<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> prioritizedResults = new PriorityQueue<>(resultComparator);
 
-		Set<Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult>> removedResults = new HashSet<>();
+		// Results are identified by their parameters since evicted results are executed again
+		Set<List<Object>> removedParams = new HashSet<>();
 
 		void push(Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result) {
-			if (removedResults.contains(result)) {
+			if (removedParams.contains(result.get1())) {
 				return;
 			}
 			prioritizedResults.add(result);
@@ -125,13 +221,13 @@ abstract class AbstractSampleShrinker {
 		Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> pop() {
 			Tuple3<List<Object>, List<Shrinkable<Object>>, TryExecutionResult> result = prioritizedResults.peek();
 			prioritizedResults.remove(result);
-			removedResults.add(result);
+			removedParams.add(result.get1());
 			return result;
 		}
 
 		public void clear() {
 			prioritizedResults.clear();
-			removedResults.clear();
+			removedParams.clear();
 		}
 	}
 }
@@ -10,14 +10,23 @@ import net.jqwik.engine.support.*;
 public class CombinedShrinkable<T> implements Shrinkable<T> {
 	private final List<Shrinkable<Object>> parts;
 	private final Function<List<Object>, T> combinator;
+	private final MemoizedValue<T> memoizedValue;
 
 	public CombinedShrinkable(List<Shrinkable<Object>> parts, Function<List<Object>, T> combinator) {
+		this(parts, combinator, ValueMemoization.isEnabled());
+	}
+
+	private CombinedShrinkable(List<Shrinkable<Object>> parts, Function<List<Object>, T> combinator, boolean memoizeValue) {
 		this.parts = parts;
 		this.combinator = combinator;
+		this.memoizedValue = MemoizedValue.ifEnabled(memoizeValue);
 	}
 
 	@Override
 	public T value() {
+		if (memoizedValue != null) {
+			return memoizedValue.get(() -> createValue(parts));
+		}
 		return createValue(parts);
 	}
 
@@ -42,7 +51,7 @@ public class CombinedShrinkable<T> implements Shrinkable<T> {
 			Stream<Shrinkable<T>> shrinkElement = part.shrink().flatMap(shrunkElement -> {
 				List<Shrinkable<Object>> partsCopy = new ArrayList<>(parts);
 				partsCopy.set(index, shrunkElement);
-				return Stream.of(new CombinedShrinkable<>(partsCopy, combinator));
+				return Stream.of(new CombinedShrinkable<>(partsCopy, combinator, memoizedValue != null));
 			});
 			shrinkPerPartStreams.add(shrinkElement);
 		}
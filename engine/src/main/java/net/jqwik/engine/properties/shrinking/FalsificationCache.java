@@ -0,0 +1,284 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.lang.reflect.*;
+import java.math.*;
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Remembers the results of falsifying shrinking candidates so that candidates
+ * which come up again during shrinking need not be executed a second time.
+ *
+ * <p>
+ * The number of remembered results is bounded; the least recently used entry is evicted first.
+ * With fingerprints switched on the cache keeps only a 128 bit hash of the parameters
+ * instead of the parameters themselves. This saves memory for large samples
+ * at the price of a tiny chance of two different samples sharing a fingerprint.
+ * Parameters containing values of types that cannot be hashed structurally are kept as they are.
+ * </p>
+ */
+public class FalsificationCache {
+
+	public static final int DEFAULT_MAX_SIZE = 1000;
+
+	private final boolean useFingerprints;
+	private final Map<Object, TryExecutionResult> results;
+
+	private int hits = 0;
+	private int misses = 0;
+
+	public FalsificationCache() {
+		this(DEFAULT_MAX_SIZE, false);
+	}
+
+	/**
+	 * @param maxSize         The maximum number of results to remember. {@code 0} switches caching off.
+	 * @param useFingerprints Remember only fingerprints of parameters instead of the parameters
+	 */
+	public FalsificationCache(int maxSize, boolean useFingerprints) {
+		if (maxSize < 0) {
+			throw new JqwikException(String.format("Falsification cache size must not be negative but was %s", maxSize));
+		}
+		this.useFingerprints = useFingerprints;
+		this.results = new LinkedHashMap<Object, TryExecutionResult>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, TryExecutionResult> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public synchronized Optional<TryExecutionResult> get(List<Object> params) {
+		TryExecutionResult result = results.get(keyFor(params));
+		if (result == null) {
+			misses++;
+		} else {
+			hits++;
+		}
+		return Optional.ofNullable(result);
+	}
+
+	public synchronized void put(List<Object> params, TryExecutionResult result) {
+		results.put(keyFor(params), result);
+	}
+
+	public TryExecutionResult computeIfAbsent(List<Object> params, Function<List<Object>, TryExecutionResult> falsify) {
+		Optional<TryExecutionResult> cachedResult = get(params);
+		if (cachedResult.isPresent()) {
+			return cachedResult.get();
+		}
+		TryExecutionResult result = falsify.apply(params);
+		put(params, result);
+		return result;
+	}
+
+	public synchronized int size() {
+		return results.size();
+	}
+
+	public synchronized int hits() {
+		return hits;
+	}
+
+	public synchronized int misses() {
+		return misses;
+	}
+
+	private Object keyFor(List<Object> params) {
+		if (useFingerprints) {
+			Optional<Fingerprint> fingerprint = Fingerprint.of(params);
+			if (fingerprint.isPresent()) {
+				return fingerprint.get();
+			}
+		}
+		return params;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return String.format("FalsificationCache<size=%s, hits=%s, misses=%s>", results.size(), hits, misses);
+	}
+
+	static class Fingerprint {
+
+		private static final long NULL_TAG = 0x6a09e667f3bcc908L;
+		private static final long LIST_TAG = 0xbb67ae8584caa73bL;
+		private static final long COLLECTION_TAG = 0x3c6ef372fe94f82bL;
+		private static final long MAP_TAG = 0xa54ff53a5f1d36f1L;
+		private static final long ARRAY_TAG = 0x510e527fade682d1L;
+		private static final long STRING_TAG = 0x9b05688c2b3e6c1fL;
+		private static final long TUPLE_TAG = 0xcbbb9d5dc1059ed8L;
+		private static final long OPTIONAL_TAG = 0x629a292a367cd507L;
+		private static final long BIG_INTEGER_TAG = 0x9159015a3070dd17L;
+		private static final long BIG_DECIMAL_TAG = 0x152fecd8f70e5939L;
+
+		/**
+		 * @return empty if {@code value} contains a value whose type cannot be hashed structurally
+		 */
+		static Optional<Fingerprint> of(Object value) {
+			Fingerprint fingerprint = new Fingerprint();
+			if (!fingerprint.add(value)) {
+				return Optional.empty();
+			}
+			return Optional.of(fingerprint);
+		}
+
+		private long high = 0x1f83d9abfb41bd6bL;
+		private long low = 0x5be0cd19137e2179L;
+
+		private Fingerprint() {
+		}
+
+		// Two independent 64 bit mixes give a 128 bit fingerprint
+		private void addLong(long value) {
+			high = mixStafford(high ^ value);
+			low = mixMurmur(low + value * 0x9e3779b97f4a7c15L);
+		}
+
+		private boolean add(Object value) {
+			if (value == null) {
+				addLong(NULL_TAG);
+				return true;
+			}
+			if (value instanceof List) {
+				addLong(LIST_TAG);
+				return addAll((Collection<?>) value);
+			}
+			if (value instanceof Collection) {
+				addLong(COLLECTION_TAG);
+				return addAll((Collection<?>) value);
+			}
+			if (value instanceof Map) {
+				addLong(MAP_TAG);
+				Map<?, ?> map = (Map<?, ?>) value;
+				addLong(map.size());
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					if (!add(entry.getKey()) || !add(entry.getValue())) {
+						return false;
+					}
+				}
+				return true;
+			}
+			if (value instanceof Tuple) {
+				addLong(TUPLE_TAG);
+				return addAll(((Tuple) value).items());
+			}
+			if (value instanceof Optional) {
+				addLong(OPTIONAL_TAG);
+				return add(((Optional<?>) value).orElse(null));
+			}
+			if (value.getClass().isArray()) {
+				addLong(ARRAY_TAG);
+				addString(value.getClass().getName());
+				int length = Array.getLength(value);
+				addLong(length);
+				for (int i = 0; i < length; i++) {
+					if (!add(Array.get(value, i))) {
+						return false;
+					}
+				}
+				return true;
+			}
+			if (value instanceof String) {
+				addLong(STRING_TAG);
+				addString((String) value);
+				return true;
+			}
+			if (value instanceof BigInteger) {
+				addLong(BIG_INTEGER_TAG);
+				addBytes(((BigInteger) value).toByteArray());
+				return true;
+			}
+			if (value instanceof BigDecimal) {
+				addLong(BIG_DECIMAL_TAG);
+				BigDecimal bigDecimal = (BigDecimal) value;
+				addLong(bigDecimal.scale());
+				addBytes(bigDecimal.unscaledValue().toByteArray());
+				return true;
+			}
+			if (value instanceof Enum) {
+				addString(((Enum<?>) value).getDeclaringClass().getName());
+				addLong(((Enum<?>) value).ordinal());
+				return true;
+			}
+			if (isPrimitiveWrapper(value)) {
+				addString(value.getClass().getName());
+				addLong(primitiveBits(value));
+				return true;
+			}
+			// Hash codes of other types may collide for different values, e.g. those of tuples or records
+			return false;
+		}
+
+		private boolean addAll(Collection<?> collection) {
+			addLong(collection.size());
+			for (Object element : collection) {
+				if (!add(element)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void addString(String string) {
+			addLong(string.length());
+			for (int i = 0; i < string.length(); i++) {
+				addLong(string.charAt(i));
+			}
+		}
+
+		private void addBytes(byte[] bytes) {
+			addLong(bytes.length);
+			for (byte b : bytes) {
+				addLong(b);
+			}
+		}
+
+		private static boolean isPrimitiveWrapper(Object value) {
+			return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+					   || value instanceof Double || value instanceof Float
+					   || value instanceof Character || value instanceof Boolean;
+		}
+
+		private static long primitiveBits(Object value) {
+			if (value instanceof Double || value instanceof Float) {
+				return Double.doubleToLongBits(((Number) value).doubleValue());
+			}
+			if (value instanceof Character) {
+				return (Character) value;
+			}
+			if (value instanceof Boolean) {
+				return ((Boolean) value) ? 1 : 0;
+			}
+			return ((Number) value).longValue();
+		}
+
+		private static long mixStafford(long z) {
+			z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+			z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+			return z ^ (z >>> 31);
+		}
+
+		private static long mixMurmur(long z) {
+			z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+			z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+			return z ^ (z >>> 33);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (o == null || getClass() != o.getClass()) return false;
+			Fingerprint that = (Fingerprint) o;
+			return high == that.high && low == that.low;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (high ^ (high >>> 32));
+		}
+	}
+}
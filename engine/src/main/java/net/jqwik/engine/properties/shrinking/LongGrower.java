@@ -0,0 +1,80 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+
+class LongGrower {
+
+	Optional<Shrinkable<Long>> grow(
+		long value,
+		Range<Long> range,
+		long shrinkingTarget,
+		Shrinkable<?> before,
+		Shrinkable<?> after
+	) {
+		Object beforeValue = before.value();
+		Object afterValue = after.value();
+		BigInteger diff = calculateDiff(beforeValue, afterValue);
+		if (diff.compareTo(BigInteger.ZERO) != 0) {
+			BigInteger grownValue = BigInteger.valueOf(value).add(diff);
+			if (grownValue.bitLength() < 64 && range.includes(grownValue.longValue())) {
+				return Optional.of(new ShrinkableLong(grownValue.longValue(), range, shrinkingTarget));
+			}
+		}
+		return Optional.empty();
+	}
+
+	private BigInteger calculateDiff(Object beforeValue, Object afterValue) {
+		if (beforeValue instanceof BigInteger && afterValue instanceof BigInteger) {
+			return ((BigInteger) beforeValue).subtract((BigInteger) afterValue);
+		}
+		return BigInteger.valueOf(toLong(beforeValue)).subtract(BigInteger.valueOf(toLong(afterValue)));
+	}
+
+	private long toLong(Object value) {
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		}
+		return 0L;
+	}
+
+	Stream<Shrinkable<Long>> grow(long value, Range<Long> range, long shrinkingTarget) {
+		if (value < shrinkingTarget) {
+			return growLeft(value, range, shrinkingTarget);
+		} else {
+			return growRight(value, range, shrinkingTarget);
+		}
+	}
+
+	private Stream<Shrinkable<Long>> growRight(long value, Range<Long> range, long shrinkingTarget) {
+		LongStream.Builder candidates = LongStream.builder();
+		if (value < Long.MAX_VALUE) {
+			candidates.add(value + 1);
+		}
+		if (value <= Long.MAX_VALUE - 10) {
+			candidates.add(value + 10);
+		}
+		candidates.add(range.max / 2).add(range.max);
+		return candidates.build()
+						 .filter(range::includes)
+						 .mapToObj(grown -> new ShrinkableLong(grown, range, shrinkingTarget));
+	}
+
+	private Stream<Shrinkable<Long>> growLeft(long value, Range<Long> range, long shrinkingTarget) {
+		LongStream.Builder candidates = LongStream.builder();
+		if (value > Long.MIN_VALUE) {
+			candidates.add(value - 1);
+		}
+		if (value >= Long.MIN_VALUE + 10) {
+			candidates.add(value - 10);
+		}
+		candidates.add(range.min / 2).add(range.min);
+		return candidates.build()
+						 .filter(range::includes)
+						 .mapToObj(grown -> new ShrinkableLong(grown, range, shrinkingTarget));
+	}
+}
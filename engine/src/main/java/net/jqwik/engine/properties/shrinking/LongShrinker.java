@@ -0,0 +1,69 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+
+/**
+ * Primitive counterpart of {@linkplain BigIntegerShrinker}.
+ * All distance arithmetic is done on unsigned longs so that the full range
+ * from {@code Long.MIN_VALUE} to {@code Long.MAX_VALUE} can be covered.
+ */
+public class LongShrinker {
+
+	private static final long[] NO_CANDIDATES = new long[0];
+
+	private final long shrinkingTarget;
+
+	public LongShrinker(long shrinkingTarget) {
+		this.shrinkingTarget = shrinkingTarget;
+	}
+
+	/**
+	 * @param value the value to shrink
+	 * @return shrink candidates ordered by ascending distance to shrinking target
+	 */
+	public long[] shrink(long value) {
+		if (value == shrinkingTarget) {
+			return NO_CANDIDATES;
+		}
+		boolean aboveTarget = value > shrinkingTarget;
+		long distance = aboveTarget ? value - shrinkingTarget : shrinkingTarget - value;
+
+		long[] distances = new long[2 * 93 + 1];
+		int count = 0;
+		distances[count++] = 0;
+		long butLast = 0;
+		long last = 1;
+		while (true) {
+			long step = butLast + last;
+			if (Long.compareUnsigned(step, last) < 0 || Long.compareUnsigned(step, distance) >= 0) {
+				break;
+			}
+			distances[count++] = step;
+			distances[count++] = distance - step;
+			butLast = last;
+			last = step;
+		}
+
+		return toSortedCandidates(distances, count, aboveTarget);
+	}
+
+	private long[] toSortedCandidates(long[] distances, int count, boolean aboveTarget) {
+		// Flipping the sign bit makes signed sorting equivalent to unsigned sorting
+		for (int i = 0; i < count; i++) {
+			distances[i] ^= Long.MIN_VALUE;
+		}
+		Arrays.sort(distances, 0, count);
+
+		long[] candidates = new long[count];
+		int distinctCount = 0;
+		for (int i = 0; i < count; i++) {
+			if (i > 0 && distances[i] == distances[i - 1]) {
+				continue;
+			}
+			long distanceToTarget = distances[i] ^ Long.MIN_VALUE;
+			candidates[distinctCount++] = aboveTarget ? shrinkingTarget + distanceToTarget : shrinkingTarget - distanceToTarget;
+		}
+		return distinctCount == count ? candidates : Arrays.copyOf(candidates, distinctCount);
+	}
+
+}
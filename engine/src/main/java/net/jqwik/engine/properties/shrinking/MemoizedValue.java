@@ -0,0 +1,30 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.function.*;
+
+/**
+ * Holds the value of a shrinkable once it has been created.
+ * Concurrent requests may create the value more than once; the last created value is kept.
+ *
+ * @see ValueMemoization
+ */
+class MemoizedValue<T> {
+
+	private static final Object NOT_CREATED = new Object();
+
+	private volatile Object value = NOT_CREATED;
+
+	static <T> MemoizedValue<T> ifEnabled(boolean memoize) {
+		return memoize ? new MemoizedValue<>() : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(Supplier<T> valueCreator) {
+		Object current = value;
+		if (current == NOT_CREATED) {
+			current = valueCreator.get();
+			value = current;
+		}
+		return (T) current;
+	}
+}
@@ -0,0 +1,65 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Evaluates batches of shrinking candidates on a fixed number of worker threads.
+ * Results are returned in the order of the candidates so that choosing among them
+ * does not depend on thread scheduling.
+ * The falsifier must be safe to call from several threads at once.
+ */
+class ParallelFalsifier implements AutoCloseable {
+
+	private final int parallelism;
+	private final PropertyThreadContext threadContext;
+	private final ExecutorService workers;
+
+	/**
+	 * @param threadContext The context of the property's thread, which candidates are falsified with
+	 */
+	ParallelFalsifier(int parallelism, PropertyThreadContext threadContext) {
+		this.parallelism = parallelism;
+		this.threadContext = threadContext;
+		this.workers = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("jqwik-shrinking"));
+	}
+
+	int batchSize() {
+		return parallelism;
+	}
+
+	List<TryExecutionResult> falsifyAll(Falsifier<List<Object>> falsifier, List<List<Object>> paramsBatch) {
+		List<Future<TryExecutionResult>> futures = new ArrayList<>();
+		for (int i = 0; i < paramsBatch.size(); i++) {
+			int candidateIndex = i;
+			List<Object> params = paramsBatch.get(i);
+			futures.add(workers.submit(() -> threadContext.runWith(candidateIndex, () -> falsifier.execute(params))));
+		}
+		List<TryExecutionResult> results = new ArrayList<>();
+		for (Future<TryExecutionResult> future : futures) {
+			results.add(await(future));
+		}
+		return results;
+	}
+
+	private TryExecutionResult await(Future<TryExecutionResult> future) {
+		try {
+			return future.get();
+		} catch (ExecutionException executionException) {
+			return JqwikExceptionSupport.throwAsUncheckedException(executionException.getCause());
+		} catch (InterruptedException interruptedException) {
+			Thread.currentThread().interrupt();
+			return JqwikExceptionSupport.throwAsUncheckedException(interruptedException);
+		}
+	}
+
+	@Override
+	public void close() {
+		workers.shutdownNow();
+	}
+}
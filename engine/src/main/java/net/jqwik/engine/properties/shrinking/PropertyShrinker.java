@@ -7,8 +7,6 @@ import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.logging.*;
 
-import org.junit.platform.engine.*;
-
 import net.jqwik.api.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.execution.lifecycle.*;
@@ -24,9 +22,10 @@ public class PropertyShrinker {
 	private final int boundedShrinkingSeconds;
 	private final Consumer<FalsifiedSample> falsifiedSampleReporter;
 	private final Method targetMethod;
+	private final int parallelism;
+	private final FalsificationCache falsificationCache;
 
 	private final AtomicInteger shrinkingStepsCounter = new AtomicInteger(0);
-	private final Map<List<Object>, TryExecutionResult> falsificationCache = new HashMap<>();
 
 	private Optional<FalsifiedSample> currentBest = Optional.empty();
 
@@ -36,12 +35,31 @@ public class PropertyShrinker {
 		int boundedShrinkingSeconds,
 		Consumer<FalsifiedSample> falsifiedSampleReporter,
 		Method targetMethod
+	) {
+		this(originalSample, shrinkingMode, boundedShrinkingSeconds, falsifiedSampleReporter, targetMethod, 1, new FalsificationCache());
+	}
+
+	/**
+	 * @param parallelism        A value greater than 1 evaluates that many shrinking candidates concurrently.
+	 *                           The falsifier used for shrinking must then be thread safe.
+	 * @param falsificationCache Remembers the results of already falsified shrinking candidates
+	 */
+	public PropertyShrinker(
+		FalsifiedSample originalSample,
+		ShrinkingMode shrinkingMode,
+		int boundedShrinkingSeconds,
+		Consumer<FalsifiedSample> falsifiedSampleReporter,
+		Method targetMethod,
+		int parallelism,
+		FalsificationCache falsificationCache
 	) {
 		this.originalSample = originalSample;
 		this.shrinkingMode = shrinkingMode;
 		this.boundedShrinkingSeconds = boundedShrinkingSeconds;
 		this.falsifiedSampleReporter = falsifiedSampleReporter;
 		this.targetMethod = targetMethod;
+		this.parallelism = parallelism;
+		this.falsificationCache = falsificationCache;
 	}
 
 	public ShrunkFalsifiedSample shrink(Falsifier<List<Object>> forAllFalsifier) {
@@ -76,21 +94,23 @@ public class PropertyShrinker {
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
 		Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
+		// Captured in the property's thread since bounded and parallel shrinking continue in other threads
+		PropertyThreadContext threadContext = PropertyThreadContext.capture();
 		FalsifiedSample fullyShrunkSample;
-		Supplier<FalsifiedSample> shrinkUntilDone = () -> shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer);
+		Supplier<FalsifiedSample> shrinkUntilDone =
+			() -> shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer, threadContext);
 		if (shrinkingMode == ShrinkingMode.FULL) {
 			fullyShrunkSample = shrinkUntilDone.get();
 		} else {
-			fullyShrunkSample = withTimeout(shrinkUntilDone);
+			fullyShrunkSample = withTimeout(shrinkUntilDone, threadContext);
 		}
 		return new ShrunkFalsifiedSampleImpl(fullyShrunkSample, shrinkingStepsCounter.get());
 	}
 
-	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone) {
+	private FalsifiedSample withTimeout(Supplier<FalsifiedSample> shrinkUntilDone, PropertyThreadContext threadContext) {
 		try {
-			TestDescriptor current = CurrentTestDescriptor.get();
-			Supplier<FalsifiedSample> shrinkWithTestDescriptor = () -> CurrentTestDescriptor.runWithDescriptor(current, shrinkUntilDone);
-			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkWithTestDescriptor);
+			Supplier<FalsifiedSample> shrinkWithThreadContext = () -> threadContext.runWith(0, shrinkUntilDone);
+			CompletableFuture<FalsifiedSample> falsifiedSampleFuture = CompletableFuture.supplyAsync(shrinkWithThreadContext);
 			return falsifiedSampleFuture.get(boundedShrinkingSeconds, TimeUnit.SECONDS);
 		} catch (InterruptedException | ExecutionException e) {
 			return JqwikExceptionSupport.throwAsUncheckedException(e);
@@ -105,23 +125,42 @@ public class PropertyShrinker {
 		final Consumer<FalsifiedSample> shrinkSampleConsumer,
 		final Consumer<FalsifiedSample> shrinkAttemptConsumer
 	) {
-		FalsifiedSample after = originalSample;
-		FalsifiedSample before;
-		do {
-			before = after;
-			after = shrinkOneParameterAfterTheOther(falsifier, before, shrinkSampleConsumer, shrinkAttemptConsumer);
-			after = shrinkParametersPairwise(falsifier, after, shrinkSampleConsumer, shrinkAttemptConsumer);
-		} while (!after.equals(before));
-		return after;
+		return shrinkAsLongAsSampleImproves(falsifier, shrinkSampleConsumer, shrinkAttemptConsumer, PropertyThreadContext.capture());
+	}
+
+	private FalsifiedSample shrinkAsLongAsSampleImproves(
+		Falsifier<List<Object>> falsifier,
+		Consumer<FalsifiedSample> shrinkSampleConsumer,
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		PropertyThreadContext threadContext
+	) {
+		try (ParallelFalsifier parallelFalsifier = createParallelFalsifier(threadContext)) {
+			FalsifiedSample after = originalSample;
+			FalsifiedSample before;
+			do {
+				before = after;
+				after = shrinkOneParameterAfterTheOther(falsifier, before, shrinkSampleConsumer, shrinkAttemptConsumer, parallelFalsifier);
+				after = shrinkParametersPairwise(falsifier, after, shrinkSampleConsumer, shrinkAttemptConsumer, parallelFalsifier);
+			} while (!after.equals(before));
+			return after;
+		}
+	}
+
+	private ParallelFalsifier createParallelFalsifier(PropertyThreadContext threadContext) {
+		if (parallelism > 1) {
+			return new ParallelFalsifier(parallelism, threadContext);
+		}
+		return null;
 	}
 
 	private FalsifiedSample shrinkOneParameterAfterTheOther(
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		ParallelFalsifier parallelFalsifier
 	) {
-		return new OneAfterTheOtherParameterShrinker(falsificationCache)
+		return new OneAfterTheOtherParameterShrinker(falsificationCache, parallelFalsifier)
 				   .shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
@@ -129,9 +168,10 @@ public class PropertyShrinker {
 		Falsifier<List<Object>> falsifier,
 		FalsifiedSample sample,
 		Consumer<FalsifiedSample> shrinkSampleConsumer,
-		Consumer<FalsifiedSample> shrinkAttemptConsumer
+		Consumer<FalsifiedSample> shrinkAttemptConsumer,
+		ParallelFalsifier parallelFalsifier
 	) {
-		return new PairwiseParameterShrinker(falsificationCache).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
+		return new PairwiseParameterShrinker(falsificationCache, parallelFalsifier).shrink(falsifier, sample, shrinkSampleConsumer, shrinkAttemptConsumer);
 	}
 
 	private ShrunkFalsifiedSample unshrunkOriginalSample() {
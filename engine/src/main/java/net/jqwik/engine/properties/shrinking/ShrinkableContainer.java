@@ -7,19 +7,38 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 	protected final List<Shrinkable<E>> elements;
 	protected final int minSize;
 	protected final int maxSize;
 	protected final Collection<FeatureExtractor<E>> uniquenessExtractors;
 
+	// Number of elements removed in the shrinking step that created this container
+	protected final int chunkSizeHint;
+
+	// Null if the value is created for each request
+	protected final MemoizedValue<C> memoizedValue;
+
+	private UniquenessIndex<E> uniquenessIndex;
+
 	ShrinkableContainer(List<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
+		this(elements, minSize, maxSize, uniquenessExtractors, SizeOfListShrinker.NO_HINT, ValueMemoization.isEnabled());
+	}
+
+	ShrinkableContainer(
+		List<Shrinkable<E>> elements,
+		int minSize,
+		int maxSize,
+		Collection<FeatureExtractor<E>> uniquenessExtractors,
+		int chunkSizeHint,
+		boolean memoizeValue
+	) {
 		this.elements = elements;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
 		this.uniquenessExtractors = uniquenessExtractors;
+		this.chunkSizeHint = chunkSizeHint;
+		this.memoizedValue = MemoizedValue.ifEnabled(memoizeValue);
 	}
 
 	private C createValue(List<Shrinkable<E>> shrinkables) {
@@ -31,6 +50,9 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	@Override
 	public C value() {
+		if (memoizedValue != null) {
+			return memoizedValue.get(() -> createValue(elements));
+		}
 		return createValue(elements);
 	}
 
@@ -99,9 +121,8 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 
 	protected Stream<Shrinkable<C>> shrinkSizeOfList() {
 		return new SizeOfListShrinker<Shrinkable<E>>(minSize)
-					   .shrink(elements)
-					   .map(this::createShrinkable)
-					   .sorted(Comparator.comparing(Shrinkable::distance));
+					   .shrink(elements, chunkSizeHint)
+					   .map(shrunkElements -> createShrinkable(shrunkElements, elements.size() - shrunkElements.size()));
 	}
 
 	protected Stream<Shrinkable<C>> shrinkElementsOneAfterTheOther() {
@@ -110,12 +131,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 			int index = i;
 			Shrinkable<E> element = elements.get(i);
 			Stream<Shrinkable<C>> shrinkElement = element.shrink().flatMap(shrunkElement -> {
-				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
-				elementsCopy.remove(index);
-				if (!checkShrinkableUniqueIn(uniquenessExtractors, shrunkElement, elementsCopy)) {
+				if (!canReplace(element, shrunkElement)) {
 					return Stream.empty();
 				}
-				elementsCopy.add(index, shrunkElement);
+				List<Shrinkable<E>> elementsCopy = new ArrayList<>(elements);
+				elementsCopy.set(index, shrunkElement);
 				return Stream.of(createShrinkable(elementsCopy));
 			});
 			shrinkPerElementStreams.add(shrinkElement);
@@ -130,19 +150,47 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 							   elements.get(pair.get1()).shrink(),
 							   elements.get(pair.get2()).shrink(),
 							   (Shrinkable<E> s1, Shrinkable<E> s2) -> {
-								   List<Shrinkable<E>> newElements = new ArrayList<>(elements);
-								   newElements.set(pair.get1(), s1);
-								   newElements.set(pair.get2(), s2);
-								   if (checkUniquenessOfShrinkables(uniquenessExtractors, newElements)) {
-									   return createShrinkable(newElements);
-								   } else {
+								   if (!canReplace(elements.get(pair.get1()), s1, elements.get(pair.get2()), s2)) {
 									   // null value will skip the entry in zipped stream
 									   return null;
 								   }
+								   List<Shrinkable<E>> newElements = new ArrayList<>(elements);
+								   newElements.set(pair.get1(), s1);
+								   newElements.set(pair.get2(), s2);
+								   return createShrinkable(newElements);
 							   }
 					   ));
 	}
 
+	protected boolean canReplace(Shrinkable<E> element, Shrinkable<E> replacement) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		return uniquenessIndex().canReplace(element.value(), replacement.value());
+	}
+
+	protected boolean canReplace(Shrinkable<E> first, Shrinkable<E> firstReplacement, Shrinkable<E> second, Shrinkable<E> secondReplacement) {
+		if (uniquenessExtractors.isEmpty()) {
+			return true;
+		}
+		return uniquenessIndex().areUniqueAfterReplacing(
+			Arrays.asList(first.value(), second.value()),
+			Arrays.asList(firstReplacement.value(), secondReplacement.value())
+		);
+	}
+
+	// Built once per container so that checking a shrinking candidate does not depend on the number of elements
+	private UniquenessIndex<E> uniquenessIndex() {
+		if (uniquenessIndex == null) {
+			List<E> values = new ArrayList<>(elements.size());
+			for (Shrinkable<E> element : elements) {
+				values.add(element.value());
+			}
+			uniquenessIndex = UniquenessIndex.of(uniquenessExtractors, values);
+		}
+		return uniquenessIndex;
+	}
+
 	protected Stream<Shrinkable<C>> sortElements() {
 		return ShrinkingCommons.sortElements(elements, this::createShrinkable);
 	}
@@ -175,7 +223,11 @@ abstract class ShrinkableContainer<C, E> implements Shrinkable<C> {
 		);
 	}
 
-	abstract Shrinkable<C> createShrinkable(List<Shrinkable<E>> shrunkElements);
+	Shrinkable<C> createShrinkable(List<Shrinkable<E>> shrunkElements) {
+		return createShrinkable(shrunkElements, chunkSizeHint);
+	}
+
+	abstract Shrinkable<C> createShrinkable(List<Shrinkable<E>> shrunkElements, int chunkSizeHint);
 
 	abstract Collector<E, ?, C> containerCollector();
 
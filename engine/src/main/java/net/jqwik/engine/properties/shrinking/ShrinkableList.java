@@ -7,8 +7,6 @@ import net.jqwik.api.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
-import static net.jqwik.engine.properties.UniquenessChecker.*;
-
 public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 
 	// Only used in tests
@@ -17,7 +15,18 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 	}
 
 	public ShrinkableList(List<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
-		super(elements, minSize, maxSize, uniquenessExtractors);
+		this(elements, minSize, maxSize, uniquenessExtractors, SizeOfListShrinker.NO_HINT, ValueMemoization.isEnabled());
+	}
+
+	private ShrinkableList(
+		List<Shrinkable<E>> elements,
+		int minSize,
+		int maxSize,
+		Collection<FeatureExtractor<E>> uniquenessExtractors,
+		int chunkSizeHint,
+		boolean memoizeValue
+	) {
+		super(elements, minSize, maxSize, uniquenessExtractors, chunkSizeHint, memoizeValue);
 	}
 
 	@Override
@@ -26,8 +35,8 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 	}
 
 	@Override
-	Shrinkable<List<E>> createShrinkable(List<Shrinkable<E>> shrunkElements) {
-		return new ShrinkableList<>(shrunkElements, minSize, maxSize, uniquenessExtractors);
+	Shrinkable<List<E>> createShrinkable(List<Shrinkable<E>> shrunkElements, int chunkSizeHint) {
+		return new ShrinkableList<>(shrunkElements, minSize, maxSize, uniquenessExtractors, chunkSizeHint, memoizedValue != null);
 	}
 
 	@Override
@@ -63,14 +72,13 @@ public class ShrinkableList<E> extends ShrinkableContainer<List<E>, E> {
 										   return Tuple.of(after, grow);
 									   })
 									   .filter(tuple -> tuple.get2().isPresent())
+									   .filter(tuple -> canReplace(first, tuple.get1(), second, tuple.get2().get()))
 									   .map(tuple -> {
 										   List<Shrinkable<E>> pairMove = new ArrayList<>(elements);
 										   pairMove.set(firstIndex, tuple.get1());
 										   pairMove.set(secondIndex, tuple.get2().get());
-										   return pairMove;
-									   })
-									   .filter(shrinkables -> checkUniquenessOfShrinkables(uniquenessExtractors, shrinkables))
-									   .map(this::createShrinkable);
+										   return createShrinkable(pairMove);
+									   });
 
 					   })
 					   // In rare cases of nested lists shrinkGrow can increase the distance
@@ -0,0 +1,94 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Primitive counterpart of {@linkplain ShrinkableBigInteger}.
+ * Used for all integral values whose range fits into a long.
+ */
+public class ShrinkableLong extends AbstractValueShrinkable<Long> {
+	private final Range<Long> range;
+	private final long shrinkingTarget;
+
+	// Containers request the shrinking stream of the same element many times
+	private long[] candidatesTowardsTarget;
+
+	public ShrinkableLong(long value, Range<Long> range, long shrinkingTarget) {
+		super(value);
+		this.range = range;
+		this.shrinkingTarget = shrinkingTarget;
+		checkValueInRange(value);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> shrink() {
+		return JqwikStreamSupport.concat(
+			shrinkTowardsTarget(),
+			shrinkNegativeToPositive()
+		);
+	}
+
+	@Override
+	public Optional<Shrinkable<Long>> grow(Shrinkable<?> before, Shrinkable<?> after) {
+		return new LongGrower().grow(value(), range, shrinkingTarget, before, after);
+	}
+
+	@Override
+	public Stream<Shrinkable<Long>> grow() {
+		return new LongGrower().grow(value(), range, shrinkingTarget);
+	}
+
+	private Stream<Shrinkable<Long>> shrinkNegativeToPositive() {
+		long value = value();
+		// Negating Long.MIN_VALUE would overflow and can never be in range anyway
+		if (value >= 0 || value == Long.MIN_VALUE) {
+			return Stream.empty();
+		}
+		long negated = -value;
+		if (!range.includes(negated)) {
+			return Stream.empty();
+		}
+		return Stream.of(createShrinkable(negated));
+	}
+
+	private Stream<Shrinkable<Long>> shrinkTowardsTarget() {
+		// Candidates are only calculated when the stream is consumed
+		return Stream.of(this).flatMap(ignore -> Arrays.stream(candidatesTowardsTarget()).mapToObj(this::createShrinkable));
+	}
+
+	private long[] candidatesTowardsTarget() {
+		if (candidatesTowardsTarget == null) {
+			candidatesTowardsTarget = new LongShrinker(shrinkingTarget).shrink(value());
+		}
+		return candidatesTowardsTarget;
+	}
+
+	private Shrinkable<Long> createShrinkable(long aLong) {
+		return new ShrinkableLong(aLong, range, shrinkingTarget);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		return distanceFor(value(), shrinkingTarget);
+	}
+
+	static ShrinkingDistance distanceFor(long value, long target) {
+		long distance = value >= target ? value - target : target - value;
+		// Negative means the unsigned distance is larger than Long.MAX_VALUE
+		if (distance < 0) return ShrinkingDistance.of(Long.MAX_VALUE);
+		return ShrinkingDistance.of(distance);
+	}
+
+	private void checkValueInRange(long value) {
+		if (!range.includes(value)) {
+			String message = String.format("Value <%s> is outside allowed range %s", value, range);
+			throw new JqwikException(message);
+		}
+	}
+
+}
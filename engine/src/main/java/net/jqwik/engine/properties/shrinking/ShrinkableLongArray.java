@@ -0,0 +1,169 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.support.*;
+
+/**
+ * Primitive counterpart of a {@linkplain ShrinkableContainer} for arrays of primitive numbers.
+ * Elements are kept in a single {@code long[]} instead of one {@linkplain Shrinkable} per element.
+ *
+ * <p>
+ * Shrinking works on chunks of halving size, like {@linkplain ShrinkableString} does:
+ * Chunks are first removed, then set to the shrinking target, then moved halfway towards it.
+ * Only then single elements are shrunk one after the other.
+ * </p>
+ *
+ * @param <A> The array type, which is created from the long values by {@code toArray}
+ */
+public class ShrinkableLongArray<A> implements Shrinkable<A> {
+
+	private final long[] elements;
+	private final Range<Long> range;
+	private final long shrinkingTarget;
+	private final int minSize;
+	private final Function<long[], A> toArray;
+
+	// Number of elements removed in the shrinking step that created this array
+	private final int chunkSizeHint;
+
+	/**
+	 * @param toArray Must create a new array for every call since arrays can be changed by their users
+	 */
+	public ShrinkableLongArray(long[] elements, Range<Long> range, long shrinkingTarget, int minSize, Function<long[], A> toArray) {
+		this(elements, range, shrinkingTarget, minSize, toArray, SizeOfListShrinker.NO_HINT);
+	}
+
+	private ShrinkableLongArray(
+		long[] elements,
+		Range<Long> range,
+		long shrinkingTarget,
+		int minSize,
+		Function<long[], A> toArray,
+		int chunkSizeHint
+	) {
+		this.elements = elements;
+		this.range = range;
+		this.shrinkingTarget = shrinkingTarget;
+		this.minSize = minSize;
+		this.toArray = toArray;
+		this.chunkSizeHint = chunkSizeHint;
+	}
+
+	@Override
+	public A value() {
+		return toArray.apply(elements);
+	}
+
+	@Override
+	public Stream<Shrinkable<A>> shrink() {
+		return JqwikStreamSupport.concat(
+			removeChunks(),
+			replaceChunks(this::target),
+			replaceChunks(this::halfwayToTarget),
+			shrinkElementsOneAfterTheOther()
+		);
+	}
+
+	private Stream<Shrinkable<A>> removeChunks() {
+		int maxChunkSize = elements.length - minSize;
+		if (maxChunkSize <= 0) {
+			return Stream.empty();
+		}
+		return SizeOfListShrinker.chunkSizes(maxChunkSize, chunkSizeHint).stream().flatMap(
+			chunkSize -> chunksOfSize(chunkSize).map(chunk -> {
+				long[] remaining = new long[elements.length - (chunk[1] - chunk[0])];
+				System.arraycopy(elements, 0, remaining, 0, chunk[0]);
+				System.arraycopy(elements, chunk[1], remaining, chunk[0], elements.length - chunk[1]);
+				return createShrinkable(remaining, chunkSize);
+			})
+		);
+	}
+
+	// Single elements are covered by shrinkElementsOneAfterTheOther()
+	private Stream<Shrinkable<A>> replaceChunks(LongUnaryOperator replacement) {
+		List<Integer> chunkSizes = new ArrayList<>();
+		for (int chunkSize = elements.length; chunkSize >= 2; chunkSize /= 2) {
+			chunkSizes.add(chunkSize);
+		}
+		return chunkSizes.stream().flatMap(
+			chunkSize -> chunksOfSize(chunkSize).map(chunk -> {
+				long[] replaced = elements.clone();
+				boolean changed = false;
+				for (int i = chunk[0]; i < chunk[1]; i++) {
+					replaced[i] = replacement.applyAsLong(elements[i]);
+					changed |= replaced[i] != elements[i];
+				}
+				return changed ? createShrinkable(replaced, chunkSizeHint) : null;
+			}).filter(Objects::nonNull)
+		);
+	}
+
+	private Stream<Shrinkable<A>> shrinkElementsOneAfterTheOther() {
+		LongShrinker shrinker = new LongShrinker(shrinkingTarget);
+		return IntStream.range(0, elements.length).boxed().flatMap(
+			index -> Arrays.stream(shrinker.shrink(elements[index])).mapToObj(candidate -> {
+				long[] replaced = elements.clone();
+				replaced[index] = candidate;
+				return createShrinkable(replaced, chunkSizeHint);
+			})
+		);
+	}
+
+	// Adjacent chunks as [from, to) that cover the whole array
+	private Stream<int[]> chunksOfSize(int chunkSize) {
+		int size = elements.length;
+		return IntStream.iterate(0, from -> from + chunkSize)
+						.limit((size + chunkSize - 1) / chunkSize)
+						.mapToObj(from -> new int[]{from, Math.min(from + chunkSize, size)});
+	}
+
+	private long target(long ignore) {
+		return shrinkingTarget;
+	}
+
+	// Rounds down and cannot overflow, i.e. the result is always in range
+	private long halfwayToTarget(long value) {
+		return (value >> 1) + (shrinkingTarget >> 1) + (value & shrinkingTarget & 1);
+	}
+
+	private Shrinkable<A> createShrinkable(long[] shrunkElements, int chunkSizeHint) {
+		return new ShrinkableLongArray<>(shrunkElements, range, shrinkingTarget, minSize, toArray, chunkSizeHint);
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		long sumOfDistances = 0;
+		for (long element : elements) {
+			long distance = element >= shrinkingTarget ? element - shrinkingTarget : shrinkingTarget - element;
+			// Negative means the distance or the sum is larger than Long.MAX_VALUE
+			sumOfDistances = distance < 0 ? Long.MAX_VALUE : sumOfDistances + distance;
+			if (sumOfDistances < 0) {
+				sumOfDistances = Long.MAX_VALUE;
+			}
+		}
+		return ShrinkingDistance.of(elements.length, sumOfDistances);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		ShrinkableLongArray<?> that = (ShrinkableLongArray<?>) o;
+		return Arrays.equals(elements, that.elements);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(elements);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("ShrinkableLongArray<%s>(%s:%s)", range, Arrays.toString(elements), distance());
+	}
+}
@@ -9,15 +9,26 @@ import net.jqwik.engine.properties.*;
 public class ShrinkableSet<E> extends ShrinkableContainer<Set<E>, E> {
 
 	public ShrinkableSet(Collection<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
-		this(new ArrayList<>(elements), minSize, maxSize, uniquenessExtractors);
+		this(new ArrayList<>(elements), minSize, maxSize, uniquenessExtractors, SizeOfListShrinker.NO_HINT, ValueMemoization.isEnabled());
 	}
 
-	private ShrinkableSet(List<Shrinkable<E>> elements, int minSize, int maxSize, Collection<FeatureExtractor<E>> uniquenessExtractors) {
-		super(elements, minSize, maxSize, uniquenessExtractors);
+	private ShrinkableSet(
+		List<Shrinkable<E>> elements,
+		int minSize,
+		int maxSize,
+		Collection<FeatureExtractor<E>> uniquenessExtractors,
+		int chunkSizeHint,
+		boolean memoizeValue
+	) {
+		super(elements, minSize, maxSize, uniquenessExtractors, chunkSizeHint, memoizeValue);
 	}
 
 	@Override
 	public Stream<Shrinkable<Set<E>>> shrink() {
+		// Creating the value of each candidate is expensive for nested sets and unnecessary without a minimum size
+		if (minSize == 0) {
+			return super.shrink();
+		}
 		return super.shrink().filter(shrinkableSet -> shrinkableSet.value().size() >= minSize);
 	}
 
@@ -32,7 +43,7 @@ public class ShrinkableSet<E> extends ShrinkableContainer<Set<E>, E> {
 	}
 
 	@Override
-	Shrinkable<Set<E>> createShrinkable(List<Shrinkable<E>> shrunkElements) {
-		return new ShrinkableSet<>(shrunkElements, minSize, maxSize, uniquenessExtractors);
+	Shrinkable<Set<E>> createShrinkable(List<Shrinkable<E>> shrunkElements, int chunkSizeHint) {
+		return new ShrinkableSet<>(shrunkElements, minSize, maxSize, uniquenessExtractors, chunkSizeHint, memoizedValue != null);
 	}
 }
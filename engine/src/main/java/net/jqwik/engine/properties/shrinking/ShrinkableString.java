@@ -7,10 +7,23 @@ import java.util.stream.*;
 import net.jqwik.api.*;
 import net.jqwik.engine.support.*;
 
+/**
+ * Strings are shrunk by removing and simplifying chunks of characters.
+ * Chunk sizes start with the whole string and are halved in each round
+ * so that long strings converge in a logarithmic number of shrinking steps.
+ */
 public class ShrinkableString extends ShrinkableContainer<String, Character> {
 
+	private String value;
+	private ShrinkingDistance distance;
+
 	public ShrinkableString(List<Shrinkable<Character>> elements, int minSize, int maxSize) {
-		super(elements, minSize, maxSize, Collections.emptySet());
+		this(elements, minSize, maxSize, SizeOfListShrinker.NO_HINT);
+	}
+
+	private ShrinkableString(List<Shrinkable<Character>> elements, int minSize, int maxSize, int chunkSizeHint) {
+		// Memoizes its value on its own
+		super(elements, minSize, maxSize, Collections.emptySet(), chunkSizeHint, false);
 	}
 
 	@Override
@@ -19,20 +32,105 @@ public class ShrinkableString extends ShrinkableContainer<String, Character> {
 	}
 
 	@Override
-	Shrinkable<String> createShrinkable(List<Shrinkable<Character>> shrunkElements) {
-		return new ShrinkableString(shrunkElements, minSize, maxSize);
+	Shrinkable<String> createShrinkable(List<Shrinkable<Character>> shrunkElements, int chunkSizeHint) {
+		return new ShrinkableString(shrunkElements, minSize, maxSize, chunkSizeHint);
+	}
+
+	// Strings are immutable so value and distance can be computed once
+	@Override
+	public String value() {
+		if (value == null) {
+			StringBuilder builder = new StringBuilder(elements.size());
+			for (Shrinkable<Character> element : elements) {
+				builder.append((char) element.value());
+			}
+			value = builder.toString();
+		}
+		return value;
+	}
+
+	@Override
+	public ShrinkingDistance distance() {
+		if (distance == null) {
+			distance = super.distance();
+		}
+		return distance;
 	}
 
 	@Override
 	public Stream<Shrinkable<String>> shrink() {
 		return JqwikStreamSupport.concat(
 			shrinkSizeOfList(),
+			simplifyChunks(),
 			shrinkElementsOneAfterTheOther(),
-			shrinkPairsOfElements(),
+			simplifyEqualCharactersTogether(),
 			sortElements()
 		);
 	}
 
+	// Single characters are covered by shrinkElementsOneAfterTheOther()
+	private Stream<Shrinkable<String>> simplifyChunks() {
+		return chunks(elements.size(), 2)
+				   .map(chunk -> {
+					   List<Shrinkable<Character>> simplified = new ArrayList<>(elements);
+					   boolean changed = false;
+					   for (int i = chunk.from; i < chunk.to; i++) {
+						   Optional<Shrinkable<Character>> simplest = elements.get(i).shrink().findFirst();
+						   if (simplest.isPresent()) {
+							   simplified.set(i, simplest.get());
+							   changed = true;
+						   }
+					   }
+					   return changed ? createShrinkable(simplified) : null;
+				   })
+				   .filter(Objects::nonNull);
+	}
+
+	private Stream<Shrinkable<String>> simplifyEqualCharactersTogether() {
+		Map<Character, List<Integer>> indicesByCharacter = new LinkedHashMap<>();
+		for (int i = 0; i < elements.size(); i++) {
+			indicesByCharacter.computeIfAbsent(elements.get(i).value(), ignore -> new ArrayList<>()).add(i);
+		}
+		return indicesByCharacter
+				   .values()
+				   .stream()
+				   .filter(indices -> indices.size() > 1)
+				   .flatMap(indices -> elements.get(indices.get(0)).shrink().map(shrunkCharacter -> {
+					   List<Shrinkable<Character>> simplified = new ArrayList<>(elements);
+					   for (int index : indices) {
+						   simplified.set(index, shrunkCharacter);
+					   }
+					   return createShrinkable(simplified);
+				   }));
+	}
+
+	/**
+	 * Chunks of halving size beginning with {@code maxChunkSize}.
+	 * For each size the whole string is covered by adjacent chunks.
+	 */
+	private Stream<Chunk> chunks(int maxChunkSize, int minChunkSize) {
+		int size = elements.size();
+		List<Integer> chunkSizes = new ArrayList<>();
+		for (int chunkSize = maxChunkSize; chunkSize >= minChunkSize; chunkSize /= 2) {
+			chunkSizes.add(chunkSize);
+		}
+		return chunkSizes.stream().flatMap(
+			chunkSize -> IntStream.iterate(0, from -> from + chunkSize)
+								  .limit((size + chunkSize - 1) / chunkSize)
+								  .mapToObj(from -> new Chunk(from, Math.min(from + chunkSize, size)))
+		);
+	}
+
+	private static class Chunk {
+		private final int from;
+		private final int to;
+
+		private Chunk(int from, int to) {
+			this.from = from;
+			this.to = to;
+		}
+	}
+
 	private static class CharacterCollector implements Collector<Character, StringBuilder, String> {
 		@Override
 		public Supplier<StringBuilder> supplier() {
@@ -3,10 +3,22 @@ package net.jqwik.engine.properties.shrinking;
 import java.util.*;
 import java.util.stream.*;
 
-import net.jqwik.engine.support.*;
-
+/**
+ * Shrinks the size of a list by removing chunks of elements in the spirit of delta debugging (ddmin).
+ *
+ * <p>
+ * Chunk sizes are halved until single elements are removed;
+ * for each chunk size all adjacent chunks of the list are tried.
+ * If a previous removal was successful its chunk size is given as hint.
+ * Shrinking then first tries twice the chunk size and continues with the hinted size
+ * instead of starting again with the largest possible chunks.
+ * This way the number of candidates needed for a list of size n grows with log(n).
+ * </p>
+ */
 public class SizeOfListShrinker<T> {
 
+	public static final int NO_HINT = 0;
+
 	private final int minSize;
 
 	public SizeOfListShrinker(int minSize) {
@@ -14,79 +26,46 @@ public class SizeOfListShrinker<T> {
 	}
 
 	public Stream<List<T>> shrink(List<T> toShrink) {
-		if (toShrink.size() <= minSize)
-			return Stream.empty();
-		return JqwikStreamSupport.concat(
-			emptyList(),
-			cuts(toShrink)
-		).filter(l -> l.size() >= minSize);
-	}
-
-	private Stream<List<T>> emptyList() {
-		return Stream.of(new ArrayList<>());
+		return shrink(toShrink, NO_HINT);
 	}
 
-	public Stream<List<T>> cuts(List<T> toShrink) {
-		Set<List<T>> lists = new HashSet<>();
-		appendRightCuts(toShrink, lists);
-		appendLeftCuts(toShrink, lists);
-		return lists.stream();
-	}
-
-	private void appendLeftCuts(List<T> toShrink, Set<List<T>> lists) {
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendLeftCut(toShrink, lists, elementsToCut);
-		if (elementsToCut != 1) {
-			appendLeftCut(toShrink, lists, 1);
+	/**
+	 * @param chunkSizeHint Number of elements removed in the last successful shrinking step or {@linkplain #NO_HINT}
+	 */
+	public Stream<List<T>> shrink(List<T> toShrink, int chunkSizeHint) {
+		int maxChunkSize = toShrink.size() - minSize;
+		if (maxChunkSize <= 0) {
+			return Stream.empty();
 		}
+		return chunkSizes(maxChunkSize, chunkSizeHint)
+				   .stream()
+				   .flatMap(chunkSize -> removeChunks(toShrink, chunkSize));
 	}
 
-	private void appendLeftCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		List<T> leftCut = new ArrayList<>(toShrink);
-		cutFromLeft(leftCut, elementsToCut);
-		lists.add(leftCut);
-	}
-
-	private int calculateElementsToCut(int listSize) {
-		int toCut = rawElementsToCut(listSize);
-		return Math.min(toCut, listSize - minSize);
-	}
-
-	private int rawElementsToCut(int listSize) {
-		// TODO: Improve cut size. Those values are purely guesses.
-		// Maybe use integer shrinking to determine target size.
-		if (listSize <= 10)
-			return 1;
-		if (listSize < 20)
-			return listSize - 9;
-		return listSize / 2;
-	}
-
-	private void cutFromLeft(List<T> leftCut, int elementsToCut) {
-		if (elementsToCut == 0)
-			return;
-		leftCut.remove(0);
-		cutFromLeft(leftCut, --elementsToCut);
-	}
-
-	private void appendRightCuts(List<T> toShrink, Set<List<T>> lists) {
-		int elementsToCut = calculateElementsToCut(toShrink.size());
-		appendRightCut(toShrink, lists, elementsToCut);
-		if (elementsToCut != 1) {
-			appendRightCut(toShrink, lists, 1);
+	static List<Integer> chunkSizes(int maxChunkSize, int chunkSizeHint) {
+		Set<Integer> chunkSizes = new LinkedHashSet<>();
+		chunkSizes.add(maxChunkSize);
+		int startChunkSize = maxChunkSize;
+		if (chunkSizeHint > NO_HINT && chunkSizeHint < maxChunkSize) {
+			chunkSizes.add(Math.min(2 * chunkSizeHint, maxChunkSize));
+			startChunkSize = chunkSizeHint;
 		}
+		for (int chunkSize = startChunkSize; chunkSize >= 1; chunkSize /= 2) {
+			chunkSizes.add(chunkSize);
+		}
+		return new ArrayList<>(chunkSizes);
 	}
 
-	private void appendRightCut(List<T> toShrink, Set<List<T>> lists, int elementsToCut) {
-		List<T> rightCut = new ArrayList<>(toShrink);
-		cutFromRight(rightCut, elementsToCut);
-		lists.add(rightCut);
-	}
-
-	private void cutFromRight(List<T> rightCut, int elementsToCut) {
-		if (elementsToCut == 0)
-			return;
-		rightCut.remove(rightCut.size() - 1);
-		cutFromRight(rightCut, --elementsToCut);
+	private Stream<List<T>> removeChunks(List<T> toShrink, int chunkSize) {
+		int size = toShrink.size();
+		int numberOfChunks = (size + chunkSize - 1) / chunkSize;
+		return IntStream.range(0, numberOfChunks).mapToObj(chunkIndex -> {
+			int from = chunkIndex * chunkSize;
+			int to = Math.min(from + chunkSize, size);
+			List<T> remaining = new ArrayList<>(size - (to - from));
+			remaining.addAll(toShrink.subList(0, from));
+			remaining.addAll(toShrink.subList(to, size));
+			return remaining;
+		});
 	}
 }
@@ -0,0 +1,59 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.function.*;
+
+/**
+ * Decides if composite shrinkables, i.e. {@linkplain CombinedShrinkable} and lists and sets,
+ * create their value once or every time it is requested.
+ *
+ * <p>
+ * Memoization is switched on for a test run through configuration parameter {@code jqwik.values.memoize}.
+ * It may only be used if generated values are not changed by properties or lifecycle hooks
+ * since the same instance is then handed out to each try, each shrinking step and to reporting.
+ * Generation of arbitraries with mutable values can be excluded through {@linkplain #runWith(boolean, Supplier)}.
+ * </p>
+ *
+ * <p>
+ * A shrinkable decides once when it is created. Shrinking candidates inherit the decision.
+ * </p>
+ */
+public class ValueMemoization {
+
+	private static volatile boolean enabledByDefault = false;
+
+	private static final ThreadLocal<Boolean> enabledInScope = new ThreadLocal<>();
+
+	private ValueMemoization() {
+	}
+
+	/**
+	 * Start a new test run.
+	 *
+	 * @param enabled Whether values are memoized unless generation happens within {@linkplain #runWith(boolean, Supplier)}
+	 */
+	public static void reset(boolean enabled) {
+		enabledByDefault = enabled;
+	}
+
+	public static boolean isEnabled() {
+		Boolean enabled = enabledInScope.get();
+		return enabled != null ? enabled : enabledByDefault;
+	}
+
+	/**
+	 * Run code, e.g. the generation of a value, with memoization switched on or off for the current thread.
+	 */
+	public static <T> T runWith(boolean enabled, Supplier<T> code) {
+		Boolean before = enabledInScope.get();
+		enabledInScope.set(enabled);
+		try {
+			return code.get();
+		} finally {
+			if (before == null) {
+				enabledInScope.remove();
+			} else {
+				enabledInScope.set(before);
+			}
+		}
+	}
+}
@@ -3,6 +3,7 @@ package net.jqwik.engine.providers;
 import java.util.*;
 
 import net.jqwik.api.providers.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.support.*;
 
 public class RegisteredArbitraryProviders {
@@ -18,6 +19,7 @@ public class RegisteredArbitraryProviders {
 			return;
 		}
 		serviceCache.getServices().add(0, provider);
+		ResolutionCache.clear();
 	}
 
 	public static void unregister(ArbitraryProvider providerToDelete) {
@@ -25,6 +27,7 @@ public class RegisteredArbitraryProviders {
 		services.stream()
 				.filter(provider -> provider == providerToDelete)
 				.forEach(services::remove);
+		ResolutionCache.clear();
 	}
 
 	public static void unregister(Class<? extends ArbitraryProvider> providerClass) {
@@ -32,5 +35,6 @@ public class RegisteredArbitraryProviders {
 		services.stream()
 				.filter(provider -> provider.getClass() == providerClass)
 				.forEach(services::remove);
+		ResolutionCache.clear();
 	}
 }
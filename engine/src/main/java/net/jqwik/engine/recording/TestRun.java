@@ -9,22 +9,56 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 
 public class TestRun implements Serializable {
+
+	// Keeps databases written as plain object streams readable
+	private static final long serialVersionUID = -1356790909928120905L;
+
 	private final String uniqueIdString;
 	private final int statusOrdinal;
 	private final String randomSeed;
 	private final List<Object> falsifiedSample;
+	private final List<Long> regressionSeeds;
 
 	public TestRun(UniqueId uniqueId, PropertyExecutionResult.Status status, String randomSeed, List<Object> falsifiedSample) {
-		this.uniqueIdString = uniqueId.toString();
+		this(uniqueId, status, randomSeed, falsifiedSample, Collections.emptyList());
+	}
+
+	/**
+	 * @param regressionSeeds The seeds of tries that falsified the property in this run
+	 */
+	public TestRun(
+		UniqueId uniqueId,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		List<Long> regressionSeeds
+	) {
+		this(uniqueId.toString(), status, randomSeed, falsifiedSample, regressionSeeds);
+	}
+
+	// Unique ids are only parsed when needed, which keeps loading the database cheap
+	TestRun(
+		String uniqueIdString,
+		PropertyExecutionResult.Status status,
+		String randomSeed,
+		List<Object> falsifiedSample,
+		List<Long> regressionSeeds
+	) {
+		this.uniqueIdString = uniqueIdString;
 		this.statusOrdinal = status.ordinal();
 		this.randomSeed = randomSeed;
 		this.falsifiedSample = falsifiedSample;
+		this.regressionSeeds = regressionSeeds;
 	}
 
 	boolean hasUniqueId(UniqueId uniqueId) {
 		return getUniqueId().equals(uniqueId);
 	}
 
+	String getUniqueIdString() {
+		return uniqueIdString;
+	}
+
 	public boolean isNotSuccessful() {
 		return getStatus() != Status.SUCCESSFUL;
 	}
@@ -45,13 +79,25 @@ public class TestRun implements Serializable {
 		return Optional.ofNullable(falsifiedSample);
 	}
 
+	/**
+	 * Seeds of randomized tries that falsified the property in this and earlier runs, most recent first.
+	 * A try's parameters can be generated again from its seed.
+	 */
+	public List<Long> regressionSeeds() {
+		// Runs read from an object stream database have no regression seeds
+		if (regressionSeeds == null) {
+			return Collections.emptyList();
+		}
+		return regressionSeeds;
+	}
+
+	public TestRun withRegressionSeeds(List<Long> regressionSeeds) {
+		return new TestRun(uniqueIdString, getStatus(), randomSeed, falsifiedSample, regressionSeeds);
+	}
+
 	@Override
 	public String toString() {
 		String randomSeedString = randomSeed().map(s -> ":" + s).orElse("");
 		return String.format("TestRun[%s:%s%s]", uniqueIdString, getStatus(), randomSeedString);
 	}
-
-	TestRun withoutFalsifiedSample() {
-		return new TestRun(getUniqueId(), getStatus(), randomSeed, null);
-	}
 }
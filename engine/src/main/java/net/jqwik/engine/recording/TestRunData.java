@@ -1,43 +1,86 @@
 package net.jqwik.engine.recording;
 
 import java.util.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 import org.junit.platform.engine.*;
 
-import net.jqwik.engine.support.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
 
 public class TestRunData {
 
-	private final Collection<TestRun> data;
+	// Indexed by unique id string; a later run of the same property replaces an earlier one
+	private final Map<String, IndexedRun> data = new LinkedHashMap<>();
 
 	public TestRunData(Collection<TestRun> data) {
-		this.data = data;
+		data.forEach(this::add);
 	}
 
 	public TestRunData() {
-		this(new HashSet<>());
+		this(Collections.emptyList());
 	}
 
 	public void add(TestRun testRun) {
-		data.add(testRun);
+		data.put(testRun.getUniqueIdString(), new IndexedRun(testRun.getStatus(), () -> testRun));
+	}
+
+	/**
+	 * Add a run that is only decoded when it is looked up.
+	 *
+	 * @param decoder Returns {@code null} if the run cannot be decoded
+	 */
+	void add(String uniqueIdString, Status status, Supplier<TestRun> decoder) {
+		data.put(uniqueIdString, new IndexedRun(status, decoder));
 	}
 
 	public Optional<TestRun> byUniqueId(UniqueId uniqueId) {
-		try {
-			return data.stream()
-					   .filter(testRun -> testRun.hasUniqueId(uniqueId))
-					   .findFirst();
-		} catch (Throwable t) {
-			// An exception during test run data read should not stop the test run.
-			// Most of the time it's an error due to format change which will go away
-			// after one test run where the test run data has been written anew.
-			JqwikExceptionSupport.rethrowIfBlacklisted(t);
+		return byUniqueIdString(uniqueId.toString());
+	}
+
+	Optional<TestRun> byUniqueIdString(String uniqueIdString) {
+		IndexedRun indexedRun = data.get(uniqueIdString);
+		if (indexedRun == null) {
 			return Optional.empty();
 		}
+		return indexedRun.testRun();
 	}
 
 	public Stream<TestRun> allNonSuccessfulTests() {
-		return data.stream().filter(TestRun::isNotSuccessful);
+		return data.values().stream()
+				   .filter(indexedRun -> indexedRun.status != Status.SUCCESSFUL)
+				   .map(IndexedRun::testRun)
+				   .filter(Optional::isPresent)
+				   .map(Optional::get);
+	}
+
+	public Stream<TestRun> allTestRuns() {
+		return data.values().stream()
+				   .map(IndexedRun::testRun)
+				   .filter(Optional::isPresent)
+				   .map(Optional::get);
+	}
+
+	public int size() {
+		return data.size();
+	}
+
+	private static class IndexedRun {
+		private final Status status;
+		private Supplier<TestRun> decoder;
+		private TestRun testRun;
+
+		private IndexedRun(Status status, Supplier<TestRun> decoder) {
+			this.status = status;
+			this.decoder = decoder;
+		}
+
+		private synchronized Optional<TestRun> testRun() {
+			if (decoder != null) {
+				testRun = decoder.get();
+				decoder = null;
+			}
+			return Optional.ofNullable(testRun);
+		}
 	}
 }
@@ -3,32 +3,85 @@ package net.jqwik.engine.recording;
 import java.io.*;
 import java.nio.file.*;
 import java.util.*;
+import java.util.function.*;
 import java.util.logging.*;
+import java.util.stream.*;
 
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+/**
+ * Test runs are appended to the database file in the binary format described in {@link TestRunFormat}.
+ * The file is compacted before recording starts when it contains mostly outdated records.
+ * Compaction also drops the records of properties that no longer exist.
+ *
+ * <p>
+ * Loading the database only indexes the latest record of each property by its unique id.
+ * A record is decoded when its property's previous run is looked up.
+ * </p>
+ *
+ * <p>
+ * Each recorded run of a failing property carries the seeds of the most recent falsified tries
+ * of its property so that they survive runs with another seed.
+ * They are dropped as soon as the property succeeds.
+ * </p>
+ */
 public class TestRunDatabase {
 
 	private static final Logger LOG = Logger.getLogger(TestRunDatabase.class.getName());
 
+	private static final int COMPACTION_FACTOR = 2;
+	private static final int MIN_RECORDS_BEFORE_COMPACTION = 1000;
+
+	public static final int DEFAULT_MAX_REGRESSION_SAMPLES = 0;
+
 	private final Path databasePath;
+	private final int maxRegressionSamples;
+	private final Predicate<UniqueId> propertyExists;
+	// The latest record of each property, which is all that survives compaction
+	private final Map<String, byte[]> latestRecords = new LinkedHashMap<>();
 	private final TestRunData previousRunData;
+	private int recordsInDatabase = 0;
+	private boolean rewriteRequired = false;
 	private boolean stopRecording = false;
 
 	public TestRunDatabase(Path databasePath) {
+		this(databasePath, DEFAULT_MAX_REGRESSION_SAMPLES);
+	}
+
+	/**
+	 * @param maxRegressionSamples The number of falsified tries to keep per property. {@code 0} keeps none.
+	 */
+	public TestRunDatabase(Path databasePath, int maxRegressionSamples) {
+		this(databasePath, maxRegressionSamples, uniqueId -> true);
+	}
+
+	/**
+	 * @param propertyExists Decides if the records of a property are kept when the database is compacted
+	 */
+	public TestRunDatabase(Path databasePath, int maxRegressionSamples, Predicate<UniqueId> propertyExists) {
 		this.databasePath = databasePath;
+		this.maxRegressionSamples = maxRegressionSamples;
+		this.propertyExists = propertyExists;
 		this.previousRunData = loadExistingRunData();
 	}
 
 	private TestRunData loadExistingRunData() {
 		if (!Files.exists(databasePath)) {
+			rewriteRequired = true;
 			return new TestRunData();
 		}
 
-		try (ObjectInputStream ois = createObjectInputStream()) {
-			List<TestRun> data = readAllTestRuns(ois);
-			return new TestRunData(data);
+		try (DataInputStream in = createDataInputStream()) {
+			return readAllTestRuns(in);
 		} catch (Exception e) {
 			logReadException(e);
 			deleteDatabase();
+			latestRecords.clear();
+			rewriteRequired = true;
 			return new TestRunData();
 		}
 	}
@@ -40,23 +93,82 @@ public class TestRunDatabase {
 		}
 	}
 
-	private List<TestRun> readAllTestRuns(ObjectInputStream ois) throws IOException, ClassNotFoundException {
-		List<TestRun> testRuns = new ArrayList<>();
+	private TestRunData readAllTestRuns(DataInputStream in) throws IOException, ClassNotFoundException {
+		int magic;
+		try {
+			magic = in.readInt();
+		} catch (EOFException emptyDatabase) {
+			rewriteRequired = true;
+			return new TestRunData();
+		}
+		if ((short) (magic >>> 16) == TestRunFormat.LEGACY_STREAM_MAGIC) {
+			rewriteRequired = true;
+			return readAllLegacyTestRuns();
+		}
+		if (magic != TestRunFormat.MAGIC) {
+			throw new IOException("Not a jqwik database");
+		}
+		short version = in.readShort();
+		if (version != TestRunFormat.VERSION) {
+			throw new IOException(String.format("Unsupported database version %s", version));
+		}
+
+		long databaseSize = Files.size(databasePath);
+		TestRunData testRuns = new TestRunData();
 		while (true) {
+			byte[] record;
 			try {
-				TestRun testRun = (TestRun) ois.readObject();
-				testRuns.add(testRun);
-			} catch (EOFException eof) {
+				record = TestRunFormat.readRecord(in, databaseSize);
+			} catch (EOFException incompleteRecord) {
+				// Happens when a former run was killed while recording
+				rewriteRequired = true;
 				break;
-			} catch (IOException eof) {
-				logReadException(eof);
-				deleteDatabase();
+			}
+			if (record == null) {
 				break;
 			}
+			recordsInDatabase++;
+			try {
+				index(testRuns, record);
+			} catch (IOException | RuntimeException corruptRecord) {
+				rewriteRequired = true;
+			}
 		}
 		return testRuns;
 	}
 
+	private void index(TestRunData testRuns, byte[] record) throws IOException {
+		Tuple2<String, Status> uniqueIdAndStatus = TestRunFormat.decodeUniqueIdAndStatus(record);
+		String uniqueIdString = uniqueIdAndStatus.get1();
+		latestRecords.put(uniqueIdString, record);
+		testRuns.add(uniqueIdString, uniqueIdAndStatus.get2(), () -> decode(record));
+	}
+
+	private TestRun decode(byte[] record) {
+		try {
+			return TestRunFormat.decode(record);
+		} catch (IOException | RuntimeException corruptRecord) {
+			logReadException(corruptRecord);
+			return null;
+		}
+	}
+
+	private TestRunData readAllLegacyTestRuns() throws IOException, ClassNotFoundException {
+		try (ObjectInputStream ois = new ObjectInputStream(Files.newInputStream(databasePath))) {
+			TestRunData testRuns = new TestRunData();
+			while (true) {
+				try {
+					TestRun testRun = (TestRun) ois.readObject();
+					testRuns.add(testRun);
+					latestRecords.put(testRun.getUniqueIdString(), TestRunFormat.encode(testRun));
+				} catch (EOFException eof) {
+					break;
+				}
+			}
+			return testRuns;
+		}
+	}
+
 	private void logReadException(Exception eof) {
 		LOG.log(Level.WARNING, eof, () -> String.format("Cannot read database [%s]", databasePath.toAbsolutePath()));
 	}
@@ -65,9 +177,16 @@ public class TestRunDatabase {
 		LOG.log(Level.WARNING, e, () -> String.format("Cannot write database [%s]", databasePath.toAbsolutePath()));
 	}
 
-	private ObjectOutputStream createObjectOutputStream() {
+	private DataOutputStream createDataOutputStream() {
 		try {
-			return new ObjectOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING));
+			if (rewriteRequired || compactionRecommended()) {
+				rewriteDatabase();
+			}
+			// Runs that have not been decoded yet keep their own record
+			latestRecords.clear();
+			return new DataOutputStream(new BufferedOutputStream(
+				Files.newOutputStream(databasePath, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
+			));
 		} catch (IOException e) {
 			stopRecording = true;
 			logWriteException(e);
@@ -75,50 +194,84 @@ public class TestRunDatabase {
 		}
 	}
 
-	private ObjectInputStream createObjectInputStream() throws IOException {
-		return new ObjectInputStream(Files.newInputStream(databasePath, StandardOpenOption.CREATE));
+	private boolean compactionRecommended() {
+		return recordsInDatabase >= MIN_RECORDS_BEFORE_COMPACTION
+				   && recordsInDatabase > COMPACTION_FACTOR * latestRecords.size();
 	}
 
-	private class Recorder implements TestRunRecorder {
+	// Only the latest record of each existing property survives
+	private void rewriteDatabase() throws IOException {
+		Path compactedPath = databasePath.resolveSibling(databasePath.getFileName() + ".compacting");
+		int recordsWritten = 0;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(compactedPath)))) {
+			TestRunFormat.writeHeader(out);
+			for (Map.Entry<String, byte[]> latestRecord : latestRecords.entrySet()) {
+				if (propertyExists(latestRecord.getKey())) {
+					TestRunFormat.writeRecord(out, latestRecord.getValue());
+					recordsWritten++;
+				}
+			}
+		}
+		Files.move(compactedPath, databasePath, StandardCopyOption.REPLACE_EXISTING);
+		recordsInDatabase = recordsWritten;
+		rewriteRequired = false;
+	}
 
-		private final ObjectOutputStream objectOutputStream;
+	private boolean propertyExists(String uniqueIdString) {
+		try {
+			return propertyExists.test(UniqueId.parse(uniqueIdString));
+		} catch (RuntimeException invalidUniqueId) {
+			return false;
+		}
+	}
 
-		private Recorder(ObjectOutputStream objectOutputStream) {
-			this.objectOutputStream = objectOutputStream;
+	private TestRun withRegressionSeeds(TestRun testRun) {
+		// A succeeding property has no regressions left to look for
+		if (testRun.getStatus() == PropertyExecutionResult.Status.SUCCESSFUL) {
+			return testRun.withRegressionSeeds(Collections.emptyList());
 		}
+		List<Long> previousSeeds =
+			previousRunData.byUniqueIdString(testRun.getUniqueIdString())
+						   .map(TestRun::regressionSeeds)
+						   .orElse(Collections.emptyList());
+		Set<Long> regressionSeeds = new LinkedHashSet<>(testRun.regressionSeeds());
+		regressionSeeds.addAll(previousSeeds);
+		return testRun.withRegressionSeeds(
+			regressionSeeds.stream().limit(maxRegressionSamples).collect(Collectors.toList())
+		);
+	}
 
-		@Override
-		public void record(TestRun testRun) {
-			record(testRun, false);
+	private DataInputStream createDataInputStream() throws IOException {
+		return new DataInputStream(new BufferedInputStream(Files.newInputStream(databasePath)));
+	}
+
+	private class Recorder implements TestRunRecorder {
+
+		private final DataOutputStream dataOutputStream;
+
+		private Recorder(DataOutputStream dataOutputStream) {
+			this.dataOutputStream = dataOutputStream;
 		}
 
-		private void record(TestRun testRun, boolean secondTry) {
+		@Override
+		public synchronized void record(TestRun testRun) {
 			if (stopRecording)
 				return;
 			try {
-				checkSerializability(testRun);
-				objectOutputStream.writeObject(testRun);
-			} catch (NotSerializableException e) {
-				if (!secondTry) {
-					record(testRun.withoutFalsifiedSample(), true);
-				} else {
-					logWriteException(e);
-				}
+				TestRunFormat.writeRecord(dataOutputStream, withRegressionSeeds(testRun));
+				recordsInDatabase++;
 			} catch (IOException e) {
 				stopRecording = true;
 				logWriteException(e);
 			}
 		}
 
-		private void checkSerializability(TestRun testRun) throws IOException {
-			ObjectOutputStream testStream = new ObjectOutputStream(new ByteArrayOutputStream());
-			testStream.writeObject(testRun);
-		}
-
 		@Override
-		public void close() {
+		public synchronized void close() {
+			if (dataOutputStream == null)
+				return;
 			try {
-				objectOutputStream.close();
+				dataOutputStream.close();
 			} catch (IOException e) {
 				logWriteException(e);
 			}
@@ -131,6 +284,6 @@ public class TestRunDatabase {
 	}
 
 	public TestRunRecorder recorder() {
-		return new Recorder(createObjectOutputStream());
+		return new Recorder(createDataOutputStream());
 	}
 }
@@ -0,0 +1,172 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.Tuple.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+
+/**
+ * Binary format of the test run database:
+ *
+ * <pre>
+ * file    := MAGIC VERSION record*
+ * record  := length(int) payload
+ * payload := uniqueId(string) status(byte) seed(string or -1) sample(bytes or -1) regressions?
+ * regressions := count(int) seed(long)*
+ * string  := length(int) utf8-bytes
+ * bytes   := length(int) serialized-list
+ * </pre>
+ *
+ * Records are only ever appended. A later record for the same unique id replaces an earlier one.
+ * Unique id and status come first so that records can be indexed without decoding samples.
+ * Regression seeds are optional so that records written before their introduction can still be read.
+ */
+class TestRunFormat {
+
+	static final int MAGIC = 0x4a514442; // "JQDB"
+	static final short VERSION = 1;
+
+	// Databases written before the binary format are plain object streams
+	static final short LEGACY_STREAM_MAGIC = (short) 0xaced;
+
+	private static final int NONE = -1;
+
+	private TestRunFormat() {
+	}
+
+	static void writeHeader(DataOutput out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeShort(VERSION);
+	}
+
+	static void writeRecord(DataOutput out, TestRun testRun) throws IOException {
+		writeRecord(out, encode(testRun));
+	}
+
+	static void writeRecord(DataOutput out, byte[] payload) throws IOException {
+		out.writeInt(payload.length);
+		out.write(payload);
+	}
+
+	/**
+	 * @param maxLength The length a record cannot exceed, e.g. the size of the database file.
+	 *                  Corrupt length fields are thereby detected before memory is allocated for them.
+	 * @return {@code null} if there is no complete record left
+	 */
+	static byte[] readRecord(DataInput in, long maxLength) throws IOException {
+		int length;
+		try {
+			length = in.readInt();
+		} catch (EOFException endOfRecords) {
+			return null;
+		}
+		if (length < 0 || length > maxLength) {
+			throw new IOException(String.format("Invalid record length %s", length));
+		}
+		byte[] payload = new byte[length];
+		in.readFully(payload);
+		return payload;
+	}
+
+	static Tuple2<String, Status> decodeUniqueIdAndStatus(byte[] payload) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		String uniqueId = readString(in);
+		if (uniqueId == null) {
+			throw new IOException("Record without unique id");
+		}
+		return Tuple.of(uniqueId, Status.values()[in.readByte()]);
+	}
+
+	static TestRun decode(byte[] payload) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+		String uniqueId = readString(in);
+		Status status = Status.values()[in.readByte()];
+		String seed = readString(in);
+		List<Object> sample = readSample(in);
+		List<Long> regressionSeeds = new ArrayList<>();
+		if (in.available() > 0) {
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				regressionSeeds.add(in.readLong());
+			}
+		}
+		return new TestRun(uniqueId, status, seed, sample, regressionSeeds);
+	}
+
+	static byte[] encode(TestRun testRun) throws IOException {
+		byte[] sample = testRun.falsifiedSample().map(TestRunFormat::serializeSample).orElse(null);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		writeString(out, testRun.getUniqueIdString());
+		out.writeByte(testRun.getStatus().ordinal());
+		writeString(out, testRun.randomSeed().orElse(null));
+		writeBytes(out, sample);
+		out.writeInt(testRun.regressionSeeds().size());
+		for (long regressionSeed : testRun.regressionSeeds()) {
+			out.writeLong(regressionSeed);
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	private static byte[] serializeSample(List<Object> sample) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+				out.writeObject(sample);
+			}
+			return bytes.toByteArray();
+		} catch (IOException notSerializable) {
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Object> readSample(DataInputStream in) throws IOException {
+		byte[] bytes = readBytes(in);
+		if (bytes == null) {
+			return null;
+		}
+		try (ObjectInputStream sampleIn = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			return (List<Object>) sampleIn.readObject();
+		} catch (ClassNotFoundException | IOException | ClassCastException sampleCannotBeRestored) {
+			// Sample classes may have changed since recording. Seed and status are still useful.
+			return null;
+		}
+	}
+
+	private static void writeString(DataOutput out, String string) throws IOException {
+		writeBytes(out, string == null ? null : string.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = readBytes(in);
+		return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeBytes(DataOutput out, byte[] bytes) throws IOException {
+		if (bytes == null) {
+			out.writeInt(NONE);
+			return;
+		}
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	// Only used for payloads in memory, whose available bytes are all that is left
+	private static byte[] readBytes(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length == NONE) {
+			return null;
+		}
+		if (length < 0 || length > in.available()) {
+			throw new IOException(String.format("Invalid length %s", length));
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+}
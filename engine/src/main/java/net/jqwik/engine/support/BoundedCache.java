@@ -0,0 +1,84 @@
+package net.jqwik.engine.support;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+
+/**
+ * A thread safe cache with a maximum number of entries.
+ * The least recently used entry is evicted first.
+ *
+ * <p>
+ * Values are computed outside of the cache's lock so that computing a value may use the cache itself.
+ * Concurrent computations of the same key may therefore happen; the last computed value is kept.
+ * </p>
+ */
+public class BoundedCache<K, V> {
+
+	private final Map<K, V> entries;
+	private volatile int maxSize;
+
+	/**
+	 * @param maxSize The maximum number of entries. {@code 0} switches caching off.
+	 */
+	public BoundedCache(int maxSize) {
+		checkMaxSize(maxSize);
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > BoundedCache.this.maxSize;
+			}
+		};
+	}
+
+	private static void checkMaxSize(int maxSize) {
+		if (maxSize < 0) {
+			throw new JqwikException(String.format("Cache size must not be negative but was %s", maxSize));
+		}
+	}
+
+	public synchronized Optional<V> get(K key) {
+		return Optional.ofNullable(entries.get(key));
+	}
+
+	public synchronized void put(K key, V value) {
+		if (maxSize == 0) {
+			return;
+		}
+		entries.put(key, value);
+	}
+
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+		Optional<V> cachedValue = get(key);
+		if (cachedValue.isPresent()) {
+			return cachedValue.get();
+		}
+		V value = mappingFunction.apply(key);
+		put(key, value);
+		return value;
+	}
+
+	public synchronized void setMaxSize(int maxSize) {
+		checkMaxSize(maxSize);
+		this.maxSize = maxSize;
+		Iterator<K> leastRecentlyUsedFirst = entries.keySet().iterator();
+		while (entries.size() > maxSize) {
+			leastRecentlyUsedFirst.next();
+			leastRecentlyUsedFirst.remove();
+		}
+	}
+
+	public int maxSize() {
+		return maxSize;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+}
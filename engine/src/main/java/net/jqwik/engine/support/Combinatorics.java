@@ -16,7 +16,14 @@ public class Combinatorics {
 		if (listOfIterables.isEmpty()) {
 			return emptyListSingleton();
 		}
-		return new CombinedIterator<>(listOfIterables);
+		return combinations(listOfIterables).iterator();
+	}
+
+	/**
+	 * All combinations of one value from each iterable, addressable by index.
+	 */
+	public static <T> MixedRadixCombinations<T> combinations(List<? extends Iterable<T>> listOfIterables) {
+		return new MixedRadixCombinations<>(listOfIterables);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,28 @@
+package net.jqwik.engine.support;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Creates daemon threads named {@code <prefix>-<pool number>-<thread number>}
+ * so that worker threads never keep the JVM alive and can be identified in thread dumps.
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+
+	private static final AtomicInteger POOL_COUNT = new AtomicInteger(0);
+
+	private final String namePrefix;
+	private final AtomicInteger threadCount = new AtomicInteger(0);
+
+	public DaemonThreadFactory(String prefix) {
+		this.namePrefix = String.format("%s-%s", prefix, POOL_COUNT.incrementAndGet());
+	}
+
+	@Override
+	public Thread newThread(Runnable runnable) {
+		String name = String.format("%s-%s", namePrefix, threadCount.incrementAndGet());
+		Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+}
@@ -18,6 +18,10 @@ import static net.jqwik.engine.support.OverriddenMethodAnnotationSupport.*;
 
 public class JqwikReflectionSupport {
 
+	private static final Method OBJECT_EQUALS = objectMethod("equals", Object.class);
+	private static final Method OBJECT_TO_STRING = objectMethod("toString");
+	private static final Method OBJECT_HASH_CODE = objectMethod("hashCode");
+
 	public static Stream<Object> streamInstancesFromInside(Object inner) {
 		return addInstances(inner, new ArrayList<>()).stream();
 	}
@@ -266,26 +270,23 @@ public class JqwikReflectionSupport {
 	}
 
 	public static boolean isEqualsMethod(Method method) {
-		try {
-			return method.equals(Object.class.getDeclaredMethod("equals", Object.class));
-		} catch (NoSuchMethodException shouldNeverHappen) {
-			return false;
-		}
+		return method.equals(OBJECT_EQUALS);
 	}
 
 	public static boolean isToStringMethod(Method method) {
-		try {
-			return method.equals(Object.class.getDeclaredMethod("toString"));
-		} catch (NoSuchMethodException shouldNeverHappen) {
-			return false;
-		}
+		return method.equals(OBJECT_TO_STRING);
 	}
 
 	public static boolean isHashCodeMethod(Method method) {
+		return method.equals(OBJECT_HASH_CODE);
+	}
+
+	// Looked up once since a lookup copies the method, e.g. for each call of a generated function
+	private static Method objectMethod(String name, Class<?>... parameterTypes) {
 		try {
-			return method.equals(Object.class.getDeclaredMethod("hashCode"));
+			return Object.class.getDeclaredMethod(name, parameterTypes);
 		} catch (NoSuchMethodException shouldNeverHappen) {
-			return false;
+			return JqwikExceptionSupport.throwAsUncheckedException(shouldNeverHappen);
 		}
 	}
 
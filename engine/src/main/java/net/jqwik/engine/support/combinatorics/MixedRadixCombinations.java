@@ -0,0 +1,213 @@
+package net.jqwik.engine.support.combinatorics;
+
+import java.util.*;
+
+/**
+ * All combinations of one value from each dimension.
+ * Combination number k is computed directly by reading k as a mixed-radix number
+ * whose digits are the value positions in each dimension. The last dimension varies fastest.
+ *
+ * <p>
+ * That way any range of combinations can be iterated on its own, e.g. to partition
+ * the combinations across threads, and iterators can skip combinations in constant time.
+ * </p>
+ *
+ * <p>
+ * Like nested loops an iterator iterates a dimension again whenever it starts over with this dimension.
+ * Generators that create new values in each iteration will thereby not share mutable values between combinations.
+ * This also holds for ranges created by {@linkplain #split(int)}.
+ * </p>
+ */
+public class MixedRadixCombinations<T> implements Iterable<List<T>> {
+
+	private final List<? extends Iterable<T>> dimensions;
+	private final List<List<T>> values;
+	private final int[] radices;
+	private final long size;
+
+	// Values can only be iterated once for some generators, e.g. if they are streams
+	private boolean valuesTaken = false;
+
+	public MixedRadixCombinations(List<? extends Iterable<T>> dimensions) {
+		this.dimensions = dimensions;
+		this.values = new ArrayList<>(dimensions.size());
+		this.radices = new int[dimensions.size()];
+		long size = 1;
+		for (int i = 0; i < radices.length; i++) {
+			values.add(valuesOf(i));
+			radices[i] = values.get(i).size();
+			size = multiplySaturated(size, radices[i]);
+		}
+		this.size = size;
+	}
+
+	// Numbers of combinations beyond Long.MAX_VALUE cannot be iterated anyway
+	private static long multiplySaturated(long size, int radix) {
+		try {
+			return Math.multiplyExact(size, radix);
+		} catch (ArithmeticException overflow) {
+			return Long.MAX_VALUE;
+		}
+	}
+
+	private List<T> valuesOf(int dimension) {
+		List<T> dimensionValues = new ArrayList<>();
+		dimensions.get(dimension).forEach(dimensionValues::add);
+		return dimensionValues;
+	}
+
+	// The first iterator takes over the values that were iterated to count them
+	private synchronized List<List<T>> takeValues() {
+		if (!valuesTaken) {
+			valuesTaken = true;
+			return values;
+		}
+		List<List<T>> freshValues = new ArrayList<>(radices.length);
+		for (int i = 0; i < radices.length; i++) {
+			freshValues.add(valuesOf(i));
+		}
+		return freshValues;
+	}
+
+	public long size() {
+		return size;
+	}
+
+	public List<T> combination(long index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(String.format("Combination %s not in [0, %s)", index, size));
+		}
+		int[] digits = new int[radices.length];
+		setDigits(digits, index);
+		return valuesAt(values, digits);
+	}
+
+	@Override
+	public CombinationsIterator iterator() {
+		return iterator(0, size);
+	}
+
+	/**
+	 * @param fromIndex    index of first combination
+	 * @param toIndex      index after last combination
+	 */
+	public CombinationsIterator iterator(long fromIndex, long toIndex) {
+		if (fromIndex < 0 || fromIndex > toIndex || toIndex > size) {
+			throw new IndexOutOfBoundsException(String.format("Range [%s, %s) not in [0, %s)", fromIndex, toIndex, size));
+		}
+		return new CombinationsIterator(fromIndex, toIndex);
+	}
+
+	/**
+	 * Split all combinations into at most {@code count} adjacent ranges of about the same size.
+	 *
+	 * <p>
+	 * Each range iterates the dimensions on its own so that ranges do not share mutable values.
+	 * Ranges can be used in different threads but not at the same time
+	 * since dimensions need not be safe to iterate concurrently.
+	 * </p>
+	 */
+	public List<CombinationsIterator> split(int count) {
+		List<CombinationsIterator> ranges = new ArrayList<>();
+		long rangeSize = Math.max(1, size / count + (size % count == 0 ? 0 : 1));
+		long from = 0;
+		while (from < size) {
+			long to = from + Math.min(rangeSize, size - from);
+			ranges.add(new CombinationsIterator(from, to));
+			from = to;
+		}
+		return ranges;
+	}
+
+	private void setDigits(int[] digits, long index) {
+		for (int i = radices.length - 1; i >= 0; i--) {
+			digits[i] = (int) (index % radices[i]);
+			index /= radices[i];
+		}
+	}
+
+	private List<T> valuesAt(List<List<T>> values, int[] digits) {
+		List<T> combination = new ArrayList<>(digits.length);
+		for (int i = 0; i < digits.length; i++) {
+			combination.add(values.get(i).get(digits[i]));
+		}
+		return combination;
+	}
+
+	public class CombinationsIterator implements Iterator<List<T>> {
+
+		// Reused for all combinations of this iterator
+		private final int[] digits = new int[radices.length];
+		private final List<List<T>> iteratedValues;
+		private final long toIndex;
+		private long nextIndex;
+
+		private CombinationsIterator(long fromIndex, long toIndex) {
+			this.toIndex = toIndex;
+			this.nextIndex = fromIndex;
+			if (fromIndex >= toIndex) {
+				this.iteratedValues = Collections.emptyList();
+			} else {
+				this.iteratedValues = new ArrayList<>(takeValues());
+			}
+			if (fromIndex < toIndex) {
+				setDigits(digits, fromIndex);
+			}
+		}
+
+		/**
+		 * @return the index of the combination that the next call to {@linkplain #next()} will return
+		 */
+		public long nextIndex() {
+			return nextIndex;
+		}
+
+		public void skip(long count) {
+			nextIndex = count >= toIndex - nextIndex ? toIndex : nextIndex + count;
+			if (nextIndex < toIndex) {
+				int[] previousDigits = digits.clone();
+				setDigits(digits, nextIndex);
+				refreshAfterFirstChange(previousDigits);
+			}
+		}
+
+		// Dimensions after a changed digit have started over like in increment()
+		private void refreshAfterFirstChange(int[] previousDigits) {
+			int firstChange = 0;
+			while (firstChange < digits.length && digits[firstChange] == previousDigits[firstChange]) {
+				firstChange++;
+			}
+			for (int i = firstChange + 1; i < digits.length; i++) {
+				iteratedValues.set(i, valuesOf(i));
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return nextIndex < toIndex;
+		}
+
+		@Override
+		public List<T> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<T> combination = valuesAt(iteratedValues, digits);
+			nextIndex++;
+			if (nextIndex < toIndex) {
+				increment();
+			}
+			return combination;
+		}
+
+		private void increment() {
+			for (int i = digits.length - 1; i >= 0; i--) {
+				if (++digits[i] < radices[i]) {
+					return;
+				}
+				digits[i] = 0;
+				iteratedValues.set(i, valuesOf(i));
+			}
+		}
+	}
+}
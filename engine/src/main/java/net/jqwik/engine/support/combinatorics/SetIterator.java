@@ -11,11 +11,7 @@ public class SetIterator<T> implements Iterator<Set<T>> {
 
 	public SetIterator(Iterable<T> elementIterable, int setSize) {
 		this.setSize = setSize;
-		List<Iterable<T>> iterables = new ArrayList<>();
-		for (int i = 0; i < setSize; i++) {
-			iterables.add(elementIterable);
-		}
-		combinedListIterator = new CombinedIterator<>(iterables);
+		combinedListIterator = new MixedRadixCombinations<>(Collections.nCopies(setSize, elementIterable)).iterator();
 		next = findNext();
 	}
 
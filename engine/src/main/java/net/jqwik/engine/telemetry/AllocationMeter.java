@@ -0,0 +1,42 @@
+package net.jqwik.engine.telemetry;
+
+import java.lang.management.*;
+
+/**
+ * Reads the number of bytes the current thread has allocated so far.
+ * Only HotSpot based JVMs provide this number; on other JVMs allocations are not measured.
+ */
+class AllocationMeter {
+
+	private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = loadThreadMXBean();
+
+	private AllocationMeter() {
+	}
+
+	private static com.sun.management.ThreadMXBean loadThreadMXBean() {
+		try {
+			ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+			if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+				return null;
+			}
+			com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+			if (!sunThreadMXBean.isThreadAllocatedMemorySupported() || !sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+				return null;
+			}
+			return sunThreadMXBean;
+		} catch (LinkageError | SecurityException | UnsupportedOperationException notAvailable) {
+			return null;
+		}
+	}
+
+	static boolean isSupported() {
+		return THREAD_MX_BEAN != null;
+	}
+
+	static long currentThreadAllocatedBytes() {
+		if (THREAD_MX_BEAN == null) {
+			return 0;
+		}
+		return THREAD_MX_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+}
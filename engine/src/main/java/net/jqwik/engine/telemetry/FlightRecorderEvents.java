@@ -0,0 +1,60 @@
+package net.jqwik.engine.telemetry;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Emits Java Flight Recorder events for properties, tries, shrinking steps and filter misses.
+ *
+ * <p>
+ * This is the Java 8 version, which records nothing.
+ * The engine jar is a multi-release jar whose Java 11 version of this class
+ * lives in {@code META-INF/versions/11} and emits events through {@code jdk.jfr}.
+ * </p>
+ *
+ * <p>
+ * Every event is started by a {@code ...Started()} method that returns an event handle,
+ * which must be handed to the corresponding {@code ...Finished(...)} method.
+ * The handle is {@code null} if the event is not enabled in the current recording.
+ * In that case nothing is allocated and finishing the event does nothing.
+ * </p>
+ */
+public class FlightRecorderEvents {
+
+	private FlightRecorderEvents() {
+	}
+
+	public static boolean isAvailable() {
+		return false;
+	}
+
+	public static Object propertyStarted() {
+		return null;
+	}
+
+	public static void propertyFinished(Object event, String propertyName, String seed, String status, int tries, int checks) {
+	}
+
+	public static Object tryStarted() {
+		return null;
+	}
+
+	/**
+	 * @param tryIndex The index of the try in the order in which tries were generated
+	 */
+	public static void tryFinished(Object event, String propertyName, String seed, int tryIndex, TryExecutionResult.Status status) {
+	}
+
+	public static Object shrinkingStepStarted() {
+		return null;
+	}
+
+	public static void shrinkingStepFinished(Object event, int step, int candidates, String distance) {
+	}
+
+	public static Object filterMissesStarted() {
+		return null;
+	}
+
+	public static void filterMissesFinished(Object event, long misses, boolean tooManyMisses) {
+	}
+}
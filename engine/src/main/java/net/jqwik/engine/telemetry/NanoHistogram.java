@@ -0,0 +1,115 @@
+package net.jqwik.engine.telemetry;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A histogram of durations in nanoseconds with one bucket per power of two.
+ * Recording is lock free so that concurrently executed tries can record into the same histogram.
+ */
+public class NanoHistogram {
+
+	private static final int BUCKETS = 64;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	public void record(long nanos) {
+		long value = Math.max(nanos, 0);
+		buckets.incrementAndGet(bucketIndex(value));
+		count.increment();
+		total.add(value);
+		max.accumulateAndGet(value, Math::max);
+	}
+
+	// Bucket 0 holds 0, bucket i holds values from 2^(i-1) to 2^i - 1
+	static int bucketIndex(long nanos) {
+		return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+	}
+
+	static long upperBound(int bucketIndex) {
+		if (bucketIndex >= BUCKETS - 1) {
+			return Long.MAX_VALUE;
+		}
+		return (1L << bucketIndex) - 1;
+	}
+
+	public long count() {
+		return count.sum();
+	}
+
+	public long totalNanos() {
+		return total.sum();
+	}
+
+	public long maxNanos() {
+		return max.get();
+	}
+
+	public long meanNanos() {
+		long count = count();
+		return count == 0 ? 0 : totalNanos() / count;
+	}
+
+	/**
+	 * Buckets are a power of two wide, so the value is an estimate.
+	 *
+	 * @param percentile A value between 0 and 100
+	 * @return The upper bound of the bucket into which the percentile falls but never more than the maximum
+	 */
+	public long percentileNanos(double percentile) {
+		long count = count();
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += buckets.get(i);
+			if (seen >= rank) {
+				return Math.min(upperBound(i), maxNanos());
+			}
+		}
+		return maxNanos();
+	}
+
+	/**
+	 * @return The count of each non empty bucket mapped by the bucket's upper bound
+	 */
+	public SortedMap<Long, Long> buckets() {
+		SortedMap<Long, Long> nonEmptyBuckets = new TreeMap<>();
+		for (int i = 0; i < BUCKETS; i++) {
+			long bucketCount = buckets.get(i);
+			if (bucketCount > 0) {
+				nonEmptyBuckets.put(upperBound(i), bucketCount);
+			}
+		}
+		return nonEmptyBuckets;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+			"%d x %s (p99 %s, max %s)",
+			count(),
+			formatNanos(meanNanos()),
+			formatNanos(percentileNanos(99)),
+			formatNanos(maxNanos())
+		);
+	}
+
+	static String formatNanos(long nanos) {
+		if (nanos < 1_000L) {
+			return nanos + "ns";
+		}
+		if (nanos < 1_000_000L) {
+			return String.format(Locale.ROOT, "%.1fus", nanos / 1_000.0);
+		}
+		if (nanos < 1_000_000_000L) {
+			return String.format(Locale.ROOT, "%.1fms", nanos / 1_000_000.0);
+		}
+		return String.format(Locale.ROOT, "%.2fs", nanos / 1_000_000_000.0);
+	}
+}
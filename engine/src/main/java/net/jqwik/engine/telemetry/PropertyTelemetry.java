@@ -0,0 +1,183 @@
+package net.jqwik.engine.telemetry;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import net.jqwik.api.lifecycle.*;
+
+/**
+ * Collects where time goes while a single property is checked.
+ * All measurements are thread safe since tries and shrinking candidates may run concurrently.
+ *
+ * <p>
+ * The time of a try is split into the property method itself and everything around it,
+ * which is mostly the time spent in around try hooks.
+ * Filter misses are counted for generation that happens within {@linkplain #measureGeneration(Supplier)}.
+ * Allocated bytes are an estimate taken from the JVM's per thread allocation counter
+ * and are only available on HotSpot based JVMs.
+ * </p>
+ */
+public class PropertyTelemetry {
+
+	public static final PropertyTelemetry DISABLED = new PropertyTelemetry(false);
+
+	private static final ThreadLocal<PropertyTelemetry> currentGeneration = new ThreadLocal<>();
+	private static final ThreadLocal<long[]> currentTryBodyNanos = new ThreadLocal<>();
+
+	private final boolean enabled;
+	private final Map<TelemetryPhase, NanoHistogram> histograms = new EnumMap<>(TelemetryPhase.class);
+	private final LongAdder filterMisses = new LongAdder();
+	private final LongAdder allocatedBytes = new LongAdder();
+	private final AtomicInteger shrinkingSteps = new AtomicInteger(0);
+	private final AtomicInteger shrinkingCacheHits = new AtomicInteger(0);
+	private final AtomicInteger shrinkingCacheMisses = new AtomicInteger(0);
+
+	public PropertyTelemetry() {
+		this(true);
+	}
+
+	private PropertyTelemetry(boolean enabled) {
+		this.enabled = enabled;
+		for (TelemetryPhase phase : TelemetryPhase.values()) {
+			histograms.put(phase, new NanoHistogram());
+		}
+	}
+
+	/**
+	 * Called by generators that reject generated values, e.g. filters.
+	 * Misses are only counted when the current thread generates parameters for a measured property.
+	 */
+	public static void recordFilterMisses(long misses) {
+		if (misses == 0) {
+			return;
+		}
+		PropertyTelemetry telemetry = currentGeneration.get();
+		if (telemetry != null) {
+			telemetry.filterMisses.add(misses);
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public <T> T measureGeneration(Supplier<T> generation) {
+		if (!enabled) {
+			return generation.get();
+		}
+		PropertyTelemetry previous = currentGeneration.get();
+		currentGeneration.set(this);
+		long allocatedBefore = AllocationMeter.currentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		try {
+			return generation.get();
+		} finally {
+			histograms.get(TelemetryPhase.GENERATION).record(System.nanoTime() - start);
+			allocatedBytes.add(AllocationMeter.currentThreadAllocatedBytes() - allocatedBefore);
+			restore(currentGeneration, previous);
+		}
+	}
+
+	public TryExecutionResult measureTry(Supplier<TryExecutionResult> tryExecution) {
+		if (!enabled) {
+			return tryExecution.get();
+		}
+		long[] previousBodyNanos = currentTryBodyNanos.get();
+		long[] bodyNanos = {0};
+		currentTryBodyNanos.set(bodyNanos);
+		long allocatedBefore = AllocationMeter.currentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		try {
+			return tryExecution.get();
+		} finally {
+			long tryNanos = System.nanoTime() - start;
+			histograms.get(TelemetryPhase.PROPERTY_BODY).record(bodyNanos[0]);
+			histograms.get(TelemetryPhase.LIFECYCLE_HOOKS).record(tryNanos - bodyNanos[0]);
+			allocatedBytes.add(AllocationMeter.currentThreadAllocatedBytes() - allocatedBefore);
+			restore(currentTryBodyNanos, previousBodyNanos);
+		}
+	}
+
+	/**
+	 * Only invocations within {@linkplain #measureTry(Supplier)} are measured.
+	 * Invocations while shrinking are part of {@linkplain #measureShrinkingCandidate(Supplier)}.
+	 */
+	public <T> T measureBody(Supplier<T> body) {
+		long[] bodyNanos = enabled ? currentTryBodyNanos.get() : null;
+		if (bodyNanos == null) {
+			return body.get();
+		}
+		long start = System.nanoTime();
+		try {
+			return body.get();
+		} finally {
+			bodyNanos[0] += System.nanoTime() - start;
+		}
+	}
+
+	public TryExecutionResult measureShrinkingCandidate(Supplier<TryExecutionResult> candidateExecution) {
+		if (!enabled) {
+			return candidateExecution.get();
+		}
+		long allocatedBefore = AllocationMeter.currentThreadAllocatedBytes();
+		long start = System.nanoTime();
+		try {
+			return candidateExecution.get();
+		} finally {
+			histograms.get(TelemetryPhase.SHRINKING).record(System.nanoTime() - start);
+			allocatedBytes.add(AllocationMeter.currentThreadAllocatedBytes() - allocatedBefore);
+		}
+	}
+
+	public void recordShrinkingSteps(int steps) {
+		shrinkingSteps.set(steps);
+	}
+
+	/**
+	 * @param hits   Shrinking candidates whose result was taken from the falsification cache
+	 * @param misses Shrinking candidates that had to be executed
+	 */
+	public void recordShrinkingCache(int hits, int misses) {
+		shrinkingCacheHits.set(hits);
+		shrinkingCacheMisses.set(misses);
+	}
+
+	private static <T> void restore(ThreadLocal<T> threadLocal, T previous) {
+		if (previous == null) {
+			threadLocal.remove();
+		} else {
+			threadLocal.set(previous);
+		}
+	}
+
+	public NanoHistogram histogram(TelemetryPhase phase) {
+		return histograms.get(phase);
+	}
+
+	public long filterMisses() {
+		return filterMisses.sum();
+	}
+
+	public int shrinkingSteps() {
+		return shrinkingSteps.get();
+	}
+
+	public int shrinkingCacheHits() {
+		return shrinkingCacheHits.get();
+	}
+
+	public int shrinkingCacheMisses() {
+		return shrinkingCacheMisses.get();
+	}
+
+	/**
+	 * @return Estimated bytes allocated during generation, tries and shrinking, or empty if the JVM cannot tell
+	 */
+	public Optional<Long> allocatedBytes() {
+		if (!AllocationMeter.isSupported()) {
+			return Optional.empty();
+		}
+		return Optional.of(allocatedBytes.sum());
+	}
+}
@@ -0,0 +1,125 @@
+package net.jqwik.engine.telemetry;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.logging.*;
+
+import org.junit.platform.engine.*;
+
+/**
+ * Collects the telemetry of all properties in a test run and writes it as one JSON document
+ * when the run is finished. The file is replaced with each run.
+ */
+public class TelemetryFile implements TelemetryRecorder {
+
+	private static final Logger LOG = Logger.getLogger(TelemetryFile.class.getName());
+
+	private static final double[] PERCENTILES = {50, 90, 99};
+
+	private final Path telemetryPath;
+	private final Map<UniqueId, PropertyTelemetry> recordedTelemetry = new LinkedHashMap<>();
+
+	public TelemetryFile(Path telemetryPath) {
+		this.telemetryPath = telemetryPath;
+	}
+
+	@Override
+	public synchronized void record(UniqueId propertyId, PropertyTelemetry telemetry) {
+		recordedTelemetry.put(propertyId, telemetry);
+	}
+
+	@Override
+	public synchronized void close() {
+		Path writingPath = telemetryPath.resolveSibling(telemetryPath.getFileName() + ".writing");
+		try {
+			Files.write(writingPath, toJson(recordedTelemetry).getBytes(StandardCharsets.UTF_8));
+			Files.move(writingPath, telemetryPath, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			LOG.log(Level.WARNING, e, () -> String.format("Cannot write telemetry [%s]", telemetryPath.toAbsolutePath()));
+		}
+	}
+
+	static String toJson(Map<UniqueId, PropertyTelemetry> telemetryByProperty) {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n  \"properties\": [");
+		String propertySeparator = "\n";
+		for (Map.Entry<UniqueId, PropertyTelemetry> entry : telemetryByProperty.entrySet()) {
+			json.append(propertySeparator);
+			appendProperty(json, entry.getKey(), entry.getValue());
+			propertySeparator = ",\n";
+		}
+		json.append("\n  ]\n}\n");
+		return json.toString();
+	}
+
+	private static void appendProperty(StringBuilder json, UniqueId propertyId, PropertyTelemetry telemetry) {
+		json.append("    {\n");
+		json.append("      \"id\": ").append(quote(propertyId.toString())).append(",\n");
+		json.append("      \"filterMisses\": ").append(telemetry.filterMisses()).append(",\n");
+		json.append("      \"shrinkingSteps\": ").append(telemetry.shrinkingSteps()).append(",\n");
+		json.append("      \"shrinkingCacheHits\": ").append(telemetry.shrinkingCacheHits()).append(",\n");
+		json.append("      \"shrinkingCacheMisses\": ").append(telemetry.shrinkingCacheMisses()).append(",\n");
+		json.append("      \"allocatedBytes\": ")
+			.append(telemetry.allocatedBytes().map(Object::toString).orElse("null"))
+			.append(",\n");
+		json.append("      \"phases\": {");
+		String phaseSeparator = "\n";
+		for (TelemetryPhase phase : TelemetryPhase.values()) {
+			json.append(phaseSeparator);
+			appendHistogram(json, phase.key(), telemetry.histogram(phase));
+			phaseSeparator = ",\n";
+		}
+		json.append("\n      }\n");
+		json.append("    }");
+	}
+
+	private static void appendHistogram(StringBuilder json, String key, NanoHistogram histogram) {
+		json.append("        ").append(quote(key)).append(": {");
+		json.append("\"count\": ").append(histogram.count());
+		json.append(", \"totalNanos\": ").append(histogram.totalNanos());
+		json.append(", \"meanNanos\": ").append(histogram.meanNanos());
+		for (double percentile : PERCENTILES) {
+			json.append(String.format(", \"p%dNanos\": ", (int) percentile)).append(histogram.percentileNanos(percentile));
+		}
+		json.append(", \"maxNanos\": ").append(histogram.maxNanos());
+		json.append(", \"buckets\": {");
+		String bucketSeparator = "";
+		for (Map.Entry<Long, Long> bucket : histogram.buckets().entrySet()) {
+			json.append(bucketSeparator).append(quote(bucket.getKey().toString())).append(": ").append(bucket.getValue());
+			bucketSeparator = ", ";
+		}
+		json.append("}}");
+	}
+
+	static String quote(String value) {
+		StringBuilder quoted = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"':
+					quoted.append("\\\"");
+					break;
+				case '\\':
+					quoted.append("\\\\");
+					break;
+				case '\n':
+					quoted.append("\\n");
+					break;
+				case '\r':
+					quoted.append("\\r");
+					break;
+				case '\t':
+					quoted.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						quoted.append(String.format("\\u%04x", (int) c));
+					} else {
+						quoted.append(c);
+					}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+}
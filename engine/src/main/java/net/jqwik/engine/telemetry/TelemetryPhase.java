@@ -0,0 +1,34 @@
+package net.jqwik.engine.telemetry;
+
+public enum TelemetryPhase {
+
+	/**
+	 * Generating the parameters of a single try
+	 */
+	GENERATION("generation"),
+
+	/**
+	 * Executing a single try without the property method itself, i.e. around try hooks
+	 */
+	LIFECYCLE_HOOKS("hooks"),
+
+	/**
+	 * Invoking the property method during a single try
+	 */
+	PROPERTY_BODY("body"),
+
+	/**
+	 * Checking a single shrinking candidate including lifecycle hooks
+	 */
+	SHRINKING("shrinking");
+
+	private final String key;
+
+	TelemetryPhase(String key) {
+		this.key = key;
+	}
+
+	public String key() {
+		return key;
+	}
+}
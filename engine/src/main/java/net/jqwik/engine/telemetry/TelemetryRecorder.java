@@ -0,0 +1,11 @@
+package net.jqwik.engine.telemetry;
+
+import org.junit.platform.engine.*;
+
+public interface TelemetryRecorder extends AutoCloseable {
+	void record(UniqueId propertyId, PropertyTelemetry telemetry);
+
+	default void close() {}
+
+	TelemetryRecorder NULL = (propertyId, telemetry) -> { };
+}
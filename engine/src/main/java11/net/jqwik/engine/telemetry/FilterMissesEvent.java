@@ -0,0 +1,17 @@
+package net.jqwik.engine.telemetry;
+
+import jdk.jfr.*;
+
+@Name("net.jqwik.FilterMisses")
+@Label("Filter Misses")
+@Category("jqwik")
+@Description("Values rejected in a row while generating a single value, e.g. by a filter")
+class FilterMissesEvent extends Event {
+
+	@Label("Misses")
+	long misses;
+
+	@Label("Too Many Misses")
+	@Description("Generation gave up because no value was accepted")
+	boolean tooManyMisses;
+}
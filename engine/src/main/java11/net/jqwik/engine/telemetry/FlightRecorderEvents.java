@@ -0,0 +1,140 @@
+package net.jqwik.engine.telemetry;
+
+import jdk.jfr.*;
+
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+
+/**
+ * Emits Java Flight Recorder events for properties, tries, shrinking steps and filter misses.
+ *
+ * <p>
+ * This is the Java 11 version, which emits events through {@code jdk.jfr}
+ * if the module is part of the runtime image.
+ * Whether an event type is enabled is checked before anything is allocated,
+ * so that events cost next to nothing as long as no recording asks for them.
+ * </p>
+ *
+ * <p>
+ * Every event is started by a {@code ...Started()} method that returns an event handle,
+ * which must be handed to the corresponding {@code ...Finished(...)} method.
+ * The handle is {@code null} if the event is not enabled in the current recording.
+ * In that case nothing is allocated and finishing the event does nothing.
+ * </p>
+ */
+public class FlightRecorderEvents {
+
+	private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+	private FlightRecorderEvents() {
+	}
+
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	public static Object propertyStarted() {
+		if (!AVAILABLE || !EventTypes.PROPERTY.isEnabled()) {
+			return null;
+		}
+		PropertyEvent event = new PropertyEvent();
+		event.begin();
+		return event;
+	}
+
+	public static void propertyFinished(Object event, String propertyName, String seed, String status, int tries, int checks) {
+		if (event == null) {
+			return;
+		}
+		PropertyEvent propertyEvent = (PropertyEvent) event;
+		propertyEvent.end();
+		if (propertyEvent.shouldCommit()) {
+			propertyEvent.propertyName = propertyName;
+			propertyEvent.seed = seed;
+			propertyEvent.status = status;
+			propertyEvent.tries = tries;
+			propertyEvent.checks = checks;
+			propertyEvent.commit();
+		}
+	}
+
+	public static Object tryStarted() {
+		if (!AVAILABLE || !EventTypes.TRY.isEnabled()) {
+			return null;
+		}
+		TryEvent event = new TryEvent();
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * @param tryIndex The index of the try in the order in which tries were generated
+	 */
+	public static void tryFinished(Object event, String propertyName, String seed, int tryIndex, TryExecutionResult.Status status) {
+		if (event == null) {
+			return;
+		}
+		TryEvent tryEvent = (TryEvent) event;
+		tryEvent.end();
+		if (tryEvent.shouldCommit()) {
+			tryEvent.propertyName = propertyName;
+			tryEvent.tryIndex = tryIndex;
+			tryEvent.tryId = SourceOfRandomness.derivedSeed(seed, tryIndex);
+			tryEvent.status = status.name();
+			tryEvent.commit();
+		}
+	}
+
+	public static Object shrinkingStepStarted() {
+		if (!AVAILABLE || !EventTypes.SHRINKING_STEP.isEnabled()) {
+			return null;
+		}
+		ShrinkingStepEvent event = new ShrinkingStepEvent();
+		event.begin();
+		return event;
+	}
+
+	public static void shrinkingStepFinished(Object event, int step, int candidates, String distance) {
+		if (event == null) {
+			return;
+		}
+		ShrinkingStepEvent stepEvent = (ShrinkingStepEvent) event;
+		stepEvent.end();
+		if (stepEvent.shouldCommit()) {
+			stepEvent.step = step;
+			stepEvent.candidates = candidates;
+			stepEvent.distance = distance;
+			stepEvent.commit();
+		}
+	}
+
+	public static Object filterMissesStarted() {
+		if (!AVAILABLE || !EventTypes.FILTER_MISSES.isEnabled()) {
+			return null;
+		}
+		FilterMissesEvent event = new FilterMissesEvent();
+		event.begin();
+		return event;
+	}
+
+	public static void filterMissesFinished(Object event, long misses, boolean tooManyMisses) {
+		if (event == null) {
+			return;
+		}
+		FilterMissesEvent missesEvent = (FilterMissesEvent) event;
+		missesEvent.end();
+		if (missesEvent.shouldCommit()) {
+			missesEvent.misses = misses;
+			missesEvent.tooManyMisses = tooManyMisses;
+			missesEvent.commit();
+		}
+	}
+
+	// Only loaded if jdk.jfr is available
+	private static class EventTypes {
+		private static final EventType PROPERTY = EventType.getEventType(PropertyEvent.class);
+		private static final EventType TRY = EventType.getEventType(TryEvent.class);
+		private static final EventType SHRINKING_STEP = EventType.getEventType(ShrinkingStepEvent.class);
+		private static final EventType FILTER_MISSES = EventType.getEventType(FilterMissesEvent.class);
+	}
+}
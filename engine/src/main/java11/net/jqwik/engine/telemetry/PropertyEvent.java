@@ -0,0 +1,25 @@
+package net.jqwik.engine.telemetry;
+
+import jdk.jfr.*;
+
+@Name("net.jqwik.Property")
+@Label("Property")
+@Category("jqwik")
+@Description("Checking a property from the first generated try until shrinking is finished")
+class PropertyEvent extends Event {
+
+	@Label("Property")
+	String propertyName;
+
+	@Label("Seed")
+	String seed;
+
+	@Label("Status")
+	String status;
+
+	@Label("Tries")
+	int tries;
+
+	@Label("Checks")
+	int checks;
+}
@@ -0,0 +1,19 @@
+package net.jqwik.engine.telemetry;
+
+import jdk.jfr.*;
+
+@Name("net.jqwik.ShrinkingStep")
+@Label("Shrinking Step")
+@Category("jqwik")
+@Description("Searching shrinking candidates until a smaller falsified sample is found")
+class ShrinkingStepEvent extends Event {
+
+	@Label("Step")
+	int step;
+
+	@Label("Candidates")
+	int candidates;
+
+	@Label("Shrinking Distance")
+	String distance;
+}
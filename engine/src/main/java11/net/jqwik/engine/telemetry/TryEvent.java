@@ -0,0 +1,23 @@
+package net.jqwik.engine.telemetry;
+
+import jdk.jfr.*;
+
+@Name("net.jqwik.Try")
+@Label("Try")
+@Category("jqwik")
+@Description("Executing a single try of a property including its around try hooks")
+class TryEvent extends Event {
+
+	@Label("Property")
+	String propertyName;
+
+	@Label("Try Index")
+	int tryIndex;
+
+	@Label("Try Id")
+	@Description("Seed of the random that a randomized try generates its values from, i.e. the same in every run with the same seed")
+	long tryId;
+
+	@Label("Status")
+	String status;
+}
@@ -503,6 +503,27 @@ class ArbitrariesTests {
 			assertThat(counts.get("c")).isLessThan(counts.get("d"));
 		}
 
+		@Property(tries = 10)
+		void frequenciesOfSameValueAreAddedUp(@ForAll Random random) {
+			Arbitrary<String> one = Arbitraries.frequency(Tuple.of(1, "a"), Tuple.of(1, "b"), Tuple.of(1, "a"));
+			Map<String, Long> counts = count(one.generator(1000, true), 1000, random);
+			assertThat(counts.get("a")).isGreaterThan(counts.get("b"));
+		}
+
+		@Property(tries = 10)
+		void manyPairs(@ForAll Random random) {
+			List<Tuple.Tuple2<Integer, Integer>> frequencies = new ArrayList<>();
+			for (int i = 0; i < 500; i++) {
+				frequencies.add(Tuple.of(i % 2, i));
+			}
+			frequencies.add(Tuple.of(250, 1000));
+			Arbitrary<Integer> many = Arbitraries.frequency(frequencies);
+
+			Map<Integer, Long> counts = count(many.generator(1000), 1000, random);
+			assertThat(counts.keySet()).allMatch(value -> value % 2 == 1 || value == 1000);
+			assertThat(counts.get(1000)).isGreaterThan(400);
+		}
+
 		@Example
 		void noPositiveFrequencies() {
 			assertThatThrownBy(() -> Arbitraries.frequency(Tuple.of(0, "a"))).isInstanceOf(JqwikException.class);
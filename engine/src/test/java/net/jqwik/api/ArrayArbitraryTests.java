@@ -1,10 +1,12 @@
 package net.jqwik.api;
 
+import java.math.*;
 import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.testing.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -169,6 +171,76 @@ class ArrayArbitraryTests {
 		}
 	}
 
+	@Group
+	class PrimitiveArrays {
+
+		@Example
+		void intArraysWithinRangeAndSize(@ForAll Random random) {
+			ArrayArbitrary<Integer, int[]> arrays =
+					Arbitraries.integers().between(-5, 5).array(int[].class).ofMinSize(1000).ofMaxSize(2000);
+
+			assertAllGenerated(arrays.generator(1000, true), random, array -> {
+				assertThat(array.length).isBetween(1000, 2000);
+				assertThat(IntStream.of(array)).allMatch(i -> i >= -5 && i <= 5);
+			});
+		}
+
+		@Example
+		void byteArraysWithDefaultSize(@ForAll Random random) {
+			ArrayArbitrary<Byte, byte[]> arrays = Arbitraries.bytes().array(byte[].class);
+
+			assertAllGenerated(arrays.generator(1000), random, array -> {
+				assertThat(array.length).isBetween(0, 255);
+			});
+		}
+
+		@Example
+		void doubleArraysUseScaleOfElements(@ForAll Random random) {
+			ArrayArbitrary<Double, double[]> arrays =
+					Arbitraries.doubles().between(-1.0, 1.0).ofScale(3).array(double[].class).ofMaxSize(100);
+
+			assertAllGenerated(arrays.generator(1000), random, array -> {
+				assertThat(DoubleStream.of(array)).allMatch(d -> d >= -1.0 && d <= 1.0);
+				assertThat(DoubleStream.of(array)).allMatch(d -> BigDecimal.valueOf(d).scale() <= 3);
+			});
+		}
+
+		@Example
+		void elementEdgeCasesAreEmbedded(@ForAll Random random) {
+			ArrayArbitrary<Integer, int[]> arrays =
+					Arbitraries.integers().between(-1000, 1000).array(int[].class).ofMinSize(10);
+
+			assertAtLeastOneGenerated(arrays.generator(1000, true), random, array -> IntStream.of(array).anyMatch(i -> i == -1000));
+		}
+
+		@Example
+		void elementsOfNarrowerTypeAreWidened(@ForAll Random random) {
+			ArrayArbitrary<Byte, int[]> arrays = Arbitraries.bytes().between((byte) 1, (byte) 3).array(int[].class);
+
+			assertAllGenerated(arrays.generator(1000), random, array -> {
+				assertThat(IntStream.of(array)).allMatch(i -> i >= 1 && i <= 3);
+			});
+		}
+
+		@Property(tries = 100)
+		void shrinkToMinSizeAndShrinkingTarget(@ForAll Random random) {
+			ArrayArbitrary<Long, long[]> arrays =
+					Arbitraries.longs().between(100, 1000).array(long[].class).ofMinSize(3);
+
+			long[] value = falsifyThenShrink(arrays, random);
+			assertThat(value).containsExactly(100L, 100L, 100L);
+		}
+
+		@Property(tries = 100)
+		void shrinkDoubleArrays(@ForAll Random random) {
+			ArrayArbitrary<Double, double[]> arrays = Arbitraries.doubles().between(0.0, 10.0).array(double[].class);
+
+			TestingFalsifier<double[]> falsifier = array -> array.length < 2;
+			double[] value = falsifyThenShrink(arrays, random, falsifier);
+			assertThat(value).containsExactly(0.0, 0.0);
+		}
+	}
+
 	@Group
 	@PropertyDefaults(tries = 100)
 	class Shrinking {
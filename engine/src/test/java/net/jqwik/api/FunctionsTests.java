@@ -3,6 +3,7 @@ package net.jqwik.api;
 import java.util.*;
 import java.util.function.*;
 
+import net.jqwik.api.arbitraries.*;
 import net.jqwik.api.constraints.*;
 import net.jqwik.api.lifecycle.*;
 import net.jqwik.api.statistics.*;
@@ -305,6 +306,69 @@ class FunctionsTests {
 
 	}
 
+	@Group
+	class Memoized_results {
+
+		@Example
+		void same_result_instance_for_equal_parameters() {
+			Arbitrary<List<Integer>> lists = Arbitraries.integers().list().ofSize(5);
+			Arbitrary<BiFunction<String, Integer, List<Integer>>> functions =
+				Functions.function(BiFunction.class).returns(lists).memoize();
+
+			assertAllGenerated(
+				functions.generator(10, true),
+				function -> {
+					List<Integer> result = function.apply("hello", 42);
+					assertThat(function.apply(new String("hello"), 42)).isSameAs(result);
+					assertThat(function.apply("hello", 41)).hasSize(5);
+				}
+			);
+		}
+
+		@Example
+		void memoized_functions_return_same_results_as_not_memoized_ones() {
+			Arbitrary<Integer> integers = Arbitraries.integers().between(1, 100);
+			FunctionArbitrary<Function<String, Integer>, Integer> functions =
+				Functions.function(Function.class).returns(integers);
+
+			Function<String, Integer> function = functions.generator(10).next(new Random(42)).value();
+			Function<String, Integer> memoizedFunction = functions.memoize().generator(10).next(new Random(42)).value();
+
+			for (String aString : Arrays.asList("a", "b", "c", "a", null)) {
+				assertThat(memoizedFunction.apply(aString)).isEqualTo(function.apply(aString));
+			}
+		}
+
+		@Example
+		void conditional_answers_are_not_memoized(@ForAll Random random) {
+			Arbitrary<List<String>> lists = Arbitraries.strings().list();
+			Arbitrary<Function<String, List<String>>> functions =
+				Functions
+					.function(Function.class).returns(lists)
+					.when(params -> params.get(0).equals("new list"), params -> new ArrayList<>())
+					.memoize();
+
+			Function<String, List<String>> function = functions.generator(10).next(random).value();
+			assertThat(function.apply("new list")).isNotSameAs(function.apply("new list"));
+		}
+
+		@Example
+		void memoized_functions_are_shrunk_to_constant_functions(@ForAll Random random) {
+			Arbitrary<Integer> integers = Arbitraries.integers().between(1, 20);
+			Arbitrary<Function<String, Integer>> functions =
+				Functions.function(Function.class).returns(integers).memoize();
+
+			Falsifier<Function<String, Integer>> falsifier =
+				f -> (f.apply("value1") < 11) ?
+						 TryExecutionResult.satisfied() :
+						 TryExecutionResult.falsified(null);
+
+			Function<String, Integer> shrunkFunction = falsifyThenShrink(functions, random, falsifier);
+			assertThat(shrunkFunction.apply("value1")).isEqualTo(11);
+			assertThat(shrunkFunction.apply("any")).isEqualTo(11);
+		}
+	}
+
 	interface MySamType<P1, P2, R> {
 		R take(P1 p1, P2 p2);
 	}
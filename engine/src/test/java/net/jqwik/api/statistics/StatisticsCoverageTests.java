@@ -63,6 +63,21 @@ class StatisticsCoverageTests {
 		}
 	}
 
+	@Group
+	class ParallelTries {
+
+		@Property(tries = 5000, parallelism = 8)
+		void allCollectsOfConcurrentTriesAreCounted(@ForAll int anInt) {
+			Statistics.collect("x");
+			Statistics.label("sign").collect(anInt >= 0);
+
+			Statistics.coverage(statisticsCoverage -> statisticsCoverage.check("x").count(c -> c == 5000));
+			Statistics.label("sign").coverage(
+				statisticsCoverage -> statisticsCoverage.checkQuery(any -> true).count(c -> c == 5000)
+			);
+		}
+	}
+
 	@Group
 	class Count {
 		@Property(tries = 50)
@@ -16,8 +16,10 @@ import org.junit.platform.engine.reporting.*;
 import org.junit.platform.testkit.engine.*;
 
 import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
 import net.jqwik.engine.recording.*;
 import net.jqwik.engine.support.*;
+import net.jqwik.engine.telemetry.*;
 import net.jqwik.testing.*;
 
 import static org.junit.platform.engine.discovery.DiscoverySelectors.*;
@@ -66,6 +68,26 @@ class JqwikIntegrationTests {
 			public boolean reportOnlyFailures() {
 				return true;
 			}
+
+			@Override
+			public int executionParallelism() {
+				return 1;
+			}
+
+			@Override
+			public int resolutionCacheSize() {
+				return ResolutionCache.DEFAULT_MAX_SIZE;
+			}
+
+			@Override
+			public boolean memoizeValues() {
+				return false;
+			}
+
+			@Override
+			public TelemetryRecorder telemetryRecorder() {
+				return TelemetryRecorder.NULL;
+			}
 		};
 	}
 
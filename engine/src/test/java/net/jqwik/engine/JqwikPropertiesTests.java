@@ -32,10 +32,13 @@ class JqwikPropertiesTests {
 		});
 
 		assertThat(properties.runFailuresFirst()).isEqualTo(false);
+		assertThat(properties.maxRegressionSamples()).isEqualTo(0);
 		assertThat(properties.databasePath()).isEqualTo(".jqwik-database");
 
 		assertThat(properties.defaultTries()).isEqualTo(1000);
 		assertThat(properties.defaultMaxDiscardRatio()).isEqualTo(5);
+		assertThat(properties.defaultParallelism()).isEqualTo(1);
+		assertThat(properties.executionParallelism()).isEqualTo(1);
 
 		assertThat(properties.useJunitPlatformReporter()).isEqualTo(false);
 
@@ -50,6 +53,13 @@ class JqwikPropertiesTests {
 		assertThat(properties.defaultShrinking()).isEqualTo(ShrinkingMode.BOUNDED);
 
 		assertThat(properties.boundedShrinkingSeconds()).isEqualTo(10);
+		assertThat(properties.shrinkingCacheSize()).isEqualTo(1000);
+		assertThat(properties.shrinkingCacheFingerprints()).isEqualTo(false);
+		assertThat(properties.shrinkingParallel()).isEqualTo(false);
+		assertThat(properties.resolutionCacheSize()).isEqualTo(1000);
+		assertThat(properties.memoizeValues()).isEqualTo(false);
+		assertThat(properties.telemetryEnabled()).isEqualTo(false);
+		assertThat(properties.telemetryPath()).isEqualTo(".jqwik-telemetry.json");
 
 		assertThat(properties.fixedSeedMode()).isEqualTo(FixedSeedMode.ALLOW);
 	}
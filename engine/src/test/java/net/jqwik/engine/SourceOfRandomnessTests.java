@@ -0,0 +1,92 @@
+package net.jqwik.engine;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SourceOfRandomnessTests {
+
+	@Example
+	void sameSeedCreatesSameValues() {
+		Random random1 = SourceOfRandomness.newRandom(42L);
+		Random random2 = SourceOfRandomness.newRandom(42L);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(random1.nextLong()).isEqualTo(random2.nextLong());
+		}
+	}
+
+	@Example
+	void setSeedResetsValues() {
+		Random random = SourceOfRandomness.newRandom(42L);
+		long first = random.nextLong();
+		random.nextLong();
+
+		random.setSeed(42L);
+		assertThat(random.nextLong()).isEqualTo(first);
+	}
+
+	@Example
+	void derivedRandomDoesNotDependOnValuesAlreadyDrawn() {
+		Random random = SourceOfRandomness.newRandom(42L);
+		long derivedValue = SourceOfRandomness.derive(random, 5).nextLong();
+
+		random.nextLong();
+		random.nextInt(10);
+		assertThat(SourceOfRandomness.derive(random, 5).nextLong()).isEqualTo(derivedValue);
+	}
+
+	@Example
+	void derivedRandomsForDifferentIndicesDiffer() {
+		Random random = SourceOfRandomness.newRandom(42L);
+
+		Set<Long> values = new HashSet<>();
+		for (int index = 0; index < 100; index++) {
+			values.add(SourceOfRandomness.derive(random, index).nextLong());
+		}
+		assertThat(values).hasSize(100);
+	}
+
+	@Example
+	void derivedSeedIsSeedOfDerivedRandom() {
+		Random derived = SourceOfRandomness.derive(SourceOfRandomness.newRandom(42L), 7);
+		Random fromDerivedSeed = SourceOfRandomness.newRandom(SourceOfRandomness.derivedSeed("42", 7));
+
+		assertThat(fromDerivedSeed.nextLong()).isEqualTo(derived.nextLong());
+	}
+
+	@Example
+	void seedOfDerivedRandomIsDerivedSeed() {
+		Random derived = SourceOfRandomness.derive(SourceOfRandomness.newRandom(42L), 7);
+		derived.nextLong();
+
+		assertThat(SourceOfRandomness.seedOf(derived)).hasValue(SourceOfRandomness.derivedSeed("42", 7));
+		assertThat(SourceOfRandomness.seedOf(new Random(42L))).isEmpty();
+	}
+
+	@Example
+	void randomsNotCreatedBySourceOfRandomnessAreNotDerived() {
+		Random random = new Random(42L);
+		assertThat(SourceOfRandomness.derive(random, 1)).isSameAs(random);
+	}
+
+	@Property(tries = 100)
+	void boundedIntsAreWithinBound(@ForAll long seed, @ForAll @IntRange(min = 1) int bound) {
+		Random random = SourceOfRandomness.newRandom(seed);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextInt(bound)).isBetween(0, bound - 1);
+		}
+	}
+
+	@Property(tries = 100)
+	void doublesAreBetweenZeroAndOne(@ForAll long seed) {
+		Random random = SourceOfRandomness.newRandom(seed);
+		for (int i = 0; i < 100; i++) {
+			assertThat(random.nextDouble()).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+			assertThat(random.nextFloat()).isGreaterThanOrEqualTo(0.0f).isLessThan(1.0f);
+		}
+	}
+}
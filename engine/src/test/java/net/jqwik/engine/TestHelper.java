@@ -28,8 +28,17 @@ public class TestHelper {
 	public static final EdgeCasesMode DEFAULT_EDGE_CASES = EdgeCasesMode.MIXIN;
 	public static final ShrinkingMode DEFAULT_SHRINKING = ShrinkingMode.BOUNDED;
 	public static final FixedSeedMode DEFAULT_WHEN_FIXED_SEED = FixedSeedMode.ALLOW;
+	public static final int DEFAULT_PARALLELISM = 1;
+	public static final int SHRINKING_CACHE_SIZE = 1000;
+	public static final boolean SHRINKING_CACHE_FINGERPRINTS = false;
+	public static final boolean PARALLEL_SHRINKING = false;
+	public static final boolean TELEMETRY = false;
 
 	public static PropertyAttributesDefaults propertyAttributesDefaults() {
+		return propertyAttributesDefaults(PARALLEL_SHRINKING);
+	}
+
+	public static PropertyAttributesDefaults propertyAttributesDefaults(boolean parallelShrinking) {
 		return PropertyAttributesDefaults.with(
 			DEFAULT_TRIES,
 			DEFAULT_MAX_DISCARD_RATIO,
@@ -38,7 +47,12 @@ public class TestHelper {
 			DEFAULT_EDGE_CASES,
 			DEFAULT_SHRINKING,
 			BOUNDED_SHRINKING_SECONDS,
-			DEFAULT_WHEN_FIXED_SEED
+			DEFAULT_WHEN_FIXED_SEED,
+			DEFAULT_PARALLELISM,
+			SHRINKING_CACHE_SIZE,
+			SHRINKING_CACHE_FINGERPRINTS,
+			parallelShrinking,
+			TELEMETRY
 		);
 	}
 
@@ -84,6 +98,7 @@ public class TestHelper {
 			null,
 			null,
 			seed,
+			null,
 			null
 		);
 
@@ -175,6 +175,19 @@ class PropertyMethodResolverTest {
 			assertThat(propertyMethodDescriptor.getConfiguration().getFalsifiedSample()).isEqualTo(falsifiedSample);
 		}
 
+		@Example
+		void regressionSeedsOfPreviousRuns() {
+			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
+			Method method = TestHelper.getMethod(TestContainer.class, "previouslyFailed");
+			UniqueId previousId = JqwikUniqueIDs.appendProperty(classDescriptor.getUniqueId(), method);
+			List<Long> regressionSeeds = Arrays.asList(17L, 42L);
+			testRunData.add(new TestRun(previousId, Status.FAILED, "4243", null, regressionSeeds));
+			Set<TestDescriptor> descriptors = resolver.resolveElement(method, classDescriptor);
+
+			PropertyMethodDescriptor propertyMethodDescriptor = (PropertyMethodDescriptor) descriptors.iterator().next();
+			assertThat(propertyMethodDescriptor.getConfiguration().getRegressionSeeds()).isEqualTo(regressionSeeds);
+		}
+
 		@Example
 		void propertyThatDidNotPreviouslyFailWontHavePreviousSeed() {
 			ContainerClassDescriptor classDescriptor = buildContainerDescriptor(TestContainer.class);
@@ -123,6 +123,32 @@ class ContainerExecutionTests {
 		events.verify(eventRecorder).executionFinished(engineDescriptor, TestExecutionResult.successful());
 	}
 
+	@Example
+	void engineWithTwoClassesExecutedConcurrently() {
+		TestDescriptor engineDescriptor = forEngine(testEngine)
+			.with(forClass(ContainerClass.class, "succeeding", "failing"), forClass(SecondContainerClass.class, "succeeding")).build();
+
+		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false, 4)
+			.execute(engineDescriptor, eventRecorder);
+
+		InOrder engineEvents = Mockito.inOrder(eventRecorder);
+		engineEvents.verify(eventRecorder).executionStarted(engineDescriptor);
+		engineEvents.verify(eventRecorder).executionFinished(engineDescriptor, TestExecutionResult.successful());
+
+		InOrder containerEvents = Mockito.inOrder(eventRecorder);
+		containerEvents.verify(eventRecorder).executionStarted(isClassDescriptorFor(ContainerClass.class));
+		containerEvents.verify(eventRecorder).executionFinished(isPropertyDescriptorFor(ContainerClass.class, "failing"), isFailed("expected fail"));
+		containerEvents.verify(eventRecorder).executionFinished(isClassDescriptorFor(ContainerClass.class), isSuccessful());
+
+		InOrder secondContainerEvents = Mockito.inOrder(eventRecorder);
+		secondContainerEvents.verify(eventRecorder).executionStarted(isClassDescriptorFor(SecondContainerClass.class));
+		secondContainerEvents.verify(eventRecorder)
+							 .executionFinished(isPropertyDescriptorFor(SecondContainerClass.class, "succeeding"), isSuccessful());
+		secondContainerEvents.verify(eventRecorder).executionFinished(isClassDescriptorFor(SecondContainerClass.class), isSuccessful());
+
+		Mockito.verify(eventRecorder).executionFinished(isPropertyDescriptorFor(ContainerClass.class, "succeeding"), isSuccessful());
+	}
+
 	private void executeTests(TestDescriptor engineDescriptor) {
 		new JqwikExecutor(new LifecycleHooksRegistry(), TestRunRecorder.NULL, Collections.emptySet(), true, false).execute(engineDescriptor, eventRecorder);
 	}
@@ -1,6 +1,8 @@
 package net.jqwik.engine.execution;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.junit.platform.engine.*;
 import org.mockito.*;
@@ -115,4 +117,119 @@ class ExecutionPipelineTests {
 
 	}
 
+	@Group
+	class ConcurrentExecution {
+
+		private final ExecutionPipeline concurrentPipeline = new ExecutionPipeline(listener, 4);
+
+		@Example
+		void independentTasksAreRunConcurrently() {
+			CountDownLatch allStarted = new CountDownLatch(3);
+			List<TaskExecutionResult> results = Collections.synchronizedList(new ArrayList<>());
+			for (int i = 0; i < 3; i++) {
+				concurrentPipeline.submit(task("task" + i, (listener, predecessorResult) -> {
+					allStarted.countDown();
+					TaskExecutionResult result = awaitLatch(allStarted);
+					results.add(result);
+					return result;
+				}));
+			}
+
+			concurrentPipeline.runToTermination();
+
+			assertThat(results).hasSize(3);
+			assertThat(results).allMatch(TaskExecutionResult::successful);
+		}
+
+		@Example
+		void tasksAreNotStartedBeforePredecessorsHaveFinished() {
+			List<String> events = Collections.synchronizedList(new ArrayList<>());
+			ExecutionTask first = recordingTask("first", events);
+			ExecutionTask second = recordingTask("second", events);
+			ExecutionTask third = recordingTask("third", events);
+			concurrentPipeline.submit(first);
+			concurrentPipeline.submit(second, first);
+			concurrentPipeline.submit(third, first, second);
+
+			concurrentPipeline.runToTermination();
+
+			assertThat(events).containsExactly(
+				"start first", "end first",
+				"start second", "end second",
+				"start third", "end third"
+			);
+		}
+
+		@Example
+		void failedPredecessorResultIsHandedToSuccessor() {
+			RuntimeException failure = new RuntimeException("failed");
+			AtomicReference<TaskExecutionResult> successorInput = new AtomicReference<>();
+			ExecutionTask succeeding = task("succeeding", (listener, predecessorResult) -> TaskExecutionResult.success());
+			ExecutionTask failing = task("failing", (listener, predecessorResult) -> TaskExecutionResult.failure(failure));
+			ExecutionTask successor = task("successor", (listener, predecessorResult) -> {
+				successorInput.set(predecessorResult);
+				return predecessorResult;
+			});
+			concurrentPipeline.submit(succeeding);
+			concurrentPipeline.submit(failing);
+			concurrentPipeline.submit(successor, succeeding, failing);
+
+			concurrentPipeline.runToTermination();
+
+			assertThat(successorInput.get().successful()).isFalse();
+			assertThat(successorInput.get().throwable()).hasValue(failure);
+		}
+
+		@Example
+		void predecessorsMustBeSubmittedBeforeATaskCanRun() {
+			MockExecutionTask task1 = new MockExecutionTask("1");
+			MockExecutionTask task2 = new MockExecutionTask("2");
+			concurrentPipeline.submit(task1, task2);
+
+			assertThatThrownBy(() -> concurrentPipeline.runToTermination()).isInstanceOf(PredecessorNotSubmittedException.class);
+		}
+
+		private ExecutionTask recordingTask(String name, List<String> events) {
+			return task(name, (listener, predecessorResult) -> {
+				events.add("start " + name);
+				events.add("end " + name);
+				return TaskExecutionResult.success();
+			});
+		}
+
+		private ExecutionTask task(String name, ExecutionTaskFunction function) {
+			return new ExecutionTask() {
+				@Override
+				public UniqueId ownerId() {
+					return UniqueId.root("test", name);
+				}
+
+				@Override
+				public TaskExecutionResult execute(PropertyExecutionListener listener, TaskExecutionResult predecessorResult) {
+					return function.apply(listener, predecessorResult);
+				}
+
+				@Override
+				public String toString() {
+					return name;
+				}
+			};
+		}
+
+		private TaskExecutionResult awaitLatch(CountDownLatch latch) {
+			try {
+				if (latch.await(10, TimeUnit.SECONDS)) {
+					return TaskExecutionResult.success();
+				}
+				return TaskExecutionResult.failure(new AssertionError("Tasks were not run concurrently"));
+			} catch (InterruptedException e) {
+				return TaskExecutionResult.failure(e);
+			}
+		}
+	}
+
+	private interface ExecutionTaskFunction {
+		TaskExecutionResult apply(PropertyExecutionListener listener, TaskExecutionResult predecessorResult);
+	}
+
 }
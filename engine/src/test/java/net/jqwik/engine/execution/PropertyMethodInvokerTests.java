@@ -0,0 +1,120 @@
+package net.jqwik.engine.execution;
+
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class PropertyMethodInvokerTests {
+
+	private final Properties properties = new Properties();
+
+	@Example
+	void booleanResultIsReturned() {
+		PropertyMethodInvoker invoker = invokerFor("isPositive", int.class);
+
+		assertThat(invoker.invoke(asList(5))).isTrue();
+		assertThat(invoker.invoke(asList(-5))).isFalse();
+	}
+
+	@Example
+	void boxedBooleanResultIsReturned() {
+		PropertyMethodInvoker invoker = invokerFor("isLonger", String.class, int.class);
+
+		assertThat(invoker.invoke(asList("abc", 2))).isTrue();
+		assertThat(invoker.invoke(asList("abc", 3))).isFalse();
+	}
+
+	@Example
+	void voidAndOtherResultsAreSatisfied() {
+		assertThat(invokerFor("nothing", String.class).invoke(asList("a"))).isTrue();
+		assertThat(invokerFor("someValue").invoke(Collections.emptyList())).isTrue();
+	}
+
+	@Example
+	void exceptionsAreThrownUnwrapped() {
+		PropertyMethodInvoker invoker = invokerFor("throwing", String.class);
+
+		assertThatThrownBy(() -> invoker.invoke(asList("message")))
+			.isInstanceOf(IOException.class)
+			.hasMessage("message");
+	}
+
+	@Example
+	void parametersOfEachInvocationAreUsed() {
+		PropertyMethodInvoker invoker = invokerFor("nothing", String.class);
+		invoker.invoke(asList("first"));
+		invoker.invoke(asList("second"));
+
+		assertThat(properties.values).containsExactly("first", "second");
+	}
+
+	@Example
+	void staticMethods() {
+		PropertyMethodInvoker invoker = invokerFor("isEven", long.class);
+
+		assertThat(invoker.invoke(asList(4L))).isTrue();
+		assertThat(invoker.invoke(asList(3L))).isFalse();
+	}
+
+	@Example
+	void concurrentInvocationsDoNotShareArguments() throws Exception {
+		PropertyMethodInvoker invoker = invokerFor("isLonger", String.class, int.class);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (int i = 0; i < 1000; i++) {
+				int length = i % 10;
+				results.add(executor.submit(() -> invoker.invoke(asList(String.join("", Collections.nCopies(length, "x")), length - 1))));
+			}
+			for (Future<Boolean> result : results) {
+				assertThat(result.get()).isTrue();
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private PropertyMethodInvoker invokerFor(String methodName, Class<?>... parameterTypes) {
+		try {
+			Method method = Properties.class.getDeclaredMethod(methodName, parameterTypes);
+			return new PropertyMethodInvoker(method, properties);
+		} catch (NoSuchMethodException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static class Properties {
+
+		private final List<String> values = new ArrayList<>();
+
+		private boolean isPositive(int anInt) {
+			return anInt > 0;
+		}
+
+		Boolean isLonger(String aString, int length) {
+			return aString.length() > length;
+		}
+
+		void nothing(String aString) {
+			values.add(aString);
+		}
+
+		String someValue() {
+			return "value";
+		}
+
+		void throwing(String message) throws IOException {
+			throw new IOException(message);
+		}
+
+		static boolean isEven(long aLong) {
+			return aLong % 2 == 0;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package net.jqwik.engine.execution.lifecycle;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.domains.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.facades.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class PropertyThreadContextTests {
+
+	@Example
+	void workerThreadRunsWithCapturedDescriptorAndDomainContext() throws Exception {
+		TestDescriptor descriptor = CurrentTestDescriptor.get();
+		DomainContext domainContext = new AbstractDomainContextBase() {};
+
+		PropertyThreadContext threadContext = DomainContextFacadeImpl.runWithContext(domainContext, PropertyThreadContext::capture);
+
+		List<Object> seenInWorker = runInOtherThread(() -> threadContext.runWith(
+			0,
+			() -> Arrays.asList(CurrentTestDescriptor.get(), DomainContextFacadeImpl.getCurrentContext())
+		));
+		assertThat(seenInWorker).containsExactly(descriptor, domainContext);
+	}
+
+	@Example
+	void workerThreadRunsWithRandomDerivedFromIndex() throws Exception {
+		SourceOfRandomness.create("42");
+		PropertyThreadContext threadContext = PropertyThreadContext.capture();
+
+		long first = runInOtherThread(() -> threadContext.runWith(7, () -> SourceOfRandomness.current().nextLong()));
+		long second = runInOtherThread(() -> threadContext.runWith(7, () -> SourceOfRandomness.current().nextLong()));
+		long otherIndex = runInOtherThread(() -> threadContext.runWith(8, () -> SourceOfRandomness.current().nextLong()));
+
+		assertThat(first).isEqualTo(second);
+		assertThat(first).isNotEqualTo(otherIndex);
+		assertThat(first).isEqualTo(SourceOfRandomness.derive(SourceOfRandomness.newRandom(42L), 7).nextLong());
+	}
+
+	private <T> T runInOtherThread(Supplier<T> code) throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			return executor.submit(code::get).get();
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
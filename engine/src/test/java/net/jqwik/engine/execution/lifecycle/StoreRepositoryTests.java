@@ -230,6 +230,25 @@ class StoreRepositoryTests {
 			assertThat(repository.get(container2, "container2store")).isPresent();
 		}
 
+		@Example
+		void finishScope_allowsToCreateStoreWithSameIdentifierAgain() {
+			TestDescriptor container1 = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method1 = container1.getChildren().iterator().next();
+			TestDescriptor container2 = TestDescriptorBuilder.forClass(Container2.class).build();
+
+			repository.create(method1, "aStore", Lifespan.PROPERTY, () -> "first");
+			repository.create(container2, "aStore", Lifespan.PROPERTY, () -> "other");
+
+			repository.finishScope(container1);
+
+			ScopedStore<String> recreatedStore = repository.create(container1, "aStore", Lifespan.PROPERTY, () -> "second");
+			Optional<ScopedStore<String>> storeInContainer1 = repository.get(method1, "aStore");
+			assertThat(storeInContainer1).hasValue(recreatedStore);
+
+			Optional<ScopedStore<String>> storeInContainer2 = repository.get(container2, "aStore");
+			assertThat(storeInContainer2.get().get()).isEqualTo("other");
+		}
+
 		@SuppressWarnings("unchecked")
 		@Example
 		void finishScope_callsCloseOnAllRemovedStoreValues() {
@@ -266,6 +285,92 @@ class StoreRepositoryTests {
 			Mockito.verify(onCloseUninitializedMethodStore, Mockito.never()).accept(anyString());
 		}
 
+		@Example
+		void storesWithLifespanPropertyKeepSeparateValuesForEachProperty() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+
+			ScopedStore<String> containerStore = repository.create(container, "containerStore", Lifespan.PROPERTY, () -> "initial");
+
+			CurrentTestDescriptor.runWithDescriptor(method1, () -> containerStore.update(s -> "changed in method1"));
+			CurrentTestDescriptor.runWithDescriptor(method2, () -> containerStore.update(s -> "changed in method2"));
+
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method1, containerStore::get)).isEqualTo("changed in method1");
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method2, containerStore::get)).isEqualTo("changed in method2");
+
+			repository.finishProperty(method1);
+
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method1, containerStore::get)).isEqualTo("initial");
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method2, containerStore::get)).isEqualTo("changed in method2");
+		}
+
+		@Example
+		void storesWithLifespanTryKeepSeparateValuesForEachTryScope() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+
+			ScopedStore<String> containerStore = repository.create(container, "containerStore", Lifespan.TRY, () -> "initial");
+
+			TryScope try1 = new TryScope();
+			TryScope try2 = new TryScope();
+			CurrentTestDescriptor.runWithDescriptor(method, () -> {
+				try1.run(() -> {
+					containerStore.update(s -> "changed in try1");
+					return null;
+				});
+				try2.run(() -> {
+					containerStore.update(s -> "changed in try2");
+					return null;
+				});
+
+				try1.run(() -> {
+					repository.finishTry(method);
+					return null;
+				});
+
+				assertThat(try1.run(containerStore::get)).isEqualTo("initial");
+				assertThat(try2.run(containerStore::get)).isEqualTo("changed in try2");
+			});
+		}
+
+		@SuppressWarnings("unchecked")
+		@Example
+		void closingTryScopeResetsItsValues() {
+			Consumer<String> onClose = Mockito.mock(Consumer.class);
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1").build();
+			TestDescriptor method = container.getChildren().iterator().next();
+
+			ScopedStore<String> containerStore =
+				repository.create(container, "containerStore", Lifespan.TRY, () -> "initial")
+						  .onClose(onClose);
+
+			TryScope tryScope = new TryScope();
+			CurrentTestDescriptor.runWithDescriptor(method, () -> tryScope.run(() -> {
+				containerStore.update(s -> "changed");
+				return null;
+			}));
+
+			tryScope.close();
+
+			Mockito.verify(onClose, Mockito.times(1)).accept("changed");
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method, () -> tryScope.run(containerStore::get))).isEqualTo("initial");
+		}
+
+		@Example
+		void storesWithLifespanRunShareValueBetweenProperties() {
+			TestDescriptor container = TestDescriptorBuilder.forClass(Container1.class, "method1", "method2").build();
+			Iterator<? extends TestDescriptor> methods = container.getChildren().iterator();
+			TestDescriptor method1 = methods.next();
+			TestDescriptor method2 = methods.next();
+
+			ScopedStore<String> containerStore = repository.create(container, "containerStore", Lifespan.RUN, () -> "initial");
+
+			CurrentTestDescriptor.runWithDescriptor(method1, () -> containerStore.update(s -> "changed in method1"));
+
+			assertThat(CurrentTestDescriptor.runWithDescriptor(method2, containerStore::get)).isEqualTo("changed in method1");
+		}
 	}
 
 	private static class Container1 {
@@ -572,6 +572,72 @@ class SampleReportingTests {
 
 		}
 
+		@Group
+		class ReportingBudget {
+
+			@Example
+			void elementsBeyondMaxValuesAreOmitted() {
+				List<Integer> list = asList(0, 1, 2, 3, 4);
+
+				ValueReport report = ValueReport.of(list, formatFinder(), 4, ValueReport.MAX_DEPTH);
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[0, 1, 2, ...<2 more>]");
+			}
+
+			@Example
+			void entriesBeyondMaxValuesAreOmitted() {
+				Map<String, Integer> map = new LinkedHashMap<>();
+				map.put("a", 1);
+				map.put("b", 2);
+				map.put("c", 3);
+
+				ValueReport report = ValueReport.of(map, formatFinder(), 4, ValueReport.MAX_DEPTH);
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("{\"a\"=1, \"b\"=2, ...<1 more>}");
+
+				report.report(lineReporter, 0, "");
+				assertThat(lineReporter.lines).containsSequence(
+						"{",
+						"  \"a\"=1,",
+						"  \"b\"=2,",
+						"  ...<1 more>",
+						"}"
+				);
+			}
+
+			@Example
+			void elementsBeyondMaxDepthAreOmitted() {
+				List<List<List<Integer>>> list = asList(asList(asList(1, 2)));
+
+				ValueReport report = ValueReport.of(list, formatFinder(), ValueReport.MAX_REPORTED_VALUES, 1);
+				Assertions.assertThat(report.singleLineReport()).isEqualTo("[[...<1 more>]]");
+			}
+
+			@Example
+			void hugeListIsReportedPartially() {
+				List<Integer> hugeList = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+
+				ValueReport report = ValueReport.of(hugeList);
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("[0, 1, 2, ")
+						  .endsWith(", 998, ...<99001 more>]");
+			}
+
+			@Example
+			void hugePrimitiveArrayIsReportedPartially() {
+				int[] hugeArray = new int[100_000];
+
+				ValueReport report = ValueReport.of(hugeArray);
+				Assertions.assertThat(report.singleLineReport())
+						  .startsWith("int[] [0, 0, ")
+						  .endsWith(", 0, ...<99001 more>]");
+			}
+
+			@Example
+			void singleLineReportIsOnlyRenderedOnce() {
+				ValueReport report = ValueReport.of(asList("a", "b"));
+				Assertions.assertThat(report.singleLineReport()).isSameAs(report.singleLineReport());
+			}
+		}
+
 		@Group
 		class Streams {
 
@@ -495,6 +495,54 @@ class CheckedPropertyTests {
 				assertThat(check.falsifiedParameters()).isEmpty();
 			}
 		}
+
+		@Group
+		class WithRegressionSeeds {
+
+			@Example
+			void falsifiedTryIsGeneratedAgainFromItsSeed() {
+				CheckedFunction smallerThan50 = params -> (int) params.get(0) < 50;
+				PropertyCheckResult falsified = createCheckedProperty(
+					"prop1", smallerThan50, getParametersForMethod("prop1"),
+					p -> Collections.singleton(Arbitraries.integers().between(-100, 100).asGeneric()),
+					Optional.empty(),
+					aConfig().withSeed("414243").withGeneration(RANDOMIZED).withEdgeCases(EdgeCasesMode.NONE).build(),
+					lifecycleContextForMethod("prop1", int.class)
+				).check(new Reporting[0]);
+				assertThat(falsified.checkStatus()).isEqualTo(FAILED);
+				long falsifiedTrySeed = falsified.falsifiedTrySeed().getAsLong();
+
+				PropertyCheckResult regression = createCheckedProperty(
+					"prop1", smallerThan50, getParametersForMethod("prop1"),
+					p -> Collections.singleton(Arbitraries.integers().between(-100, 100).asGeneric()),
+					Optional.empty(),
+					aConfig().withSeed("42").withGeneration(RANDOMIZED).withEdgeCases(EdgeCasesMode.NONE)
+							 .withRegressionSeeds(Collections.singletonList(falsifiedTrySeed)).build(),
+					lifecycleContextForMethod("prop1", int.class)
+				).check(new Reporting[0]);
+
+				assertThat(regression.countTries()).isEqualTo(1);
+				assertThat(regression.originalSample().get().parameters())
+					.isEqualTo(falsified.originalSample().get().parameters());
+				assertThat(regression.falsifiedTrySeed()).hasValue(falsifiedTrySeed);
+				assertThat(regression.falsifiedParameters()).hasValue(Collections.singletonList(50));
+			}
+
+			@Example
+			void edgeCaseHasNoFalsifiedTrySeed() {
+				CheckedFunction notMinimum = params -> (int) params.get(0) != -100;
+				PropertyCheckResult falsified = createCheckedProperty(
+					"prop1", notMinimum, getParametersForMethod("prop1"),
+					p -> Collections.singleton(Arbitraries.integers().between(-100, 100).asGeneric()),
+					Optional.empty(),
+					aConfig().withGeneration(RANDOMIZED).withEdgeCases(EdgeCasesMode.FIRST).build(),
+					lifecycleContextForMethod("prop1", int.class)
+				).check(new Reporting[0]);
+
+				assertThat(falsified.checkStatus()).isEqualTo(FAILED);
+				assertThat(falsified.falsifiedTrySeed()).isEmpty();
+			}
+		}
 	}
 
 	private CheckedProperty createCheckedProperty(
@@ -61,6 +61,47 @@ class ExhaustiveShrinkablesGeneratorTests {
 		assertThat(shrinkablesGenerator.hasNext()).isFalse();
 	}
 
+	@Example
+	void splitIntoRanges() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+
+		List<ForAllParametersGenerator> ranges = shrinkablesGenerator.split(4).get();
+		assertThat(ranges).hasSize(3);
+
+		List<List<Shrinkable<Object>>> combinations = new ArrayList<>();
+		ranges.forEach(range -> range.forEachRemaining(combinations::add));
+		assertThat(combinations).containsExactly(
+			asList(Shrinkable.unshrinkable(1), Shrinkable.unshrinkable(4)),
+			asList(Shrinkable.unshrinkable(1), Shrinkable.unshrinkable(5)),
+			asList(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(4)),
+			asList(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(5)),
+			asList(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(4)),
+			asList(Shrinkable.unshrinkable(3), Shrinkable.unshrinkable(5))
+		);
+	}
+
+	@Example
+	void rangesKnowIndexOfTheirSamples() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom1to3And4to5");
+
+		List<ForAllParametersGenerator> ranges = shrinkablesGenerator.split(3).get();
+		ForAllParametersGenerator secondRange = ranges.get(1);
+		assertThat(secondRange.indexOfLastSample()).isEmpty();
+
+		assertThat(secondRange.next()).containsExactly(Shrinkable.unshrinkable(2), Shrinkable.unshrinkable(4));
+		assertThat(secondRange.indexOfLastSample()).hasValue(2);
+		secondRange.next();
+		assertThat(secondRange.indexOfLastSample()).hasValue(3);
+	}
+
+	@Example
+	void cannotSplitAfterGenerationHasStarted() {
+		ExhaustiveShrinkablesGenerator shrinkablesGenerator = createGenerator("intFrom0to5");
+		shrinkablesGenerator.next();
+
+		assertThat(shrinkablesGenerator.split(2)).isEmpty();
+	}
+
 	@Example
 	void noExhaustiveGenerator() {
 		Assertions.assertThatThrownBy(() -> createGenerator("doubles")).isInstanceOf(JqwikException.class);
@@ -13,6 +13,8 @@ import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.*;
 import net.jqwik.engine.descriptor.*;
 import net.jqwik.engine.execution.*;
+import net.jqwik.engine.execution.lifecycle.*;
+import net.jqwik.engine.telemetry.*;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -501,6 +503,375 @@ class GenericPropertyTests {
 
 	}
 
+	@Group
+	class ParallelExecution {
+
+		@Example
+		void satisfiedPropertyRunsAllTries() {
+			ForAllSpy forAllFunction = new ForAllSpy(count -> true);
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("parallel satisfied", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+			assertThat(forAllFunction.countCalls()).isEqualTo(100);
+		}
+
+		@Example
+		void firstFalsifiedTryInGenerationOrderIsReported() {
+			int failingTry = 5;
+
+			CheckedFunction forAllFunction = args -> ((int) args.get(0)) < failingTry;
+
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig()
+													  .withTries(10)
+													  .withParallelism(4)
+													  .withShrinking(OFF)
+													  .build();
+			GenericProperty property =
+				new GenericProperty("parallel falsified", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(failingTry);
+			assertThat(result.countChecks()).isEqualTo(failingTry);
+			assertThat(result.falsifiedParameters()).isPresent();
+			assertThat(result.falsifiedParameters().get()).containsExactly(failingTry);
+		}
+
+		@Example
+		void triesAreExecutedOutsideOfPropertyThread() {
+			Set<Thread> executingThreads = Collections.synchronizedSet(new HashSet<>());
+			CheckedFunction forAllFunction = args -> {
+				executingThreads.add(Thread.currentThread());
+				return true;
+			};
+
+			Arbitrary<Object> arbitrary = Arbitraries.integers().asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(50).withParallelism(2).build();
+			GenericProperty property =
+				new GenericProperty("parallel threads", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(executingThreads).doesNotContain(Thread.currentThread());
+			assertThat(executingThreads).allMatch(thread -> thread.getName().startsWith("jqwik-tries-"));
+		}
+
+		@Example
+		void splittableGeneratorReportsLowestFalsifiedTry() {
+			int firstFailingValue = 37;
+			Set<Thread> generatingThreads = Collections.synchronizedSet(new HashSet<>());
+			CheckedFunction forAllFunction = args -> {
+				int value = (int) args.get(0);
+				return value < firstFailingValue || value == 95;
+			};
+
+			ParametersGenerator shrinkablesGenerator = splittableShrinkablesGenerator(100, generatingThreads);
+
+			PropertyConfiguration configuration = aConfig()
+													  .withTries(100)
+													  .withParallelism(4)
+													  .withShrinking(OFF)
+													  .build();
+			GenericProperty property =
+				new GenericProperty("partitioned falsified", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.countTries()).isEqualTo(firstFailingValue);
+			assertThat(result.countChecks()).isEqualTo(firstFailingValue);
+			assertThat(result.falsifiedParameters().get()).containsExactly(firstFailingValue);
+			assertThat(generatingThreads).allMatch(thread -> thread.getName().startsWith("jqwik-tries-"));
+		}
+
+		@Example
+		void splittableGeneratorRunsAllTries() {
+			ForAllSpy forAllFunction = new ForAllSpy(count -> true);
+			ParametersGenerator shrinkablesGenerator = splittableShrinkablesGenerator(100, new HashSet<>());
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(3).build();
+			GenericProperty property =
+				new GenericProperty("partitioned satisfied", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(100);
+			assertThat(forAllFunction.countCalls()).isEqualTo(100);
+		}
+
+		@Example
+		void partitionsGenerateOneTryAtATime() {
+			AtomicInteger concurrentGenerations = new AtomicInteger(0);
+			AtomicInteger maxConcurrentGenerations = new AtomicInteger(0);
+			ParametersGenerator shrinkablesGenerator = splittableShrinkablesGenerator(100, new HashSet<>(), () -> {
+				maxConcurrentGenerations.accumulateAndGet(concurrentGenerations.incrementAndGet(), Math::max);
+				Thread.yield();
+				concurrentGenerations.decrementAndGet();
+			});
+
+			CheckedFunction forAllFunction = args -> true;
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("partitioned generation", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(maxConcurrentGenerations.get()).isEqualTo(1);
+		}
+
+		@Example
+		void invalidTriesOfPartitionsAreCounted() {
+			CheckedFunction forAllFunction = args -> {
+				Assume.that((int) args.get(0) % 2 == 0);
+				return true;
+			};
+			ParametersGenerator shrinkablesGenerator = splittableShrinkablesGenerator(100, new HashSet<>());
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("partitioned invalid", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.SUCCESSFUL);
+			assertThat(result.countTries()).isEqualTo(100);
+			assertThat(result.countChecks()).isEqualTo(50);
+		}
+
+		@Example
+		void shrinkingIsSequentialUnlessSwitchedOn() {
+			Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+			CheckedFunction forAllFunction = args -> {
+				threadNames.add(Thread.currentThread().getName());
+				return ((int) args.get(0)) < 10;
+			};
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(0, 1000).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).build();
+			GenericProperty property =
+				new GenericProperty("sequential shrinking", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.shrunkSample().get().parameters()).containsExactly(10);
+			assertThat(threadNames).noneMatch(name -> name.startsWith("jqwik-shrinking-"));
+		}
+
+		@Example
+		void parallelShrinkingCreatesTryLifecycleContextsOneAtATime() {
+			Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+			CheckedFunction forAllFunction = args -> {
+				threadNames.add(Thread.currentThread().getName());
+				return ((int) args.get(0)) < 10;
+			};
+			Arbitrary<Object> arbitrary = Arbitraries.integers().between(0, 1000).asGeneric();
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			AtomicInteger concurrentSupplies = new AtomicInteger(0);
+			AtomicInteger maxConcurrentSupplies = new AtomicInteger(0);
+			Supplier<TryLifecycleContext> nonThreadSafeSupplier = () -> {
+				maxConcurrentSupplies.accumulateAndGet(concurrentSupplies.incrementAndGet(), Math::max);
+				Thread.yield();
+				concurrentSupplies.decrementAndGet();
+				return tryLifecycleContextSupplier.get();
+			};
+
+			PropertyConfiguration configuration = aConfig().withTries(100).withParallelism(4).withParallelShrinking().build();
+			GenericProperty property =
+				new GenericProperty("parallel shrinking", configuration, shrinkablesGenerator, forAllFunction, nonThreadSafeSupplier);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(result.shrunkSample().get().parameters()).containsExactly(10);
+			assertThat(threadNames).anyMatch(name -> name.startsWith("jqwik-shrinking-"));
+			assertThat(maxConcurrentSupplies.get()).isEqualTo(1);
+		}
+	}
+
+	@Group
+	class Telemetry {
+
+		@Example
+		void generationAndTriesAreMeasured() {
+			ForAllSpy forAllFunction = new ForAllSpy(count -> true);
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3, 4, 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyTelemetry telemetry = new PropertyTelemetry();
+			PropertyConfiguration configuration = aConfig().withTries(10).build();
+			GenericProperty property = new GenericProperty(
+				"measured property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier, telemetry
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.telemetry()).isSameAs(telemetry);
+			assertThat(telemetry.histogram(TelemetryPhase.GENERATION).count()).isEqualTo(10);
+			assertThat(telemetry.histogram(TelemetryPhase.LIFECYCLE_HOOKS).count()).isEqualTo(10);
+			assertThat(telemetry.histogram(TelemetryPhase.PROPERTY_BODY).count()).isEqualTo(10);
+			assertThat(telemetry.histogram(TelemetryPhase.SHRINKING).count()).isEqualTo(0);
+			assertThat(telemetry.filterMisses()).isEqualTo(0);
+		}
+
+		@Example
+		void propertyBodyIsSeparatedFromTimeAroundIt() {
+			PropertyTelemetry telemetry = new PropertyTelemetry();
+			TryLifecycleExecutor sleepingBody = (context, parameters) -> telemetry.measureBody(() -> {
+				sleep(1);
+				return TryExecutionResult.satisfied();
+			});
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyConfiguration configuration = aConfig().withTries(5).build();
+			GenericProperty property = new GenericProperty(
+				"measured property", configuration, shrinkablesGenerator, sleepingBody, tryLifecycleContextSupplier, telemetry
+			);
+			property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(telemetry.histogram(TelemetryPhase.PROPERTY_BODY).count()).isEqualTo(5);
+			assertThat(telemetry.histogram(TelemetryPhase.PROPERTY_BODY).totalNanos()).isGreaterThanOrEqualTo(5_000_000L);
+			assertThat(telemetry.histogram(TelemetryPhase.LIFECYCLE_HOOKS).totalNanos())
+				.isLessThan(telemetry.histogram(TelemetryPhase.PROPERTY_BODY).totalNanos());
+		}
+
+		@Example
+		void filterMissesAreCountedDuringGeneration() {
+			ForAllSpy forAllFunction = new ForAllSpy(count -> true);
+			Arbitrary<Object> onlyFives = Arbitraries.<Object>of(1, 2, 3, 4, 5).filter(i -> (int) i == 5);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(onlyFives);
+
+			PropertyTelemetry telemetry = new PropertyTelemetry();
+			PropertyConfiguration configuration = aConfig().withTries(50).build();
+			GenericProperty property = new GenericProperty(
+				"filtering property", configuration, shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier, telemetry
+			);
+			property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(telemetry.filterMisses()).isGreaterThan(0);
+		}
+
+		@Example
+		void shrinkingCandidatesAndStepsAreMeasured() {
+			ForAllSpy forAllFunction = new ForAllSpy(trie -> trie < 5);
+			Arbitrary<Object> arbitrary = new OrderedArbitraryForTesting<>(1, 2, 3, 4, 5, 6, 7, 8);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			PropertyTelemetry telemetry = new PropertyTelemetry();
+			GenericProperty property = new GenericProperty(
+				"shrinking property", aConfig().build(), shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier, telemetry
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.checkStatus()).isEqualTo(PropertyCheckResult.CheckStatus.FAILED);
+			assertThat(telemetry.histogram(TelemetryPhase.GENERATION).count()).isEqualTo(5);
+			assertThat(telemetry.histogram(TelemetryPhase.SHRINKING).count()).isGreaterThan(0);
+			assertThat(telemetry.shrinkingSteps()).isEqualTo(result.shrunkSample().get().countShrinkingSteps());
+			assertThat(telemetry.shrinkingCacheMisses()).isGreaterThan(0);
+			assertThat(telemetry.shrinkingCacheHits()).isGreaterThanOrEqualTo(0);
+		}
+
+		@Example
+		void disabledTelemetryIsNotAttachedToResult() {
+			ForAllSpy forAllFunction = new ForAllSpy(count -> true);
+			Arbitrary<Object> arbitrary = Arbitraries.of(1, 2, 3);
+			ParametersGenerator shrinkablesGenerator = randomizedShrinkablesGenerator(arbitrary);
+
+			GenericProperty property = new GenericProperty(
+				"unmeasured property", aConfig().withTries(3).build(), shrinkablesGenerator, forAllFunction, tryLifecycleContextSupplier
+			);
+			PropertyCheckResult result = property.check(TestHelper.reporter(), new Reporting[0]);
+
+			assertThat(result.telemetry().isEnabled()).isFalse();
+			assertThat(result.telemetry().histogram(TelemetryPhase.GENERATION).count()).isEqualTo(0);
+		}
+
+		private void sleep(int millis) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
+	private ParametersGenerator splittableShrinkablesGenerator(int count, Set<Thread> generatingThreads) {
+		return splittableShrinkablesGenerator(count, generatingThreads, () -> {});
+	}
+
+	private ParametersGenerator splittableShrinkablesGenerator(int count, Set<Thread> generatingThreads, Runnable onGeneration) {
+		return new ParametersGenerator() {
+			@Override
+			public boolean hasNext() {
+				return false;
+			}
+
+			@Override
+			public List<Shrinkable<Object>> next(TryLifecycleContext tryLifecycleContext) {
+				throw new NoSuchElementException();
+			}
+
+			@Override
+			public int edgeCasesTotal() {
+				return 0;
+			}
+
+			@Override
+			public int edgeCasesTried() {
+				return 0;
+			}
+
+			@Override
+			public Optional<List<ParametersGenerator>> split(int numberOfRanges) {
+				List<ParametersGenerator> ranges = new ArrayList<>();
+				int rangeSize = count / numberOfRanges + 1;
+				for (int from = 1; from <= count; from += rangeSize) {
+					int[] values = IntStream.range(from, Math.min(from + rangeSize, count + 1)).toArray();
+					ParametersGenerator range = finiteShrinkablesGenerator(values);
+					ranges.add(new ParametersGenerator() {
+						@Override
+						public boolean hasNext() {
+							return range.hasNext();
+						}
+
+						@Override
+						public List<Shrinkable<Object>> next(TryLifecycleContext tryLifecycleContext) {
+							generatingThreads.add(Thread.currentThread());
+							onGeneration.run();
+							return range.next(tryLifecycleContext);
+						}
+
+						@Override
+						public int edgeCasesTotal() {
+							return 0;
+						}
+
+						@Override
+						public int edgeCasesTried() {
+							return 0;
+						}
+					});
+				}
+				return Optional.of(ranges);
+			}
+		};
+	}
+
 	private ParametersGenerator randomizedShrinkablesGenerator(Arbitrary<Object>... arbitraries) {
 		Random random = SourceOfRandomness.current();
 		List<Arbitrary<Object>> arbitraryList = Arrays.stream(arbitraries).collect(Collectors.toList());
@@ -17,6 +17,7 @@ class PropertyConfigurationBuilder {
 	private String seed = null;
 	private String previousSeed = null;
 	private List<Object> falsifiedSample = null;
+	private List<Long> regressionSeeds = Collections.emptyList();
 	private Integer tries = null;
 	private Integer maxDiscardRatio = null;
 	private ShrinkingMode shrinkingMode = null;
@@ -24,6 +25,8 @@ class PropertyConfigurationBuilder {
 	private AfterFailureMode afterFailureMode = null;
 	private EdgeCasesMode edgeCasesMode = null;
 	private FixedSeedMode fixedSeedMode = null;
+	private Integer parallelism = null;
+	private boolean parallelShrinking = TestHelper.PARALLEL_SHRINKING;
 
 	PropertyConfigurationBuilder withSeed(String seed) {
 		this.seed = seed;
@@ -40,6 +43,11 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	PropertyConfigurationBuilder withRegressionSeeds(List<Long> regressionSeeds) {
+		this.regressionSeeds = regressionSeeds;
+		return this;
+	}
+
 	PropertyConfigurationBuilder withTries(int tries) {
 		this.tries = tries;
 		return this;
@@ -75,6 +83,16 @@ class PropertyConfigurationBuilder {
 		return this;
 	}
 
+	public PropertyConfigurationBuilder withParallelism(int parallelism) {
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	public PropertyConfigurationBuilder withParallelShrinking() {
+		this.parallelShrinking = true;
+		return this;
+	}
+
 	PropertyConfiguration build() {
 		PropertyAttributes propertyAttributes = new DefaultPropertyAttributes(
 			tries,
@@ -85,13 +103,14 @@ class PropertyConfigurationBuilder {
 			edgeCasesMode,
 			null,
 			seed,
-			fixedSeedMode
+			fixedSeedMode,
+			parallelism
 		);
 
 		return new PropertyConfiguration(
 			propertyAttributes,
-			TestHelper.propertyAttributesDefaults(),
-			previousSeed, falsifiedSample, seed,
+			TestHelper.propertyAttributesDefaults(parallelShrinking),
+			previousSeed, falsifiedSample, regressionSeeds, seed,
 			tries,
 			generationMode
 		);
@@ -433,6 +433,114 @@ class PropertyMethodArbitraryResolverTests {
 		}
 	}
 
+	@Group
+	class SharedResolution {
+
+		@Example
+		void sameParameterTypeIsResolvedOnceForAllProperties() {
+			Set<Arbitrary<?>> arbitraries = getResolver(Container1.class).forParameter(getParameter(Container1.class, "listOfInts"));
+			Set<Arbitrary<?>> otherArbitraries = getResolver(Container2.class).forParameter(getParameter(Container2.class, "listOfInts"));
+
+			assertThat(otherArbitraries).hasSize(1);
+			assertThat(otherArbitraries.iterator().next()).isSameAs(arbitraries.iterator().next());
+		}
+
+		@Example
+		void differentConfigurationAnnotationsAreResolvedSeparately() {
+			PropertyMethodArbitraryResolver resolver = getResolver(Container1.class);
+			Arbitrary<?> listOfInts = resolver.forParameter(getParameter(Container1.class, "listOfInts")).iterator().next();
+			Arbitrary<?> shortListOfInts = resolver.forParameter(getParameter(Container1.class, "shortListOfInts")).iterator().next();
+
+			assertThat(shortListOfInts).isNotSameAs(listOfInts);
+		}
+
+		@Example
+		void namedGeneratorsAreNotShared() {
+			Set<Arbitrary<?>> arbitraries = getResolver(Container1.class).forParameter(getParameter(Container1.class, "namedList"));
+			Set<Arbitrary<?>> otherArbitraries = getResolver(Container2.class).forParameter(getParameter(Container2.class, "namedList"));
+
+			assertThat(arbitraries.iterator().next()).isNotSameAs(otherArbitraries.iterator().next());
+		}
+
+		@Example
+		void arbitrariesFromOtherDomainContextsAreNotShared() {
+			DomainContext domainContext = new DomainContext.Global();
+			Set<Arbitrary<?>> arbitraries =
+				new PropertyMethodArbitraryResolver(Container1.class, new Container1(), domainContext)
+					.forParameter(getParameter(Container1.class, "listOfInts"));
+			Set<Arbitrary<?>> otherArbitraries =
+				new PropertyMethodArbitraryResolver(Container2.class, new Container2(), domainContext)
+					.forParameter(getParameter(Container2.class, "listOfInts"));
+
+			assertThat(arbitraries.iterator().next()).isNotSameAs(otherArbitraries.iterator().next());
+		}
+
+		@Example
+		void zeroCacheSizeSwitchesSharingOff() {
+			ResolutionCache.reset(0);
+			try {
+				Set<Arbitrary<?>> arbitraries = getResolver(Container1.class).forParameter(getParameter(Container1.class, "listOfInts"));
+				Set<Arbitrary<?>> otherArbitraries = getResolver(Container2.class).forParameter(getParameter(Container2.class, "listOfInts"));
+
+				assertThat(arbitraries.iterator().next()).isNotSameAs(otherArbitraries.iterator().next());
+			} finally {
+				ResolutionCache.reset(ResolutionCache.DEFAULT_MAX_SIZE);
+			}
+		}
+
+		@Example
+		void allResolutionCachesAreSizedFromConfiguration() {
+			BoundedCache<String, String> cache = ResolutionCache.newCache();
+			cache.put("key", "value");
+			ResolutionCache.reset(5);
+			try {
+				assertThat(cache.maxSize()).isEqualTo(5);
+				assertThat(cache.size()).isEqualTo(0);
+			} finally {
+				ResolutionCache.reset(ResolutionCache.DEFAULT_MAX_SIZE);
+			}
+		}
+
+		private class Container1 {
+			@Property
+			boolean listOfInts(@ForAll List<@IntRange(max = 10) Integer> aList) {
+				return true;
+			}
+
+			@Property
+			boolean shortListOfInts(@ForAll @Size(max = 3) List<@IntRange(max = 10) Integer> aList) {
+				return true;
+			}
+
+			@Property
+			boolean namedList(@ForAll List<@From("ints") Integer> aList) {
+				return true;
+			}
+
+			@Provide
+			Arbitrary<Integer> ints() {
+				return Arbitraries.integers();
+			}
+		}
+
+		private class Container2 {
+			@Property
+			boolean listOfInts(@ForAll List<@IntRange(max = 10) Integer> aList) {
+				return true;
+			}
+
+			@Property
+			boolean namedList(@ForAll List<@From("ints") Integer> aList) {
+				return true;
+			}
+
+			@Provide
+			Arbitrary<Integer> ints() {
+				return Arbitraries.integers();
+			}
+		}
+	}
+
 	private static PropertyMethodArbitraryResolver getResolver(Class<?> container) {
 		return new PropertyMethodArbitraryResolver(
 			container,
@@ -107,6 +107,108 @@ class RandomizedShrinkablesGeneratorTests {
 		// assertNeverGenerated(shrinkablesGenerator, asList("b", asList("a")));
 	}
 
+	@Example
+	void regressionSeedsAreGeneratedAgainFirst() {
+		PropertyMethodDescriptor methodDescriptor = createDescriptor("simpleParameters");
+		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
+
+		RandomizedShrinkablesGenerator previousRun = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver(), SourceOfRandomness.newRandom(42L), 1000, EdgeCasesMode.NONE
+		);
+		previousRun.next();
+		List<Shrinkable<Object>> falsified = previousRun.next();
+		long falsifiedSeed = previousRun.trySeedOfLastSample().getAsLong();
+
+		RandomizedShrinkablesGenerator shrinkablesGenerator = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver(), SourceOfRandomness.newRandom(43L), 1000, EdgeCasesMode.NONE, asList(falsifiedSeed)
+		);
+
+		List<Shrinkable<Object>> regression = shrinkablesGenerator.next();
+		assertThat(values(regression)).isEqualTo(values(falsified));
+		assertThat(regression.get(0).distance()).isEqualTo(falsified.get(0).distance());
+		assertThat(shrinkablesGenerator.trySeedOfLastSample()).hasValue(falsifiedSeed);
+
+		assertThat(values(shrinkablesGenerator.next())).isNotEqualTo(values(falsified));
+	}
+
+	@Example
+	void regressionSeedsWithMixedInEdgeCasesAreGeneratedAgain() {
+		PropertyMethodDescriptor methodDescriptor = createDescriptor("simpleParameters");
+		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
+
+		RandomizedShrinkablesGenerator previousRun = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver(), SourceOfRandomness.newRandom(42L), 1000, EdgeCasesMode.MIXIN
+		);
+		for (int i = 0; i < 100; i++) {
+			List<Shrinkable<Object>> falsified = previousRun.next();
+			if (!previousRun.trySeedOfLastSample().isPresent()) {
+				continue;
+			}
+			long falsifiedSeed = previousRun.trySeedOfLastSample().getAsLong();
+
+			RandomizedShrinkablesGenerator shrinkablesGenerator = RandomizedShrinkablesGenerator.forParameters(
+				parameters, arbitraryResolver(), SourceOfRandomness.newRandom(43L), 1000, EdgeCasesMode.MIXIN, asList(falsifiedSeed)
+			);
+			assertThat(values(shrinkablesGenerator.next())).isEqualTo(values(falsified));
+		}
+	}
+
+	@Example
+	void edgeCasesHaveNoTrySeed() {
+		PropertyMethodDescriptor methodDescriptor = createDescriptor("simpleParameters");
+		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
+
+		RandomizedShrinkablesGenerator shrinkablesGenerator = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver(), SourceOfRandomness.newRandom(42L), 1000, EdgeCasesMode.FIRST
+		);
+
+		shrinkablesGenerator.next();
+		assertThat(shrinkablesGenerator.trySeedOfLastSample()).isEmpty();
+	}
+
+	@Example
+	void valuesOfTryOnlyDependOnSeedAndTryIndex() {
+		PropertyMethodDescriptor methodDescriptor = createDescriptor("simpleParameters");
+		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
+
+		RandomizedShrinkablesGenerator startingWithFirstTry = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver(), SourceOfRandomness.newRandom(42L), 1000, EdgeCasesMode.NONE, Collections.emptyList(), 0
+		);
+		RandomizedShrinkablesGenerator startingWithThirdTry = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver(), SourceOfRandomness.newRandom(42L), 1000, EdgeCasesMode.NONE, Collections.emptyList(), 2
+		);
+
+		startingWithFirstTry.next();
+		startingWithFirstTry.next();
+		for (int i = 0; i < 10; i++) {
+			assertThat(values(startingWithFirstTry.next())).isEqualTo(values(startingWithThirdTry.next()));
+		}
+	}
+
+	@Example
+	void derivedSeedOfTryGeneratesItsValuesAgain() {
+		PropertyMethodDescriptor methodDescriptor = createDescriptor("simpleParameters");
+		List<MethodParameter> parameters = TestHelper.getParameters(methodDescriptor);
+		Random random = SourceOfRandomness.newRandom(42L);
+
+		RandomizedShrinkablesGenerator shrinkablesGenerator = RandomizedShrinkablesGenerator.forParameters(
+			parameters, arbitraryResolver(), random, 1000, EdgeCasesMode.MIXIN
+		);
+		for (int tryIndex = 0; tryIndex < 100; tryIndex++) {
+			List<Shrinkable<Object>> tryValues = shrinkablesGenerator.next();
+			if (!shrinkablesGenerator.trySeedOfLastSample().isPresent()) {
+				continue;
+			}
+			long derivedSeed = SourceOfRandomness.seedOf(SourceOfRandomness.derive(random, tryIndex)).getAsLong();
+			assertThat(shrinkablesGenerator.trySeedOfLastSample()).hasValue(derivedSeed);
+
+			RandomizedShrinkablesGenerator regenerating = RandomizedShrinkablesGenerator.forParameters(
+				parameters, arbitraryResolver(), SourceOfRandomness.newRandom(43L), 1000, EdgeCasesMode.MIXIN, asList(derivedSeed)
+			);
+			assertThat(values(regenerating.next())).isEqualTo(values(tryValues));
+		}
+	}
+
 	private void assertAtLeastOneGenerated(ForAllParametersGenerator generator, List<Object> expected) {
 		for (int i = 0; i < 500; i++) {
 			List<Shrinkable<Object>> shrinkables = generator.next();
@@ -129,11 +231,14 @@ class RandomizedShrinkablesGeneratorTests {
 	}
 
 	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName) {
-		PropertyMethodArbitraryResolver arbitraryResolver = new PropertyMethodArbitraryResolver(
+		return createGenerator(random, methodName, arbitraryResolver());
+	}
+
+	private PropertyMethodArbitraryResolver arbitraryResolver() {
+		return new PropertyMethodArbitraryResolver(
 			MyProperties.class, new MyProperties(),
 			DomainContext.global()
 		);
-		return createGenerator(random, methodName, arbitraryResolver);
 	}
 
 	private RandomizedShrinkablesGenerator createGenerator(Random random, String methodName, ArbitraryResolver arbitraryResolver) {
@@ -0,0 +1,91 @@
+package net.jqwik.engine.properties;
+
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.constraints.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class UniquenessIndexTests {
+
+	private final FeatureExtractor<String> identity = FeatureExtractor.identity();
+	private final FeatureExtractor<String> firstChar = s -> s.charAt(0);
+
+	@Example
+	void canAddValuesWithUnusedFeatures() {
+		UniquenessIndex<String> index = UniquenessIndex.of(asList(identity, firstChar), asList("abc", "bcd"));
+
+		assertThat(index.canAdd("cde")).isTrue();
+		assertThat(index.canAdd("abc")).isFalse();
+		assertThat(index.canAdd("axx")).isFalse();
+	}
+
+	@Example
+	void removedValuesCanBeAddedAgain() {
+		UniquenessIndex<String> index = UniquenessIndex.of(asList(identity), asList("a", "b"));
+
+		index.remove("a");
+		assertThat(index.canAdd("a")).isTrue();
+		index.add("a");
+		assertThat(index.canAdd("a")).isFalse();
+	}
+
+	@Example
+	void replaceValueWithValueOfSameFeature() {
+		UniquenessIndex<String> index = UniquenessIndex.of(asList(firstChar), asList("abc", "bcd"));
+
+		assertThat(index.canReplace("abc", "axx")).isTrue();
+		assertThat(index.canReplace("abc", "bxx")).isFalse();
+		assertThat(index.canReplace("abc", "xxx")).isTrue();
+	}
+
+	@Example
+	void swappingFeaturesOfTwoValues() {
+		UniquenessIndex<String> index = UniquenessIndex.of(asList(firstChar), asList("abc", "bcd", "cde"));
+
+		assertThat(index.areUniqueAfterReplacing(asList("abc", "bcd"), asList("bxx", "axx"))).isTrue();
+		assertThat(index.areUniqueAfterReplacing(asList("abc", "bcd"), asList("xxx", "xyz"))).isFalse();
+		assertThat(index.areUniqueAfterReplacing(asList("abc", "bcd"), asList("cxx", "dxx"))).isFalse();
+	}
+
+	@Example
+	void duplicatesCanBeRemovedByReplacing() {
+		UniquenessIndex<String> index = UniquenessIndex.of(asList(identity), asList("a", "a", "b"));
+		assertThat(index.areUnique()).isFalse();
+
+		assertThat(index.areUniqueAfterReplacing(asList("a"), asList("c"))).isTrue();
+		assertThat(index.areUniqueAfterReplacing(asList("b"), asList("c"))).isFalse();
+	}
+
+	@Example
+	void nullFeaturesAreCounted() {
+		FeatureExtractor<String> length = String::length;
+		UniquenessIndex<String> index = UniquenessIndex.of(asList(length), asList("a", null));
+
+		assertThat(index.canAdd(null)).isFalse();
+		assertThat(index.canAdd("bb")).isTrue();
+	}
+
+	@Example
+	void indexWithoutExtractorsAcceptsAnything() {
+		UniquenessIndex<String> index = UniquenessIndex.of(Collections.emptySet(), asList("a", "a"));
+
+		assertThat(index.isEmpty()).isTrue();
+		assertThat(index.canAdd("a")).isTrue();
+		assertThat(index.areUnique()).isTrue();
+	}
+
+	@Property(tries = 100)
+	void sameResultsAsFeatureExtractor(
+		@ForAll @Size(max = 10) List<@IntRange(max = 10) Integer> values,
+		@ForAll @IntRange(max = 10) int newValue
+	) {
+		FeatureExtractor<Integer> modulo3 = i -> i % 3;
+		UniquenessIndex<Integer> index = UniquenessIndex.of(asList(modulo3), values);
+
+		assertThat(index.canAdd(newValue)).isEqualTo(modulo3.isUniqueIn(newValue, values));
+		assertThat(index.areUnique()).isEqualTo(modulo3.areUnique(values));
+	}
+}
@@ -365,6 +365,41 @@ class DefaultTypeArbitraryTests {
 
 	}
 
+	@Group
+	class SharedCreators {
+
+		@Example
+		void creatorsOfTypeAreLookedUpOnce() {
+			TypeCreators creators = TypeCreators.of(Person.class);
+
+			Assertions.assertThat(TypeCreators.of(Person.class)).isSameAs(creators);
+			Assertions.assertThat(creators.constructors()).hasSize(2);
+			Assertions.assertThat(creators.factoryMethods()).hasSize(1);
+		}
+
+		@Example
+		void preparedCreatorIsShared() throws NoSuchMethodException {
+			TypeCreators.PreparedCreator creator = TypeCreators.prepare(Samples.class.getDeclaredMethod("personFromAge", int.class));
+
+			Assertions.assertThat(TypeCreators.prepare(Samples.class.getDeclaredMethod("personFromAge", int.class))).isSameAs(creator);
+		}
+
+		@Example
+		void arbitrariesOfSameTypeUseSameCreators() {
+			DefaultTypeArbitrary<Person> first = new DefaultTypeArbitrary<>(Person.class);
+			first.useDefaults();
+			DefaultTypeArbitrary<Person> second = new DefaultTypeArbitrary<>(Person.class);
+			second.useDefaults();
+
+			Assertions.assertThat(first.countCreators()).isEqualTo(3);
+			Assertions.assertThat(second.countCreators()).isEqualTo(3);
+			assertAllGenerated(
+				second.generator(1000, true),
+				aPerson -> aPerson.toString().length() <= 100
+			);
+		}
+	}
+
 	private static class Samples {
 
 		private static Person personFromAge(int age) {
@@ -160,6 +160,62 @@ class RandomGeneratorsTests {
 
 	}
 
+	@Group
+	class LongGeneration {
+
+		@Example
+		void withinFullLongRangeWithUniformDistribution() {
+			RandomGenerator<Long> generator = RandomGenerators.longs(Long.MIN_VALUE, Long.MAX_VALUE, 0L, RandomDistribution.uniform());
+			assertAtLeastOneGenerated(generator, aLong -> aLong > Integer.MAX_VALUE);
+			assertAtLeastOneGenerated(generator, aLong -> aLong < Integer.MIN_VALUE);
+		}
+
+		@Example
+		void withinFullIntegerRangeWithUniformDistribution() {
+			RandomGenerator<Long> generator = RandomGenerators.longs(Integer.MIN_VALUE, Integer.MAX_VALUE, 0L, RandomDistribution.uniform());
+			assertAllGenerated(generator, aLong -> aLong >= Integer.MIN_VALUE && aLong <= Integer.MAX_VALUE);
+			assertAtLeastOneGenerated(generator, aLong -> aLong > 1000);
+			assertAtLeastOneGenerated(generator, aLong -> aLong < -1000);
+		}
+
+		@Example
+		void smallRangeWithBiasedDistribution() {
+			RandomGenerator<Long> generator = RandomGenerators.longs(-100, 100000, 0L, RandomDistribution.biased());
+			assertAllGenerated(generator, aLong -> aLong >= -100 && aLong <= 100000);
+		}
+
+		@Example
+		void shrinkingTargetOutsideRangeFails() {
+			assertThatThrownBy(() -> RandomGenerators.longs(1, 10, 0L, RandomDistribution.uniform()))
+				.isInstanceOf(JqwikException.class);
+		}
+
+		@Property(tries = 20)
+		void generatesSameValuesAsBigIntegerGeneration(@ForAll long seed) {
+			assertSameValuesAsBigIntegers(seed, -100, 10000, RandomDistribution.uniform());
+			assertSameValuesAsBigIntegers(seed, -100_000_000_000L, 100_000_000_000L, RandomDistribution.uniform());
+			assertSameValuesAsBigIntegers(seed, Long.MIN_VALUE, Long.MAX_VALUE, RandomDistribution.uniform());
+			assertSameValuesAsBigIntegers(seed, -100, 100000, RandomDistribution.biased());
+			assertSameValuesAsBigIntegers(seed, 5, 500000, RandomDistribution.biased());
+			assertSameValuesAsBigIntegers(seed, Long.MIN_VALUE, Long.MAX_VALUE, RandomDistribution.biased());
+			assertSameValuesAsBigIntegers(seed, -1000, 1000, RandomDistribution.gaussian());
+		}
+
+		private void assertSameValuesAsBigIntegers(long seed, long min, long max, RandomDistribution distribution) {
+			long target = RandomIntegralGenerators.defaultShrinkingTarget(min, max);
+			RandomGenerator<Long> longs = RandomGenerators.longs(min, max, target, distribution);
+			RandomGenerator<BigInteger> bigIntegers = RandomGenerators.bigIntegers(valueOf(min), valueOf(max), valueOf(target), distribution);
+
+			Random longRandom = new Random(seed);
+			Random bigIntegerRandom = new Random(seed);
+			for (int i = 0; i < 100; i++) {
+				long aLong = longs.next(longRandom).value();
+				BigInteger aBigInteger = bigIntegers.next(bigIntegerRandom).value();
+				assertThat(aLong).isEqualTo(aBigInteger.longValueExact());
+			}
+		}
+	}
+
 	@Group
 	class BigDecimalGeneration {
 
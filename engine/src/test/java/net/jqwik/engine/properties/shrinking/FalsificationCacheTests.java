@@ -0,0 +1,150 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.math.*;
+import java.util.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class FalsificationCacheTests {
+
+	@Example
+	void rememberedResultsAreHits() {
+		FalsificationCache cache = new FalsificationCache(10, false);
+
+		assertThat(cache.get(asList(1, 2))).isNotPresent();
+		cache.put(asList(1, 2), TryExecutionResult.falsified(null));
+
+		assertThat(cache.get(asList(1, 2))).hasValueSatisfying(result -> assertThat(result.isFalsified()).isTrue());
+		assertThat(cache.hits()).isEqualTo(1);
+		assertThat(cache.misses()).isEqualTo(1);
+	}
+
+	@Example
+	void computeIfAbsentExecutesOnlyOnce() {
+		FalsificationCache cache = new FalsificationCache(10, false);
+		List<List<Object>> executed = new ArrayList<>();
+
+		for (int i = 0; i < 3; i++) {
+			cache.computeIfAbsent(asList("a"), params -> {
+				executed.add(params);
+				return TryExecutionResult.satisfied();
+			});
+		}
+
+		assertThat(executed).hasSize(1);
+		assertThat(cache.hits()).isEqualTo(2);
+		assertThat(cache.misses()).isEqualTo(1);
+	}
+
+	@Example
+	void leastRecentlyUsedEntryIsEvicted() {
+		FalsificationCache cache = new FalsificationCache(2, false);
+		cache.put(asList(1), TryExecutionResult.satisfied());
+		cache.put(asList(2), TryExecutionResult.satisfied());
+		cache.get(asList(1));
+
+		cache.put(asList(3), TryExecutionResult.satisfied());
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(asList(1))).isPresent();
+		assertThat(cache.get(asList(2))).isNotPresent();
+		assertThat(cache.get(asList(3))).isPresent();
+	}
+
+	@Example
+	void sizeZeroRemembersNothing() {
+		FalsificationCache cache = new FalsificationCache(0, false);
+		cache.put(asList(1), TryExecutionResult.satisfied());
+
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.get(asList(1))).isNotPresent();
+	}
+
+	@Example
+	void negativeSizeIsRejected() {
+		assertThatThrownBy(() -> new FalsificationCache(-1, false)).isInstanceOf(JqwikException.class);
+	}
+
+	@Group
+	class Fingerprints {
+
+		@Example
+		void equalParametersHaveEqualFingerprints() {
+			FalsificationCache cache = new FalsificationCache(10, true);
+			cache.put(asList("hello", asList(1L, 2L), new int[]{3, 4}, null), TryExecutionResult.invalid());
+
+			assertThat(cache.get(asList("hello", new ArrayList<>(asList(1L, 2L)), new int[]{3, 4}, null))).isPresent();
+		}
+
+		@Example
+		void differentParametersHaveDifferentFingerprints() {
+			FalsificationCache cache = new FalsificationCache(10, true);
+			cache.put(asList("hello", asList(1L, 2L)), TryExecutionResult.invalid());
+
+			assertThat(cache.get(asList("hellO", asList(1L, 2L)))).isNotPresent();
+			assertThat(cache.get(asList("hello", asList(2L, 1L)))).isNotPresent();
+			assertThat(cache.get(asList("hello", asList(1, 2)))).isNotPresent();
+			assertThat(cache.get(asList("hello", asList(1L, 2L), null))).isNotPresent();
+		}
+
+		@Example
+		void tuplesAreHashedByTheirItems() {
+			FalsificationCache cache = new FalsificationCache(10, true);
+			cache.put(asList(Tuple.of(0, 31)), TryExecutionResult.invalid());
+
+			assertThat(cache.get(asList(Tuple.of(1, 0)))).isNotPresent();
+			assertThat(cache.get(asList(Tuple.of(0, 31)))).isPresent();
+		}
+
+		@Example
+		void allBitsOfBigNumbersAreHashed() {
+			FalsificationCache cache = new FalsificationCache(10, true);
+			BigInteger big = BigInteger.ONE.shiftLeft(100);
+			cache.put(asList(big, new BigDecimal("1.5")), TryExecutionResult.invalid());
+
+			assertThat(cache.get(asList(big.add(BigInteger.ONE.shiftLeft(64)), new BigDecimal("1.5")))).isNotPresent();
+			assertThat(cache.get(asList(big, new BigDecimal("15")))).isNotPresent();
+			assertThat(cache.get(asList(BigInteger.ONE.shiftLeft(100), new BigDecimal("1.5")))).isPresent();
+		}
+
+		@Example
+		void parametersOfOtherTypesAreKeptAsKeys() {
+			FalsificationCache cache = new FalsificationCache(10, true);
+			cache.put(asList(new CollidingHashCode(1)), TryExecutionResult.invalid());
+
+			assertThat(cache.get(asList(new CollidingHashCode(2)))).isNotPresent();
+			assertThat(cache.get(asList(new CollidingHashCode(1)))).isPresent();
+		}
+
+		@Property(tries = 100)
+		void distinctListsOfIntegersDoNotCollide(@ForAll List<Integer> first, @ForAll List<Integer> second) {
+			Assume.that(!first.equals(second));
+			FalsificationCache cache = new FalsificationCache(10, true);
+			cache.put(asList(first), TryExecutionResult.satisfied());
+
+			assertThat(cache.get(asList(second))).isNotPresent();
+		}
+
+		private class CollidingHashCode {
+			private final int value;
+
+			private CollidingHashCode(int value) {
+				this.value = value;
+			}
+
+			@Override
+			public boolean equals(Object o) {
+				return o instanceof CollidingHashCode && ((CollidingHashCode) o).value == value;
+			}
+
+			@Override
+			public int hashCode() {
+				return 42;
+			}
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package net.jqwik.engine.properties.shrinking;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -8,7 +9,9 @@ import org.mockito.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.api.domains.*;
 import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.facades.*;
 import net.jqwik.engine.properties.*;
 import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
 import net.jqwik.testing.*;
@@ -472,6 +475,153 @@ class PropertyShrinkerTests {
 		return sample.shrinkables().stream().map(Shrinkable::value).collect(Collectors.toList());
 	}
 
+	@Group
+	class FalsificationCaching {
+
+		@Example
+		void cacheCountsExecutedAndSkippedCandidates() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(20, 30, 40);
+			AtomicInteger executions = new AtomicInteger(0);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				executions.incrementAndGet();
+				int sum = params.stream().mapToInt(p -> (int) p).sum();
+				return sum < 25;
+			};
+
+			FalsificationCache cache = new FalsificationCache();
+			createCachingShrinker(toFalsifiedSample(shrinkables, null), cache).shrink(falsifier);
+
+			assertThat(cache.misses()).isEqualTo(executions.get());
+			assertThat(cache.hits()).isGreaterThan(0);
+		}
+
+		@Example
+		void cacheOfSizeZeroExecutesEveryCandidate() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(20, 30, 40);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				int sum = params.stream().mapToInt(p -> (int) p).sum();
+				return sum < 25;
+			};
+
+			FalsificationCache cache = new FalsificationCache();
+			ShrunkFalsifiedSample cached =
+				createCachingShrinker(toFalsifiedSample(shrinkables, null), cache).shrink(falsifier);
+			FalsificationCache noCache = new FalsificationCache(0, false);
+			ShrunkFalsifiedSample uncached =
+				createCachingShrinker(toFalsifiedSample(shrinkables, null), noCache).shrink(falsifier);
+
+			assertThat(uncached.parameters()).isEqualTo(cached.parameters());
+			assertThat(noCache.hits()).isEqualTo(0);
+			assertThat(noCache.misses()).isEqualTo(cache.hits() + cache.misses());
+		}
+
+		@Example
+		void fingerprintsShrinkToSameSample() {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(50, 70);
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer i1, Integer i2) -> i1 + i2 < 42);
+
+			ShrunkFalsifiedSample withParams =
+				createCachingShrinker(toFalsifiedSample(shrinkables, null), new FalsificationCache(100, false)).shrink(falsifier);
+			ShrunkFalsifiedSample withFingerprints =
+				createCachingShrinker(toFalsifiedSample(shrinkables, null), new FalsificationCache(100, true)).shrink(falsifier);
+
+			assertThat(withFingerprints).isEqualTo(withParams);
+		}
+
+		private PropertyShrinker createCachingShrinker(FalsifiedSample originalSample, FalsificationCache cache) {
+			return new PropertyShrinker(
+				originalSample,
+				ShrinkingMode.FULL,
+				10,
+				falsifiedSampleReporter,
+				null,
+				1,
+				cache
+			);
+		}
+	}
+
+	@Group
+	class ParallelShrinking {
+
+		@Example
+		void shrinkToSameSampleAsSequentialShrinking() {
+			List<Shrinkable<Object>> shrinkables = listOfFullShrinkables(50, 70);
+			TestingFalsifier<List<Object>> falsifier = paramFalsifier((Integer i1, Integer i2) -> i1 + i2 < 42);
+
+			ShrunkFalsifiedSample sequential =
+				createShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.FULL).shrink(falsifier);
+			ShrunkFalsifiedSample parallel =
+				createParallelShrinker(toFalsifiedSample(shrinkables, null), 4).shrink(falsifier);
+
+			assertThat(parallel.parameters()).isEqualTo(sequential.parameters());
+			assertThat(parallel.parameters()).isEqualTo(asList(0, 42));
+		}
+
+		@Example
+		void parallelShrinkingIsDeterministic() {
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(20, 30, 40);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				int sum = params.stream().mapToInt(p -> (int) p).sum();
+				return sum < 25;
+			};
+
+			ShrunkFalsifiedSample first = createParallelShrinker(toFalsifiedSample(shrinkables, null), 3).shrink(falsifier);
+			ShrunkFalsifiedSample second = createParallelShrinker(toFalsifiedSample(shrinkables, null), 3).shrink(falsifier);
+
+			assertThat(first.parameters()).isEqualTo(second.parameters());
+			assertThat(first.countShrinkingSteps()).isEqualTo(second.countShrinkingSteps());
+		}
+
+		@Example
+		void candidatesAreEvaluatedOnWorkerThreads() {
+			Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				threadNames.add(Thread.currentThread().getName());
+				return ((int) params.get(0)) < 5;
+			};
+
+			ShrunkFalsifiedSample sample = createParallelShrinker(toFalsifiedSample(shrinkables, null), 2).shrink(falsifier);
+
+			assertThat(sample.parameters()).isEqualTo(asList(5));
+			assertThat(threadNames).allMatch(name -> name.startsWith("jqwik-shrinking-"));
+		}
+
+		@Example
+		void boundedParallelShrinkingFalsifiesCandidatesWithDomainContextOfProperty() {
+			DomainContext propertyDomainContext = new AbstractDomainContextBase() {};
+			Set<DomainContext> domainContexts = Collections.synchronizedSet(new HashSet<>());
+			List<Shrinkable<Object>> shrinkables = listOfOneStepShrinkables(10);
+			TestingFalsifier<List<Object>> falsifier = params -> {
+				domainContexts.add(DomainContextFacadeImpl.getCurrentContext());
+				return ((int) params.get(0)) < 5;
+			};
+
+			PropertyShrinker shrinker = createParallelShrinker(toFalsifiedSample(shrinkables, null), ShrinkingMode.BOUNDED, 2);
+			ShrunkFalsifiedSample sample = DomainContextFacadeImpl.runWithContext(propertyDomainContext, () -> shrinker.shrink(falsifier));
+
+			assertThat(sample.parameters()).isEqualTo(asList(5));
+			assertThat(domainContexts).containsExactly(propertyDomainContext);
+		}
+
+		private PropertyShrinker createParallelShrinker(FalsifiedSample originalSample, int parallelism) {
+			return createParallelShrinker(originalSample, ShrinkingMode.FULL, parallelism);
+		}
+
+		private PropertyShrinker createParallelShrinker(FalsifiedSample originalSample, ShrinkingMode shrinkingMode, int parallelism) {
+			return new PropertyShrinker(
+				originalSample,
+				shrinkingMode,
+				10,
+				falsifiedSampleReporter,
+				null,
+				parallelism,
+				new FalsificationCache()
+			);
+		}
+	}
+
 	private List<Shrinkable<Object>> listOfOneStepShrinkables(int... args) {
 		return Arrays.stream(args).mapToObj(i -> new OneStepShrinkable(i).asGeneric()).collect(Collectors.toList());
 	}
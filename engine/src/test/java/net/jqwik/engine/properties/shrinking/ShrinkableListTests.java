@@ -2,6 +2,7 @@ package net.jqwik.engine.properties.shrinking;
 
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -208,6 +209,45 @@ class ShrinkableListTests {
 			List<Integer> shrunkValue = shrink(shrinkable, falsifier(List::isEmpty), null);
 			assertThat(shrunkValue).hasSize(1);
 		}
+
+		@Example
+		void isolateSingleElementOfLongListInFewSteps() {
+			List<Shrinkable<Integer>> elementShrinkables =
+					IntStream.range(0, 2000)
+							 .mapToObj(OneStepShrinkable::new)
+							 .collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(elementShrinkables, 0, 2000);
+
+			AtomicInteger countFalsifierCalls = new AtomicInteger(0);
+			TestingFalsifier<List<Integer>> falsifier = integers -> {
+				countFalsifierCalls.incrementAndGet();
+				return !integers.contains(1234);
+			};
+
+			ShrunkFalsifiedSample sample = shrinkToSample(shrinkable, falsifier, null);
+			assertThat(sample.parameters()).containsExactly(asList(1234));
+			assertThat(sample.countShrinkingSteps()).isLessThanOrEqualTo(20);
+			assertThat(countFalsifierCalls.get()).isLessThanOrEqualTo(50);
+		}
+
+		@Example
+		void shrinkLongListToMinimumSizeInFewSteps() {
+			List<Shrinkable<Integer>> elementShrinkables =
+					IntStream.range(0, 2000)
+							 .mapToObj(i -> new OneStepShrinkable(0))
+							 .collect(Collectors.toList());
+			Shrinkable<List<Integer>> shrinkable = new ShrinkableList<>(elementShrinkables, 0, 2000);
+
+			AtomicInteger countFalsifierCalls = new AtomicInteger(0);
+			TestingFalsifier<List<Integer>> falsifier = integers -> {
+				countFalsifierCalls.incrementAndGet();
+				return integers.size() < 1500;
+			};
+
+			List<Integer> shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).hasSize(1500);
+			assertThat(countFalsifierCalls.get()).isLessThanOrEqualTo(50);
+		}
 	}
 
 	@Group
@@ -0,0 +1,123 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Label("ShrinkableLongArray")
+class ShrinkableLongArrayTests {
+
+	@Example
+	void creation() {
+		Shrinkable<int[]> shrinkable = createShrinkableIntArray(0, 3, -2, 5);
+
+		assertThat(shrinkable.value()).containsExactly(3, -2, 5);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(3, 10));
+	}
+
+	@Example
+	void valueIsNewArrayEachTime() {
+		Shrinkable<int[]> shrinkable = createShrinkableIntArray(0, 1, 2);
+
+		shrinkable.value()[0] = 42;
+		assertThat(shrinkable.value()).containsExactly(1, 2);
+	}
+
+	@Example
+	void shrinkingDistanceBeyondLongMaxIsCapped() {
+		Shrinkable<long[]> shrinkable = new ShrinkableLongArray<>(
+			new long[]{Long.MAX_VALUE, Long.MAX_VALUE},
+			Range.of(0L, Long.MAX_VALUE),
+			0L,
+			0,
+			long[]::clone
+		);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(2, Long.MAX_VALUE));
+	}
+
+	@Example
+	void chunksAreRemovedFirst() {
+		Shrinkable<int[]> shrinkable = createShrinkableIntArray(0, 1, 2, 3, 4);
+
+		List<int[]> candidates = shrinkable.shrink().limit(3).map(Shrinkable::value).collect(Collectors.toList());
+		assertThat(candidates).containsExactly(
+			new int[0],
+			new int[]{3, 4},
+			new int[]{1, 2}
+		);
+	}
+
+	@Example
+	void chunksAreSetToTargetThenMovedHalfwayBeforeSingleElementsAreShrunk() {
+		Shrinkable<int[]> shrinkable = createShrinkableIntArray(2, 10, 20);
+
+		List<int[]> candidates = shrinkable.shrink().map(Shrinkable::value).collect(Collectors.toList());
+		assertThat(candidates).containsSubsequence(
+			new int[]{2, 2},
+			new int[]{6, 11},
+			new int[]{2, 20}
+		);
+	}
+
+	@Example
+	void allCandidatesAreSmaller() {
+		Shrinkable<int[]> shrinkable = createShrinkableIntArray(1, 5, 1, 7, 100);
+
+		assertThat(shrinkable.shrink()).allMatch(candidate -> candidate.compareTo(shrinkable) < 0);
+	}
+
+	@Example
+	void shrinkToMinSizeAndTarget() {
+		Shrinkable<int[]> shrinkable = new ShrinkableLongArray<>(
+			new long[]{7, 12, 99, 3, 42},
+			Range.of(0L, 100L),
+			0L,
+			2,
+			ShrinkableLongArrayTests::toIntArray
+		);
+
+		int[] shrunkValue = shrink(shrinkable, (TestingFalsifier<int[]>) array -> false, null);
+		assertThat(shrunkValue).containsExactly(0, 0);
+	}
+
+	@Example
+	void shrinkLargeArrayToSingleFailingElement() {
+		long[] elements = new long[10_000];
+		Random random = new Random(42);
+		for (int i = 0; i < elements.length; i++) {
+			elements[i] = random.nextInt(10_000);
+		}
+		Shrinkable<int[]> shrinkable = new ShrinkableLongArray<>(
+			elements,
+			Range.of(0L, 10_000L),
+			0L,
+			0,
+			ShrinkableLongArrayTests::toIntArray
+		);
+
+		TestingFalsifier<int[]> falsifier = array -> IntStream.of(array).allMatch(i -> i <= 5000);
+		int[] shrunkValue = shrink(shrinkable, falsifier, null);
+		assertThat(shrunkValue).containsExactly(5001);
+	}
+
+	private Shrinkable<int[]> createShrinkableIntArray(long shrinkingTarget, long... elements) {
+		return new ShrinkableLongArray<>(
+			elements,
+			Range.of(-100L, 100L),
+			shrinkingTarget,
+			0,
+			ShrinkableLongArrayTests::toIntArray
+		);
+	}
+
+	private static int[] toIntArray(long[] values) {
+		return LongStream.of(values).mapToInt(Math::toIntExact).toArray();
+	}
+}
@@ -0,0 +1,142 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.stream.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.*;
+import net.jqwik.engine.properties.arbitraries.randomized.*;
+import net.jqwik.testing.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+import static net.jqwik.testing.ShrinkingSupport.*;
+
+@Group
+@Label("ShrinkableLong")
+class ShrinkableLongTests {
+
+	@Example
+	void creation() {
+		Shrinkable<Long> shrinkable = createShrinkableLong(25, Range.of(-100L, 100L));
+		assertThat(shrinkable.value()).isEqualTo(25L);
+		assertThat(shrinkable.distance()).isEqualTo(ShrinkingDistance.of(25));
+	}
+
+	@Example
+	void cannotCreateValueOutsideRange() {
+		assertThatThrownBy(
+			() -> createShrinkableLong(25, Range.of(50L, 100L)))
+			.isInstanceOf(JqwikException.class);
+	}
+
+	@Example
+	void shrinkingDistanceIsDistanceToShrinkingTarget() {
+		assertThat(createShrinkableLong(25, Range.of(-100L, 100L)).distance()).isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableLong(-25, Range.of(-100L, 100L)).distance()).isEqualTo(ShrinkingDistance.of(25));
+		assertThat(createShrinkableLong(25, Range.of(5L, 100L)).distance()).isEqualTo(ShrinkingDistance.of(20));
+		assertThat(createShrinkableLong(-25, Range.of(-100L, -5L)).distance()).isEqualTo(ShrinkingDistance.of(20));
+		assertThat(createShrinkableLong(-25, Range.of(-100L, 100L), 100L).distance()).isEqualTo(ShrinkingDistance.of(125));
+	}
+
+	@Example
+	void shrinkingDistanceBeyondLongMaxIsCapped() {
+		Range<Long> fullRange = Range.of(Long.MIN_VALUE, Long.MAX_VALUE);
+		assertThat(new ShrinkableLong(Long.MAX_VALUE, fullRange, Long.MIN_VALUE).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+		assertThat(new ShrinkableLong(Long.MIN_VALUE, fullRange, 0L).distance())
+			.isEqualTo(ShrinkingDistance.of(Long.MAX_VALUE));
+	}
+
+	@Group
+	class Shrinking {
+
+		@Example
+		void candidatesAreOrderedByDistance() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(10, Range.of(-100L, 100L));
+			Stream<Long> candidates = shrinkable.shrink().map(Shrinkable::value);
+			assertThat(candidates).containsExactly(0L, 1L, 2L, 3L, 5L, 7L, 8L, 9L);
+		}
+
+		@Example
+		void negativeValuesAlsoShrinkToPositive() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(-3, Range.of(-100L, 100L));
+			Stream<Long> candidates = shrinkable.shrink().map(Shrinkable::value);
+			assertThat(candidates).containsExactly(0L, -1L, -2L, 3L);
+		}
+
+		@Example
+		void downAllTheWay() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(100000, Range.of(5L, 500000L));
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong <= 1000;
+			Long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(1001L);
+		}
+
+		@Example
+		void acrossFullLongRange() {
+			Shrinkable<Long> shrinkable = new ShrinkableLong(Long.MAX_VALUE, Range.of(Long.MIN_VALUE, Long.MAX_VALUE), Long.MIN_VALUE);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong < 42;
+			Long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(42L);
+		}
+
+		@Example
+		void upToExplicitShrinkingTarget() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(1000, Range.of(5L, 500000L), 5000L);
+
+			TestingFalsifier<Long> falsifier = aLong -> aLong >= 5000;
+			Long shrunkValue = shrink(shrinkable, falsifier, null);
+			assertThat(shrunkValue).isEqualTo(4999L);
+		}
+
+	}
+
+	@Group
+	class Growing {
+		@Example
+		void upToMax() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(100000, Range.of(5L, 500000L));
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactly(100001L, 100010L, 250000L, 500000L);
+		}
+
+		@Example
+		void downToMin() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(-100000, Range.of(-500000L, -5L));
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactly(-100001L, -100010L, -250000L, -500000L);
+		}
+
+		@Example
+		void doesNotOverflowAtLongMax() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(Long.MAX_VALUE, Range.of(0L, Long.MAX_VALUE));
+
+			Stream<Long> grownValues = shrinkable.grow().map(Shrinkable::value);
+			assertThat(grownValues).containsExactly(Long.MAX_VALUE / 2, Long.MAX_VALUE);
+		}
+
+		@Example
+		void growByDifferenceOfOtherShrinkables() {
+			Shrinkable<Long> shrinkable = createShrinkableLong(10, Range.of(0L, 100L));
+			Shrinkable<Integer> before = Shrinkable.unshrinkable(7);
+			Shrinkable<Integer> after = Shrinkable.unshrinkable(2);
+
+			assertThat(shrinkable.grow(before, after)).hasValueSatisfying(
+				grown -> assertThat(grown.value()).isEqualTo(15L)
+			);
+		}
+	}
+
+	private Shrinkable<Long> createShrinkableLong(long number, Range<Long> range) {
+		return new ShrinkableLong(number, range, RandomIntegralGenerators.defaultShrinkingTarget(range.min, range.max));
+	}
+
+	private Shrinkable<Long> createShrinkableLong(long number, Range<Long> range, long shrinkingTarget) {
+		return new ShrinkableLong(number, range, shrinkingTarget);
+	}
+
+}
@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.stream.*;
 
 import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
 import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
 import net.jqwik.testing.*;
 
@@ -119,6 +120,32 @@ public class ShrinkableStringTests {
 			assertThat(shrunkValue).hasSize(5);
 		}
 
+		@Example
+		void removeChunksAroundCharacterInTheMiddle() {
+			String longString = repeat('a', 567) + "x" + repeat('a', 432);
+			Shrinkable<String> shrinkable = createShrinkableString(longString, 0);
+
+			TestingFalsifier<String> falsifier = aString -> aString.indexOf('x') < 0;
+			ShrunkFalsifiedSample sample = shrinkToSample(shrinkable, falsifier, null);
+
+			assertThat(sample.parameters()).containsExactly("x");
+			assertThat(sample.countShrinkingSteps()).isLessThanOrEqualTo(20);
+		}
+
+		@Example
+		void simplifyAllCharactersOfLongStringTogether() {
+			Shrinkable<String> shrinkable = createShrinkableString(repeat('z', 1000), 1000);
+
+			ShrunkFalsifiedSample sample = shrinkToSample(shrinkable, alwaysFalsify(), null);
+
+			assertThat(sample.parameters()).containsExactly(repeat('a', 1000));
+			assertThat(sample.countShrinkingSteps()).isEqualTo(25);
+		}
+
+	}
+
+	private static String repeat(char aChar, int times) {
+		return String.join("", Collections.nCopies(times, String.valueOf(aChar)));
 	}
 
 	public static Shrinkable<String> createShrinkableString(String aString, int minSize) {
@@ -0,0 +1,126 @@
+package net.jqwik.engine.properties.shrinking;
+
+import java.util.*;
+import java.util.function.*;
+
+import net.jqwik.api.*;
+import net.jqwik.engine.properties.shrinking.ShrinkableTypesForTest.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@Group
+@Label("ValueMemoization")
+class ValueMemoizationTests {
+
+	@Example
+	void disabledByDefault() {
+		assertThat(ValueMemoization.isEnabled()).isFalse();
+
+		Shrinkable<List<Integer>> shrinkable = listOf(3, 4);
+
+		assertThat(shrinkable.value()).isEqualTo(Arrays.asList(3, 4));
+		assertThat(shrinkable.value()).isNotSameAs(shrinkable.value());
+	}
+
+	@Example
+	void listValueIsCreatedOnceWhenEnabled() {
+		Shrinkable<List<Integer>> shrinkable = ValueMemoization.runWith(true, () -> listOf(3, 4));
+
+		assertThat(shrinkable.value()).isEqualTo(Arrays.asList(3, 4));
+		assertThat(shrinkable.value()).isSameAs(shrinkable.value());
+	}
+
+	@Example
+	void setValueIsCreatedOnceWhenEnabled() {
+		Shrinkable<Set<Integer>> shrinkable = ValueMemoization.runWith(true, () -> new ShrinkableSet<>(
+			Arrays.<Shrinkable<Integer>>asList(new OneStepShrinkable(1), new OneStepShrinkable(2)),
+			0, 10, Collections.emptySet()
+		));
+
+		assertThat(shrinkable.value()).containsExactlyInAnyOrder(1, 2);
+		assertThat(shrinkable.value()).isSameAs(shrinkable.value());
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	@Example
+	void combinatorIsCalledOnceWhenEnabled() {
+		int[] calls = {0};
+		Function<List<Object>, String> combinator = values -> {
+			calls[0]++;
+			return "value" + values.get(0);
+		};
+		List<Shrinkable<Object>> parts = Collections.singletonList((Shrinkable) new OneStepShrinkable(5));
+		Shrinkable<String> shrinkable = ValueMemoization.runWith(true, () -> new CombinedShrinkable<>(parts, combinator));
+
+		assertThat(shrinkable.value()).isEqualTo("value5");
+		assertThat(shrinkable.value()).isEqualTo("value5");
+		assertThat(calls[0]).isEqualTo(1);
+	}
+
+	@Example
+	void shrinkingCandidatesInheritDecision() {
+		Shrinkable<List<Integer>> memoized = ValueMemoization.runWith(true, () -> listOf(3, 4));
+		memoized.shrink().limit(10).forEach(candidate -> {
+			assertThat(candidate.value()).isSameAs(candidate.value());
+		});
+
+		Shrinkable<List<Integer>> notMemoized = listOf(3, 4);
+		ValueMemoization.runWith(true, () -> {
+			notMemoized.shrink().limit(10).forEach(candidate -> {
+				assertThat(candidate.value()).isNotSameAs(candidate.value());
+			});
+			return null;
+		});
+	}
+
+	@Example
+	void runWithRestoresPreviousSetting() {
+		ValueMemoization.runWith(true, () -> {
+			assertThat(ValueMemoization.isEnabled()).isTrue();
+			ValueMemoization.runWith(false, () -> {
+				assertThat(ValueMemoization.isEnabled()).isFalse();
+				return null;
+			});
+			assertThat(ValueMemoization.isEnabled()).isTrue();
+			return null;
+		});
+		assertThat(ValueMemoization.isEnabled()).isFalse();
+	}
+
+	@Example
+	void dontMemoizeValuesSwitchesOffMemoizationForArbitrary(@ForAll Random random) {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().list().ofMinSize(1);
+
+		RandomGenerator<List<Integer>> memoizing = lists.generator(1000);
+		RandomGenerator<List<Integer>> notMemoizing = lists.dontMemoizeValues().generator(1000);
+
+		ValueMemoization.runWith(true, () -> {
+			Shrinkable<List<Integer>> memoized = memoizing.next(random);
+			assertThat(memoized.value()).isSameAs(memoized.value());
+
+			Shrinkable<List<Integer>> created = notMemoizing.next(random);
+			assertThat(created.value()).isNotSameAs(created.value());
+			return null;
+		});
+	}
+
+	@Example
+	void dontMemoizeValuesAlsoAppliesToEdgeCases() {
+		Arbitrary<List<Integer>> lists = Arbitraries.integers().list().ofMinSize(1).dontMemoizeValues();
+
+		ValueMemoization.runWith(true, () -> {
+			lists.edgeCases().forEach(edgeCase -> {
+				assertThat(edgeCase.value()).isNotSameAs(edgeCase.value());
+			});
+			return null;
+		});
+	}
+
+	private Shrinkable<List<Integer>> listOf(int... values) {
+		List<Shrinkable<Integer>> elements = new ArrayList<>();
+		for (int value : values) {
+			elements.add(new OneStepShrinkable(value));
+		}
+		return new ShrinkableList<>(elements, 0, 10, Collections.emptySet());
+	}
+}
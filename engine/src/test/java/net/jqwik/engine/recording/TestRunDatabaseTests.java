@@ -0,0 +1,289 @@
+package net.jqwik.engine.recording;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.api.lifecycle.PropertyExecutionResult.*;
+import net.jqwik.engine.*;
+import net.jqwik.engine.discovery.*;
+
+import static java.util.Arrays.*;
+import static org.assertj.core.api.Assertions.*;
+
+class TestRunDatabaseTests {
+
+	private final UniqueId property1 = UniqueId.forEngine("jqwik").append("property", "property1");
+	private final UniqueId property2 = UniqueId.forEngine("jqwik").append("property", "property2");
+
+	private Path databasePath;
+
+	@BeforeProperty
+	void createDatabasePath() throws IOException {
+		databasePath = Files.createTempFile("jqwik-database", ".test");
+		Files.delete(databasePath);
+	}
+
+	@AfterProperty
+	void deleteDatabase() throws IOException {
+		Files.deleteIfExists(databasePath);
+	}
+
+	@Example
+	void recordedRunsAreAvailableInNextRun() {
+		record(
+			new TestRun(property1, Status.FAILED, "42", asList(1, "a")),
+			new TestRun(property2, Status.SUCCESSFUL, "43", null)
+		);
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		TestRun run1 = previousRun.byUniqueId(property1).get();
+		assertThat(run1.getStatus()).isEqualTo(Status.FAILED);
+		assertThat(run1.randomSeed()).hasValue("42");
+		assertThat(run1.falsifiedSample()).hasValue(asList(1, "a"));
+
+		TestRun run2 = previousRun.byUniqueId(property2).get();
+		assertThat(run2.getStatus()).isEqualTo(Status.SUCCESSFUL);
+		assertThat(run2.falsifiedSample()).isNotPresent();
+	}
+
+	@Example
+	void laterRunsReplaceEarlierRunsOfSameProperty() {
+		record(new TestRun(property1, Status.FAILED, "42", null));
+		record(new TestRun(property1, Status.SUCCESSFUL, "43", null));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.size()).isEqualTo(1);
+		assertThat(previousRun.byUniqueId(property1).get().getStatus()).isEqualTo(Status.SUCCESSFUL);
+		assertThat(previousRun.allNonSuccessfulTests()).isEmpty();
+	}
+
+	@Example
+	void runsOfPropertiesNotExecutedAgainAreKept() {
+		record(new TestRun(property1, Status.FAILED, "42", null));
+		record(new TestRun(property2, Status.SUCCESSFUL, "43", null));
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+		assertThat(previousRun.byUniqueId(property1)).isPresent();
+		assertThat(previousRun.byUniqueId(property2)).isPresent();
+	}
+
+	@Example
+	void notSerializableSampleIsLeftOut() {
+		record(new TestRun(property1, Status.FAILED, "42", asList(new Object())));
+
+		TestRun run = new TestRunDatabase(databasePath).previousRun().byUniqueId(property1).get();
+
+		assertThat(run.randomSeed()).hasValue("42");
+		assertThat(run.falsifiedSample()).isNotPresent();
+	}
+
+	@Example
+	void incompleteLastRecordIsIgnored() throws IOException {
+		record(
+			new TestRun(property1, Status.FAILED, "42", null),
+			new TestRun(property2, Status.FAILED, "43", null)
+		);
+		byte[] bytes = Files.readAllBytes(databasePath);
+		Files.write(databasePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(property1)).isPresent();
+		assertThat(database.previousRun().byUniqueId(property2)).isNotPresent();
+
+		database.recorder().close();
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(property1)).isPresent();
+	}
+
+	@Example
+	void unreadableDatabaseIsDeleted() throws IOException {
+		Files.write(databasePath, "no database".getBytes());
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+
+		assertThat(database.previousRun().size()).isEqualTo(0);
+		assertThat(databasePath).doesNotExist();
+	}
+
+	@Example
+	void databaseWithCorruptRecordLengthIsDeleted() throws IOException {
+		record(new TestRun(property1, Status.FAILED, "42", null));
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.APPEND))) {
+			out.writeInt(Integer.MAX_VALUE - 8);
+			out.writeInt(0);
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+
+		assertThat(database.previousRun().size()).isEqualTo(0);
+		assertThat(databasePath).doesNotExist();
+	}
+
+	@Example
+	void recordWithCorruptLengthInsideIsSkipped() throws IOException {
+		record(new TestRun(property1, Status.FAILED, "42", null));
+		ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		new DataOutputStream(payload).writeInt(Integer.MAX_VALUE - 8);
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(databasePath, StandardOpenOption.APPEND))) {
+			TestRunFormat.writeRecord(out, payload.toByteArray());
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+
+		assertThat(database.previousRun().size()).isEqualTo(1);
+		assertThat(database.previousRun().byUniqueId(property1)).isPresent();
+	}
+
+	@Example
+	void databaseInObjectStreamFormatIsMigrated() throws IOException {
+		try (ObjectOutputStream out = new ObjectOutputStream(Files.newOutputStream(databasePath))) {
+			out.writeObject(new TestRun(property1, Status.FAILED, "42", asList(1)));
+		}
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		assertThat(database.previousRun().byUniqueId(property1).get().falsifiedSample()).hasValue(asList(1));
+
+		database.recorder().close();
+		assertThat(new TestRunDatabase(databasePath).previousRun().byUniqueId(property1)).isPresent();
+	}
+
+	@Example
+	void outdatedRecordsAreCompacted() throws IOException {
+		TestRun[] runs = new TestRun[2000];
+		for (int i = 0; i < runs.length; i++) {
+			runs[i] = new TestRun(property1, Status.SUCCESSFUL, Integer.toString(i), null);
+		}
+		record(runs);
+		long sizeBeforeCompaction = Files.size(databasePath);
+
+		TestRunDatabase database = new TestRunDatabase(databasePath);
+		database.recorder().close();
+
+		assertThat(Files.size(databasePath)).isLessThan(sizeBeforeCompaction / 100);
+		TestRun latestRun = new TestRunDatabase(databasePath).previousRun().byUniqueId(property1).get();
+		assertThat(latestRun.randomSeed()).hasValue("1999");
+	}
+
+	@Example
+	void compactionDropsRecordsOfPropertiesThatNoLongerExist() {
+		UniqueId existingProperty = JqwikUniqueIdBuilder.uniqueIdForPropertyMethod(TestRunDatabaseTests.class, "recordedRunsAreAvailableInNextRun");
+		UniqueId removedProperty = JqwikUniqueIdBuilder.uniqueIdForPropertyMethod(TestRunDatabaseTests.class, "removedProperty");
+		TestRun[] runs = new TestRun[2000];
+		runs[0] = new TestRun(removedProperty, Status.FAILED, "42", null);
+		for (int i = 1; i < runs.length; i++) {
+			runs[i] = new TestRun(existingProperty, Status.FAILED, Integer.toString(i), null);
+		}
+		record(runs);
+
+		TestRunDatabase database = new TestRunDatabase(databasePath, 0, JqwikUniqueIDs::propertyExists);
+		database.recorder().close();
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(previousRun.byUniqueId(existingProperty)).isPresent();
+		assertThat(previousRun.byUniqueId(removedProperty)).isNotPresent();
+	}
+
+	@Example
+	void recordsAreOnlyDecodedWhenLookedUp() {
+		record(
+			new TestRun(property1, Status.FAILED, "42", asList(new CountingDeserializations())),
+			new TestRun(property2, Status.FAILED, "43", asList(new CountingDeserializations()))
+		);
+		CountingDeserializations.count = 0;
+
+		TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+		assertThat(CountingDeserializations.count).isEqualTo(0);
+
+		previousRun.byUniqueId(property1);
+		previousRun.byUniqueId(property1);
+		assertThat(CountingDeserializations.count).isEqualTo(1);
+	}
+
+	private static class CountingDeserializations implements Serializable {
+		private static int count = 0;
+
+		private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+			in.defaultReadObject();
+			count++;
+		}
+	}
+
+	@Group
+	class RegressionSeeds {
+
+		@Example
+		void seedsOfFalsifiedTriesSurviveRunsWithOtherSeeds() {
+			record(10, new TestRun(property1, Status.FAILED, "42", asList(1), asList(1L)));
+			record(10, new TestRun(property1, Status.FAILED, "43", asList(2), asList(2L)));
+			record(10, new TestRun(property1, Status.FAILED, "44", null));
+
+			TestRun run = new TestRunDatabase(databasePath).previousRun().byUniqueId(property1).get();
+
+			assertThat(run.regressionSeeds()).containsExactly(2L, 1L);
+		}
+
+		@Example
+		void seedsAreDroppedWhenPropertySucceeds() {
+			record(10, new TestRun(property1, Status.FAILED, "42", asList(1), asList(1L)));
+			record(10, new TestRun(property1, Status.SUCCESSFUL, "43", null));
+
+			TestRun run = new TestRunDatabase(databasePath).previousRun().byUniqueId(property1).get();
+
+			assertThat(run.regressionSeeds()).isEmpty();
+		}
+
+		@Example
+		void sameSeedIsOnlyKeptOnce() {
+			record(10, new TestRun(property1, Status.FAILED, "42", asList(1), asList(1L)));
+			record(10, new TestRun(property1, Status.FAILED, "43", asList(2), asList(2L)));
+			record(10, new TestRun(property1, Status.FAILED, "44", asList(1), asList(1L)));
+
+			TestRun run = new TestRunDatabase(databasePath).previousRun().byUniqueId(property1).get();
+
+			assertThat(run.regressionSeeds()).containsExactly(1L, 2L);
+		}
+
+		@Example
+		void numberOfSeedsPerPropertyIsBounded() {
+			for (long i = 0; i < 5; i++) {
+				record(3, new TestRun(property1, Status.FAILED, "42", asList(i), asList(i)));
+			}
+			record(3, new TestRun(property2, Status.FAILED, "42", asList(42), asList(42L)));
+
+			TestRunData previousRun = new TestRunDatabase(databasePath).previousRun();
+
+			assertThat(previousRun.byUniqueId(property1).get().regressionSeeds()).containsExactly(4L, 3L, 2L);
+			assertThat(previousRun.byUniqueId(property2).get().regressionSeeds()).containsExactly(42L);
+		}
+
+		@Example
+		void noSeedsAreKeptByDefault() {
+			record(new TestRun(property1, Status.FAILED, "42", asList(1), asList(1L)));
+
+			TestRun run = new TestRunDatabase(databasePath).previousRun().byUniqueId(property1).get();
+
+			assertThat(run.falsifiedSample()).hasValue(asList(1));
+			assertThat(run.regressionSeeds()).isEmpty();
+		}
+	}
+
+	private void record(TestRun... testRuns) {
+		record(TestRunDatabase.DEFAULT_MAX_REGRESSION_SAMPLES, testRuns);
+	}
+
+	private void record(int maxRegressionSamples, TestRun... testRuns) {
+		TestRunDatabase database = new TestRunDatabase(databasePath, maxRegressionSamples);
+		try (TestRunRecorder recorder = database.recorder()) {
+			for (TestRun testRun : testRuns) {
+				recorder.record(testRun);
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package net.jqwik.engine.support;
+
+import java.util.concurrent.atomic.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BoundedCacheTests {
+
+	@Example
+	void computesValueOnlyOnce() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+		AtomicInteger computations = new AtomicInteger();
+
+		assertThat(cache.computeIfAbsent("a", key -> computations.incrementAndGet())).isEqualTo(1);
+		assertThat(cache.computeIfAbsent("a", key -> computations.incrementAndGet())).isEqualTo(1);
+		assertThat(computations.get()).isEqualTo(1);
+	}
+
+	@Example
+	void leastRecentlyUsedEntryIsEvictedFirst() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(2);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.get("a");
+		cache.put("c", 3);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("a")).hasValue(1);
+		assertThat(cache.get("b")).isEmpty();
+		assertThat(cache.get("c")).hasValue(3);
+	}
+
+	@Example
+	void valuesCanBeComputedThroughCacheItself() {
+		BoundedCache<Integer, Integer> cache = new BoundedCache<>(10);
+
+		int value = cache.computeIfAbsent(3, key -> cache.computeIfAbsent(key - 1, smaller -> smaller * 10) + 1);
+
+		assertThat(value).isEqualTo(21);
+		assertThat(cache.get(2)).hasValue(20);
+	}
+
+	@Example
+	void shrinkingMaxSizeEvictsLeastRecentlyUsedEntries() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(3);
+		cache.put("a", 1);
+		cache.put("b", 2);
+		cache.put("c", 3);
+
+		cache.setMaxSize(1);
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get("c")).hasValue(3);
+	}
+
+	@Example
+	void maxSizeZeroSwitchesCachingOff() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(0);
+		AtomicInteger computations = new AtomicInteger();
+
+		cache.computeIfAbsent("a", key -> computations.incrementAndGet());
+		cache.computeIfAbsent("a", key -> computations.incrementAndGet());
+
+		assertThat(computations.get()).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(0);
+	}
+
+	@Example
+	void negativeMaxSizeIsRejected() {
+		assertThatThrownBy(() -> new BoundedCache<>(-1)).isInstanceOf(JqwikException.class);
+	}
+}
@@ -5,6 +5,7 @@ import java.util.stream.*;
 
 import net.jqwik.api.*;
 import net.jqwik.api.constraints.*;
+import net.jqwik.engine.support.combinatorics.*;
 
 import static java.util.Arrays.*;
 import static org.assertj.core.api.Assertions.*;
@@ -404,4 +405,95 @@ class CombinatoricsTests {
 				.list();
 		}
 	}
+
+	@Group
+	@Label("combinations")
+	class Combinations {
+
+		private final MixedRadixCombinations<Object> combinations = Combinatorics.combinations(asList(
+			asList(1, 2, 3),
+			asList('a', 'b'),
+			asList(true, false)
+		));
+
+		@Example
+		void combinationByIndex() {
+			assertThat(combinations.size()).isEqualTo(12);
+			assertThat(combinations.combination(0)).containsExactly(1, 'a', true);
+			assertThat(combinations.combination(5)).containsExactly(2, 'a', false);
+			assertThat(combinations.combination(11)).containsExactly(3, 'b', false);
+			assertThatThrownBy(() -> combinations.combination(12)).isInstanceOf(IndexOutOfBoundsException.class);
+		}
+
+		@Example
+		void skipCombinations() {
+			MixedRadixCombinations<Object>.CombinationsIterator iterator = combinations.iterator();
+			iterator.next();
+			iterator.skip(6);
+
+			assertThat(iterator.nextIndex()).isEqualTo(7);
+			assertThat(iterator.next()).containsExactly(2, 'b', false);
+
+			iterator.skip(100);
+			assertThat(iterator.hasNext()).isFalse();
+		}
+
+		@Example
+		void iterateRange() {
+			Iterator<List<Object>> iterator = combinations.iterator(3, 6);
+
+			assertThat(iterator).toIterable().containsExactly(
+				asList(1, 'b', false),
+				asList(2, 'a', true),
+				asList(2, 'a', false)
+			);
+		}
+
+		@Example
+		void splitRangesDoNotShareValues() {
+			Iterable<Object> freshLists = () -> Stream.of(1, 2, 3).map(i -> (Object) new ArrayList<>(asList(i))).iterator();
+			List<Iterable<Object>> dimensions = asList(freshLists, asList('a', 'b'));
+			MixedRadixCombinations<Object> combinations = Combinatorics.combinations(dimensions);
+
+			List<List<Object>> firstRange = new ArrayList<>();
+			List<List<Object>> secondRange = new ArrayList<>();
+			List<MixedRadixCombinations<Object>.CombinationsIterator> ranges = combinations.split(2);
+			ranges.get(0).forEachRemaining(firstRange::add);
+			ranges.get(1).forEachRemaining(secondRange::add);
+
+			assertThat(firstRange).hasSize(3);
+			assertThat(secondRange).hasSize(3);
+			for (List<Object> first : firstRange) {
+				for (List<Object> second : secondRange) {
+					assertThat(first.get(0)).isNotSameAs(second.get(0));
+				}
+			}
+		}
+
+		@Property(tries = 100)
+		void splitRangesContainAllCombinationsInOrder(
+			@ForAll("iterables") @Size(max = 4) List<List<Integer>> listOfLists,
+			@ForAll @IntRange(min = 1, max = 20) int count
+		) {
+			MixedRadixCombinations<Integer> combinations = Combinatorics.combinations(listOfLists);
+
+			List<MixedRadixCombinations<Integer>.CombinationsIterator> ranges = combinations.split(count);
+			assertThat(ranges.size()).isLessThanOrEqualTo(count);
+
+			List<List<Integer>> allCombinations = new ArrayList<>();
+			for (Iterator<List<Integer>> range : ranges) {
+				range.forEachRemaining(allCombinations::add);
+			}
+			Iterable<List<Integer>> expected = () -> Combinatorics.combine(new ArrayList<>(listOfLists));
+			assertThat(allCombinations).containsExactlyElementsOf(expected);
+		}
+
+		@Provide
+		Arbitrary<List<List<Integer>>> iterables() {
+			return Arbitraries
+				.integers().between(-1000, 1000)
+				.list().ofMaxSize(5)
+				.list();
+		}
+	}
 }
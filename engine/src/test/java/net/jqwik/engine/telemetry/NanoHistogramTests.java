@@ -0,0 +1,112 @@
+package net.jqwik.engine.telemetry;
+
+import java.util.concurrent.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NanoHistogramTests {
+
+	@Example
+	void emptyHistogram() {
+		NanoHistogram histogram = new NanoHistogram();
+
+		assertThat(histogram.count()).isEqualTo(0);
+		assertThat(histogram.meanNanos()).isEqualTo(0);
+		assertThat(histogram.percentileNanos(99)).isEqualTo(0);
+		assertThat(histogram.buckets()).isEmpty();
+	}
+
+	@Example
+	void countTotalMeanAndMax() {
+		NanoHistogram histogram = new NanoHistogram();
+		histogram.record(100);
+		histogram.record(200);
+		histogram.record(600);
+
+		assertThat(histogram.count()).isEqualTo(3);
+		assertThat(histogram.totalNanos()).isEqualTo(900);
+		assertThat(histogram.meanNanos()).isEqualTo(300);
+		assertThat(histogram.maxNanos()).isEqualTo(600);
+	}
+
+	@Example
+	void valuesAreCountedInPowerOfTwoBuckets() {
+		NanoHistogram histogram = new NanoHistogram();
+		histogram.record(0);
+		histogram.record(1);
+		histogram.record(2);
+		histogram.record(3);
+		histogram.record(1000);
+
+		assertThat(histogram.buckets()).containsExactly(
+			entry(0L, 1L),
+			entry(1L, 1L),
+			entry(3L, 2L),
+			entry(1023L, 1L)
+		);
+	}
+
+	@Example
+	void negativeDurationsAreCountedAsZero() {
+		NanoHistogram histogram = new NanoHistogram();
+		histogram.record(-5);
+
+		assertThat(histogram.buckets()).containsExactly(entry(0L, 1L));
+		assertThat(histogram.totalNanos()).isEqualTo(0);
+	}
+
+	@Example
+	void percentilesAreBucketUpperBoundsCappedByMax() {
+		NanoHistogram histogram = new NanoHistogram();
+		for (int i = 0; i < 99; i++) {
+			histogram.record(10);
+		}
+		histogram.record(5000);
+
+		assertThat(histogram.percentileNanos(50)).isEqualTo(15);
+		assertThat(histogram.percentileNanos(99)).isEqualTo(15);
+		assertThat(histogram.percentileNanos(100)).isEqualTo(5000);
+	}
+
+	@Example
+	void largestDurationsFallIntoLastBucket() {
+		NanoHistogram histogram = new NanoHistogram();
+		histogram.record(Long.MAX_VALUE);
+
+		assertThat(histogram.buckets()).containsExactly(entry(Long.MAX_VALUE, 1L));
+		assertThat(histogram.percentileNanos(50)).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Example
+	void concurrentRecordingLosesNoValues() throws Exception {
+		NanoHistogram histogram = new NanoHistogram();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int thread = 0; thread < 4; thread++) {
+				executor.submit(() -> {
+					for (int i = 0; i < 1000; i++) {
+						histogram.record(i);
+					}
+				});
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		assertThat(histogram.count()).isEqualTo(4000);
+		assertThat(histogram.totalNanos()).isEqualTo(4 * 999 * 1000 / 2);
+		assertThat(histogram.maxNanos()).isEqualTo(999);
+	}
+
+	@Example
+	void summaryUsesReadableUnits() {
+		NanoHistogram histogram = new NanoHistogram();
+		histogram.record(1_500);
+		histogram.record(2_500_000);
+
+		assertThat(histogram.toString()).isEqualTo("2 x 1.3ms (p99 2.5ms, max 2.5ms)");
+	}
+}
@@ -0,0 +1,79 @@
+package net.jqwik.engine.telemetry;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import org.junit.platform.engine.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TelemetryFileTests {
+
+	private final UniqueId property1 = UniqueId.forEngine("jqwik").append("property", "property1");
+	private final UniqueId property2 = UniqueId.forEngine("jqwik").append("property", "property2");
+
+	private Path telemetryPath;
+
+	@BeforeProperty
+	void createTelemetryPath() throws IOException {
+		telemetryPath = Files.createTempFile("jqwik-telemetry", ".json");
+		Files.delete(telemetryPath);
+	}
+
+	@AfterProperty
+	void deleteTelemetryFile() throws IOException {
+		Files.deleteIfExists(telemetryPath);
+	}
+
+	@Example
+	void recordedTelemetryIsWrittenOnClose() throws IOException {
+		PropertyTelemetry telemetry = new PropertyTelemetry();
+		telemetry.measureGeneration(() -> "generated");
+		telemetry.recordShrinkingSteps(3);
+		telemetry.recordShrinkingCache(5, 7);
+
+		try (TelemetryFile telemetryFile = new TelemetryFile(telemetryPath)) {
+			telemetryFile.record(property1, telemetry);
+			assertThat(telemetryPath).doesNotExist();
+		}
+
+		String json = new String(Files.readAllBytes(telemetryPath), StandardCharsets.UTF_8);
+		assertThat(json).contains("\"id\": \"[engine:jqwik]/[property:property1]\"");
+		assertThat(json).contains("\"shrinkingSteps\": 3");
+		assertThat(json).contains("\"shrinkingCacheHits\": 5");
+		assertThat(json).contains("\"shrinkingCacheMisses\": 7");
+		assertThat(json).contains("\"generation\": {\"count\": 1,");
+		assertThat(json).contains("\"shrinking\": {\"count\": 0,");
+	}
+
+	@Example
+	void eachRunReplacesFile() throws IOException {
+		try (TelemetryFile telemetryFile = new TelemetryFile(telemetryPath)) {
+			telemetryFile.record(property1, new PropertyTelemetry());
+		}
+		try (TelemetryFile telemetryFile = new TelemetryFile(telemetryPath)) {
+			telemetryFile.record(property2, new PropertyTelemetry());
+		}
+
+		String json = new String(Files.readAllBytes(telemetryPath), StandardCharsets.UTF_8);
+		assertThat(json).doesNotContain("property1");
+		assertThat(json).contains("property2");
+	}
+
+	@Example
+	void stringsAreEscaped() {
+		assertThat(TelemetryFile.quote("a\"b\\c\nd\u0001")).isEqualTo("\"a\\\"b\\\\c\\nd\\u0001\"");
+	}
+
+	@Example
+	void emptyRunIsValidDocument() {
+		String json = TelemetryFile.toJson(Collections.emptyMap());
+
+		assertThat(json).isEqualTo("{\n  \"properties\": [\n  ]\n}\n");
+	}
+}
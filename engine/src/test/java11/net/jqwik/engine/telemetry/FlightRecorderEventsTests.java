@@ -0,0 +1,83 @@
+package net.jqwik.engine.telemetry;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.*;
+
+import jdk.jfr.*;
+import jdk.jfr.consumer.*;
+
+import net.jqwik.api.*;
+import net.jqwik.api.lifecycle.*;
+import net.jqwik.engine.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FlightRecorderEventsTests {
+
+	private Path recordingPath;
+
+	@BeforeProperty
+	void createRecordingPath() throws IOException {
+		recordingPath = Files.createTempFile("jqwik-recording", ".jfr");
+	}
+
+	@AfterProperty
+	void deleteRecording() throws IOException {
+		Files.deleteIfExists(recordingPath);
+	}
+
+	@Example
+	void java11VersionIsAvailable() {
+		assertThat(FlightRecorderEvents.isAvailable()).isTrue();
+	}
+
+	@Example
+	void noEventIsCreatedWithoutRecording() {
+		assertThat(FlightRecorderEvents.tryStarted()).isNull();
+		assertThat(FlightRecorderEvents.shrinkingStepStarted()).isNull();
+	}
+
+	@Example
+	void tryEventCarriesIndexAndIdDerivedFromSeed() throws IOException {
+		try (Recording recording = new Recording()) {
+			recording.enable("net.jqwik.Try");
+			recording.start();
+			Object event = FlightRecorderEvents.tryStarted();
+			FlightRecorderEvents.tryFinished(event, "aProperty", "42", 3, TryExecutionResult.Status.SATISFIED);
+			recording.stop();
+			recording.dump(recordingPath);
+		}
+
+		List<RecordedEvent> tryEvents = recordedEvents("net.jqwik.Try");
+		assertThat(tryEvents).hasSize(1);
+		RecordedEvent tryEvent = tryEvents.get(0);
+		assertThat(tryEvent.getString("propertyName")).isEqualTo("aProperty");
+		assertThat(tryEvent.getInt("tryIndex")).isEqualTo(3);
+		assertThat(tryEvent.getLong("tryId")).isEqualTo(SourceOfRandomness.derivedSeed("42", 3));
+		assertThat(tryEvent.getString("status")).isEqualTo("SATISFIED");
+	}
+
+	@Example
+	void disabledEventIsNotRecorded() throws IOException {
+		try (Recording recording = new Recording()) {
+			recording.disable("net.jqwik.ShrinkingStep");
+			recording.start();
+			Object event = FlightRecorderEvents.shrinkingStepStarted();
+			assertThat(event).isNull();
+			FlightRecorderEvents.shrinkingStepFinished(event, 1, 10, "[1]");
+			recording.stop();
+			recording.dump(recordingPath);
+		}
+
+		assertThat(recordedEvents("net.jqwik.ShrinkingStep")).isEmpty();
+	}
+
+	private List<RecordedEvent> recordedEvents(String eventName) throws IOException {
+		return RecordingFile.readAllEvents(recordingPath)
+							.stream()
+							.filter(event -> event.getEventType().getName().equals(eventName))
+							.collect(Collectors.toList());
+	}
+}